@@ -53,6 +53,12 @@ public enum AbilityKey {
     SERVER_MCP_REGISTRY("mcp", "Server whether support release mcp server and register endpoint for mcp server",
             AbilityMode.SERVER),
     
+    /**
+     * For binary encoded payload of hot requests.
+     */
+    SERVER_BINARY_PAYLOAD("binaryPayload", "Server whether support binary encoded payload of hot requests",
+            AbilityMode.SERVER),
+    
     /**
      * For fuzzy watch naming or config.
      */
@@ -70,6 +76,18 @@ public enum AbilityKey {
     SDK_MCP_REGISTRY("mcp", "Client whether support release mcp server and register endpoint for mcp server",
             AbilityMode.SDK_CLIENT),
     
+    /**
+     * For naming incremental push.
+     */
+    SDK_CLIENT_NAMING_INCREMENTAL_PUSH("namingIncrementalPush",
+            "Client whether support receive incremental instances of naming push", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * For binary encoded payload of hot requests.
+     */
+    SDK_CLIENT_BINARY_PAYLOAD("binaryPayload", "Client whether support binary encoded payload of hot requests",
+            AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
@@ -48,6 +48,8 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
         supportedAbilities.put(AbilityKey.SDK_CLIENT_FUZZY_WATCH, true);
         supportedAbilities.put(AbilityKey.SDK_CLIENT_DISTRIBUTED_LOCK, true);
         supportedAbilities.put(AbilityKey.SDK_MCP_REGISTRY, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_NAMING_INCREMENTAL_PUSH, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_BINARY_PAYLOAD, true);
     }
     
     /**.
@@ -49,6 +49,8 @@ public class ServerAbilities extends AbstractAbilityRegistry {
         supportedAbilities.put(AbilityKey.SERVER_FUZZY_WATCH, true);
         supportedAbilities.put(AbilityKey.SERVER_DISTRIBUTED_LOCK, true);
         supportedAbilities.put(AbilityKey.SERVER_MCP_REGISTRY, true);
+        // binary payload is opt-in, enable by `nacos.core.ability.binaryPayload=true`
+        supportedAbilities.put(AbilityKey.SERVER_BINARY_PAYLOAD, false);
     }
     
     /**.
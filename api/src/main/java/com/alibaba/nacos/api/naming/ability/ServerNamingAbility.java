@@ -34,6 +34,16 @@ public class ServerNamingAbility implements Serializable {
      */
     private boolean supportJraft;
     
+    /**
+     * Nacos server can verify distro client data by bucket digests.
+     */
+    private boolean supportDistroDigestVerify;
+    
+    /**
+     * Nacos server can return distro snapshot by cursor pages.
+     */
+    private boolean supportDistroSnapshotPage;
+    
     public boolean isSupportJraft() {
         return supportJraft;
     }
@@ -42,6 +52,22 @@ public class ServerNamingAbility implements Serializable {
         this.supportJraft = supportJraft;
     }
     
+    public boolean isSupportDistroDigestVerify() {
+        return supportDistroDigestVerify;
+    }
+    
+    public void setSupportDistroDigestVerify(boolean supportDistroDigestVerify) {
+        this.supportDistroDigestVerify = supportDistroDigestVerify;
+    }
+    
+    public boolean isSupportDistroSnapshotPage() {
+        return supportDistroSnapshotPage;
+    }
+    
+    public void setSupportDistroSnapshotPage(boolean supportDistroSnapshotPage) {
+        this.supportDistroSnapshotPage = supportDistroSnapshotPage;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -51,11 +77,12 @@ public class ServerNamingAbility implements Serializable {
             return false;
         }
         ServerNamingAbility that = (ServerNamingAbility) o;
-        return supportJraft == that.supportJraft;
+        return supportJraft == that.supportJraft && supportDistroDigestVerify == that.supportDistroDigestVerify
+                && supportDistroSnapshotPage == that.supportDistroSnapshotPage;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(supportJraft);
+        return Objects.hash(supportJraft, supportDistroDigestVerify, supportDistroSnapshotPage);
     }
 }
@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
@@ -36,6 +39,25 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Push revision of the service info, {@code 0} means unknown revision.
+     */
+    private long revision;
+    
+    /**
+     * Whether this request only carries the instances changed since {@link #baseRevision}. If {@code true}, the hosts
+     * of {@link #serviceInfo} is empty and should be rebuilt by the changed instances.
+     */
+    private boolean incremental;
+    
+    private long baseRevision;
+    
+    private List<Instance> addedInstances;
+    
+    private List<Instance> removedInstances;
+    
+    private List<Instance> modifiedInstances;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +74,30 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build incremental notify subscriber request.
+     *
+     * @param serviceInfo       service info without hosts
+     * @param baseRevision      revision which the changed instances are based on
+     * @param revision          revision after applying the changed instances
+     * @param addedInstances    instances added since base revision
+     * @param removedInstances  instances removed since base revision
+     * @param modifiedInstances instances modified since base revision
+     * @return incremental notify subscriber request
+     */
+    public static NotifySubscriberRequest buildIncrementalNotifySubscriberRequest(ServiceInfo serviceInfo,
+            long baseRevision, long revision, List<Instance> addedInstances, List<Instance> removedInstances,
+            List<Instance> modifiedInstances) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setIncremental(true);
+        result.setBaseRevision(baseRevision);
+        result.setRevision(revision);
+        result.setAddedInstances(addedInstances);
+        result.setRemovedInstances(removedInstances);
+        result.setModifiedInstances(modifiedInstances);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -84,4 +130,51 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public boolean isIncremental() {
+        return incremental;
+    }
+    
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getAddedInstances() {
+        return addedInstances;
+    }
+    
+    public void setAddedInstances(List<Instance> addedInstances) {
+        this.addedInstances = addedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public void setRemovedInstances(List<Instance> removedInstances) {
+        this.removedInstances = removedInstances;
+    }
+    
+    public List<Instance> getModifiedInstances() {
+        return modifiedInstances;
+    }
+    
+    public void setModifiedInstances(List<Instance> modifiedInstances) {
+        this.modifiedInstances = modifiedInstances;
+    }
 }
@@ -75,6 +75,16 @@ public class NamingUtils {
         return namespace + Constants.SERVICE_INFO_SPLITER + group + Constants.SERVICE_INFO_SPLITER + serviceName;
     }
     
+    /**
+     * Build the unique key of instance in one service, which is used to compare instances between two versions.
+     *
+     * @param instance instance
+     * @return ip:port#clusterName
+     */
+    public static String getInstanceKey(Instance instance) {
+        return instance.toInetAddr() + "#" + instance.getClusterName();
+    }
+    
     /**
      * parse service key items for serviceKey. item[0] for namespace item[1] for group item[2] for service name
      *
@@ -33,4 +33,9 @@ class ServerAbilitiesTest {
     void testSupportPersistentInstanceByGrpcAbilities() {
         assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_PERSISTENT_INSTANCE_BY_GRPC));
     }
+    
+    @Test
+    void testBinaryPayloadAbilitiesDisabledByDefault() {
+        assertFalse(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_BINARY_PAYLOAD));
+    }
 }
\ No newline at end of file
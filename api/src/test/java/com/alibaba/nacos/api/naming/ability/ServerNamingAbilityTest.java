@@ -43,6 +43,8 @@ class ServerNamingAbilityTest {
         String nonExistItemJson = "{\"exampleAbility\":false}";
         ServerNamingAbility actual = jacksonMapper.readValue(nonExistItemJson, ServerNamingAbility.class);
         assertFalse(actual.isSupportJraft());
+        assertFalse(actual.isSupportDistroDigestVerify());
+        assertFalse(actual.isSupportDistroSnapshotPage());
     }
     
     @Test
@@ -58,6 +60,28 @@ class ServerNamingAbilityTest {
         assertEquals(expected, actual);
     }
     
+    @Test
+    void testEqualsWithDistroDigestVerify() throws JsonProcessingException {
+        ServerNamingAbility expected = new ServerNamingAbility();
+        expected.setSupportDistroDigestVerify(true);
+        String serializeJson = jacksonMapper.writeValueAsString(expected);
+        ServerNamingAbility actual = jacksonMapper.readValue(serializeJson, ServerNamingAbility.class);
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertNotEquals(expected, new ServerNamingAbility());
+    }
+    
+    @Test
+    void testEqualsWithDistroSnapshotPage() throws JsonProcessingException {
+        ServerNamingAbility expected = new ServerNamingAbility();
+        expected.setSupportDistroSnapshotPage(true);
+        String serializeJson = jacksonMapper.writeValueAsString(expected);
+        ServerNamingAbility actual = jacksonMapper.readValue(serializeJson, ServerNamingAbility.class);
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertNotEquals(expected, new ServerNamingAbility());
+    }
+    
     @Test
     void testEqualsForOneObject() {
         ServerNamingAbility ability = new ServerNamingAbility();
@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent registry of {@link CacheData}, indexed by group key and bucketed by task id.
+ *
+ * <p>All views returned are live and weakly consistent, so the listen task can walk a single task bucket without
+ * copying the whole registry, and adding or removing a cache never copies existing entries.
+ *
+ * @author Nacos
+ */
+class CacheDataRegistry {
+    
+    /**
+     * groupKey -> cacheData.
+     */
+    private final ConcurrentHashMap<String, CacheData> caches = new ConcurrentHashMap<>(16);
+    
+    /**
+     * taskId -> groupKey -> cacheData.
+     */
+    private final ConcurrentHashMap<Integer, Map<String, CacheData>> taskBuckets = new ConcurrentHashMap<>(4);
+    
+    CacheData get(String groupKey) {
+        return caches.get(groupKey);
+    }
+    
+    boolean containsKey(String groupKey) {
+        return caches.containsKey(groupKey);
+    }
+    
+    int size() {
+        return caches.size();
+    }
+    
+    /**
+     * Put the cache data if there is no cache data of the group key.
+     *
+     * @param groupKey group key
+     * @param cache    cache data
+     * @return the existing cache data, null if the cache data is put
+     */
+    CacheData putIfAbsent(String groupKey, CacheData cache) {
+        CacheData[] existing = new CacheData[1];
+        caches.compute(groupKey, (key, old) -> {
+            if (null != old) {
+                existing[0] = old;
+                return old;
+            }
+            addToBucket(key, cache);
+            return cache;
+        });
+        return existing[0];
+    }
+    
+    /**
+     * Put the cache data, replacing any cache data of the group key.
+     *
+     * @param groupKey group key
+     * @param cache    cache data
+     */
+    void put(String groupKey, CacheData cache) {
+        caches.compute(groupKey, (key, old) -> {
+            if (null != old && old != cache) {
+                removeFromBucket(key, old);
+            }
+            addToBucket(key, cache);
+            return cache;
+        });
+    }
+    
+    /**
+     * Remove the cache data of the group key.
+     *
+     * @param groupKey group key
+     * @return removed cache data, null if absent
+     */
+    CacheData remove(String groupKey) {
+        CacheData[] removed = new CacheData[1];
+        caches.computeIfPresent(groupKey, (key, old) -> {
+            removeFromBucket(key, old);
+            removed[0] = old;
+            return null;
+        });
+        return removed[0];
+    }
+    
+    Collection<CacheData> values() {
+        return caches.values();
+    }
+    
+    Set<Integer> getTaskIds() {
+        return taskBuckets.keySet();
+    }
+    
+    Collection<CacheData> getTaskCaches(int taskId) {
+        Map<String, CacheData> bucket = taskBuckets.get(taskId);
+        return null == bucket ? Collections.emptyList() : bucket.values();
+    }
+    
+    private void addToBucket(String groupKey, CacheData cache) {
+        taskBuckets.computeIfAbsent(cache.getTaskId(), id -> new ConcurrentHashMap<>(16)).put(groupKey, cache);
+    }
+    
+    private void removeFromBucket(String groupKey, CacheData cache) {
+        Map<String, CacheData> bucket = taskBuckets.get(cache.getTaskId());
+        if (null != bucket) {
+            bucket.remove(groupKey, cache);
+        }
+    }
+}
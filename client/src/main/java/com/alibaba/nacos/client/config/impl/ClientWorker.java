@@ -102,7 +102,6 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.APP_CONN_PREFIX;
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
@@ -129,9 +128,9 @@ public class ClientWorker implements Closeable {
     private static final String ENCRYPTED_DATA_KEY_PARAM = "encryptedDataKey";
     
     /**
-     * groupKey -> cacheData.
+     * groupKey -> cacheData, bucketed by taskId.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final CacheDataRegistry cacheMap = new CacheDataRegistry();
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -317,19 +316,15 @@ public class ClientWorker implements Closeable {
     
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
-        synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
-            if (remove != null) {
-                decreaseTaskIdCount(remove.getTaskId());
-            }
-            cacheMap.set(copy);
+        CacheData remove = cacheMap.remove(groupKey);
+        if (remove != null) {
+            decreaseTaskIdCount(remove.getTaskId());
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
         if (enableClientMetrics) {
             try {
-                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
             } catch (Throwable t) {
                 LOGGER.error("Failed to update metrics for listen config count", t);
             }
@@ -386,31 +381,23 @@ public class ClientWorker implements Closeable {
         
         String key = GroupKey.getKey(dataId, group);
         cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group);
+        cache.setTaskId(allocateTaskId());
         
-        synchronized (cacheMap) {
-            CacheData cacheFromMap = getCache(dataId, group);
-            // multiple listeners on the same dataid+group and race condition,so double check again
-            //other listener thread beat me to set to cacheMap
-            if (null != cacheFromMap) {
-                cache = cacheFromMap;
-                //reset so that server not hang this check
-                cache.setInitializing(true);
-            } else {
-                int taskId = calculateTaskId();
-                increaseTaskIdCount(taskId);
-                cache.setTaskId(taskId);
-            }
-            
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+        CacheData cacheFromMap = cacheMap.putIfAbsent(key, cache);
+        // multiple listeners on the same dataid+group and race condition,
+        //other listener thread beat me to set to cacheMap
+        if (null != cacheFromMap) {
+            decreaseTaskIdCount(cache.getTaskId());
+            cache = cacheFromMap;
+            //reset so that server not hang this check
+            cache.setInitializing(true);
         }
         
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
         if (enableClientMetrics) {
             try {
-                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
             } catch (Throwable t) {
                 LOGGER.error("Failed to update metrics for listen config count", t);
             }
@@ -432,38 +419,30 @@ public class ClientWorker implements Closeable {
         if (null != cache) {
             return cache;
         }
+        cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group, tenant);
+        // fix issue # 1317
+        if (enableRemoteSyncConfig) {
+            ConfigResponse response = getServerConfig(dataId, group, tenant, requestTimeout, false);
+            cache.setEncryptedDataKey(response.getEncryptedDataKey());
+            cache.setContent(response.getContent());
+        }
+        cache.setTaskId(allocateTaskId());
+        
         String key = GroupKey.getKeyTenant(dataId, group, tenant);
-        synchronized (cacheMap) {
-            CacheData cacheFromMap = getCache(dataId, group, tenant);
-            // multiple listeners on the same dataid+group and race condition,so
-            // double check again
-            // other listener thread beat me to set to cacheMap
-            if (null != cacheFromMap) {
-                cache = cacheFromMap;
-                // reset so that server not hang this check
-                cache.setInitializing(true);
-            } else {
-                cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group, tenant);
-                int taskId = calculateTaskId();
-                increaseTaskIdCount(taskId);
-                cache.setTaskId(taskId);
-                // fix issue # 1317
-                if (enableRemoteSyncConfig) {
-                    ConfigResponse response = getServerConfig(dataId, group, tenant, requestTimeout, false);
-                    cache.setEncryptedDataKey(response.getEncryptedDataKey());
-                    cache.setContent(response.getContent());
-                }
-            }
-            
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+        CacheData cacheFromMap = cacheMap.putIfAbsent(key, cache);
+        // multiple listeners on the same dataid+group and race condition,
+        // other listener thread beat me to set to cacheMap
+        if (null != cacheFromMap) {
+            decreaseTaskIdCount(cache.getTaskId());
+            cache = cacheFromMap;
+            // reset so that server not hang this check
+            cache.setInitializing(true);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
         if (enableClientMetrics) {
             try {
-                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+                MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
             } catch (Throwable t) {
                 LOGGER.error("Failed to update metrics for listen config count", t);
             }
@@ -479,19 +458,26 @@ public class ClientWorker implements Closeable {
      * @param cache cache
      */
     private void putCache(String key, CacheData cache) {
-        synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
-        }
+        cacheMap.put(key, cache);
     }
     
-    private void increaseTaskIdCount(int taskId) {
-        taskIdCacheCountList.get(taskId).incrementAndGet();
+    /**
+     * Choose a taskId for a new cache and count the cache into it.
+     *
+     * @return taskId
+     */
+    private int allocateTaskId() {
+        synchronized (taskIdCacheCountList) {
+            int taskId = calculateTaskId();
+            taskIdCacheCountList.get(taskId).incrementAndGet();
+            return taskId;
+        }
     }
     
     private void decreaseTaskIdCount(int taskId) {
-        taskIdCacheCountList.get(taskId).decrementAndGet();
+        synchronized (taskIdCacheCountList) {
+            taskIdCacheCountList.get(taskId).decrementAndGet();
+        }
     }
     
     private int calculateTaskId() {
@@ -513,7 +499,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -574,7 +560,7 @@ public class ClientWorker implements Closeable {
     
     Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(this.cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         metric.put("addressUrl", agent.serverListManager.getAddressSource());
@@ -596,7 +582,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -685,9 +671,8 @@ public class ClientWorker implements Closeable {
                 
                 LOGGER.info("Shutdown executor {}", agent.getExecutor());
                 agent.getExecutor().shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
-                    entry.getValue().setConsistentWithServer(false);
+                for (CacheData cacheData : cacheMap.values()) {
+                    cacheData.setConsistentWithServer(false);
                 }
                 if (subscriber != null) {
                     NotifyCenter.deregisterSubscriber(subscriber);
@@ -731,7 +716,7 @@ public class ClientWorker implements Closeable {
             String groupKey = GroupKey.getKeyTenant(configChangeNotifyRequest.getDataId(),
                     configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
             
-            CacheData cacheData = cacheMap.get().get(groupKey);
+            CacheData cacheData = cacheMap.get(groupKey);
             if (cacheData != null) {
                 synchronized (cacheData) {
                     cacheData.getReceiveNotifyChanged().set(true);
@@ -788,16 +773,11 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,reset listen context", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
+                    Collection<CacheData> values = StringUtils.isNotBlank(taskId) ? cacheMap.getTaskCaches(
+                            Integer.parseInt(taskId)) : cacheMap.values();
                     
                     for (CacheData cacheData : values) {
-                        if (StringUtils.isNotBlank(taskId)) {
-                            if (Integer.valueOf(taskId).equals(cacheData.getTaskId())) {
-                                cacheData.setConsistentWithServer(false);
-                            }
-                        } else {
-                            cacheData.setConsistentWithServer(false);
-                        }
+                        cacheData.setConsistentWithServer(false);
                     }
                     
                     LOGGER.info("[{}] DisConnected,reset  fuzzy watch consistence status", rpcClientInner.getName());
@@ -882,36 +862,35 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
-                
-                synchronized (cache) {
-                    
-                    checkLocalConfig(cache);
+            for (Integer taskId : cacheMap.getTaskIds()) {
+                String taskKey = String.valueOf(taskId);
+                for (CacheData cache : cacheMap.getTaskCaches(taskId)) {
                     
-                    // check local listeners consistent.
-                    if (cache.isConsistentWithServer()) {
-                        cache.checkListenerMd5();
-                        if (!needAllSync) {
+                    synchronized (cache) {
+                        
+                        checkLocalConfig(cache);
+                        
+                        // check local listeners consistent.
+                        if (cache.isConsistentWithServer()) {
+                            cache.checkListenerMd5();
+                            if (!needAllSync) {
+                                continue;
+                            }
+                        }
+                        
+                        // If local configuration information is used, then skip the processing directly.
+                        if (cache.isUseLocalConfigInfo()) {
                             continue;
                         }
+                        
+                        if (!cache.isDiscard()) {
+                            listenCachesMap.computeIfAbsent(taskKey, k -> new LinkedList<>()).add(cache);
+                        } else {
+                            removeListenCachesMap.computeIfAbsent(taskKey, k -> new LinkedList<>()).add(cache);
+                        }
                     }
                     
-                    // If local configuration information is used, then skip the processing directly.
-                    if (cache.isUseLocalConfigInfo()) {
-                        continue;
-                    }
-                    
-                    if (!cache.isDiscard()) {
-                        List<CacheData> cacheDatas = listenCachesMap.computeIfAbsent(String.valueOf(cache.getTaskId()),
-                                k -> new LinkedList<>());
-                        cacheDatas.add(cache);
-                    } else {
-                        List<CacheData> cacheDatas = removeListenCachesMap.computeIfAbsent(
-                                String.valueOf(cache.getTaskId()), k -> new LinkedList<>());
-                        cacheDatas.add(cache);
-                    }
                 }
-                
             }
             
             //execute check listen ,return true if has change keys.
@@ -991,8 +970,8 @@ public class ClientWorker implements Closeable {
         }
         
         private void refreshContentAndCheck(RpcClient rpcClient, String groupKey, boolean notify) {
-            if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-                CacheData cache = cacheMap.get().get(groupKey);
+            CacheData cache = cacheMap.get(groupKey);
+            if (cache != null) {
                 refreshContentAndCheck(rpcClient, cache, notify);
             }
         }
@@ -1102,7 +1081,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                        boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                         refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                     }
                                     
@@ -1113,7 +1092,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                            boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                             refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                         }
                                     }
@@ -1219,7 +1198,7 @@ public class ClientWorker implements Closeable {
                 throws NacosException {
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
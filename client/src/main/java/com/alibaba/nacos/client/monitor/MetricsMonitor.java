@@ -38,10 +38,22 @@ public class MetricsMonitor {
             .name("nacos_client_naming_request_failed_total").help("nacos_client_naming_request_failed_total")
             .labelNames("module", "req_class", "res_status", "res_code", "err_class").register();
     
+    private static final Histogram NACOS_CLIENT_DISK_CACHE_WRITE_LAG = Histogram.build()
+            .name("nacos_client_disk_cache_write_lag_seconds").help("nacos_client_disk_cache_write_lag_seconds")
+            .labelNames("module").register();
+    
     public static Gauge.Child getServiceInfoMapSizeMonitor() {
         return NACOS_MONITOR_GAUGE.labels("naming", "serviceInfoMapSize");
     }
     
+    public static Gauge.Child getDiskCachePendingWriteMonitor() {
+        return NACOS_MONITOR_GAUGE.labels("naming", "diskCachePendingWrite");
+    }
+    
+    public static Histogram.Child getDiskCacheWriteLagMonitor() {
+        return NACOS_CLIENT_DISK_CACHE_WRITE_LAG.labels("naming");
+    }
+    
     public static Gauge.Child getListenConfigCountMonitor() {
         return NACOS_MONITOR_GAUGE.labels("config", "listenConfigCount");
     }
@@ -401,8 +401,18 @@ public class NacosNamingService implements NamingService {
         }
         NamingContext context = new ServiceInfoContext(serviceInfo);
         NamingResult result = clusterSelector.select(context);
-        serviceInfo.setHosts(result.getResult());
-        return serviceInfo;
+        // select into a copy, the service info may be the cached one which should keep all hosts.
+        ServiceInfo selected = new ServiceInfo();
+        selected.setName(serviceInfo.getName());
+        selected.setGroupName(serviceInfo.getGroupName());
+        selected.setClusters(serviceInfo.getClusters());
+        selected.setCacheMillis(serviceInfo.getCacheMillis());
+        selected.setLastRefTime(serviceInfo.getLastRefTime());
+        selected.setChecksum(serviceInfo.getChecksum());
+        selected.setAllIps(serviceInfo.isAllIps());
+        selected.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        selected.setHosts(result.getResult());
+        return selected;
     }
     
     @Override
@@ -446,8 +456,15 @@ public class NacosNamingService implements NamingService {
     @Override
     public Instance selectOneHealthyInstance(String serviceName, String groupName, List<String> clusters,
             boolean subscribe) throws NacosException {
-        ServiceInfo serviceInfo = getServiceInfo(serviceName, groupName, clusters, subscribe);
-        return Balancer.RandomByWeight.selectHost(serviceInfo);
+        if (subscribe && !serviceInfoHolder.isFailoverSwitch()) {
+            // select hosts and the weighted selector from the same subscribed service info.
+            ServiceInfo subscribed = tryToSubscribe(serviceName, groupName,
+                    serviceInfoHolder.getServiceInfo(serviceName, groupName));
+            ServiceInfo serviceInfo = doSelectInstance(subscribed, NamingSelectorFactory.newClusterSelector(clusters));
+            return Balancer.RandomByWeight.selectHost(serviceInfo,
+                    serviceInfoHolder.getWeightedSelector(subscribed, clusters));
+        }
+        return Balancer.RandomByWeight.selectHost(getServiceInfo(serviceName, groupName, clusters, subscribe));
     }
     
     @Override
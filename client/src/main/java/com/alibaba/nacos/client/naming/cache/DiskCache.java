@@ -31,6 +31,10 @@ import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +49,10 @@ import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
  */
 public class DiskCache {
     
+    private static final String TEMP_FILE_PREFIX = ".nacos-cache-";
+    
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    
     /**
      * Write service info to dir.
      *
@@ -54,12 +62,12 @@ public class DiskCache {
     public static void write(ServiceInfo dom, String dir) {
         
         try {
-            makeSureCacheDirExists(dir);
-            
-            File file = new File(dir, dom.getKeyEncoded());
-            createFileIfAbsent(file, false);
+            File cacheDir = makeSureCacheDirExists(dir);
             
-            StringBuilder keyContentBuffer = new StringBuilder();
+            File file = new File(cacheDir, dom.getKeyEncoded());
+            if (file.isDirectory()) {
+                throw new IllegalStateException("failed to write cache, target is a directory: " + file.getPath());
+            }
             
             String json = dom.getJsonFromServer();
             
@@ -67,16 +75,34 @@ public class DiskCache {
                 json = JacksonUtils.toJson(dom);
             }
             
-            keyContentBuffer.append(json);
-            
-            //Use the concurrent API to ensure the consistency.
-            ConcurrentDiskUtil.writeFileContent(file, keyContentBuffer.toString(), Charset.defaultCharset().toString());
+            //Write to a temp file and rename it, so that the cache file is never seen half written.
+            writeFileAtomically(cacheDir, file, json.getBytes(Charset.defaultCharset()));
             
         } catch (Throwable e) {
             NAMING_LOGGER.error("[NA] failed to write cache for dom:" + dom.getName(), e);
         }
     }
     
+    private static void writeFileAtomically(File cacheDir, File file, byte[] content) throws IOException {
+        Path tempFile = Files.createTempFile(cacheDir.toPath(), TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempFile, content);
+            try {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+    
+    private static boolean isTempFile(File file) {
+        String fileName = file.getName();
+        return fileName.startsWith(TEMP_FILE_PREFIX) && fileName.endsWith(TEMP_FILE_SUFFIX);
+    }
+    
     public static String getLineSeparator() {
         return System.getProperty("line.separator");
     }
@@ -96,7 +122,7 @@ public class DiskCache {
             }
             
             for (File file : files) {
-                if (!file.isFile()) {
+                if (!file.isFile() || isTempFile(file)) {
                     continue;
                 }
                 domMap.putAll(parseServiceInfoFromCache(file));
@@ -0,0 +1,203 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.monitor.MetricsMonitor;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
+
+/**
+ * Asynchronous writer of naming disk cache.
+ *
+ * <p>Service infos are written by a single background thread after a short delay, multiple updates of the same
+ * service during the delay are coalesced into one write of the latest service info. The fields are snapshotted when
+ * submitted, so later changes of the submitted service info are never written, and the serialization is done in the
+ * writer thread to keep it off the push receiving thread.
+ *
+ * @author Nacos
+ */
+public class DiskCacheWriter implements Closeable {
+    
+    static final long DEFAULT_WRITE_DELAY_MILLIS = 200L;
+    
+    private static final long FLUSH_TIMEOUT_MILLIS = 3000L;
+    
+    private final String cacheDir;
+    
+    private final long writeDelayMillis;
+    
+    private final boolean enableClientMetrics;
+    
+    private final ConcurrentMap<String, PendingWrite> pendingWrites;
+    
+    private final ScheduledExecutorService executorService;
+    
+    public DiskCacheWriter(String cacheDir, boolean enableClientMetrics) {
+        this(cacheDir, DEFAULT_WRITE_DELAY_MILLIS, enableClientMetrics);
+    }
+    
+    DiskCacheWriter(String cacheDir, long writeDelayMillis, boolean enableClientMetrics) {
+        this.cacheDir = cacheDir;
+        this.writeDelayMillis = writeDelayMillis;
+        this.enableClientMetrics = enableClientMetrics;
+        this.pendingWrites = new ConcurrentHashMap<>(16);
+        this.executorService = new ScheduledThreadPoolExecutor(1,
+                new NameThreadFactory("com.alibaba.nacos.client.naming.disk.cache.writer"));
+    }
+    
+    /**
+     * Submit service info to write into disk cache.
+     *
+     * @param serviceInfo service info
+     */
+    public void submit(ServiceInfo serviceInfo) {
+        String serviceKey = serviceInfo.getKeyWithoutClusters();
+        ServiceInfo snapshot = snapshot(serviceInfo);
+        long now = System.currentTimeMillis();
+        // keep the first submit time so that the lag covers the whole coalesced period.
+        PendingWrite pendingWrite = pendingWrites.compute(serviceKey,
+                (key, previous) -> null == previous ? new PendingWrite(snapshot, now, true)
+                        : new PendingWrite(snapshot, previous.submitTime, false));
+        if (!pendingWrite.newlyAdded) {
+            return;
+        }
+        updatePendingMetrics();
+        try {
+            executorService.schedule(() -> write(serviceKey), writeDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            NAMING_LOGGER.warn("[NA] disk cache writer is shutdown, write cache directly for {}", serviceKey);
+            write(serviceKey);
+        }
+    }
+    
+    /**
+     * Write all pending service infos into disk cache and wait for finished.
+     */
+    public void flush() {
+        try {
+            Future<?> future = executorService.submit(this::writeAll);
+            future.get(FLUSH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            writeAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            NAMING_LOGGER.warn("[NA] interrupted when flushing disk cache");
+        } catch (Exception e) {
+            NAMING_LOGGER.error("[NA] failed to flush disk cache", e);
+        }
+    }
+    
+    /**
+     * Snapshot the service info without serializing it, the json is generated by {@link DiskCache#write} in the writer
+     * thread. The hosts list is shared rather than copied, which is safe because a received service info never changes
+     * its hosts list in place, updates always set a new list.
+     *
+     * @param serviceInfo service info
+     * @return snapshot of service info
+     */
+    private static ServiceInfo snapshot(ServiceInfo serviceInfo) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setHosts(serviceInfo.getHosts());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIps(serviceInfo.isAllIps());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        result.setJsonFromServer(serviceInfo.getJsonFromServer());
+        return result;
+    }
+    
+    public int getPendingCount() {
+        return pendingWrites.size();
+    }
+    
+    private void writeAll() {
+        List<String> serviceKeys = new ArrayList<>(pendingWrites.keySet());
+        for (String each : serviceKeys) {
+            write(each);
+        }
+    }
+    
+    private void write(String serviceKey) {
+        PendingWrite pendingWrite = pendingWrites.remove(serviceKey);
+        if (null == pendingWrite) {
+            return;
+        }
+        DiskCache.write(pendingWrite.serviceInfo, cacheDir);
+        if (enableClientMetrics) {
+            try {
+                long lagMillis = System.currentTimeMillis() - pendingWrite.submitTime;
+                MetricsMonitor.getDiskCacheWriteLagMonitor().observe(lagMillis / 1000D);
+            } catch (Throwable t) {
+                NAMING_LOGGER.error("Failed to update metrics for disk cache write lag", t);
+            }
+        }
+        updatePendingMetrics();
+    }
+    
+    private void updatePendingMetrics() {
+        if (enableClientMetrics) {
+            try {
+                MetricsMonitor.getDiskCachePendingWriteMonitor().set(pendingWrites.size());
+            } catch (Throwable t) {
+                NAMING_LOGGER.error("Failed to update metrics for disk cache pending write", t);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        String className = this.getClass().getName();
+        NAMING_LOGGER.info("{} do shutdown begin", className);
+        flush();
+        ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        NAMING_LOGGER.info("{} do shutdown stop", className);
+    }
+    
+    private static class PendingWrite {
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final long submitTime;
+        
+        private final boolean newlyAdded;
+        
+        private PendingWrite(ServiceInfo serviceInfo, long submitTime, boolean newlyAdded) {
+            this.serviceInfo = serviceInfo;
+            this.submitTime = submitTime;
+            this.newlyAdded = newlyAdded;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
@@ -25,13 +26,20 @@ import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
 import com.alibaba.nacos.client.naming.event.InstancesDiff;
+import com.alibaba.nacos.client.naming.selector.NamingSelectorFactory;
+import com.alibaba.nacos.client.naming.selector.ServiceInfoContext;
 import com.alibaba.nacos.client.naming.utils.CacheDirUtil;
+import com.alibaba.nacos.client.naming.utils.WeightedInstanceSelector;
 import com.alibaba.nacos.common.lifecycle.Closeable;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,8 +55,26 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * Push revision of the service info in {@link #serviceInfoMap}, only exist when the service info is from push.
+     */
+    private final ConcurrentMap<String, Long> serviceRevisionMap;
+    
+    /**
+     * Locks to serialize the updates of the same service, keyed by service key.
+     */
+    private final ConcurrentMap<String, Object> serviceLockMap;
+    
+    /**
+     * Weighted selectors of the hosts in {@link #serviceInfoMap}, keyed by service key and then cluster string. Rebuilt
+     * lazily after the service info changed.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, CachedSelector>> instanceSelectorMap;
+    
     private final FailoverReactor failoverReactor;
     
+    private final DiskCacheWriter diskCacheWriter;
+    
     private final boolean pushEmptyProtection;
     
     private final InstancesDiffer instancesDiffer;
@@ -67,11 +93,15 @@ public class ServiceInfoHolder implements Closeable {
         } else {
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
         }
+        this.serviceRevisionMap = new ConcurrentHashMap<>(16);
+        this.serviceLockMap = new ConcurrentHashMap<>(16);
+        this.instanceSelectorMap = new ConcurrentHashMap<>(16);
         this.failoverReactor = new FailoverReactor(this, notifierEventScope);
         this.pushEmptyProtection = isPushEmptyProtect(properties);
         this.notifierEventScope = notifierEventScope;
         this.enableClientMetrics = Boolean.parseBoolean(
                 properties.getProperty(PropertyKeyConst.ENABLE_CLIENT_METRICS, "true"));
+        this.diskCacheWriter = new DiskCacheWriter(cacheDir, enableClientMetrics);
     }
     
     private boolean isLoadCacheAtStart(NacosClientProperties properties) {
@@ -103,6 +133,44 @@ public class ServiceInfoHolder implements Closeable {
         return serviceInfoMap.get(key);
     }
     
+    /**
+     * Get the weighted selector for hosts of the service info in the clusters.
+     *
+     * <p>The selector of the cached service info is reused until the cached service info is replaced, such as by a
+     * push. Callers should pass the same service info instance they select from, so that the selector never comes from
+     * a newer service info than the one they hold.
+     *
+     * @param serviceInfo service info to select instance from
+     * @param clusters    clusters to select instance from, empty means all clusters
+     * @return weighted selector, {@code null} if the service info is {@code null}
+     */
+    public WeightedInstanceSelector getWeightedSelector(ServiceInfo serviceInfo, List<String> clusters) {
+        if (null == serviceInfo) {
+            return null;
+        }
+        String serviceKey = serviceInfo.getKeyWithoutClusters();
+        if (serviceInfoMap.get(serviceKey) != serviceInfo) {
+            // not the cached one, such as replaced just now, build for once without caching.
+            return buildWeightedSelector(serviceInfo, clusters);
+        }
+        String clusterString = CollectionUtils.isEmpty(clusters) ? StringUtils.EMPTY
+                : NamingSelectorFactory.getUniqueClusterString(clusters);
+        ConcurrentMap<String, CachedSelector> selectors = instanceSelectorMap.computeIfAbsent(serviceKey,
+                key -> new ConcurrentHashMap<>(4));
+        CachedSelector cached = selectors.get(clusterString);
+        if (null == cached || cached.source != serviceInfo) {
+            cached = new CachedSelector(serviceInfo, buildWeightedSelector(serviceInfo, clusters));
+            selectors.put(clusterString, cached);
+        }
+        return cached.selector;
+    }
+    
+    private WeightedInstanceSelector buildWeightedSelector(ServiceInfo serviceInfo, List<String> clusters) {
+        List<Instance> hosts = NamingSelectorFactory.newClusterSelector(clusters)
+                .select(new ServiceInfoContext(serviceInfo)).getResult();
+        return WeightedInstanceSelector.build(hosts);
+    }
+    
     /**
      * Process service json.
      *
@@ -118,6 +186,10 @@ public class ServiceInfoHolder implements Closeable {
     /**
      * Process service info.
      *
+     * <p>Updates of the same service are serialized by the lock of service key, so that the cached service info and
+     * its revision are always updated together. The push revision of the service is kept, since the service info
+     * from query or update task is not older than it.
+     *
      * @param serviceInfo new service info
      * @return service info
      */
@@ -128,6 +200,90 @@ public class ServiceInfoHolder implements Closeable {
                     JacksonUtils.toJson(serviceInfo.getHosts()));
             return null;
         }
+        synchronized (getServiceLock(serviceKey)) {
+            return doProcessServiceInfo(serviceKey, serviceInfo);
+        }
+    }
+    
+    /**
+     * Process service info with push revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    push revision of new service info, {@code 0} means unknown
+     * @return service info
+     */
+    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        String serviceKey = serviceInfo.getKeyWithoutClusters();
+        if (serviceKey == null) {
+            return processServiceInfo(serviceInfo);
+        }
+        synchronized (getServiceLock(serviceKey)) {
+            ServiceInfo result = doProcessServiceInfo(serviceKey, serviceInfo);
+            if (result == serviceInfo && revision > 0) {
+                serviceRevisionMap.put(serviceKey, revision);
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Process incremental service info, which only contains the instances changed since base revision.
+     *
+     * @param serviceInfo       service info without hosts
+     * @param baseRevision      revision which the changed instances are based on
+     * @param revision          revision after applying the changed instances
+     * @param addedInstances    added instances
+     * @param removedInstances  removed instances
+     * @param modifiedInstances modified instances
+     * @return service info after applying the changed instances, {@code null} if the current revision of service is
+     *     not the base revision, which means full service info is required
+     */
+    public ServiceInfo processIncrementalServiceInfo(ServiceInfo serviceInfo, long baseRevision, long revision,
+            List<Instance> addedInstances, List<Instance> removedInstances, List<Instance> modifiedInstances) {
+        String serviceKey = serviceInfo.getKeyWithoutClusters();
+        if (null == serviceKey) {
+            NAMING_LOGGER.warn("process incremental service info but serviceKey is null");
+            return null;
+        }
+        synchronized (getServiceLock(serviceKey)) {
+            ServiceInfo oldService = serviceInfoMap.get(serviceKey);
+            Long currentRevision = serviceRevisionMap.get(serviceKey);
+            if (null == oldService || null == currentRevision || currentRevision != baseRevision) {
+                NAMING_LOGGER.warn("process incremental service info but revision mismatch, serviceKey: {}, "
+                        + "current revision: {}, base revision: {}", serviceKey, currentRevision, baseRevision);
+                return null;
+            }
+            Map<String, Instance> hosts = new LinkedHashMap<>();
+            for (Instance each : oldService.getHosts()) {
+                hosts.put(NamingUtils.getInstanceKey(each), each);
+            }
+            if (null != removedInstances) {
+                for (Instance each : removedInstances) {
+                    hosts.remove(NamingUtils.getInstanceKey(each));
+                }
+            }
+            putAllInstances(hosts, addedInstances);
+            putAllInstances(hosts, modifiedInstances);
+            serviceInfo.setHosts(new ArrayList<>(hosts.values()));
+            serviceInfo.setJsonFromServer(StringUtils.EMPTY);
+            return processServiceInfo(serviceInfo, revision);
+        }
+    }
+    
+    private void putAllInstances(Map<String, Instance> hosts, List<Instance> instances) {
+        if (null == instances) {
+            return;
+        }
+        for (Instance each : instances) {
+            hosts.put(NamingUtils.getInstanceKey(each), each);
+        }
+    }
+    
+    private Object getServiceLock(String serviceKey) {
+        return serviceLockMap.computeIfAbsent(serviceKey, key -> new Object());
+    }
+    
+    private ServiceInfo doProcessServiceInfo(String serviceKey, ServiceInfo serviceInfo) {
         ServiceInfo oldService = serviceInfoMap.get(serviceKey);
         if (isEmptyOrErrorPush(serviceInfo)) {
             //empty or error push, just ignore
@@ -136,10 +292,8 @@ public class ServiceInfoHolder implements Closeable {
             return oldService;
         }
         serviceInfoMap.put(serviceKey, serviceInfo);
+        instanceSelectorMap.remove(serviceKey);
         InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
-        if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
-            serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
-        }
         
         if (enableClientMetrics) {
             try {
@@ -158,7 +312,7 @@ public class ServiceInfoHolder implements Closeable {
                         new InstancesChangeEvent(notifierEventScope, serviceInfo.getName(), serviceInfo.getGroupName(),
                                 serviceInfo.getClusters(), serviceInfo.getHosts(), diff));
             }
-            DiskCache.write(serviceInfo, cacheDir);
+            diskCacheWriter.submit(serviceInfo);
         }
         return serviceInfo;
     }
@@ -189,6 +343,19 @@ public class ServiceInfoHolder implements Closeable {
         String className = this.getClass().getName();
         NAMING_LOGGER.info("{} do shutdown begin", className);
         failoverReactor.shutdown();
+        diskCacheWriter.shutdown();
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
+    
+    private static class CachedSelector {
+        
+        private final ServiceInfo source;
+        
+        private final WeightedInstanceSelector selector;
+        
+        private CachedSelector(ServiceInfo source, WeightedInstanceSelector selector) {
+            this.source = source;
+            this.selector = selector;
+        }
+    }
 }
@@ -18,11 +18,9 @@ package com.alibaba.nacos.client.naming.core;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
-import com.alibaba.nacos.client.naming.utils.Chooser;
-import com.alibaba.nacos.client.naming.utils.Pair;
+import com.alibaba.nacos.client.naming.utils.WeightedInstanceSelector;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
@@ -59,6 +57,24 @@ public class Balancer {
         public static Instance selectHost(ServiceInfo dom) {
             return getHostByRandomWeight(selectAll(dom));
         }
+    
+        /**
+         * Random select one instance from service with the prepared selector.
+         *
+         * <p>The selector should be built from the same hosts as the service, a new one is built from the hosts of
+         * service if the selector is absent or has no instance to select.
+         *
+         * @param dom      service
+         * @param selector prepared weighted selector, nullable
+         * @return random instance
+         */
+        public static Instance selectHost(ServiceInfo dom, WeightedInstanceSelector selector) {
+            List<Instance> hosts = selectAll(dom);
+            if (null == selector || 0 == selector.size()) {
+                return getHostByRandomWeight(hosts);
+            }
+            return selector.select();
+        }
     }
     
     /**
@@ -73,17 +89,6 @@ public class Balancer {
             NAMING_LOGGER.debug("hosts == null || hosts.size() == 0");
             return null;
         }
-        NAMING_LOGGER.debug("new Chooser");
-        List<Pair<Instance>> hostsWithWeight = new ArrayList<>();
-        for (Instance host : hosts) {
-            if (host.isHealthy()) {
-                hostsWithWeight.add(new Pair<Instance>(host, host.getWeight()));
-            }
-        }
-        NAMING_LOGGER.debug("for (Host host : hosts)");
-        Chooser<String, Instance> vipChooser = new Chooser<>("www.taobao.com");
-        vipChooser.refresh(hostsWithWeight);
-        NAMING_LOGGER.debug("vipChooser.refresh");
-        return vipChooser.randomWithWeight();
+        return WeightedInstanceSelector.build(hosts).select();
     }
 }
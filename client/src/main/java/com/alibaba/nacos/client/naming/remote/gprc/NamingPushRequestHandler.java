@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -41,9 +43,24 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            if (notifyRequest.isIncremental()) {
+                return handleIncrementalPush(notifyRequest);
+            }
+            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
             return new NotifySubscriberResponse();
         }
         return null;
     }
+    
+    private Response handleIncrementalPush(NotifySubscriberRequest notifyRequest) {
+        ServiceInfo result = serviceInfoHolder.processIncrementalServiceInfo(notifyRequest.getServiceInfo(),
+                notifyRequest.getBaseRevision(), notifyRequest.getRevision(), notifyRequest.getAddedInstances(),
+                notifyRequest.getRemovedInstances(), notifyRequest.getModifiedInstances());
+        NotifySubscriberResponse response = new NotifySubscriberResponse();
+        if (null == result) {
+            // Let server push full service info again.
+            response.setErrorInfo(NacosException.CLIENT_INVALID_PARAM, "base revision of incremental push mismatch");
+        }
+        return response;
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.utils;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted random selector of healthy instances based on the alias method.
+ *
+ * <p>The alias table is built once for a hosts list, after that each selection costs O(1) without any allocation.
+ * Instances which are unhealthy or with non-positive weight are never selected, the same as {@link Chooser}.
+ *
+ * @author Nacos
+ */
+public class WeightedInstanceSelector {
+    
+    private static final double INFINITE_WEIGHT = 10000.0D;
+    
+    private final Instance[] instances;
+    
+    private final double[] probabilities;
+    
+    private final int[] aliases;
+    
+    private WeightedInstanceSelector(Instance[] instances, double[] probabilities, int[] aliases) {
+        this.instances = instances;
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+    }
+    
+    /**
+     * Build selector for hosts.
+     *
+     * @param hosts hosts list
+     * @return weighted selector of the healthy hosts
+     */
+    public static WeightedInstanceSelector build(List<Instance> hosts) {
+        List<Instance> candidates = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        double weightSum = 0D;
+        if (null != hosts) {
+            for (Instance each : hosts) {
+                double weight = each.getWeight();
+                if (!each.isHealthy() || weight <= 0) {
+                    continue;
+                }
+                if (Double.isInfinite(weight)) {
+                    weight = INFINITE_WEIGHT;
+                }
+                if (Double.isNaN(weight)) {
+                    weight = 1.0D;
+                }
+                candidates.add(each);
+                weights.add(weight);
+                weightSum += weight;
+            }
+        }
+        int size = candidates.size();
+        double[] probabilities = new double[size];
+        int[] aliases = new int[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < size; i++) {
+            probabilities[i] = weights.get(i) * size / weightSum;
+            if (probabilities[i] < 1.0D) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            aliases[less] = more;
+            probabilities[more] = probabilities[more] + probabilities[less] - 1.0D;
+            if (probabilities[more] < 1.0D) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // the rest columns are full, remaining small ones only come from floating point error.
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1.0D;
+        }
+        while (smallSize > 0) {
+            probabilities[small[--smallSize]] = 1.0D;
+        }
+        return new WeightedInstanceSelector(candidates.toArray(new Instance[0]), probabilities, aliases);
+    }
+    
+    /**
+     * Random select one instance by weight.
+     *
+     * @return selected instance
+     * @throws IllegalStateException if there is no healthy instance with positive weight
+     */
+    public Instance select() {
+        int size = instances.length;
+        if (size == 0) {
+            throw new IllegalStateException("Cumulative Weight wrong , the array length is equal to 0.");
+        }
+        if (size == 1) {
+            return instances[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int column = random.nextInt(size);
+        return random.nextDouble() < probabilities[column] ? instances[column] : instances[aliases[column]];
+    }
+    
+    public int size() {
+        return instances.length;
+    }
+}
@@ -41,7 +41,7 @@ class ClientAbilityControlManagerTest {
         assertEquals(1, actual.size());
         assertTrue(actual.containsKey(AbilityMode.SDK_CLIENT));
         // Current not define sdk ability.
-        assertEquals(3, actual.get(AbilityMode.SDK_CLIENT).size());
+        assertEquals(5, actual.get(AbilityMode.SDK_CLIENT).size());
     }
     
     @Test
@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.client.config.common.GroupKey;
+import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheDataRegistryTest {
+    
+    private final ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+    
+    private CacheData newCacheData(String dataId, int taskId) {
+        CacheData cacheData = new CacheData(filter, "env", dataId, "group");
+        cacheData.setTaskId(taskId);
+        return cacheData;
+    }
+    
+    @Test
+    void testPutIfAbsent() {
+        CacheDataRegistry registry = new CacheDataRegistry();
+        CacheData cacheData = newCacheData("dataId", 0);
+        assertNull(registry.putIfAbsent("key", cacheData));
+        assertSame(cacheData, registry.putIfAbsent("key", newCacheData("dataId", 1)));
+        assertSame(cacheData, registry.get("key"));
+        assertEquals(1, registry.size());
+        assertEquals(1, registry.getTaskCaches(0).size());
+        assertTrue(registry.getTaskCaches(1).isEmpty());
+    }
+    
+    @Test
+    void testPutReplaceMovesBucket() {
+        CacheDataRegistry registry = new CacheDataRegistry();
+        registry.put("key", newCacheData("dataId", 0));
+        CacheData replaced = newCacheData("dataId", 1);
+        registry.put("key", replaced);
+        assertSame(replaced, registry.get("key"));
+        assertTrue(registry.getTaskCaches(0).isEmpty());
+        assertSame(replaced, registry.getTaskCaches(1).iterator().next());
+    }
+    
+    @Test
+    void testRemove() {
+        CacheDataRegistry registry = new CacheDataRegistry();
+        CacheData cacheData = newCacheData("dataId", 2);
+        registry.put("key", cacheData);
+        assertSame(cacheData, registry.remove("key"));
+        assertNull(registry.remove("key"));
+        assertFalse(registry.containsKey("key"));
+        assertTrue(registry.getTaskCaches(2).isEmpty());
+        assertTrue(registry.values().isEmpty());
+    }
+    
+    @Test
+    void testConcurrentRegisterTenThousandCaches() throws InterruptedException {
+        final CacheDataRegistry registry = new CacheDataRegistry();
+        final int threadCount = 8;
+        final int cacheCount = 10000;
+        final int perTaskSize = 3000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        for (int j = 0; j < cacheCount; j++) {
+                            String dataId = "dataId" + j;
+                            registry.putIfAbsent(GroupKey.getKey(dataId, "group"),
+                                    newCacheData(dataId, j / perTaskSize));
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(cacheCount, registry.size());
+        int bucketTotal = 0;
+        for (Integer taskId : registry.getTaskIds()) {
+            for (CacheData each : registry.getTaskCaches(taskId)) {
+                assertEquals(taskId.intValue(), each.getTaskId());
+                bucketTotal++;
+            }
+        }
+        assertEquals(cacheCount, bucketTotal);
+    }
+}
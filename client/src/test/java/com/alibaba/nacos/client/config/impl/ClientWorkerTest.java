@@ -61,7 +61,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -363,12 +362,10 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        CacheDataRegistry cacheDataMapMocked = Mockito.mock(CacheDataRegistry.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
         Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
@@ -393,12 +390,10 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        CacheDataRegistry cacheDataMapMocked = Mockito.mock(CacheDataRegistry.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         String content = "content1324567";
         String md5 = MD5Utils.md5Hex(content, "UTF-8");
@@ -539,15 +534,10 @@ class ClientWorkerTest {
         });
         cacheDatas.add(cacheNormal);
         cacheNormal.setInitializing(false);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
-                .thenReturn(cacheNormal);
-        Mockito.when(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
-                .thenReturn(true);
-        
-        Mockito.when(cacheDataMapMocked.values()).thenReturn(cacheDatas);
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        CacheDataRegistry cacheMapMocked = Mockito.mock(CacheDataRegistry.class);
+        Mockito.when(cacheMapMocked.get(GroupKey.getKeyTenant(dataIdNormal, group, tenant))).thenReturn(cacheNormal);
+        Mockito.when(cacheMapMocked.getTaskIds()).thenReturn(Collections.singleton(0));
+        Mockito.when(cacheMapMocked.getTaskCaches(0)).thenReturn(cacheDatas);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
         cacheMap.set(clientWorker, cacheMapMocked);
@@ -576,7 +566,7 @@ class ClientWorkerTest {
         //use local cache.
         assertTrue(cacheUseLocalCache.isUseLocalConfigInfo());
         //discard cache to be deleted.
-        assertFalse(cacheMapMocked.get().containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
+        Mockito.verify(cacheMapMocked).remove(GroupKey.getKeyTenant(dataIdDiscard, group, tenant));
         //normal cache listener be notified.
         assertEquals(configQueryResponse.getContent(), normalContent.get());
         
@@ -655,16 +645,15 @@ class ClientWorkerTest {
         putCacheMethod.invoke(clientWorker, key, cacheData);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        CacheDataRegistry cacheMapRef = (CacheDataRegistry) cacheMapField.get(clientWorker);
         // 检查cacheMap是否包含特定的key
-        assertNotNull(cacheMapRef.get().get(key));
-        assertEquals(cacheData, cacheMapRef.get().get(key));
+        assertNotNull(cacheMapRef.get(key));
+        assertEquals(cacheData, cacheMapRef.get(key));
         // 测试再次插入相同的key将覆盖原始的值
         CacheData newCacheData = new CacheData(filter, "newEnv", "newDataId", "newGroup");
         putCacheMethod.invoke(clientWorker, key, newCacheData);
         // 检查key对应的value是否改变为newCacheData
-        assertEquals(newCacheData, cacheMapRef.get().get(key));
+        assertEquals(newCacheData, cacheMapRef.get(key));
     }
     
     @Test
@@ -675,10 +664,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        CacheDataRegistry cacheMapRef = (CacheDataRegistry) cacheMapField.get(clientWorker);
         String key = GroupKey.getKey(dataId, group);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy).addCacheDataIfAbsent(anyString(), anyString());
@@ -707,10 +695,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        CacheDataRegistry cacheMapRef = (CacheDataRegistry) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -740,10 +727,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        CacheDataRegistry cacheMapRef = (CacheDataRegistry) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -25,6 +25,7 @@ import com.alibaba.nacos.api.naming.listener.EventListener;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.selector.AbstractSelector;
+import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.client.naming.event.InstancesChangeEvent;
 import com.alibaba.nacos.client.naming.event.InstancesChangeNotifier;
@@ -33,6 +34,7 @@ import com.alibaba.nacos.client.naming.remote.http.NamingHttpClientProxy;
 import com.alibaba.nacos.client.naming.selector.NamingSelectorFactory;
 import com.alibaba.nacos.client.naming.selector.NamingSelectorWrapper;
 import com.alibaba.nacos.client.naming.utils.UtilAndComs;
+import com.alibaba.nacos.client.naming.utils.WeightedInstanceSelector;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -742,6 +744,67 @@ class NacosNamingServiceTest {
         assertSame(healthyInstance, instances.get(0));
     }
     
+    @Test
+    void testSelectInstancesWithClustersNotAffectIncrementalPush() throws Exception {
+        ServiceInfoHolder holder = new ServiceInfoHolder("test", "scope-001", NacosClientProperties.PROTOTYPE.derive());
+        Field serviceInfoHolderField = NacosNamingService.class.getDeclaredField("serviceInfoHolder");
+        serviceInfoHolderField.setAccessible(true);
+        serviceInfoHolderField.set(client, holder);
+        try {
+            String serviceName = "service1";
+            ServiceInfo serviceInfo = new ServiceInfo();
+            serviceInfo.setName(serviceName);
+            serviceInfo.setGroupName(Constants.DEFAULT_GROUP);
+            serviceInfo.addHost(mockInstance("1.1.1.1", "cluster1"));
+            serviceInfo.addHost(mockInstance("1.1.1.2", "cluster2"));
+            holder.processServiceInfo(serviceInfo, 1L);
+            when(proxy.isSubscribed(serviceName, Constants.DEFAULT_GROUP, "")).thenReturn(true);
+            
+            List<Instance> selected = client.selectInstances(serviceName, Collections.singletonList("cluster1"), true);
+            assertEquals(1, selected.size());
+            assertEquals(2, holder.getServiceInfo(serviceName, Constants.DEFAULT_GROUP).ipCount());
+            
+            ServiceInfo diff = new ServiceInfo();
+            diff.setName(serviceName);
+            diff.setGroupName(Constants.DEFAULT_GROUP);
+            ServiceInfo actual = holder.processIncrementalServiceInfo(diff, 1L, 2L,
+                    Collections.singletonList(mockInstance("1.1.1.3", "cluster1")), null, null);
+            assertEquals(3, actual.ipCount());
+            assertTrue(actual.getHosts().stream().anyMatch(each -> "cluster2".equals(each.getClusterName())));
+        } finally {
+            holder.shutdown();
+            serviceInfoHolderField.set(client, serviceInfoHolder);
+        }
+    }
+    
+    @Test
+    void testSelectOneHealthyInstanceWithCachedSelector() throws Exception {
+        ServiceInfoHolder holder = new ServiceInfoHolder("test", "scope-001", NacosClientProperties.PROTOTYPE.derive());
+        Field serviceInfoHolderField = NacosNamingService.class.getDeclaredField("serviceInfoHolder");
+        serviceInfoHolderField.setAccessible(true);
+        serviceInfoHolderField.set(client, holder);
+        try {
+            String serviceName = "service1";
+            ServiceInfo serviceInfo = new ServiceInfo();
+            serviceInfo.setName(serviceName);
+            serviceInfo.setGroupName(Constants.DEFAULT_GROUP);
+            serviceInfo.addHost(mockInstance("1.1.1.1", "cluster1"));
+            serviceInfo.addHost(mockInstance("1.1.1.2", "cluster2"));
+            holder.processServiceInfo(serviceInfo);
+            when(proxy.isSubscribed(serviceName, Constants.DEFAULT_GROUP, "")).thenReturn(true);
+            
+            List<String> clusters = Collections.singletonList("cluster1");
+            assertEquals("1.1.1.1", client.selectOneHealthyInstance(serviceName, clusters).getIp());
+            WeightedInstanceSelector selector = holder.getWeightedSelector(serviceInfo, clusters);
+            assertEquals(1, selector.size());
+            assertEquals("1.1.1.1", client.selectOneHealthyInstance(serviceName, clusters).getIp());
+            assertSame(selector, holder.getWeightedSelector(serviceInfo, clusters));
+        } finally {
+            holder.shutdown();
+            serviceInfoHolderField.set(client, serviceInfoHolder);
+        }
+    }
+    
     @Test
     void testSelectOneHealthyInstanceOnlyService() throws NacosException {
         //given
@@ -1228,6 +1291,13 @@ class NacosNamingServiceTest {
         }
     }
     
+    private Instance mockInstance(String ip, String clusterName) {
+        Instance instance = mockInstance(clusterName, true);
+        instance.setIp(ip);
+        instance.setPort(8080);
+        return instance;
+    }
+    
     private Instance mockInstance(String clusterName, boolean healthy) {
         Instance instance = new Instance();
         instance.setClusterName(clusterName);
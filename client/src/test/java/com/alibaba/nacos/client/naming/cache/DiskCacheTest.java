@@ -74,6 +74,16 @@ class DiskCacheTest {
         assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
     }
     
+    @Test
+    void testCacheOverwriteWithoutTempFile() {
+        DiskCache.write(serviceInfo, CACHE_DIR);
+        instance.setIp("1.1.1.2");
+        DiskCache.write(serviceInfo, CACHE_DIR);
+        assertEquals(1, new File(CACHE_DIR).listFiles().length);
+        Map<String, ServiceInfo> actual = DiskCache.read(CACHE_DIR);
+        assertEquals("1.1.1.2", actual.get(serviceInfo.getKey()).getHosts().get(0).getIp());
+    }
+    
     @Test
     void testWriteCacheWithErrorPath() {
         File file = new File(CACHE_DIR, serviceInfo.getKeyEncoded());
@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiskCacheWriterTest {
+    
+    @TempDir
+    File cacheDir;
+    
+    DiskCacheWriter writer;
+    
+    @BeforeEach
+    void setUp() {
+        writer = new DiskCacheWriter(cacheDir.getPath(), 60000L, false);
+    }
+    
+    @AfterEach
+    void tearDown() throws NacosException {
+        writer.shutdown();
+    }
+    
+    @Test
+    void testSubmitCoalesce() {
+        writer.submit(createServiceInfo("1.1.1.1"));
+        writer.submit(createServiceInfo("1.1.1.2"));
+        assertEquals(1, writer.getPendingCount());
+        assertTrue(DiskCache.read(cacheDir.getPath()).isEmpty());
+        
+        writer.flush();
+        assertEquals(0, writer.getPendingCount());
+        Map<String, ServiceInfo> actual = DiskCache.read(cacheDir.getPath());
+        assertEquals(1, actual.size());
+        assertEquals("1.1.1.2", actual.get("G@@testName").getHosts().get(0).getIp());
+        assertEquals(1, cacheDir.listFiles().length);
+    }
+    
+    @Test
+    void testSubmitSnapshot() {
+        ServiceInfo serviceInfo = createServiceInfo("1.1.1.1");
+        writer.submit(serviceInfo);
+        serviceInfo.setHosts(Collections.emptyList());
+        serviceInfo.setChecksum("changed");
+        
+        writer.flush();
+        Map<String, ServiceInfo> actual = DiskCache.read(cacheDir.getPath());
+        assertEquals(1, actual.get("G@@testName").getHosts().size());
+        assertEquals("1.1.1.1", actual.get("G@@testName").getHosts().get(0).getIp());
+        assertEquals("", actual.get("G@@testName").getChecksum());
+    }
+    
+    @Test
+    void testSubmitKeepJsonFromServer() {
+        ServiceInfo serviceInfo = createServiceInfo("1.1.1.1");
+        serviceInfo.setJsonFromServer(
+                "{\"name\":\"testName\",\"groupName\":\"G\",\"hosts\":[{\"ip\":\"1.1.1.9\",\"port\":8848}]}");
+        writer.submit(serviceInfo);
+        
+        writer.flush();
+        assertEquals("1.1.1.9", DiskCache.read(cacheDir.getPath()).get("G@@testName").getHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testShutdownFlushPending() throws NacosException {
+        writer.submit(createServiceInfo("1.1.1.1"));
+        writer.shutdown();
+        assertEquals(0, writer.getPendingCount());
+        assertEquals(1, DiskCache.read(cacheDir.getPath()).size());
+        
+        writer.submit(createServiceInfo("1.1.1.3"));
+        assertEquals(0, writer.getPendingCount());
+        assertEquals("1.1.1.3", DiskCache.read(cacheDir.getPath()).get("G@@testName").getHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testWriteAfterDelay() throws InterruptedException, NacosException {
+        writer.shutdown();
+        writer = new DiskCacheWriter(cacheDir.getPath(), 10L, true);
+        writer.submit(createServiceInfo("1.1.1.1"));
+        long deadline = System.currentTimeMillis() + 3000L;
+        while (writer.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        writer.flush();
+        assertEquals(1, DiskCache.read(cacheDir.getPath()).size());
+    }
+    
+    private ServiceInfo createServiceInfo(String ip) {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@testName");
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setPort(8848);
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        return serviceInfo;
+    }
+}
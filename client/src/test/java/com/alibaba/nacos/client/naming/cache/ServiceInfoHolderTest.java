@@ -25,6 +25,7 @@ import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
+import com.alibaba.nacos.client.naming.utils.WeightedInstanceSelector;
 import io.prometheus.client.Gauge;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,13 +35,17 @@ import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
@@ -101,6 +106,39 @@ class ServiceInfoHolderTest {
         assertEquals(info2, actual2);
     }
     
+    @Test
+    void testProcessIncrementalServiceInfo() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        Instance instance1 = createInstance("1.1.1.1", 1);
+        Instance instance2 = createInstance("1.1.1.2", 2);
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(instance1);
+        hosts.add(instance2);
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        
+        Instance newInstance1 = createInstance("1.1.1.1", 1);
+        newInstance1.setWeight(2.0);
+        Instance instance3 = createInstance("1.1.1.3", 3);
+        ServiceInfo info2 = new ServiceInfo("a@@b@@c");
+        ServiceInfo actual = holder.processIncrementalServiceInfo(info2, 1L, 2L,
+                Collections.singletonList(instance3), Collections.singletonList(instance2),
+                Collections.singletonList(newInstance1));
+        assertEquals(info2, actual);
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        
+        // base revision mismatch
+        assertNull(holder.processIncrementalServiceInfo(new ServiceInfo("a@@b@@c"), 1L, 3L, null, null, null));
+        // revision is kept after processing service info without revision, such as query result
+        holder.processServiceInfo(info);
+        ServiceInfo actual3 = holder.processIncrementalServiceInfo(new ServiceInfo("a@@b@@c"), 2L, 3L, null, null,
+                null);
+        assertEquals(2, actual3.getHosts().size());
+        assertNull(holder.processIncrementalServiceInfo(new ServiceInfo("a@@b@@c"), 2L, 4L, null, null, null));
+    }
+    
     @Test
     void testProcessServiceInfoEnableClientMetricsTrue() {
         ServiceInfoHolder holder = createServiceInfoHolder(true);
@@ -276,6 +314,59 @@ class ServiceInfoHolderTest {
         assertEquals(expect.getHosts().get(0), actual.getHosts().get(0));
     }
     
+    @Test
+    void testGetWeightedSelector() {
+        assertNull(holder.getWeightedSelector(null, Collections.emptyList()));
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info);
+        WeightedInstanceSelector selector = holder.getWeightedSelector(info, Collections.emptyList());
+        assertEquals(1, selector.size());
+        assertSame(selector, holder.getWeightedSelector(info, null));
+        
+        List<Instance> newHosts = new ArrayList<>();
+        newHosts.add(createInstance("1.1.1.1", 1));
+        newHosts.add(createInstance("1.1.1.2", 1));
+        ServiceInfo newInfo = new ServiceInfo("a@@b@@c");
+        newInfo.setHosts(newHosts);
+        holder.processServiceInfo(newInfo);
+        WeightedInstanceSelector newSelector = holder.getWeightedSelector(newInfo, Collections.emptyList());
+        assertNotSame(selector, newSelector);
+        assertEquals(2, newSelector.size());
+        // the selector of the replaced service info is built from itself, never from the cached one.
+        WeightedInstanceSelector oldSelector = holder.getWeightedSelector(info, Collections.emptyList());
+        assertEquals(1, oldSelector.size());
+        assertSame(newSelector, holder.getWeightedSelector(newInfo, Collections.emptyList()));
+    }
+    
+    @Test
+    void testGetWeightedSelectorWithClusters() {
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 1));
+        hosts.add(createInstance("1.1.1.3", 1));
+        hosts.get(0).setClusterName("c1");
+        hosts.get(1).setClusterName("c2");
+        hosts.get(2).setClusterName("c2");
+        ServiceInfo info = new ServiceInfo("a@@b");
+        info.setHosts(hosts);
+        holder.processServiceInfo(info);
+        
+        WeightedInstanceSelector c1Selector = holder.getWeightedSelector(info, Collections.singletonList("c1"));
+        WeightedInstanceSelector c2Selector = holder.getWeightedSelector(info, Collections.singletonList("c2"));
+        assertEquals(1, c1Selector.size());
+        assertEquals("1.1.1.1", c1Selector.select().getIp());
+        assertEquals(2, c2Selector.size());
+        // selectors of different clusters never evict each other.
+        assertSame(c1Selector, holder.getWeightedSelector(info, Collections.singletonList("c1")));
+        assertSame(c2Selector, holder.getWeightedSelector(info, Collections.singletonList("c2")));
+        assertSame(c2Selector, holder.getWeightedSelector(info, Arrays.asList("c2", "c2")));
+        assertEquals(3, holder.getWeightedSelector(info, Collections.emptyList()).size());
+        assertEquals(3, holder.getServiceInfo("b", "a").ipCount());
+    }
+    
     @Test
     void testShutdown() throws NacosException, NoSuchFieldException, IllegalAccessException {
         Field field = ServiceInfoHolder.class.getDeclaredField("failoverReactor");
@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.naming.core;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.naming.utils.WeightedInstanceSelector;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -66,4 +67,19 @@ class BalancerTest {
         });
         assertTrue(exception.getMessage().contains("no host to srv for serviceInfo: null"));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSelectHostWithSelector() {
+        List<Instance> hosts = new ArrayList<>();
+        Instance instance1 = new Instance();
+        hosts.add(instance1);
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setHosts(hosts);
+        
+        assertEquals(instance1, Balancer.RandomByWeight.selectHost(serviceInfo, null));
+        assertEquals(instance1,
+                Balancer.RandomByWeight.selectHost(serviceInfo, WeightedInstanceSelector.build(hosts)));
+        WeightedInstanceSelector emptySelector = WeightedInstanceSelector.build(new ArrayList<>());
+        assertEquals(instance1, Balancer.RandomByWeight.selectHost(serviceInfo, emptySelector));
+    }
+}
@@ -30,11 +30,15 @@ import com.alibaba.nacos.client.naming.remote.TestConnection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NamingPushRequestHandlerTest {
     
@@ -49,7 +53,33 @@ class NamingPushRequestHandlerTest {
         Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
         //then
         assertTrue(response instanceof NotifySubscriberResponse);
-        verify(holder, times(1)).processServiceInfo(info);
+        verify(holder, times(1)).processServiceInfo(info, 0L);
+    }
+    
+    @Test
+    void testRequestReplyIncremental() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildIncrementalNotifySubscriberRequest(info, 1L, 2L,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        when(holder.processIncrementalServiceInfo(info, 1L, 2L, Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList())).thenReturn(info);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response instanceof NotifySubscriberResponse);
+        assertTrue(response.isSuccess());
+    }
+    
+    @Test
+    void testRequestReplyIncrementalMismatch() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildIncrementalNotifySubscriberRequest(info, 1L, 2L,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response instanceof NotifySubscriberResponse);
+        assertFalse(response.isSuccess());
     }
     
     @Test
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.utils;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeightedInstanceSelectorTest {
+    
+    @Test
+    void testSelectEmpty() {
+        WeightedInstanceSelector selector = WeightedInstanceSelector.build(new ArrayList<>());
+        assertEquals(0, selector.size());
+        assertThrows(IllegalStateException.class, selector::select);
+        assertThrows(IllegalStateException.class, () -> WeightedInstanceSelector.build(null).select());
+    }
+    
+    @Test
+    void testSelectIgnoreUnhealthyAndZeroWeight() {
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1.0D, false));
+        hosts.add(createInstance("1.1.1.2", 0.0D, true));
+        Instance expected = createInstance("1.1.1.3", 1.0D, true);
+        hosts.add(expected);
+        WeightedInstanceSelector selector = WeightedInstanceSelector.build(hosts);
+        assertEquals(1, selector.size());
+        for (int i = 0; i < 100; i++) {
+            assertSame(expected, selector.select());
+        }
+    }
+    
+    @Test
+    void testSelectByWeight() {
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1.0D, true));
+        hosts.add(createInstance("1.1.1.2", 3.0D, true));
+        hosts.add(createInstance("1.1.1.3", 6.0D, true));
+        WeightedInstanceSelector selector = WeightedInstanceSelector.build(hosts);
+        Map<String, Integer> counts = new HashMap<>(4);
+        int total = 100000;
+        for (int i = 0; i < total; i++) {
+            counts.merge(selector.select().getIp(), 1, Integer::sum);
+        }
+        assertEquals(0.1D, counts.get("1.1.1.1") / (double) total, 0.01D);
+        assertEquals(0.3D, counts.get("1.1.1.2") / (double) total, 0.01D);
+        assertEquals(0.6D, counts.get("1.1.1.3") / (double) total, 0.01D);
+    }
+    
+    private Instance createInstance(String ip, double weight, boolean healthy) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setWeight(weight);
+        instance.setHealthy(healthy);
+        return instance;
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Event publisher which stages events in pre-allocated ring buffers and drains them in batches.
+ *
+ * <p>Events can be partitioned by a key to several consumer threads, events with the same key are always handled by
+ * the same consumer thread, so the order of events for one key is kept. Events without key are handled by the first
+ * partition. When the ring buffer is full, the publishing thread is blocked until there is free space, but no longer
+ * than {@code nacos.core.notify.batch.full-wait-ms}, then the event is dropped and counted by
+ * {@link #getDroppedCount()}. Events are never notified on the publishing thread, so a slow subscriber can't run on
+ * the caller and break the order of events in the partition.
+ *
+ * <p>Subscribers are matched by the exact event type, so the publisher can be shared by several event types through
+ * {@link ShardedEventPublisher}.
+ *
+ * @author Nacos
+ */
+public class BatchEventPublisher implements ShardedEventPublisher {
+    
+    protected static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    public static final int DEFAULT_BATCH_SIZE = 128;
+    
+    private static final int MIN_PARTITION_CAPACITY = 16;
+    
+    private static final int DEFAULT_WAIT_TIME = 60;
+    
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    /**
+     * Max milliseconds to wait for free space of ring buffer before dropping the event.
+     */
+    private static final long FULL_WAIT_MILLIS = Long.getLong("nacos.core.notify.batch.full-wait-ms", 1000L);
+    
+    private final Map<Class<? extends Event>, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    
+    private final int partitionCount;
+    
+    private final Function<Event, Object> partitionKeyExtractor;
+    
+    private final int batchSize;
+    
+    private final LongAdder publishedCount = new LongAdder();
+    
+    private final LongAdder processedCount = new LongAdder();
+    
+    private final LongAdder droppedCount = new LongAdder();
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private volatile long maxBatchSize;
+    
+    private int queueMaxSize = -1;
+    
+    private String publisherName;
+    
+    private Partition[] partitions;
+    
+    public BatchEventPublisher() {
+        this(1, null, DEFAULT_BATCH_SIZE);
+    }
+    
+    public BatchEventPublisher(int partitionCount, Function<Event, Object> partitionKeyExtractor, int batchSize) {
+        this.partitionCount = Math.max(1, partitionCount);
+        this.partitionKeyExtractor = partitionKeyExtractor;
+        this.batchSize = Math.max(1, batchSize);
+    }
+    
+    @Override
+    public synchronized void init(Class<? extends Event> type, int bufferSize) {
+        if (initialized) {
+            return;
+        }
+        this.queueMaxSize = bufferSize == -1 ? ringBufferSize : bufferSize;
+        this.publisherName = type.getSimpleName();
+        int capacity = tableSizeFor(Math.max(MIN_PARTITION_CAPACITY, this.queueMaxSize / partitionCount));
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition("nacos.publisher-" + type.getName() + "-" + i, capacity);
+        }
+        for (Partition each : partitions) {
+            each.start();
+        }
+        initialized = true;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        long result = 0L;
+        for (Partition each : partitions) {
+            result += each.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get the count of events published but not yet notified to subscribers, including events drained in a batch.
+     *
+     * @return lag of events
+     */
+    public long getLag() {
+        return Math.max(0L, publishedCount.sum() - processedCount.sum());
+    }
+    
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+    
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+    
+    /**
+     * Get the count of events dropped because the ring buffer was still full after waiting.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+    
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+    
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfPresent(subscribeType, (inputType, subscribeSet) -> {
+            subscribeSet.remove(subscriber);
+            return subscribeSet.isEmpty() ? null : subscribeSet;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        Partition partition = selectPartition(event);
+        if (offer(partition, event)) {
+            publishedCount.increment();
+            return true;
+        }
+        droppedCount.increment();
+        LOGGER.error("Unable to plug in due to ring buffer full, drop event : {}", event);
+        return false;
+    }
+    
+    private boolean offer(Partition partition, Event event) {
+        if (partition.offer(event)) {
+            return true;
+        }
+        // The consumer thread can't wait for itself to make free space.
+        if (Thread.currentThread() == partition) {
+            return false;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FULL_WAIT_MILLIS);
+        while (!shutdown && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+            if (partition.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Partition selectPartition(Event event) {
+        if (partitionCount == 1 || null == partitionKeyExtractor) {
+            return partitions[0];
+        }
+        Object key = partitionKeyExtractor.apply(event);
+        if (null == key) {
+            return partitions[0];
+        }
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return partitions[(hash & Integer.MAX_VALUE) % partitionCount];
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        if (null == partitions) {
+            return;
+        }
+        for (Partition each : partitions) {
+            LockSupport.unpark(each);
+        }
+    }
+    
+    public boolean isInitialized() {
+        return initialized;
+    }
+    
+    /**
+     * Receive and notifySubscriber to process the event.
+     *
+     * <p>The expiration of events is judged within one partition, because only the order of events in the same
+     * partition is kept.
+     *
+     * @param event             {@link Event}.
+     * @param lastEventSequence last handled event sequence of the partition
+     */
+    void receiveEvent(Event event, AtomicLong lastEventSequence) {
+        try {
+            Set<Subscriber> eventSubscribers = subscribers.get(event.getClass());
+            if (null == eventSubscribers) {
+                LOGGER.debug("[NotifyCenter] the {} is lost, because there is no subscriber.", event);
+                return;
+            }
+            final long currentEventSequence = event.sequence();
+            for (Subscriber subscriber : eventSubscribers) {
+                if (!subscriber.scopeMatches(event)) {
+                    continue;
+                }
+                // Whether to ignore expiration events
+                if (subscriber.ignoreExpireEvent() && lastEventSequence.get() > currentEventSequence) {
+                    LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                            event.getClass());
+                    continue;
+                }
+                notifySubscriber(subscriber, event);
+            }
+            lastEventSequence.accumulateAndGet(currentEventSequence, Math::max);
+        } finally {
+            processedCount.increment();
+        }
+    }
+    
+    @Override
+    public void notifySubscriber(final Subscriber subscriber, final Event event) {
+        
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d, partitions=%d, lag=%d, dropped=%d",
+                publisherName, shutdown, currentEventSize(), queueMaxSize, partitionCount, getLag(), getDroppedCount());
+    }
+    
+    private static int tableSizeFor(int capacity) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(capacity - 1);
+        return n < 0 ? 1 : (n >= 1 << 30 ? 1 << 30 : n + 1);
+    }
+    
+    /**
+     * One consumer thread with its own multi-producer ring buffer.
+     */
+    private class Partition extends Thread {
+        
+        private final AtomicReferenceArray<Event> slots;
+        
+        private final int capacity;
+        
+        private final int mask;
+        
+        private final AtomicLong tail = new AtomicLong();
+        
+        private final AtomicLong lastEventSequence = new AtomicLong(-1L);
+        
+        private final Event[] batch;
+        
+        private volatile long head;
+        
+        private volatile boolean waiting;
+        
+        Partition(String name, int capacity) {
+            super(name);
+            setDaemon(true);
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.batch = new Event[batchSize];
+        }
+        
+        long size() {
+            return Math.max(0L, tail.get() - head);
+        }
+        
+        boolean offer(Event event) {
+            long current;
+            do {
+                current = tail.get();
+                if (current - head >= capacity) {
+                    return false;
+                }
+            } while (!tail.compareAndSet(current, current + 1));
+            slots.set((int) (current & mask), event);
+            if (waiting) {
+                LockSupport.unpark(this);
+            }
+            return true;
+        }
+        
+        @Override
+        public void run() {
+            try {
+                waitSubscriberForInit();
+                while (!shutdown) {
+                    int drained = drain();
+                    if (drained > 0) {
+                        handleBatch(drained);
+                        continue;
+                    }
+                    waiting = true;
+                    if (tail.get() == head && !shutdown) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    waiting = false;
+                }
+            } catch (Throwable ex) {
+                LOGGER.error("Event listener exception : ", ex);
+            }
+        }
+        
+        private void waitSubscriberForInit() {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            for (int waitTimes = DEFAULT_WAIT_TIME; waitTimes > 0; waitTimes--) {
+                if (shutdown || !subscribers.isEmpty()) {
+                    break;
+                }
+                ThreadUtils.sleep(1000L);
+            }
+        }
+        
+        private int drain() {
+            long current = head;
+            int count = 0;
+            while (count < batchSize) {
+                int index = (int) (current & mask);
+                Event event = slots.get(index);
+                if (null == event) {
+                    break;
+                }
+                batch[count++] = event;
+                slots.set(index, null);
+                current++;
+            }
+            if (count > 0) {
+                head = current;
+            }
+            return count;
+        }
+        
+        private void handleBatch(int count) {
+            if (count > maxBatchSize) {
+                maxBatchSize = count;
+            }
+            for (int i = 0; i < count; i++) {
+                Event event = batch[i];
+                batch[i] = null;
+                receiveEvent(event, lastEventSequence);
+            }
+        }
+    }
+}
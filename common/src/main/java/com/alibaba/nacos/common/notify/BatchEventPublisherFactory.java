@@ -0,0 +1,51 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import java.util.function.Function;
+
+/**
+ * Event publisher factory for {@link BatchEventPublisher}.
+ *
+ * @author Nacos
+ */
+public class BatchEventPublisherFactory implements EventPublisherFactory {
+    
+    private final int partitionCount;
+    
+    private final Function<Event, Object> partitionKeyExtractor;
+    
+    private final int batchSize;
+    
+    public BatchEventPublisherFactory() {
+        this(1, null, BatchEventPublisher.DEFAULT_BATCH_SIZE);
+    }
+    
+    public BatchEventPublisherFactory(int partitionCount, Function<Event, Object> partitionKeyExtractor,
+            int batchSize) {
+        this.partitionCount = partitionCount;
+        this.partitionKeyExtractor = partitionKeyExtractor;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public EventPublisher apply(Class<? extends Event> eventType, Integer maxQueueSize) {
+        BatchEventPublisher publisher = new BatchEventPublisher(partitionCount, partitionKeyExtractor, batchSize);
+        publisher.init(eventType, maxQueueSize);
+        return publisher;
+    }
+}
@@ -24,6 +24,7 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.codec.BinaryPayloadCodecs;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
@@ -43,6 +44,11 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    /**
+     * Type url of payload body which is encoded by {@link BinaryPayloadCodecs}, json body has empty type url.
+     */
+    public static final String BINARY_BODY_TYPE_URL = "nacos/binary";
+    
     /**
      * convert request to payload.
      *
@@ -86,6 +92,39 @@ public class GrpcUtils {
         
     }
     
+    /**
+     * convert request to payload, use binary body if enabled and the request type supports it.
+     *
+     * @param request       request.
+     * @param binaryEnabled whether the remote supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Request request, boolean binaryEnabled) {
+        if (!binaryEnabled || !BinaryPayloadCodecs.isSupported(request)) {
+            return convert(request);
+        }
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIp()).putAllHeaders(request.getHeaders()).build();
+        return Payload.newBuilder().setBody(Any.newBuilder().setTypeUrl(BINARY_BODY_TYPE_URL)
+                .setValue(BinaryPayloadCodecs.encode(request))).setMetadata(newMeta).build();
+    }
+    
+    /**
+     * convert response to payload, use binary body if enabled and the response type supports it.
+     *
+     * @param response      response.
+     * @param binaryEnabled whether the remote supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Response response, boolean binaryEnabled) {
+        if (!binaryEnabled || !BinaryPayloadCodecs.isSupported(response)) {
+            return convert(response);
+        }
+        Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
+        return Payload.newBuilder().setBody(Any.newBuilder().setTypeUrl(BINARY_BODY_TYPE_URL)
+                .setValue(BinaryPayloadCodecs.encode(response))).setMetadata(metaBuilder.build()).build();
+    }
+    
     /**
      * convert response to payload.
      *
@@ -118,8 +157,13 @@ public class GrpcUtils {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj;
+            if (BINARY_BODY_TYPE_URL.equals(payload.getBody().getTypeUrl())) {
+                obj = BinaryPayloadCodecs.decode(classType, byteString);
+            } else {
+                ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
+                obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            }
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -0,0 +1,266 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utils to write and read nullable fields for binary payload codec.
+ *
+ * <p>Strings are written with a presence flag, maps and lists are written with {@code size + 1} so that {@code 0}
+ * stands for {@code null}.
+ *
+ * @author Nacos
+ */
+public class BinaryCodecUtils {
+    
+    private BinaryCodecUtils() {
+    }
+    
+    /**
+     * Write nullable string.
+     *
+     * @param output output stream
+     * @param value  value
+     * @throws IOException when write failed
+     */
+    public static void writeString(CodedOutputStream output, String value) throws IOException {
+        output.writeBoolNoTag(null != value);
+        if (null != value) {
+            output.writeStringNoTag(value);
+        }
+    }
+    
+    /**
+     * Read nullable string.
+     *
+     * @param input input stream
+     * @return value
+     * @throws IOException when read failed
+     */
+    public static String readString(CodedInputStream input) throws IOException {
+        return input.readBool() ? input.readString() : null;
+    }
+    
+    /**
+     * Write nullable string map.
+     *
+     * @param output output stream
+     * @param map    map
+     * @throws IOException when write failed
+     */
+    public static void writeStringMap(CodedOutputStream output, Map<String, String> map) throws IOException {
+        if (null == map) {
+            output.writeUInt32NoTag(0);
+            return;
+        }
+        output.writeUInt32NoTag(map.size() + 1);
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(output, entry.getKey());
+            writeString(output, entry.getValue());
+        }
+    }
+    
+    /**
+     * Read nullable string map.
+     *
+     * @param input input stream
+     * @return map
+     * @throws IOException when read failed
+     */
+    public static Map<String, String> readStringMap(CodedInputStream input) throws IOException {
+        int size = readSize(input);
+        if (size < 0) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>(Math.max(16, (int) (size / 0.75F) + 1));
+        for (int i = 0; i < size; i++) {
+            result.put(readString(input), readString(input));
+        }
+        return result;
+    }
+    
+    /**
+     * Write nullable instance.
+     *
+     * @param output   output stream
+     * @param instance instance
+     * @throws IOException when write failed
+     */
+    public static void writeInstance(CodedOutputStream output, Instance instance) throws IOException {
+        output.writeBoolNoTag(null != instance);
+        if (null == instance) {
+            return;
+        }
+        writeString(output, instance.getInstanceId());
+        writeString(output, instance.getIp());
+        output.writeInt32NoTag(instance.getPort());
+        output.writeDoubleNoTag(instance.getWeight());
+        output.writeBoolNoTag(instance.isHealthy());
+        output.writeBoolNoTag(instance.isEnabled());
+        output.writeBoolNoTag(instance.isEphemeral());
+        writeString(output, instance.getClusterName());
+        writeString(output, instance.getServiceName());
+        writeStringMap(output, instance.getMetadata());
+    }
+    
+    /**
+     * Read nullable instance.
+     *
+     * @param input input stream
+     * @return instance
+     * @throws IOException when read failed
+     */
+    public static Instance readInstance(CodedInputStream input) throws IOException {
+        if (!input.readBool()) {
+            return null;
+        }
+        Instance instance = new Instance();
+        instance.setInstanceId(readString(input));
+        instance.setIp(readString(input));
+        instance.setPort(input.readInt32());
+        instance.setWeight(input.readDouble());
+        instance.setHealthy(input.readBool());
+        instance.setEnabled(input.readBool());
+        instance.setEphemeral(input.readBool());
+        instance.setClusterName(readString(input));
+        instance.setServiceName(readString(input));
+        instance.setMetadata(readStringMap(input));
+        return instance;
+    }
+    
+    /**
+     * Write nullable instance list.
+     *
+     * @param output    output stream
+     * @param instances instances
+     * @throws IOException when write failed
+     */
+    public static void writeInstances(CodedOutputStream output, List<Instance> instances) throws IOException {
+        if (null == instances) {
+            output.writeUInt32NoTag(0);
+            return;
+        }
+        output.writeUInt32NoTag(instances.size() + 1);
+        for (Instance each : instances) {
+            writeInstance(output, each);
+        }
+    }
+    
+    /**
+     * Read nullable instance list.
+     *
+     * @param input input stream
+     * @return instances
+     * @throws IOException when read failed
+     */
+    public static List<Instance> readInstances(CodedInputStream input) throws IOException {
+        int size = readSize(input);
+        if (size < 0) {
+            return null;
+        }
+        List<Instance> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(readInstance(input));
+        }
+        return result;
+    }
+    
+    /**
+     * Write nullable service info.
+     *
+     * @param output      output stream
+     * @param serviceInfo service info
+     * @throws IOException when write failed
+     */
+    public static void writeServiceInfo(CodedOutputStream output, ServiceInfo serviceInfo) throws IOException {
+        output.writeBoolNoTag(null != serviceInfo);
+        if (null == serviceInfo) {
+            return;
+        }
+        writeString(output, serviceInfo.getName());
+        writeString(output, serviceInfo.getGroupName());
+        writeString(output, serviceInfo.getClusters());
+        output.writeInt64NoTag(serviceInfo.getCacheMillis());
+        writeInstances(output, serviceInfo.getHosts());
+        output.writeInt64NoTag(serviceInfo.getLastRefTime());
+        writeString(output, serviceInfo.getChecksum());
+        output.writeBoolNoTag(serviceInfo.isAllIps());
+        output.writeBoolNoTag(serviceInfo.isReachProtectionThreshold());
+    }
+    
+    /**
+     * Read nullable service info.
+     *
+     * @param input input stream
+     * @return service info
+     * @throws IOException when read failed
+     */
+    public static ServiceInfo readServiceInfo(CodedInputStream input) throws IOException {
+        if (!input.readBool()) {
+            return null;
+        }
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName(readString(input));
+        serviceInfo.setGroupName(readString(input));
+        serviceInfo.setClusters(readString(input));
+        serviceInfo.setCacheMillis(input.readInt64());
+        List<Instance> hosts = readInstances(input);
+        if (null != hosts) {
+            serviceInfo.setHosts(hosts);
+        }
+        serviceInfo.setLastRefTime(input.readInt64());
+        String checksum = readString(input);
+        if (null != checksum) {
+            serviceInfo.setChecksum(checksum);
+        }
+        serviceInfo.setAllIps(input.readBool());
+        serviceInfo.setReachProtectionThreshold(input.readBool());
+        return serviceInfo;
+    }
+    
+    /**
+     * Whether all instances can be encoded, sub classes of {@link Instance} may carry more fields.
+     *
+     * @param instances instances
+     * @return {@code true} if all instances are exactly {@link Instance}
+     */
+    public static boolean isPlainInstances(List<Instance> instances) {
+        if (null == instances) {
+            return true;
+        }
+        for (Instance each : instances) {
+            if (null != each && Instance.class != each.getClass()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int readSize(CodedInputStream input) throws IOException {
+        return input.readUInt32() - 1;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for one type of request or response payload.
+ *
+ * <p>The codec only writes the fields of the payload itself, the framing such as version and request id is handled
+ * by {@link BinaryPayloadCodecs}.
+ *
+ * @param <T> type of payload
+ * @author Nacos
+ */
+public interface BinaryPayloadCodec<T> {
+    
+    /**
+     * Get the payload class which this codec can encode and decode, sub classes are not included.
+     *
+     * @return payload class
+     */
+    Class<T> getPayloadClass();
+    
+    /**
+     * Whether the payload can be encoded without losing any field.
+     *
+     * @param payload payload
+     * @return {@code true} if supported, otherwise the payload should be encoded by json
+     */
+    default boolean isSupported(T payload) {
+        return true;
+    }
+    
+    /**
+     * Encode the fields of payload.
+     *
+     * @param payload payload
+     * @param output  output stream
+     * @throws IOException when write failed
+     */
+    void encode(T payload, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Decode a new payload from input.
+     *
+     * @param input input stream
+     * @return payload
+     * @throws IOException when read failed or data is malformed
+     */
+    T decode(CodedInputStream input) throws IOException;
+}
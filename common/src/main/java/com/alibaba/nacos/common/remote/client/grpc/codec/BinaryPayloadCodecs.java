@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry and framing of binary payload codecs.
+ *
+ * <p>Binary body layout: {@code version | nullable requestId | codec fields}. The request id is written ahead of
+ * the codec fields so that the encoded fields can be shared by payloads with different request ids.
+ *
+ * @author Nacos
+ */
+public class BinaryPayloadCodecs {
+    
+    /**
+     * Version of binary layout, increase it when layout of any codec is changed incompatibly.
+     */
+    public static final int VERSION = 1;
+    
+    private static final Map<Class<?>, BinaryPayloadCodec<?>> CODECS = new HashMap<>(8);
+    
+    static {
+        register(new InstanceRequestCodec());
+        register(new ConfigBatchListenRequestCodec());
+        register(new NotifySubscriberRequestCodec());
+        register(new ConfigQueryResponseCodec());
+    }
+    
+    private BinaryPayloadCodecs() {
+    }
+    
+    private static void register(BinaryPayloadCodec<?> codec) {
+        CODECS.put(codec.getPayloadClass(), codec);
+    }
+    
+    /**
+     * Whether the payload can be encoded by binary codec.
+     *
+     * @param payload request or response
+     * @return {@code true} if there is a codec for the exact class of payload and the codec supports it
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean isSupported(Object payload) {
+        if (null == payload) {
+            return false;
+        }
+        BinaryPayloadCodec<Object> codec = (BinaryPayloadCodec<Object>) CODECS.get(payload.getClass());
+        return null != codec && codec.isSupported(payload);
+    }
+    
+    /**
+     * Encode the payload with request id.
+     *
+     * @param payload request or response
+     * @return binary body
+     */
+    public static ByteString encode(Object payload) {
+        return assemble(getRequestId(payload), encodeFields(payload));
+    }
+    
+    /**
+     * Encode the fields of payload without version and request id.
+     *
+     * @param payload request or response
+     * @return encoded fields
+     */
+    @SuppressWarnings("unchecked")
+    public static ByteString encodeFields(Object payload) {
+        BinaryPayloadCodec<Object> codec = (BinaryPayloadCodec<Object>) CODECS.get(payload.getClass());
+        if (null == codec) {
+            throw new RemoteException(NacosException.SERVER_ERROR,
+                    "No binary codec for payload type:" + payload.getClass().getSimpleName());
+        }
+        ByteString.Output byteOutput = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(byteOutput);
+        try {
+            codec.encode(payload, output);
+            output.flush();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return byteOutput.toByteString();
+    }
+    
+    /**
+     * Build binary body by request id and encoded fields.
+     *
+     * @param requestId request id
+     * @param fields    fields encoded by {@link #encodeFields(Object)}
+     * @return binary body
+     */
+    public static ByteString assemble(String requestId, ByteString fields) {
+        ByteString.Output byteOutput = ByteString.newOutput();
+        CodedOutputStream output = CodedOutputStream.newInstance(byteOutput);
+        try {
+            output.writeUInt32NoTag(VERSION);
+            BinaryCodecUtils.writeString(output, requestId);
+            output.flush();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return byteOutput.toByteString().concat(fields);
+    }
+    
+    /**
+     * Decode binary body to payload.
+     *
+     * @param classType class of payload
+     * @param body      binary body
+     * @return request or response
+     */
+    public static Object decode(Class<?> classType, ByteString body) {
+        BinaryPayloadCodec<?> codec = CODECS.get(classType);
+        if (null == codec) {
+            throw new RemoteException(NacosException.SERVER_ERROR,
+                    "No binary codec for payload type:" + classType.getSimpleName());
+        }
+        try {
+            CodedInputStream input = body.newCodedInput();
+            int version = input.readUInt32();
+            if (VERSION != version) {
+                throw new RemoteException(NacosException.SERVER_ERROR, "Unsupported binary payload version:" + version);
+            }
+            String requestId = BinaryCodecUtils.readString(input);
+            Object result = codec.decode(input);
+            if (result instanceof Request) {
+                ((Request) result).setRequestId(requestId);
+            } else if (result instanceof Response) {
+                ((Response) result).setRequestId(requestId);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    private static String getRequestId(Object payload) {
+        if (payload instanceof Request) {
+            return ((Request) payload).getRequestId();
+        }
+        if (payload instanceof Response) {
+            return ((Response) payload).getRequestId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest.ConfigListenContext;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.readString;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.writeString;
+
+/**
+ * Binary codec of {@link ConfigBatchListenRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchListenRequestCodec implements BinaryPayloadCodec<ConfigBatchListenRequest> {
+    
+    @Override
+    public Class<ConfigBatchListenRequest> getPayloadClass() {
+        return ConfigBatchListenRequest.class;
+    }
+    
+    @Override
+    public void encode(ConfigBatchListenRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, payload.getDataId());
+        writeString(output, payload.getGroup());
+        writeString(output, payload.getTenant());
+        output.writeBoolNoTag(payload.isListen());
+        List<ConfigListenContext> contexts = payload.getConfigListenContexts();
+        if (null == contexts) {
+            output.writeUInt32NoTag(0);
+            return;
+        }
+        output.writeUInt32NoTag(contexts.size() + 1);
+        for (ConfigListenContext each : contexts) {
+            writeString(output, each.getDataId());
+            writeString(output, each.getGroup());
+            writeString(output, each.getTenant());
+            writeString(output, each.getMd5());
+        }
+    }
+    
+    @Override
+    public ConfigBatchListenRequest decode(CodedInputStream input) throws IOException {
+        ConfigBatchListenRequest result = new ConfigBatchListenRequest();
+        result.setDataId(readString(input));
+        result.setGroup(readString(input));
+        result.setTenant(readString(input));
+        result.setListen(input.readBool());
+        int size = input.readUInt32() - 1;
+        if (size < 0) {
+            result.setConfigListenContexts(null);
+            return result;
+        }
+        List<ConfigListenContext> contexts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ConfigListenContext context = new ConfigListenContext();
+            context.setDataId(readString(input));
+            context.setGroup(readString(input));
+            context.setTenant(readString(input));
+            context.setMd5(readString(input));
+            contexts.add(context);
+        }
+        result.setConfigListenContexts(contexts);
+        return result;
+    }
+}
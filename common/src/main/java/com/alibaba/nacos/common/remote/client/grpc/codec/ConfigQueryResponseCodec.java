@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc.codec;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.readString;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.writeString;
+
+/**
+ * Binary codec of {@link ConfigQueryResponse}.
+ *
+ * @author Nacos
+ */
+public class ConfigQueryResponseCodec implements BinaryPayloadCodec<ConfigQueryResponse> {
+    
+    @Override
+    public Class<ConfigQueryResponse> getPayloadClass() {
+        return ConfigQueryResponse.class;
+    }
+    
+    @Override
+    public void encode(ConfigQueryResponse payload, CodedOutputStream output) throws IOException {
+        output.writeInt32NoTag(payload.getResultCode());
+        output.writeInt32NoTag(payload.getErrorCode());
+        writeString(output, payload.getMessage());
+        writeString(output, payload.getContent());
+        writeString(output, payload.getEncryptedDataKey());
+        writeString(output, payload.getContentType());
+        writeString(output, payload.getMd5());
+        output.writeInt64NoTag(payload.getLastModified());
+        output.writeBoolNoTag(payload.isBeta());
+        writeString(output, payload.getTag());
+    }
+    
+    @Override
+    public ConfigQueryResponse decode(CodedInputStream input) throws IOException {
+        ConfigQueryResponse result = new ConfigQueryResponse();
+        result.setResultCode(input.readInt32());
+        result.setErrorCode(input.readInt32());
+        result.setMessage(readString(input));
+        result.setContent(readString(input));
+        result.setEncryptedDataKey(readString(input));
+        result.setContentType(readString(input));
+        result.setMd5(readString(input));
+        result.setLastModified(input.readInt64());
+        result.setBeta(input.readBool());
+        result.setTag(readString(input));
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc.codec;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.isPlainInstances;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.readInstances;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.readServiceInfo;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.readString;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.writeInstances;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.writeServiceInfo;
+import static com.alibaba.nacos.common.remote.client.grpc.codec.BinaryCodecUtils.writeString;
+
+/**
+ * Binary codec of {@link NotifySubscriberRequest}.
+ *
+ * @author Nacos
+ */
+public class NotifySubscriberRequestCodec implements BinaryPayloadCodec<NotifySubscriberRequest> {
+    
+    @Override
+    public Class<NotifySubscriberRequest> getPayloadClass() {
+        return NotifySubscriberRequest.class;
+    }
+    
+    @Override
+    public boolean isSupported(NotifySubscriberRequest payload) {
+        ServiceInfo serviceInfo = payload.getServiceInfo();
+        return (null == serviceInfo || ServiceInfo.class == serviceInfo.getClass() && isPlainInstances(
+                serviceInfo.getHosts())) && isPlainInstances(payload.getAddedInstances()) && isPlainInstances(
+                payload.getRemovedInstances()) && isPlainInstances(payload.getModifiedInstances());
+    }
+    
+    @Override
+    public void encode(NotifySubscriberRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, payload.getNamespace());
+        writeString(output, payload.getServiceName());
+        writeString(output, payload.getGroupName());
+        writeServiceInfo(output, payload.getServiceInfo());
+        output.writeInt64NoTag(payload.getRevision());
+        output.writeBoolNoTag(payload.isIncremental());
+        output.writeInt64NoTag(payload.getBaseRevision());
+        writeInstances(output, payload.getAddedInstances());
+        writeInstances(output, payload.getRemovedInstances());
+        writeInstances(output, payload.getModifiedInstances());
+    }
+    
+    @Override
+    public NotifySubscriberRequest decode(CodedInputStream input) throws IOException {
+        NotifySubscriberRequest result = new NotifySubscriberRequest();
+        result.setNamespace(readString(input));
+        result.setServiceName(readString(input));
+        result.setGroupName(readString(input));
+        result.setServiceInfo(readServiceInfo(input));
+        result.setRevision(input.readInt64());
+        result.setIncremental(input.readBool());
+        result.setBaseRevision(input.readInt64());
+        result.setAddedInstances(readInstances(input));
+        result.setRemovedInstances(readInstances(input));
+        result.setModifiedInstances(readInstances(input));
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+/**
+ * How {@link NacosDelayTaskExecuteEngine} finds the tasks to process.
+ *
+ * @author Nacos
+ */
+public enum DelayTaskProcessMode {
+    
+    /**
+     * A single thread scans all tasks every process interval.
+     */
+    SCAN,
+    
+    /**
+     * Tasks are scheduled into a delay queue by their due time and processed by worker threads when due.
+     */
+    DUE_QUEUE;
+    
+    /**
+     * Parse the mode, ignoring case.
+     *
+     * @param mode         mode name
+     * @param defaultValue default mode if the name is blank or unknown
+     * @return mode
+     */
+    public static DelayTaskProcessMode parse(String mode, DelayTaskProcessMode defaultValue) {
+        if (null == mode) {
+            return defaultValue;
+        }
+        for (DelayTaskProcessMode each : values()) {
+            if (each.name().equalsIgnoreCase(mode.trim())) {
+                return each;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -26,6 +26,9 @@ import org.slf4j.Logger;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -33,6 +36,11 @@ import java.util.concurrent.locks.ReentrantLock;
 /**
  * Nacos delay task execute engine.
  *
+ * <p>In {@link DelayTaskProcessMode#SCAN} mode a single thread scans all tasks every process interval. In
+ * {@link DelayTaskProcessMode#DUE_QUEUE} mode tasks are merged without the global lock, each task key is scheduled
+ * into a delay queue by the due time of its task, and worker threads only wake up for due tasks. With more than one
+ * worker thread, tasks of different keys are processed in parallel.
+ *
  * @author xiweng.yy
  */
 public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
@@ -43,6 +51,21 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     
     protected final ReentrantLock lock = new ReentrantLock();
     
+    private final DelayTaskProcessMode processMode;
+    
+    private final long processInterval;
+    
+    private final DelayQueue<DueTaskKey> dueQueue;
+    
+    /**
+     * task key -> the entry of the key in due queue, only used in due queue mode.
+     */
+    private final ConcurrentHashMap<Object, DueTaskKey> scheduledKeys;
+    
+    private final ExecutorService dueTaskExecutor;
+    
+    private volatile boolean shutdown;
+    
     public NacosDelayTaskExecuteEngine(String name) {
         this(name, null);
     }
@@ -52,15 +75,43 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     }
     
     public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
+        this(name, initCapacity, logger, processInterval, DelayTaskProcessMode.SCAN, 1);
+    }
+    
+    public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval,
+            DelayTaskProcessMode processMode, int processThreads) {
         super(logger);
         tasks = new ConcurrentHashMap<>(initCapacity);
-        processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
-        processingExecutor
-                .scheduleWithFixedDelay(new ProcessRunnable(), processInterval, processInterval, TimeUnit.MILLISECONDS);
+        this.processMode = processMode;
+        this.processInterval = processInterval;
+        if (DelayTaskProcessMode.DUE_QUEUE == processMode) {
+            processingExecutor = null;
+            dueQueue = new DelayQueue<>();
+            scheduledKeys = new ConcurrentHashMap<>(initCapacity);
+            int threads = Math.max(1, processThreads);
+            dueTaskExecutor = ExecutorFactory.newFixedExecutorService(threads, new NameThreadFactory(name));
+            for (int i = 0; i < threads; i++) {
+                dueTaskExecutor.execute(new DueTaskProcessRunnable());
+            }
+        } else {
+            dueQueue = null;
+            scheduledKeys = null;
+            dueTaskExecutor = null;
+            processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
+            processingExecutor.scheduleWithFixedDelay(new ProcessRunnable(), processInterval, processInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    public DelayTaskProcessMode getProcessMode() {
+        return processMode;
     }
     
     @Override
     public int size() {
+        if (isDueQueueMode()) {
+            return tasks.size();
+        }
         lock.lock();
         try {
             return tasks.size();
@@ -71,6 +122,9 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     
     @Override
     public boolean isEmpty() {
+        if (isDueQueueMode()) {
+            return tasks.isEmpty();
+        }
         lock.lock();
         try {
             return tasks.isEmpty();
@@ -81,6 +135,17 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     
     @Override
     public AbstractDelayTask removeTask(Object key) {
+        if (isDueQueueMode()) {
+            AbstractDelayTask[] removed = new AbstractDelayTask[1];
+            tasks.computeIfPresent(key, (k, task) -> {
+                if (task.shouldProcess()) {
+                    removed[0] = task;
+                    return null;
+                }
+                return task;
+            });
+            return removed[0];
+        }
         lock.lock();
         try {
             AbstractDelayTask task = tasks.get(key);
@@ -97,6 +162,10 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     @Override
     public Collection<Object> getAllTaskKeys() {
         Collection<Object> keys = new HashSet<>();
+        if (isDueQueueMode()) {
+            keys.addAll(tasks.keySet());
+            return keys;
+        }
         lock.lock();
         try {
             keys.addAll(tasks.keySet());
@@ -108,12 +177,23 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     
     @Override
     public void shutdown() throws NacosException {
+        shutdown = true;
         tasks.clear();
-        processingExecutor.shutdown();
+        if (isDueQueueMode()) {
+            dueTaskExecutor.shutdownNow();
+            dueQueue.clear();
+            scheduledKeys.clear();
+        } else {
+            processingExecutor.shutdown();
+        }
     }
     
     @Override
     public void addTask(Object key, AbstractDelayTask newTask) {
+        if (isDueQueueMode()) {
+            schedule(key, getDueTime(mergeTask(key, newTask)));
+            return;
+        }
         lock.lock();
         try {
             AbstractDelayTask existTask = tasks.get(key);
@@ -126,34 +206,146 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
         }
     }
     
+    /**
+     * Whether tasks can be processed now, tasks are kept in engine until it returns true.
+     *
+     * @return {@code true} if tasks can be processed, otherwise {@code false}
+     */
+    protected boolean canProcessTasks() {
+        return true;
+    }
+    
     /**
      * process tasks in execute engine.
      */
     protected void processTasks() {
+        if (!canProcessTasks()) {
+            return;
+        }
         Collection<Object> keys = getAllTaskKeys();
         for (Object taskKey : keys) {
             AbstractDelayTask task = removeTask(taskKey);
             if (null == task) {
                 continue;
             }
-            NacosTaskProcessor processor = getProcessor(taskKey);
-            try {
-                // ReAdd task if process failed
-                if (!processor.process(task)) {
-                    retryFailedTask(taskKey, task);
-                }
-            } catch (Throwable e) {
-                getEngineLog().error("Nacos task execute error ", e);
+            processTask(taskKey, task);
+        }
+    }
+    
+    private void processTask(Object taskKey, AbstractDelayTask task) {
+        NacosTaskProcessor processor = getProcessor(taskKey);
+        try {
+            // ReAdd task if process failed
+            if (!processor.process(task)) {
                 retryFailedTask(taskKey, task);
             }
+        } catch (Throwable e) {
+            getEngineLog().error("Nacos task execute error ", e);
+            retryFailedTask(taskKey, task);
         }
     }
     
     private void retryFailedTask(Object key, AbstractDelayTask task) {
-        task.setLastProcessTime(System.currentTimeMillis());
+        long now = System.currentTimeMillis();
+        task.setLastProcessTime(now);
+        if (isDueQueueMode()) {
+            // retry no faster than the scan mode does, even if the task has no interval.
+            schedule(key, Math.max(getDueTime(mergeTask(key, task)), now + processInterval));
+            return;
+        }
         addTask(key, task);
     }
     
+    private boolean isDueQueueMode() {
+        return DelayTaskProcessMode.DUE_QUEUE == processMode;
+    }
+    
+    private AbstractDelayTask mergeTask(Object key, AbstractDelayTask newTask) {
+        return tasks.compute(key, (k, existTask) -> {
+            if (null != existTask) {
+                newTask.merge(existTask);
+            }
+            return newTask;
+        });
+    }
+    
+    private long getDueTime(AbstractDelayTask task) {
+        return task.getLastProcessTime() + task.getTaskInterval();
+    }
+    
+    /**
+     * Schedule the key to be checked at due time. Only the earliest entry of a key is kept in due queue, an entry for
+     * a later due time is replaced by scheduling the key again when the earliest one is checked. If the key is being
+     * processed, it is scheduled after the processing finished, so the tasks of one key are never processed
+     * concurrently by different workers.
+     *
+     * @param key     task key
+     * @param dueTime due time in milliseconds
+     */
+    private void schedule(Object key, long dueTime) {
+        if (shutdown) {
+            return;
+        }
+        scheduledKeys.compute(key, (k, current) -> {
+            if (null != current && current.inFlight) {
+                current.pendingDueTime = Math.min(current.pendingDueTime, dueTime);
+                return current;
+            }
+            if (null != current && current.dueTime <= dueTime) {
+                return current;
+            }
+            DueTaskKey dueTaskKey = new DueTaskKey(k, dueTime, false);
+            dueQueue.offer(dueTaskKey);
+            return dueTaskKey;
+        });
+    }
+    
+    private void processDueKey(DueTaskKey dueTaskKey) {
+        Object taskKey = dueTaskKey.key;
+        DueTaskKey inFlightKey = new DueTaskKey(taskKey, dueTaskKey.dueTime, true);
+        if (!scheduledKeys.replace(taskKey, dueTaskKey, inFlightKey)) {
+            // replaced by an earlier entry of the same key.
+            return;
+        }
+        try {
+            if (!canProcessTasks()) {
+                schedule(taskKey, System.currentTimeMillis() + processInterval);
+                return;
+            }
+            AbstractDelayTask task = removeTask(taskKey);
+            if (null != task) {
+                processTask(taskKey, task);
+                return;
+            }
+            AbstractDelayTask pendingTask = tasks.get(taskKey);
+            if (null != pendingTask) {
+                // task is merged or updated after scheduled, and not due yet.
+                schedule(taskKey, getDueTime(pendingTask));
+            }
+        } finally {
+            finishDueKey(inFlightKey);
+        }
+    }
+    
+    /**
+     * Release the key after processed, and schedule it if it was scheduled again during processing.
+     *
+     * @param inFlightKey in flight entry of the key
+     */
+    private void finishDueKey(DueTaskKey inFlightKey) {
+        scheduledKeys.computeIfPresent(inFlightKey.key, (k, current) -> {
+            if (current != inFlightKey) {
+                return current;
+            }
+            if (shutdown || Long.MAX_VALUE == current.pendingDueTime) {
+                return null;
+            }
+            DueTaskKey dueTaskKey = new DueTaskKey(k, current.pendingDueTime, false);
+            dueQueue.offer(dueTaskKey);
+            return dueTaskKey;
+        });
+    }
+    
     private class ProcessRunnable implements Runnable {
         
         @Override
@@ -165,4 +357,54 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
             }
         }
     }
+    
+    private class DueTaskProcessRunnable implements Runnable {
+        
+        @Override
+        public void run() {
+            while (!shutdown) {
+                try {
+                    processDueKey(dueQueue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable e) {
+                    getEngineLog().error(e.toString(), e);
+                }
+            }
+        }
+    }
+    
+    private static class DueTaskKey implements Delayed {
+        
+        private final Object key;
+        
+        private final long dueTime;
+        
+        /**
+         * Whether the key is being processed, an in flight entry is only kept in scheduled keys, never in due queue.
+         */
+        private final boolean inFlight;
+        
+        /**
+         * Due time requested during processing, only accessed in the compute of scheduled keys.
+         */
+        private long pendingDueTime = Long.MAX_VALUE;
+        
+        private DueTaskKey(Object key, long dueTime, boolean inFlight) {
+            this.key = key;
+            this.dueTime = dueTime;
+            this.inFlight = inFlight;
+        }
+        
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+        
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(dueTime, ((DueTaskKey) o).dueTime);
+        }
+    }
 }
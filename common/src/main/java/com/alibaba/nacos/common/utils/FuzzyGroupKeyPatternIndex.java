@@ -0,0 +1,373 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.alibaba.nacos.api.common.Constants.ALL_PATTERN;
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+import static com.alibaba.nacos.api.common.Constants.FUZZY_WATCH_PATTERN_SPLITTER;
+
+/**
+ * Index of fuzzy group key patterns, find the patterns matched with a resource without matching every pattern.
+ *
+ * <p>Patterns are indexed by namespace, then by group pattern and then by resource pattern. Exact items are indexed
+ * by hash, prefix items by a trie of the prefix and postfix items by a trie of the reversed postfix, so a lookup only
+ * walks the characters of the group and resource name. Items like {@code *{string}*} can't be indexed this way and
+ * are still matched one by one. The match result is the same as
+ * {@link FuzzyGroupKeyPattern#matchPattern(String, String, String, String)}.
+ *
+ * @author Nacos
+ */
+public class FuzzyGroupKeyPatternIndex {
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final Map<String, ItemPatternIndex<ItemPatternIndex<String>>> namespaceIndexes = new HashMap<>();
+    
+    private final Set<String> patterns = new HashSet<>();
+    
+    /**
+     * Add group key pattern into index.
+     *
+     * @param groupKeyPattern group key pattern
+     * @return {@code true} if the pattern is not indexed before
+     */
+    public boolean addPattern(String groupKeyPattern) {
+        lock.writeLock().lock();
+        try {
+            if (!patterns.add(groupKeyPattern)) {
+                return false;
+            }
+            String[] items = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
+            if (items.length < 3) {
+                // illegal pattern never matched.
+                return true;
+            }
+            namespaceIndexes.computeIfAbsent(items[0], key -> new ItemPatternIndex<>())
+                    .computeIfAbsent(items[1], key -> new ItemPatternIndex<>()).put(items[2], groupKeyPattern);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove group key pattern from index.
+     *
+     * @param groupKeyPattern group key pattern
+     * @return {@code true} if the pattern is indexed before
+     */
+    public boolean removePattern(String groupKeyPattern) {
+        lock.writeLock().lock();
+        try {
+            if (!patterns.remove(groupKeyPattern)) {
+                return false;
+            }
+            String[] items = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
+            if (items.length < 3) {
+                return true;
+            }
+            ItemPatternIndex<ItemPatternIndex<String>> groupIndex = namespaceIndexes.get(items[0]);
+            if (null == groupIndex) {
+                return true;
+            }
+            ItemPatternIndex<String> resourceIndex = groupIndex.get(items[1]);
+            if (null != resourceIndex) {
+                resourceIndex.remove(items[2]);
+                if (resourceIndex.isEmpty()) {
+                    groupIndex.remove(items[1]);
+                }
+            }
+            if (groupIndex.isEmpty()) {
+                namespaceIndexes.remove(items[0]);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Get patterns matched with the resource.
+     *
+     * @param resourceName resource name, such as dataId or service name
+     * @param group        group
+     * @param namespace    namespace, use {@link com.alibaba.nacos.api.common.Constants#DEFAULT_NAMESPACE_ID} if blank
+     * @return matched patterns
+     */
+    public Set<String> matchPatterns(String resourceName, String group, String namespace) {
+        if (StringUtils.isBlank(namespace)) {
+            namespace = DEFAULT_NAMESPACE_ID;
+        }
+        Set<String> result = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            ItemPatternIndex<ItemPatternIndex<String>> groupIndex = namespaceIndexes.get(namespace);
+            if (null != groupIndex) {
+                groupIndex.forEachMatched(group,
+                        resourceIndex -> resourceIndex.forEachMatched(resourceName, result::add));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+    
+    /**
+     * Whether the group key pattern is indexed.
+     *
+     * @param groupKeyPattern group key pattern
+     * @return {@code true} if the pattern is indexed
+     */
+    public boolean containsPattern(String groupKeyPattern) {
+        lock.readLock().lock();
+        try {
+            return patterns.contains(groupKeyPattern);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Get the count of indexed patterns.
+     *
+     * @return count of indexed patterns
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return patterns.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Index of item patterns, such as group patterns or resource patterns, not thread safe.
+     *
+     * @param <V> value type of item pattern
+     */
+    static class ItemPatternIndex<V> {
+        
+        private final Map<String, V> values = new HashMap<>();
+        
+        private final Map<String, V> exactValues = new HashMap<>();
+        
+        private final Map<String, V> containsValues = new HashMap<>();
+        
+        private final TrieNode<V> prefixTrie = new TrieNode<>();
+        
+        private final TrieNode<V> postfixTrie = new TrieNode<>();
+        
+        private V allValue;
+        
+        V get(String itemPattern) {
+            return values.get(itemPattern);
+        }
+        
+        V computeIfAbsent(String itemPattern, Function<String, V> mappingFunction) {
+            V value = values.get(itemPattern);
+            if (null == value) {
+                value = mappingFunction.apply(itemPattern);
+                put(itemPattern, value);
+            }
+            return value;
+        }
+        
+        void put(String itemPattern, V value) {
+            values.put(itemPattern, value);
+            switch (typeOf(itemPattern)) {
+                case EXACT:
+                    exactValues.put(itemPattern, value);
+                    break;
+                case ALL:
+                    allValue = value;
+                    break;
+                case CONTAINS:
+                    containsValues.put(itemPattern, value);
+                    break;
+                case POSTFIX:
+                    postfixTrie.put(reverse(pureString(itemPattern)), 0, itemPattern, value);
+                    break;
+                case PREFIX:
+                    prefixTrie.put(pureString(itemPattern), 0, itemPattern, value);
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        void remove(String itemPattern) {
+            if (null == values.remove(itemPattern)) {
+                return;
+            }
+            switch (typeOf(itemPattern)) {
+                case EXACT:
+                    exactValues.remove(itemPattern);
+                    break;
+                case ALL:
+                    allValue = null;
+                    break;
+                case CONTAINS:
+                    containsValues.remove(itemPattern);
+                    break;
+                case POSTFIX:
+                    postfixTrie.remove(reverse(pureString(itemPattern)), 0, itemPattern);
+                    break;
+                case PREFIX:
+                    prefixTrie.remove(pureString(itemPattern), 0, itemPattern);
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        boolean isEmpty() {
+            return values.isEmpty();
+        }
+        
+        void forEachMatched(String item, Consumer<V> consumer) {
+            if (null != allValue) {
+                consumer.accept(allValue);
+            }
+            if (null == item) {
+                return;
+            }
+            V exact = exactValues.get(item);
+            if (null != exact) {
+                consumer.accept(exact);
+            }
+            for (Map.Entry<String, V> entry : containsValues.entrySet()) {
+                if (item.contains(pureString(entry.getKey()))) {
+                    consumer.accept(entry.getValue());
+                }
+            }
+            prefixTrie.forEachMatched(item, false, consumer);
+            postfixTrie.forEachMatched(item, true, consumer);
+        }
+        
+        private static ItemType typeOf(String itemPattern) {
+            if (!itemPattern.contains(ALL_PATTERN)) {
+                return ItemType.EXACT;
+            }
+            if (itemPattern.equals(ALL_PATTERN)) {
+                return ItemType.ALL;
+            }
+            boolean startsWithAll = itemPattern.startsWith(ALL_PATTERN);
+            boolean endsWithAll = itemPattern.endsWith(ALL_PATTERN);
+            if (startsWithAll && endsWithAll) {
+                return ItemType.CONTAINS;
+            }
+            if (startsWithAll) {
+                return ItemType.POSTFIX;
+            }
+            if (endsWithAll) {
+                return ItemType.PREFIX;
+            }
+            return ItemType.NEVER;
+        }
+        
+        private static String pureString(String itemPattern) {
+            return itemPattern.replace(ALL_PATTERN, "");
+        }
+        
+        private static String reverse(String value) {
+            return new StringBuilder(value).reverse().toString();
+        }
+    }
+    
+    private enum ItemType {
+        
+        EXACT, ALL, CONTAINS, PREFIX, POSTFIX, NEVER
+    }
+    
+    /**
+     * Trie node, values of item patterns with same pure string are stored in the same node.
+     *
+     * @param <V> value type of item pattern
+     */
+    private static class TrieNode<V> {
+        
+        private Map<Character, TrieNode<V>> children;
+        
+        private Map<String, V> values;
+        
+        void put(String key, int index, String itemPattern, V value) {
+            if (index == key.length()) {
+                if (null == values) {
+                    values = new HashMap<>(2);
+                }
+                values.put(itemPattern, value);
+                return;
+            }
+            if (null == children) {
+                children = new HashMap<>(4);
+            }
+            children.computeIfAbsent(key.charAt(index), c -> new TrieNode<>()).put(key, index + 1, itemPattern, value);
+        }
+        
+        /**
+         * Remove value of item pattern.
+         *
+         * @return {@code true} if this node is empty after removing and can be pruned
+         */
+        boolean remove(String key, int index, String itemPattern) {
+            if (index == key.length()) {
+                if (null != values) {
+                    values.remove(itemPattern);
+                    if (values.isEmpty()) {
+                        values = null;
+                    }
+                }
+            } else if (null != children) {
+                Character c = key.charAt(index);
+                TrieNode<V> child = children.get(c);
+                if (null != child && child.remove(key, index + 1, itemPattern)) {
+                    children.remove(c);
+                    if (children.isEmpty()) {
+                        children = null;
+                    }
+                }
+            }
+            return null == values && null == children;
+        }
+        
+        void forEachMatched(String item, boolean reversed, Consumer<V> consumer) {
+            TrieNode<V> node = this;
+            int length = item.length();
+            for (int i = 0; ; i++) {
+                if (null != node.values) {
+                    node.values.values().forEach(consumer);
+                }
+                if (i == length || null == node.children) {
+                    return;
+                }
+                node = node.children.get(item.charAt(reversed ? length - 1 - i : i));
+                if (null == node) {
+                    return;
+                }
+            }
+        }
+    }
+}
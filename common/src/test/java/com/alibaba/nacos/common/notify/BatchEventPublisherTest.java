@@ -0,0 +1,230 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchEventPublisherTest {
+    
+    private BatchEventPublisher publisher;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        publisher = new BatchEventPublisher();
+        assertThrows(IllegalStateException.class, () -> publisher.publish(new KeyedEvent("a", 0)));
+    }
+    
+    @Test
+    void testInitWithIllegalSize() {
+        publisher = new BatchEventPublisher();
+        publisher.init(KeyedEvent.class, -1);
+        assertTrue(publisher.isInitialized());
+        assertEquals(0L, publisher.currentEventSize());
+    }
+    
+    @Test
+    void testPublishAndReceive() throws InterruptedException {
+        publisher = new BatchEventPublisher();
+        publisher.init(KeyedEvent.class, 1024);
+        RecordSubscriber subscriber = new RecordSubscriber(100);
+        publisher.addSubscriber(subscriber);
+        for (int i = 0; i < 100; i++) {
+            publisher.publish(new KeyedEvent("a", i));
+        }
+        assertTrue(subscriber.latch.await(5L, TimeUnit.SECONDS));
+        assertEquals(100, subscriber.received.get("a").size());
+        assertEquals(100L, publisher.getPublishedCount());
+        assertEquals(0L, publisher.getDroppedCount());
+        assertTrue(publisher.getMaxBatchSize() >= 1L);
+    }
+    
+    @Test
+    void testPartitionKeepOrderForSameKey() throws InterruptedException {
+        publisher = new BatchEventPublisher(4, event -> ((KeyedEvent) event).key, 16);
+        publisher.init(KeyedEvent.class, 64);
+        int keys = 8;
+        int eventsPerKey = 500;
+        RecordSubscriber subscriber = new RecordSubscriber(keys * eventsPerKey);
+        publisher.addSubscriber(subscriber);
+        List<Thread> producers = new ArrayList<>();
+        for (int k = 0; k < keys; k++) {
+            String key = "key" + k;
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < eventsPerKey; i++) {
+                    publisher.publish(new KeyedEvent(key, i));
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (Thread each : producers) {
+            each.join();
+        }
+        assertTrue(subscriber.latch.await(10L, TimeUnit.SECONDS));
+        for (int k = 0; k < keys; k++) {
+            List<Integer> received = subscriber.received.get("key" + k);
+            assertEquals(eventsPerKey, received.size());
+            for (int i = 0; i < eventsPerKey; i++) {
+                assertEquals(i, received.get(i).intValue());
+            }
+        }
+        assertEquals((long) keys * eventsPerKey, publisher.getPublishedCount());
+        assertEquals(4, publisher.getPartitionCount());
+    }
+    
+    @Test
+    void testBlockPublishWhenFull() throws InterruptedException {
+        publisher = new BatchEventPublisher();
+        publisher.init(KeyedEvent.class, 16);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch gate = new CountDownLatch(1);
+        RecordSubscriber subscriber = new RecordSubscriber(18) {
+            @Override
+            public void onEvent(KeyedEvent event) {
+                entered.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onEvent(event);
+            }
+        };
+        publisher.addSubscriber(subscriber);
+        publisher.publish(new KeyedEvent("a", 0));
+        assertTrue(entered.await(5L, TimeUnit.SECONDS));
+        for (int i = 1; i <= 16; i++) {
+            assertTrue(publisher.publish(new KeyedEvent("a", i)));
+        }
+        AtomicBoolean result = new AtomicBoolean();
+        Thread producer = new Thread(() -> result.set(publisher.publish(new KeyedEvent("a", 17))));
+        producer.start();
+        producer.join(100L);
+        // the ring buffer is full, the producer is blocked and the event is not notified by the producer.
+        assertTrue(producer.isAlive());
+        assertEquals(18L, subscriber.latch.getCount());
+        gate.countDown();
+        producer.join(5000L);
+        assertTrue(result.get());
+        assertTrue(subscriber.latch.await(5L, TimeUnit.SECONDS));
+        assertEquals(0L, publisher.getDroppedCount());
+        for (int i = 0; i < 18; i++) {
+            assertEquals(i, subscriber.received.get("a").get(i).intValue());
+        }
+    }
+    
+    @Test
+    void testDropWhenFullAfterShutdown() throws InterruptedException {
+        publisher = new BatchEventPublisher();
+        publisher.init(KeyedEvent.class, 16);
+        RecordSubscriber subscriber = new RecordSubscriber(1);
+        publisher.addSubscriber(subscriber);
+        publisher.shutdown();
+        // Make sure the consumer thread stopped.
+        TimeUnit.MILLISECONDS.sleep(100);
+        for (int i = 0; i < 16; i++) {
+            assertTrue(publisher.publish(new KeyedEvent("a", i)));
+        }
+        // the consumer stopped, so the 17th event is dropped instead of handled by the publish thread.
+        assertFalse(publisher.publish(new KeyedEvent("a", 16)));
+        assertEquals(1L, publisher.getDroppedCount());
+        assertEquals(1L, subscriber.latch.getCount());
+        assertEquals(16L, publisher.currentEventSize());
+    }
+    
+    @Test
+    void testRemoveSubscriber() {
+        publisher = new BatchEventPublisher();
+        publisher.init(KeyedEvent.class, 16);
+        RecordSubscriber subscriber = new RecordSubscriber(1);
+        publisher.addSubscriber(subscriber);
+        publisher.removeSubscriber(subscriber);
+        publisher.shutdown();
+        for (int i = 0; i < 17; i++) {
+            publisher.publish(new KeyedEvent("a", i));
+        }
+        assertEquals(1L, subscriber.latch.getCount());
+    }
+    
+    @Test
+    void testFactory() {
+        EventPublisher eventPublisher = new BatchEventPublisherFactory().apply(KeyedEvent.class, 16);
+        publisher = (BatchEventPublisher) eventPublisher;
+        assertTrue(publisher.isInitialized());
+        assertTrue(publisher.getStatus().contains("KeyedEvent"));
+    }
+    
+    private static class KeyedEvent extends Event {
+        
+        private static final long serialVersionUID = 2096234017296925472L;
+        
+        private final String key;
+        
+        private final int index;
+        
+        KeyedEvent(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+    
+    private static class RecordSubscriber extends Subscriber<KeyedEvent> {
+        
+        private final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        
+        private final CountDownLatch latch;
+        
+        RecordSubscriber(int expectedCount) {
+            this.latch = new CountDownLatch(expectedCount);
+        }
+        
+        @Override
+        public void onEvent(KeyedEvent event) {
+            // events of the same key are handled by the same thread.
+            received.computeIfAbsent(event.key, key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.index);
+            latch.countDown();
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return KeyedEvent.class;
+        }
+    }
+}
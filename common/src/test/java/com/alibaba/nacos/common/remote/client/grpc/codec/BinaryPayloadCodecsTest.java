@@ -0,0 +1,195 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryPayloadCodecsTest {
+    
+    @BeforeEach
+    void setUp() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    void testInstanceRequest() {
+        InstanceRequest request = new InstanceRequest("ns", "service", "group", "registerInstance",
+                buildInstance("1.1.1.1"));
+        request.setRequestId("1");
+        request.putHeader("accessToken", "token");
+        Payload payload = GrpcUtils.convert(request, true);
+        assertEquals(GrpcUtils.BINARY_BODY_TYPE_URL, payload.getBody().getTypeUrl());
+        InstanceRequest actual = (InstanceRequest) GrpcUtils.parse(payload);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("token", actual.getHeader("accessToken"));
+        assertEquals("ns", actual.getNamespace());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals("registerInstance", actual.getType());
+        assertEquals(request.getInstance(), actual.getInstance());
+        assertEquals("v", actual.getInstance().getMetadata().get("k"));
+    }
+    
+    @Test
+    void testConfigBatchListenRequest() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setListen(false);
+        request.addConfigListenContext("group", "dataId", "tenant", "md5");
+        request.addConfigListenContext("group", "dataId2", null, "md5");
+        ConfigBatchListenRequest actual = (ConfigBatchListenRequest) GrpcUtils.parse(GrpcUtils.convert(request, true));
+        assertFalse(actual.isListen());
+        assertEquals(2, actual.getConfigListenContexts().size());
+        assertEquals("dataId", actual.getConfigListenContexts().get(0).getDataId());
+        assertEquals("tenant", actual.getConfigListenContexts().get(0).getTenant());
+        assertEquals("md5", actual.getConfigListenContexts().get(0).getMd5());
+        assertEquals("group", actual.getConfigListenContexts().get(1).getGroup());
+        assertNull(actual.getConfigListenContexts().get(1).getTenant());
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildIncrementalNotifySubscriberRequest(
+                buildServiceInfo(3), 9L, 10L, Collections.singletonList(buildInstance("2.2.2.2")),
+                Collections.emptyList(), null);
+        request.setRequestId("2");
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(GrpcUtils.convert(request, true));
+        assertEquals("2", actual.getRequestId());
+        assertEquals(10L, actual.getRevision());
+        assertEquals(9L, actual.getBaseRevision());
+        assertTrue(actual.isIncremental());
+        assertEquals(request.getAddedInstances(), actual.getAddedInstances());
+        assertTrue(actual.getRemovedInstances().isEmpty());
+        assertNull(actual.getModifiedInstances());
+        ServiceInfo expectedInfo = request.getServiceInfo();
+        ServiceInfo actualInfo = actual.getServiceInfo();
+        assertEquals(expectedInfo.getName(), actualInfo.getName());
+        assertEquals(expectedInfo.getGroupName(), actualInfo.getGroupName());
+        assertEquals(expectedInfo.getClusters(), actualInfo.getClusters());
+        assertEquals(expectedInfo.getCacheMillis(), actualInfo.getCacheMillis());
+        assertEquals(expectedInfo.getLastRefTime(), actualInfo.getLastRefTime());
+        assertEquals(expectedInfo.getChecksum(), actualInfo.getChecksum());
+        assertEquals(expectedInfo.isReachProtectionThreshold(), actualInfo.isReachProtectionThreshold());
+        assertEquals(expectedInfo.getHosts(), actualInfo.getHosts());
+    }
+    
+    @Test
+    void testConfigQueryResponse() {
+        ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse("content中文");
+        response.setRequestId("3");
+        response.setMd5("md5");
+        response.setLastModified(100L);
+        response.setContentType("yaml");
+        response.setBeta(true);
+        response.setTag("tag");
+        Payload payload = GrpcUtils.convert(response, true);
+        assertEquals(GrpcUtils.BINARY_BODY_TYPE_URL, payload.getBody().getTypeUrl());
+        ConfigQueryResponse actual = (ConfigQueryResponse) GrpcUtils.parse(payload);
+        assertEquals("3", actual.getRequestId());
+        assertTrue(actual.isSuccess());
+        assertEquals("content中文", actual.getContent());
+        assertEquals("md5", actual.getMd5());
+        assertEquals(100L, actual.getLastModified());
+        assertEquals("yaml", actual.getContentType());
+        assertTrue(actual.isBeta());
+        assertEquals("tag", actual.getTag());
+        assertNull(actual.getEncryptedDataKey());
+        
+        ConfigQueryResponse fail = ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND,
+                "not found");
+        ConfigQueryResponse actualFail = (ConfigQueryResponse) GrpcUtils.parse(GrpcUtils.convert(fail, true));
+        assertFalse(actualFail.isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, actualFail.getErrorCode());
+        assertEquals("not found", actualFail.getMessage());
+    }
+    
+    @Test
+    void testFallbackToJson() {
+        ServiceQueryRequest unsupported = new ServiceQueryRequest();
+        assertEquals("", GrpcUtils.convert(unsupported, true).getBody().getTypeUrl());
+        InstanceRequest request = new InstanceRequest("ns", "service", "group", "registerInstance",
+                buildInstance("1.1.1.1"));
+        assertEquals("", GrpcUtils.convert(request, false).getBody().getTypeUrl());
+        // sub class of instance may carry more fields.
+        request.setInstance(new Instance() {
+        });
+        assertFalse(BinaryPayloadCodecs.isSupported(request));
+        assertEquals("", GrpcUtils.convert(request, true).getBody().getTypeUrl());
+    }
+    
+    @Test
+    void testBinarySmallerThanJson() {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(buildServiceInfo(100));
+        request.setRequestId("100");
+        int jsonSize = GrpcUtils.convert(request).getBody().getValue().size();
+        int binarySize = GrpcUtils.convert(request, true).getBody().getValue().size();
+        assertTrue(binarySize < jsonSize, "binary " + binarySize + " should be smaller than json " + jsonSize);
+    }
+    
+    @Test
+    void testDecodeUnsupportedVersion() {
+        ByteString body = ByteString.copyFrom(new byte[] {2, 0});
+        assertThrows(RemoteException.class, () -> BinaryPayloadCodecs.decode(InstanceRequest.class, body));
+        assertThrows(RemoteException.class, () -> BinaryPayloadCodecs.decode(ServiceQueryRequest.class, body));
+    }
+    
+    private ServiceInfo buildServiceInfo(int hostCount) {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service@@cluster");
+        serviceInfo.setLastRefTime(System.currentTimeMillis());
+        serviceInfo.setChecksum("checksum");
+        List<Instance> hosts = new ArrayList<>(hostCount);
+        for (int i = 0; i < hostCount; i++) {
+            hosts.add(buildInstance("10.0.0." + i));
+        }
+        serviceInfo.setHosts(hosts);
+        return serviceInfo;
+    }
+    
+    private Instance buildInstance(String ip) {
+        Instance instance = new Instance();
+        instance.setInstanceId(ip + "#8848#cluster#group@@service");
+        instance.setIp(ip);
+        instance.setPort(8848);
+        instance.setWeight(2.0D);
+        instance.setClusterName("cluster");
+        instance.setServiceName("group@@service");
+        instance.addMetadata("k", "v");
+        return instance;
+    }
+}
@@ -26,12 +26,17 @@ import org.mockito.Mock;
 import org.mockito.internal.verification.Times;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -146,4 +151,149 @@ class NacosDelayTaskExecuteEngineTest {
         });
         assertEquals(1, nacosDelayTaskExecuteEngine.size());
     }
+    
+    @Test
+    void testDueQueueModeProcessTask() throws Exception {
+        NacosDelayTaskExecuteEngine engine = newDueQueueEngine(2);
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            when(taskProcessor.process(abstractTask)).thenReturn(true);
+            engine.addTask("test", abstractTask);
+            verify(taskProcessor, timeout(1000L)).process(abstractTask);
+            assertEquals(DelayTaskProcessMode.DUE_QUEUE, engine.getProcessMode());
+            assertTrue(engine.isEmpty());
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testDueQueueModeWaitTaskInterval() throws Exception {
+        NacosDelayTaskExecuteEngine engine = newDueQueueEngine(1);
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            abstractTask.setTaskInterval(300L);
+            abstractTask.setLastProcessTime(System.currentTimeMillis());
+            engine.addTask("test", abstractTask);
+            verify(taskProcessor, after(100L).never()).process(abstractTask);
+            assertEquals(1, engine.size());
+            when(taskProcessor.process(abstractTask)).thenReturn(true);
+            verify(taskProcessor, timeout(1000L)).process(abstractTask);
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testDueQueueModeRetryFailedTask() throws Exception {
+        NacosDelayTaskExecuteEngine engine = newDueQueueEngine(1);
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+            engine.addTask("test", abstractTask);
+            verify(taskProcessor, timeout(1000L).times(2)).process(abstractTask);
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testDueQueueModePauseProcessing() throws Exception {
+        AtomicBoolean canProcess = new AtomicBoolean(false);
+        NacosDelayTaskExecuteEngine engine = new NacosDelayTaskExecuteEngine("dueQueuePauseTest", 32, null, 50L,
+                DelayTaskProcessMode.DUE_QUEUE, 1) {
+            @Override
+            protected boolean canProcessTasks() {
+                return canProcess.get();
+            }
+        };
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            when(taskProcessor.process(abstractTask)).thenReturn(true);
+            engine.addTask("test", abstractTask);
+            verify(taskProcessor, after(150L).never()).process(abstractTask);
+            canProcess.set(true);
+            verify(taskProcessor, timeout(1000L)).process(abstractTask);
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testDueQueueModeProcessManyKeys() throws Exception {
+        NacosDelayTaskExecuteEngine engine = newDueQueueEngine(4);
+        int taskCount = 1000;
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        AtomicInteger processed = new AtomicInteger();
+        try {
+            engine.setDefaultTaskProcessor(task -> {
+                processed.incrementAndGet();
+                latch.countDown();
+                return true;
+            });
+            for (int i = 0; i < taskCount; i++) {
+                engine.addTask("test" + i, new AbstractDelayTask() {
+                    @Override
+                    public void merge(AbstractDelayTask task) {
+                    }
+                });
+            }
+            assertTrue(latch.await(5L, TimeUnit.SECONDS));
+            assertEquals(taskCount, processed.get());
+            assertTrue(engine.isEmpty());
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testDueQueueModeNotProcessSameKeyConcurrently() throws Exception {
+        NacosDelayTaskExecuteEngine engine = newDueQueueEngine(4);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondProcessed = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger processCount = new AtomicInteger();
+        try {
+            engine.setDefaultTaskProcessor(task -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    if (1 == processCount.incrementAndGet()) {
+                        firstStarted.countDown();
+                        releaseFirst.await(1L, TimeUnit.SECONDS);
+                    } else {
+                        secondProcessed.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return true;
+            });
+            engine.addTask("test", newMergeableTask());
+            assertTrue(firstStarted.await(1L, TimeUnit.SECONDS));
+            engine.addTask("test", newMergeableTask());
+            assertFalse(secondProcessed.await(200L, TimeUnit.MILLISECONDS));
+            releaseFirst.countDown();
+            assertTrue(secondProcessed.await(1L, TimeUnit.SECONDS));
+            assertEquals(1, maxRunning.get());
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    private AbstractDelayTask newMergeableTask() {
+        return new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+            }
+        };
+    }
+    
+    private NacosDelayTaskExecuteEngine newDueQueueEngine(int threads) {
+        return new NacosDelayTaskExecuteEngine(NacosDelayTaskExecuteEngineTest.class.getName(), 32, null, 50L,
+                DelayTaskProcessMode.DUE_QUEUE, threads);
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * FuzzyGroupKeyPatternIndexTest.
+ *
+ * @author Nacos
+ */
+class FuzzyGroupKeyPatternIndexTest {
+    
+    private FuzzyGroupKeyPatternIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new FuzzyGroupKeyPatternIndex();
+    }
+    
+    @Test
+    void testMatchExactPattern() {
+        index.addPattern("ns>>group>>dataId");
+        assertEquals(Set.of("ns>>group>>dataId"), index.matchPatterns("dataId", "group", "ns"));
+        assertTrue(index.matchPatterns("dataId1", "group", "ns").isEmpty());
+        assertTrue(index.matchPatterns("dataId", "group1", "ns").isEmpty());
+        assertTrue(index.matchPatterns("dataId", "group", "ns1").isEmpty());
+    }
+    
+    @Test
+    void testMatchFuzzyPatterns() {
+        index.addPattern("ns>>group>>*");
+        index.addPattern("ns>>group>>app.*");
+        index.addPattern("ns>>group>>*.yaml");
+        index.addPattern("ns>>group>>*order*");
+        index.addPattern("ns>>*>>app.order.yaml");
+        index.addPattern("ns>>group>>app*yaml");
+        Set<String> matched = index.matchPatterns("app.order.yaml", "group", "ns");
+        assertEquals(Set.of("ns>>group>>*", "ns>>group>>app.*", "ns>>group>>*.yaml", "ns>>group>>*order*",
+                "ns>>*>>app.order.yaml"), matched);
+        assertEquals(Set.of("ns>>group>>*", "ns>>group>>app.*"), index.matchPatterns("app.user", "group", "ns"));
+        assertEquals(Set.of("ns>>*>>app.order.yaml"), index.matchPatterns("app.order.yaml", "other", "ns"));
+    }
+    
+    @Test
+    void testBlankNamespaceAsPublic() {
+        index.addPattern("public>>group>>*");
+        assertEquals(Set.of("public>>group>>*"), index.matchPatterns("dataId", "group", ""));
+        assertEquals(Set.of("public>>group>>*"), index.matchPatterns("dataId", "group", null));
+    }
+    
+    @Test
+    void testAddAndRemovePattern() {
+        assertTrue(index.addPattern("ns>>group>>app.*"));
+        assertFalse(index.addPattern("ns>>group>>app.*"));
+        assertTrue(index.addPattern("ns>>group>>*.yaml"));
+        assertTrue(index.containsPattern("ns>>group>>app.*"));
+        assertEquals(2, index.size());
+        
+        assertTrue(index.removePattern("ns>>group>>app.*"));
+        assertFalse(index.removePattern("ns>>group>>app.*"));
+        assertFalse(index.containsPattern("ns>>group>>app.*"));
+        assertEquals(1, index.size());
+        assertEquals(Set.of("ns>>group>>*.yaml"), index.matchPatterns("app.yaml", "group", "ns"));
+        
+        assertTrue(index.removePattern("ns>>group>>*.yaml"));
+        assertEquals(0, index.size());
+        assertTrue(index.matchPatterns("app.yaml", "group", "ns").isEmpty());
+    }
+    
+    @Test
+    void testIllegalPatternNeverMatched() {
+        index.addPattern("ns>>group");
+        index.addPattern("ns>>group>>a*b");
+        assertTrue(index.matchPatterns("ab", "group", "ns").isEmpty());
+        assertTrue(index.matchPatterns("group", "ns", "ns").isEmpty());
+    }
+    
+    @Test
+    void testMatchSameAsLinearScanWithTenThousandPatterns() {
+        Random random = new Random(20250101L);
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            String pattern = FuzzyGroupKeyPattern.generatePattern(randomItemPattern(random), randomItemPattern(random),
+                    "ns" + random.nextInt(3));
+            patterns.add(pattern);
+            index.addPattern(pattern);
+        }
+        Set<String> removed = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String pattern = patterns.get(random.nextInt(patterns.size()));
+            index.removePattern(pattern);
+            removed.add(pattern);
+        }
+        List<String> remained = new ArrayList<>(patterns);
+        remained.removeAll(removed);
+        
+        for (int i = 0; i < 2000; i++) {
+            String resource = randomItem(random);
+            String group = randomItem(random);
+            String namespace = "ns" + random.nextInt(3);
+            assertEquals(FuzzyGroupKeyPattern.filterMatchedPatterns(remained, resource, group, namespace),
+                    index.matchPatterns(resource, group, namespace));
+        }
+    }
+    
+    private static String randomItemPattern(Random random) {
+        String item = randomItem(random);
+        switch (random.nextInt(6)) {
+            case 0:
+                return "*";
+            case 1:
+                return item.substring(0, 1 + random.nextInt(item.length())) + "*";
+            case 2:
+                return "*" + item.substring(random.nextInt(item.length()));
+            case 3:
+                return "*" + item.substring(1, 2 + random.nextInt(item.length() - 1)) + "*";
+            default:
+                return item;
+        }
+    }
+    
+    private static String randomItem(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = 2 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
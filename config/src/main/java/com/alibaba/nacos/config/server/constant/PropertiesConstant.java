@@ -69,4 +69,8 @@ public class PropertiesConstant {
     
     public static final String NAMESPACE_COMPATIBLE_MODE = "nacos.config.namespace.compatible.mode";
     
+    public static final String CONTENT_CACHE_ENABLED = "nacos.config.cache.content.enabled";
+    
+    public static final String CONTENT_CACHE_MAX_BYTES = "nacos.config.cache.content.maxBytes";
+    
 }
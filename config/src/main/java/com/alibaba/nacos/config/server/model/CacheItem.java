@@ -46,6 +46,11 @@ public class CacheItem {
 
     private final SimpleReadWriteLock rwLock = new SimpleReadWriteLock();
 
+    /**
+     * Formal content kept in memory, only used when the content cache is enabled.
+     */
+    private volatile CachedConfigContent cachedContent;
+
     public CacheItem(String groupKey, String encryptedDataKey) {
         this.groupKey = StringPool.get(groupKey);
         this.getConfigCache().setEncryptedDataKey(encryptedDataKey);
@@ -63,6 +68,14 @@ public class CacheItem {
         return rwLock;
     }
 
+    public CachedConfigContent getCachedContent() {
+        return cachedContent;
+    }
+
+    public void setCachedContent(CachedConfigContent cachedContent) {
+        this.cachedContent = cachedContent;
+    }
+
     public String getType() {
         return type;
     }
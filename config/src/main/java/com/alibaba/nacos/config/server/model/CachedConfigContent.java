@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+/**
+ * Formal config content kept in memory, bound to the md5 it was loaded with.
+ *
+ * @author Nacos
+ */
+public class CachedConfigContent {
+    
+    private final CacheItem cacheItem;
+    
+    private final String md5;
+    
+    private final String content;
+    
+    private final long bytes;
+    
+    /**
+     * Reference bit of the clock eviction, set on every hit and cleared when the clock hand passes.
+     */
+    private volatile boolean referenced;
+    
+    public CachedConfigContent(CacheItem cacheItem, String md5, String content) {
+        this.cacheItem = cacheItem;
+        this.md5 = md5;
+        this.content = content;
+        this.bytes = estimateBytes(content);
+    }
+    
+    /**
+     * Estimate the heap footprint of the content, two bytes per char.
+     *
+     * @param content content
+     * @return estimated bytes
+     */
+    public static long estimateBytes(String content) {
+        return (long) content.length() << 1;
+    }
+    
+    public CacheItem getCacheItem() {
+        return cacheItem;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public long getBytes() {
+        return bytes;
+    }
+    
+    public boolean isReferenced() {
+        return referenced;
+    }
+    
+    public void setReferenced(boolean referenced) {
+        this.referenced = referenced;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -65,6 +66,21 @@ public class MetricsMonitor {
      */
     private static AtomicInteger fuzzySearch = new AtomicInteger();
     
+    /**
+     * config query served by the in memory content cache.
+     */
+    private static AtomicLong contentCacheHit = new AtomicLong();
+    
+    /**
+     * config query loaded from disk while the in memory content cache is enabled.
+     */
+    private static AtomicLong contentCacheMiss = new AtomicLong();
+    
+    /**
+     * resident bytes of the in memory content cache.
+     */
+    private static AtomicLong contentCacheBytes = new AtomicLong();
+    
     /**
      * version -> client config subscriber count.
      */
@@ -118,6 +134,21 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheHit"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheHit);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheMiss"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheMiss);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheBytes"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheBytes);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
@@ -162,6 +193,18 @@ public class MetricsMonitor {
         return fuzzySearch;
     }
     
+    public static AtomicLong getContentCacheHitMonitor() {
+        return contentCacheHit;
+    }
+    
+    public static AtomicLong getContentCacheMissMonitor() {
+        return contentCacheMiss;
+    }
+    
+    public static AtomicLong getContentCacheBytesMonitor() {
+        return contentCacheBytes;
+    }
+    
     public static AtomicInteger getConfigSubscriberMonitor(String version) {
         return configSubscriber.get(version);
     }
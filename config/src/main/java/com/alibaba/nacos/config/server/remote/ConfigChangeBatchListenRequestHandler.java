@@ -30,6 +30,8 @@ import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.paramcheck.ExtractorManager;
 import com.alibaba.nacos.core.paramcheck.impl.ConfigBatchListenRequestParamExtractor;
 import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.RequestPriority;
+import com.alibaba.nacos.core.remote.grpc.RequestPriorityClass;
 import com.alibaba.nacos.core.utils.StringPool;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import com.alibaba.nacos.plugin.auth.constant.SignType;
@@ -43,6 +45,7 @@ import org.springframework.stereotype.Component;
  * @version $Id: ConfigChangeListenRequestHandler.java, v 0.1 2020年07月14日 10:11 AM liuzunfei Exp $
  */
 @Component
+@RequestPriority(RequestPriorityClass.BULK)
 public class ConfigChangeBatchListenRequestHandler
         extends RequestHandler<ConfigBatchListenRequest, ConfigChangeBatchListenResponse> {
     
@@ -16,14 +16,12 @@
 
 package com.alibaba.nacos.config.server.remote;
 
-import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.model.ConfigListenState;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +29,11 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>Both indexes are concurrent maps and every mutation only locks the entry of the affected groupKey or
+ * connectionId, so batch listen requests of different connections and config change notifications do not
+ * serialize on a single monitor. Mutations of one connection update both indexes inside the compute of its entry in
+ * {@link #connectionIdContext}, so adding listen can't interleave with clearing the context of the connection.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -40,12 +43,12 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ListenerSet> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, ConfigListenState>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, ConfigListenState>> connectionIdContext = new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -53,13 +56,22 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId, boolean isNamespaceTransfer) {
-        // 1.add groupKeyContext
-        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
-        // 2.add connectionIdContext
+    public void addListen(String groupKey, String md5, String connectionId, boolean isNamespaceTransfer) {
         ConfigListenState listenState = new ConfigListenState(md5);
         listenState.setNamespaceTransfer(isNamespaceTransfer);
-        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, listenState);
+        connectionIdContext.compute(connectionId, (id, listenStates) -> {
+            // 1.add groupKeyContext
+            groupKeyContext.compute(groupKey, (key, listeners) -> {
+                ListenerSet result = null == listeners ? new ListenerSet() : listeners;
+                result.add(connectionId);
+                return result;
+            });
+            // 2.add connectionIdContext
+            ConcurrentHashMap<String, ConfigListenState> result =
+                    null == listenStates ? new ConcurrentHashMap<>(16) : listenStates;
+            result.put(groupKey, listenState);
+            return result;
+        });
     }
     
     /**
@@ -68,52 +80,36 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
-        
-        //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
-        
-        //2.remove connectionIdContext
-        HashMap<String, ConfigListenState> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys != null) {
-            groupKeys.remove(groupKey);
-        }
+    public void removeListen(String groupKey, String connectionId) {
+        connectionIdContext.computeIfPresent(connectionId, (id, listenStates) -> {
+            //1. remove groupKeyContext
+            removeFromGroupKeyContext(groupKey, connectionId);
+            //2.remove connectionIdContext
+            listenStates.remove(groupKey);
+            return listenStates;
+        });
     }
     
-    /**
-     * get listeners of the group key.
-     *
-     * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
-     */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
-        }
-        return null;
+    private void removeFromGroupKeyContext(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, listeners) -> {
+            listeners.remove(connectionId);
+            return listeners.isEmpty() ? null : listeners;
+        });
     }
     
     /**
-     * copy collections.
+     * get listeners of the group key.
      *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
+     * @param groupKey groupKey.
+     * @return the immutable snapshot of listeners, may be return null.
      */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
+    public Set<String> getListeners(String groupKey) {
+        ListenerSet listeners = groupKeyContext.get(groupKey);
+        if (null == listeners) {
+            return null;
         }
+        Set<String> snapshot = listeners.snapshot();
+        return snapshot.isEmpty() ? null : snapshot;
     }
     
     /**
@@ -121,28 +117,13 @@ public class ConfigChangeListenContext {
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
-        if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
-            return;
-        }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
+    public void clearContextForConnectionId(final String connectionId) {
+        connectionIdContext.computeIfPresent(connectionId, (id, listenStates) -> {
+            for (String groupKey : listenStates.keySet()) {
+                removeFromGroupKeyContext(groupKey, connectionId);
             }
-
-        }
-        connectionIdContext.remove(connectionId);
+            return null;
+        });
     }
     
     /**
@@ -151,11 +132,11 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, ConfigListenState> stringStringHashMap = connectionIdContext.get(connectionId);
-        if (stringStringHashMap != null) {
-            HashMap<String, String> md5Map = new HashMap<>(stringStringHashMap.size());
-            for (Map.Entry<String, ConfigListenState> entry : stringStringHashMap.entrySet()) {
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, ConfigListenState> listenStates = connectionIdContext.get(connectionId);
+        if (listenStates != null) {
+            HashMap<String, String> md5Map = new HashMap<>(listenStates.size());
+            for (Map.Entry<String, ConfigListenState> entry : listenStates.entrySet()) {
                 md5Map.put(entry.getKey(), entry.getValue().getMd5());
             }
             return md5Map;
@@ -171,8 +152,8 @@ public class ConfigChangeListenContext {
      * @return md5 of the listen group key.
      */
     public String getListenKeyMd5(String connectionId, String groupKey) {
-        Map<String, ConfigListenState> groupKeyContexts = connectionIdContext.get(connectionId);
-        return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey).getMd5();
+        ConfigListenState listenState = getConfigListenState(connectionId, groupKey);
+        return listenState == null ? null : listenState.getMd5();
     }
     
     public ConfigListenState getConfigListenState(String connectionId, String groupKey) {
@@ -180,9 +161,9 @@ public class ConfigChangeListenContext {
         return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey);
     }
     
-    public synchronized HashMap<String, ConfigListenState> getConfigListenStates(String connectionId) {
-        HashMap<String, ConfigListenState> configListenStateHashMap = connectionIdContext.get(connectionId);
-        return configListenStateHashMap == null ? null : new HashMap<>(configListenStateHashMap);
+    public HashMap<String, ConfigListenState> getConfigListenStates(String connectionId) {
+        Map<String, ConfigListenState> configListenStateMap = connectionIdContext.get(connectionId);
+        return configListenStateMap == null ? null : new HashMap<>(configListenStateMap);
     }
     
     /**
@@ -194,4 +175,47 @@ public class ConfigChangeListenContext {
         return connectionIdContext.size();
     }
     
+    /**
+     * Connection ids listening one group key.
+     *
+     * <p>Mutations are guarded by the monitor of this set, which together with the bin lock of
+     * {@link #groupKeyContext} stripes the listen index by group key. The immutable snapshot handed out by
+     * {@link #snapshot()} is cached until the next mutation, so repeated notifications of a hot group key do not
+     * copy the connection set again.
+     */
+    private static class ListenerSet {
+        
+        private final Set<String> connectionIds = new HashSet<>();
+        
+        private volatile Set<String> snapshot;
+        
+        synchronized void add(String connectionId) {
+            if (connectionIds.add(connectionId)) {
+                snapshot = null;
+            }
+        }
+        
+        synchronized void remove(String connectionId) {
+            if (connectionIds.remove(connectionId)) {
+                snapshot = null;
+            }
+        }
+        
+        synchronized boolean isEmpty() {
+            return connectionIds.isEmpty();
+        }
+        
+        Set<String> snapshot() {
+            Set<String> result = snapshot;
+            if (null != result) {
+                return result;
+            }
+            synchronized (this) {
+                if (null == snapshot) {
+                    snapshot = Collections.unmodifiableSet(new HashSet<>(connectionIds));
+                }
+                return snapshot;
+            }
+        }
+    }
 }
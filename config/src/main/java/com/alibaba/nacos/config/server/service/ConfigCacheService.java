@@ -336,7 +336,7 @@ public class ConfigCacheService {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
             
-            CACHE.remove(groupKey);
+            ConfigContentCache.invalidate(CACHE.remove(groupKey));
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
             
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
@@ -363,6 +363,7 @@ public class ConfigCacheService {
             configCache.setMd5(md5);
             configCache.setLastModifiedTs(lastModifiedTs);
             configCache.setEncryptedDataKey(encryptedDataKey);
+            ConfigContentCache.invalidate(cache);
             ConfigCachePostProcessorDelegate.getInstance().postProcess(configCache, content);
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
         }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.CachedConfigContent;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.util.ArrayDeque;
+
+/**
+ * Bounded in memory tier of formal config content, so hot configs are served without reading the disk service.
+ *
+ * <p>Content is attached to its {@link CacheItem} together with the md5 it was loaded with, a lookup only hits when
+ * that md5 still equals the md5 of the cache item, and the entry is dropped as soon as the md5 is updated. Hits are
+ * lock free, insertion and eviction are guarded by a single lock and evict with the clock algorithm until the
+ * resident bytes fall below {@link PropertyUtil#getContentCacheMaxBytes()}.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    private static final int COMPACT_THRESHOLD = 64;
+    
+    private static final Object LOCK = new Object();
+    
+    /**
+     * Clock ring, entries not attached to their cache item any more are skipped and dropped lazily.
+     */
+    private static final ArrayDeque<CachedConfigContent> CLOCK = new ArrayDeque<>();
+    
+    private static long residentBytes;
+    
+    private static int detachedCount;
+    
+    public static boolean isEnabled() {
+        return PropertyUtil.isContentCacheEnabled();
+    }
+    
+    /**
+     * Get the cached content of the cache item.
+     *
+     * @param cacheItem cache item
+     * @param md5       current md5 of the cache item
+     * @return cached content, null if disabled or not cached for the md5
+     */
+    public static String getContent(CacheItem cacheItem, String md5) {
+        if (!isEnabled()) {
+            return null;
+        }
+        CachedConfigContent cached = cacheItem.getCachedContent();
+        if (cached != null && cached.getMd5().equals(md5)) {
+            if (!cached.isReferenced()) {
+                cached.setReferenced(true);
+            }
+            MetricsMonitor.getContentCacheHitMonitor().incrementAndGet();
+            return cached.getContent();
+        }
+        MetricsMonitor.getContentCacheMissMonitor().incrementAndGet();
+        return null;
+    }
+    
+    /**
+     * Cache the content loaded from disk. Caller should hold the read lock of the cache item, so that the content
+     * matches the md5.
+     *
+     * @param cacheItem cache item
+     * @param md5       md5 of the content
+     * @param content   content
+     */
+    public static void putContent(CacheItem cacheItem, String md5, String content) {
+        if (!isEnabled() || md5 == null || content == null) {
+            return;
+        }
+        long maxBytes = PropertyUtil.getContentCacheMaxBytes();
+        CachedConfigContent cached = new CachedConfigContent(cacheItem, md5, content);
+        if (cached.getBytes() > maxBytes) {
+            return;
+        }
+        synchronized (LOCK) {
+            detach(cacheItem);
+            cacheItem.setCachedContent(cached);
+            CLOCK.addLast(cached);
+            residentBytes += cached.getBytes();
+            evict(maxBytes);
+            compactIfNeeded();
+            MetricsMonitor.getContentCacheBytesMonitor().set(residentBytes);
+        }
+    }
+    
+    /**
+     * Drop the cached content of the cache item.
+     *
+     * @param cacheItem cache item
+     */
+    public static void invalidate(CacheItem cacheItem) {
+        if (cacheItem == null || cacheItem.getCachedContent() == null) {
+            return;
+        }
+        synchronized (LOCK) {
+            detach(cacheItem);
+            compactIfNeeded();
+            MetricsMonitor.getContentCacheBytesMonitor().set(residentBytes);
+        }
+    }
+    
+    public static long getResidentBytes() {
+        synchronized (LOCK) {
+            return residentBytes;
+        }
+    }
+    
+    static void clear() {
+        synchronized (LOCK) {
+            for (CachedConfigContent each : CLOCK) {
+                if (each.getCacheItem().getCachedContent() == each) {
+                    each.getCacheItem().setCachedContent(null);
+                }
+            }
+            CLOCK.clear();
+            residentBytes = 0;
+            detachedCount = 0;
+            MetricsMonitor.getContentCacheBytesMonitor().set(0);
+        }
+    }
+    
+    private static void detach(CacheItem cacheItem) {
+        CachedConfigContent old = cacheItem.getCachedContent();
+        if (old != null) {
+            cacheItem.setCachedContent(null);
+            residentBytes -= old.getBytes();
+            detachedCount++;
+        }
+    }
+    
+    private static void evict(long maxBytes) {
+        while (residentBytes > maxBytes && !CLOCK.isEmpty()) {
+            CachedConfigContent hand = CLOCK.pollFirst();
+            CacheItem cacheItem = hand.getCacheItem();
+            if (cacheItem.getCachedContent() != hand) {
+                detachedCount--;
+                continue;
+            }
+            if (hand.isReferenced()) {
+                hand.setReferenced(false);
+                CLOCK.addLast(hand);
+                continue;
+            }
+            detach(cacheItem);
+            detachedCount--;
+        }
+    }
+    
+    private static void compactIfNeeded() {
+        if (detachedCount > COMPACT_THRESHOLD && detachedCount > CLOCK.size() / 2) {
+            CLOCK.removeIf(each -> each.getCacheItem().getCachedContent() != each);
+            detachedCount = 0;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPatternIndex;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -56,6 +57,11 @@ public class ConfigFuzzyWatchContextService {
      */
     private final Map<String, Set<String>> matchedGroupKeysMap = new ConcurrentHashMap<>();
     
+    /**
+     * index of patterns in watchedClientsMap or matchedGroupKeysMap, only updated with the maps under the lock of this.
+     */
+    private final FuzzyGroupKeyPatternIndex patternIndex = new FuzzyGroupKeyPatternIndex();
+    
     public ConfigFuzzyWatchContextService() {
     }
     
@@ -77,14 +83,14 @@ public class ConfigFuzzyWatchContextService {
                 Set<String> watchedClients = this.watchedClientsMap.get(matchedGroupKeys.getKey());
                 
                 if (watchedClients == null) {
-                    iterator.remove();
+                    removePatternContext(matchedGroupKeysMap, matchedGroupKeys.getKey());
                     LogUtil.DEFAULT_LOG.info(
                             "[fuzzy-watch] no watchedClients context for pattern {},remove matchedGroupKeys context",
                             matchedGroupKeys.getKey());
                 } else if (watchedClients.isEmpty()) {
                     LogUtil.DEFAULT_LOG.info("[fuzzy-watch] no client watched pattern {},remove watchedClients context",
                             matchedGroupKeys.getKey());
-                    this.watchedClientsMap.remove(matchedGroupKeys.getKey());
+                    removePatternContext(watchedClientsMap, matchedGroupKeys.getKey());
                 } else if (reachToUpLimit(matchedGroupKeys.getValue().size())) {
                     LogUtil.DEFAULT_LOG.warn(
                             "[fuzzy-watch] pattern {} matched config count has reached to upper limit {}, fuzzy watch has been suppressed ",
@@ -101,6 +107,13 @@ public class ConfigFuzzyWatchContextService {
         }
     }
     
+    private synchronized void removePatternContext(Map<String, Set<String>> contextMap, String groupKeyPattern) {
+        contextMap.remove(groupKeyPattern);
+        if (!watchedClientsMap.containsKey(groupKeyPattern) && !matchedGroupKeysMap.containsKey(groupKeyPattern)) {
+            patternIndex.removePattern(groupKeyPattern);
+        }
+    }
+    
     /**
      * get matched exist group keys with the groupKeyPattern. return null if not matched.
      *
@@ -130,27 +143,27 @@ public class ConfigFuzzyWatchContextService {
         boolean tryAdd = changedType.equals(ADD_CONFIG) || changedType.equals(CONFIG_CHANGED);
         boolean tryRemove = changedType.equals(DELETE_CONFIG);
         
-        Iterator<Map.Entry<String, Set<String>>> iterator = matchedGroupKeysMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> entry = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(entry.getKey(), dataId, group, namespace)) {
-                boolean containsAlready = entry.getValue().contains(groupKey);
-                boolean reachToUpLimit = reachToUpLimit(entry.getValue().size());
-                if (tryAdd && !containsAlready && reachToUpLimit) {
-                    LogUtil.DEFAULT_LOG.warn("[fuzzy-watch] pattern matched config count is over limit , "
-                                    + "current config will be ignored for pattern {} ,current count is {}", entry.getKey(),
-                            entry.getValue().size());
-                    continue;
-                }
-                
-                if (tryAdd && !containsAlready && entry.getValue().add(groupKey)) {
-                    needNotify = true;
-                }
-                if (tryRemove && containsAlready && entry.getValue().remove(groupKey)) {
-                    needNotify = true;
-                    if (reachToUpLimit) {
-                        makeupMatchedGroupKeys(entry.getKey());
-                    }
+        for (String pattern : patternIndex.matchPatterns(dataId, group, namespace)) {
+            Set<String> matchedGroupKeys = matchedGroupKeysMap.get(pattern);
+            if (matchedGroupKeys == null) {
+                continue;
+            }
+            boolean containsAlready = matchedGroupKeys.contains(groupKey);
+            boolean reachToUpLimit = reachToUpLimit(matchedGroupKeys.size());
+            if (tryAdd && !containsAlready && reachToUpLimit) {
+                LogUtil.DEFAULT_LOG.warn("[fuzzy-watch] pattern matched config count is over limit , "
+                                + "current config will be ignored for pattern {} ,current count is {}", pattern,
+                        matchedGroupKeys.size());
+                continue;
+            }
+            
+            if (tryAdd && !containsAlready && matchedGroupKeys.add(groupKey)) {
+                needNotify = true;
+            }
+            if (tryRemove && containsAlready && matchedGroupKeys.remove(groupKey)) {
+                needNotify = true;
+                if (reachToUpLimit) {
+                    makeupMatchedGroupKeys(pattern);
                 }
             }
         }
@@ -212,8 +225,8 @@ public class ConfigFuzzyWatchContextService {
             throw new NacosException(FUZZY_WATCH_PATTERN_OVER_LIMIT.getCode(), FUZZY_WATCH_PATTERN_OVER_LIMIT.getMsg());
         }
         
-        matchedGroupKeysMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
-        Set<String> matchedGroupKeys = this.matchedGroupKeysMap.get(groupKeyPattern);
+        Set<String> matchedGroupKeys = matchedGroupKeysMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
+        patternIndex.addPattern(groupKeyPattern);
         long matchBeginTime = System.currentTimeMillis();
         boolean overMatchCount = false;
         for (String groupKey : ConfigCacheService.CACHE.keySet()) {
@@ -246,10 +259,11 @@ public class ConfigFuzzyWatchContextService {
      * @throws NacosException over max pattern count.
      */
     public synchronized void addFuzzyWatch(String groupKeyPattern, String connectId) throws NacosException {
-        watchedClientsMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
+        Set<String> watchedClients = watchedClientsMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
+        patternIndex.addPattern(groupKeyPattern);
         initMatchGroupKeys(groupKeyPattern);
         // Add the connection ID to the set associated with the key pattern in keyPatternContext
-        watchedClientsMap.get(groupKeyPattern).add(connectId);
+        watchedClients.add(connectId);
     }
     
     /**
@@ -293,19 +307,12 @@ public class ConfigFuzzyWatchContextService {
     public Set<String> getMatchedClients(String groupKey) {
         // Initialize a set to store the matched connection IDs
         Set<String> connectIds = new HashSet<>();
-        // Iterate over each key pattern in the context
-        Iterator<Map.Entry<String, Set<String>>> watchClientIterator = watchedClientsMap.entrySet().iterator();
-        
         String[] groupItems = GroupKey2.parseKey(groupKey);
-        
-        while (watchClientIterator.hasNext()) {
-            Map.Entry<String, Set<String>> watchClientEntry = watchClientIterator.next();
-            
-            String keyPattern = watchClientEntry.getKey();
-            if (FuzzyGroupKeyPattern.matchPattern(keyPattern, groupItems[0], groupItems[1], groupItems[2])) {
-                if (CollectionUtils.isNotEmpty(watchClientEntry.getValue())) {
-                    connectIds.addAll(watchClientEntry.getValue());
-                }
+        // Iterate over each key pattern matched with the group key
+        for (String keyPattern : patternIndex.matchPatterns(groupItems[0], groupItems[1], groupItems[2])) {
+            Set<String> watchedClients = watchedClientsMap.get(keyPattern);
+            if (CollectionUtils.isNotEmpty(watchedClients)) {
+                connectIds.addAll(watchedClients);
             }
         }
         return connectIds;
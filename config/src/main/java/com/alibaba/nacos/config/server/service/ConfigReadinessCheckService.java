@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.config.server.service.dump.DumpAllProgress;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.core.cluster.health.AbstractModuleHealthChecker;
 import com.alibaba.nacos.core.utils.Loggers;
@@ -38,6 +39,12 @@ public class ConfigReadinessCheckService extends AbstractModuleHealthChecker {
     
     @Override
     public boolean readiness() {
+        // the local cache is incomplete until the startup dump all finished.
+        DumpAllProgress progress = getDumpAllProgress();
+        if (progress.isStartUpRunning()) {
+            Loggers.CLUSTER.warn("Config module is not ready, dump all is running: {}", progress);
+            return false;
+        }
         // check db
         try {
             configInfoPersistService.configInfoCount("");
@@ -48,6 +55,10 @@ public class ConfigReadinessCheckService extends AbstractModuleHealthChecker {
         return false;
     }
     
+    public DumpAllProgress getDumpAllProgress() {
+        return DumpAllProgress.getInstance();
+    }
+    
     @Override
     public String getModuleName() {
         return Constants.Config.CONFIG_MODULE;
@@ -0,0 +1,125 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of the running dump all task, used to observe the dump all processing and the readiness during startup.
+ *
+ * @author Nacos
+ */
+public class DumpAllProgress {
+    
+    private static final DumpAllProgress INSTANCE = new DumpAllProgress();
+    
+    private final LongAdder dumpedCount = new LongAdder();
+    
+    private volatile boolean running;
+    
+    private volatile boolean startUp;
+    
+    private volatile long startTime;
+    
+    private volatile long targetMaxId;
+    
+    private volatile long fetchedMaxId;
+    
+    public static DumpAllProgress getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Mark a new dump all task started.
+     *
+     * @param startUp     whether the dump all task is the startup one
+     * @param targetMaxId max config id when the dump all task started
+     */
+    public void start(boolean startUp, long targetMaxId) {
+        dumpedCount.reset();
+        this.fetchedMaxId = 0L;
+        this.targetMaxId = targetMaxId;
+        this.startUp = startUp;
+        this.startTime = System.currentTimeMillis();
+        this.running = true;
+    }
+    
+    public void onPageFetched(long lastMaxId) {
+        this.fetchedMaxId = lastMaxId;
+    }
+    
+    public void onConfigDumped() {
+        dumpedCount.increment();
+    }
+    
+    public void finish() {
+        this.running = false;
+    }
+    
+    public boolean isRunning() {
+        return running;
+    }
+    
+    public boolean isStartUpRunning() {
+        return running && startUp;
+    }
+    
+    public long getDumpedCount() {
+        return dumpedCount.sum();
+    }
+    
+    public long getTargetMaxId() {
+        return targetMaxId;
+    }
+    
+    public long getFetchedMaxId() {
+        return fetchedMaxId;
+    }
+    
+    /**
+     * Get percent of the scanned config id range, {@code 100} when no dump all task is running.
+     *
+     * @return percent between 0 and 100
+     */
+    public int getPercent() {
+        if (!running || targetMaxId <= 0L) {
+            return 100;
+        }
+        return (int) Math.min(100L, fetchedMaxId * 100L / targetMaxId);
+    }
+    
+    /**
+     * Estimate the remaining milliseconds by the speed of scanned config id range.
+     *
+     * @return estimated remaining milliseconds, {@code -1} if unknown
+     */
+    public long getEtaMillis() {
+        long fetched = fetchedMaxId;
+        if (!running || fetched <= 0L) {
+            return -1L;
+        }
+        long elapsed = System.currentTimeMillis() - startTime;
+        return Math.max(0L, (targetMaxId - fetched) * elapsed / fetched);
+    }
+    
+    @Override
+    public String toString() {
+        return "DumpAllProgress{" + "running=" + running + ", startUp=" + startUp + ", fetchedMaxId=" + fetchedMaxId
+                + ", targetMaxId=" + targetMaxId + ", dumpedCount=" + getDumpedCount() + ", percent=" + getPercent()
+                + ", etaMillis=" + getEtaMillis() + '}';
+    }
+}
@@ -20,10 +20,12 @@ import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.SwitchService;
+import com.alibaba.nacos.config.server.service.dump.DumpAllProgress;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -31,10 +33,20 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.api.model.Page;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -42,17 +54,30 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 /**
  * Dump all processor.
  *
+ * <p>Pages are streamed from the database: the next page is prefetched while the current one is dumped, changed
+ * contents are fetched by id batches instead of one query per config, and the dump tasks are submitted in batches to
+ * a bounded executor whose caller-runs policy throttles the page scanning.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
 public class DumpAllProcessor implements NacosTaskProcessor {
     
+    /**
+     * Max count of config ids in one batch content query, kept small for the {@code IN} clause limits of databases.
+     */
+    static final int FETCH_BATCH_SIZE = 100;
+    
+    /**
+     * Max count of configs dumped in one executor task.
+     */
+    static final int DUMP_BATCH_SIZE = 100;
+    
     public DumpAllProcessor(ConfigInfoPersistService configInfoPersistService) {
         this.configInfoPersistService = configInfoPersistService;
     }
     
     @Override
-    @SuppressWarnings("PMD.MethodTooLongRule")
     public boolean process(NacosTask task) {
         if (!(task instanceof DumpAllTask)) {
             DEFAULT_LOG.error(
@@ -61,107 +86,208 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             return false;
         }
         DumpAllTask dumpAllTask = (DumpAllTask) task;
+        final boolean startUp = dumpAllTask.isStartUp();
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
         long lastMaxId = 0;
         ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+        if (startUp) {
+            int threads = Runtime.getRuntime().availableProcessors();
+            executorService = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(threads * 2), r -> new Thread(r, "dump all executor"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
         } else {
             executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
                     r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
         }
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(
+                r -> new Thread(r, "dump all prefetch executor"));
+        DumpAllProgress progress = DumpAllProgress.getInstance();
+        progress.start(startUp, currentMaxId);
         
         DEFAULT_LOG.info("start dump all config-info...");
-        
-        while (lastMaxId < currentMaxId) {
-            long start = System.currentTimeMillis();
-            
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
-            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
-                break;
-            }
-            
-            for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                if (StringUtils.isBlank(cf.getTenant())) {
-                    continue;
-                }
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
-                }
-                
-                if (cf == null) {
-                    continue;
-                }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
+        try {
+            CompletableFuture<Page<ConfigInfoWrapper>> nextPage =
+                    lastMaxId < currentMaxId ? fetchPage(prefetchExecutor, lastMaxId, startUp) : null;
+            while (null != nextPage) {
+                long start = System.currentTimeMillis();
+                Page<ConfigInfoWrapper> page = awaitPage(nextPage);
+                if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                    break;
                 }
+                long dbTime = System.currentTimeMillis() - start;
                 
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
+                for (ConfigInfoWrapper cf : page.getPageItems()) {
+                    lastMaxId = Math.max(cf.getId(), lastMaxId);
                 }
+                // prefetch the next page while dumping the current one.
+                nextPage = lastMaxId < currentMaxId ? fetchPage(prefetchExecutor, lastMaxId, startUp) : null;
                 
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
+                long diskTime = dumpPage(executorService, page.getPageItems(), startUp, progress);
+                DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId,
+                        currentMaxId, dbTime, diskTime);
+                progress.onPageFetched(lastMaxId);
             }
             
-            long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            awaitDumpFinished(executorService, progress);
+        } finally {
+            prefetchExecutor.shutdownNow();
+            executorService.shutdown();
+            progress.finish();
         }
-        
-        //wait all task are finished and then shutdown executor.
+        DEFAULT_LOG.info("success to  dump all config-info。");
+        return true;
+    }
+    
+    private CompletableFuture<Page<ConfigInfoWrapper>> fetchPage(ExecutorService prefetchExecutor, long lastMaxId,
+            boolean startUp) {
+        return CompletableFuture.supplyAsync(
+                () -> configInfoPersistService.findAllConfigInfoFragment(lastMaxId, PropertyUtil.getAllDumpPageSize(),
+                        startUp), prefetchExecutor);
+    }
+    
+    private Page<ConfigInfoWrapper> awaitPage(CompletableFuture<Page<ConfigInfoWrapper>> future) {
         try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Load the special configs of the page and submit dump tasks for the configs to dump.
+     *
+     * @return time spent in milliseconds
+     */
+    private long dumpPage(ThreadPoolExecutor executorService, List<ConfigInfoWrapper> pageItems, boolean startUp,
+            DumpAllProgress progress) {
+        long start = System.currentTimeMillis();
+        List<ConfigInfoWrapper> dumpConfigs = startUp ? filterTenantConfigs(pageItems) : findChangedConfigs(pageItems);
+        for (ConfigInfoWrapper cf : dumpConfigs) {
+            if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+                ClientIpWhiteList.load(cf.getContent());
             }
-            executorService.shutdown();
             
-        } catch (Exception e) {
+            if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+                SwitchService.load(cf.getContent());
+            }
+        }
+        submitDumpTasks(executorService, dumpConfigs, progress);
+        return System.currentTimeMillis() - start;
+    }
+    
+    private List<ConfigInfoWrapper> filterTenantConfigs(List<ConfigInfoWrapper> configs) {
+        List<ConfigInfoWrapper> result = new ArrayList<>(configs.size());
+        for (ConfigInfoWrapper cf : configs) {
+            if (StringUtils.isNotBlank(cf.getTenant())) {
+                result.add(cf);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * If not start up, page query will not return content, check md5 and lastModified first, then batch query the
+     * contents of changed configs to dump.
+     */
+    private List<ConfigInfoWrapper> findChangedConfigs(List<ConfigInfoWrapper> configs) {
+        List<ConfigInfoWrapper> changedConfigs = new ArrayList<>();
+        for (ConfigInfoWrapper cf : filterTenantConfigs(configs)) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+            boolean md5Update = !localContentMd5.equals(cf.getMd5());
+            if (newLastModified || md5Update) {
+                LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                        cf.getMd5());
+                changedConfigs.add(cf);
+            }
+        }
+        if (changedConfigs.isEmpty()) {
+            return changedConfigs;
+        }
+        Map<Long, ConfigInfo> contents = findContents(changedConfigs);
+        List<ConfigInfoWrapper> result = new ArrayList<>(changedConfigs.size());
+        for (ConfigInfoWrapper cf : changedConfigs) {
+            ConfigInfo content = contents.get(cf.getId());
+            if (null != content && Objects.equals(content.getMd5(), cf.getMd5())) {
+                cf.setContent(content.getContent());
+                result.add(cf);
+                continue;
+            }
+            // config changed or removed after the page queried, get single content info to dump.
+            ConfigInfoWrapper latest = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(),
+                    cf.getTenant());
+            if (null != latest) {
+                result.add(latest);
+            }
+        }
+        return result;
+    }
+    
+    private Map<Long, ConfigInfo> findContents(List<ConfigInfoWrapper> configs) {
+        Map<Long, ConfigInfo> result = new HashMap<>(configs.size());
+        for (int i = 0; i < configs.size(); i += FETCH_BATCH_SIZE) {
+            String ids = configs.subList(i, Math.min(i + FETCH_BATCH_SIZE, configs.size())).stream()
+                    .map(cf -> String.valueOf(cf.getId())).collect(Collectors.joining(","));
+            List<ConfigInfo> configInfos = configInfoPersistService.findConfigInfosByIds(ids);
+            if (null == configInfos) {
+                continue;
+            }
+            for (ConfigInfo each : configInfos) {
+                result.put(each.getId(), each);
+            }
+        }
+        return result;
+    }
+    
+    private void submitDumpTasks(ThreadPoolExecutor executorService, List<ConfigInfoWrapper> configs,
+            DumpAllProgress progress) {
+        for (int i = 0; i < configs.size(); i += DUMP_BATCH_SIZE) {
+            List<ConfigInfoWrapper> batch = configs.subList(i, Math.min(i + DUMP_BATCH_SIZE, configs.size()));
+            executorService.execute(() -> {
+                for (ConfigInfoWrapper cf : batch) {
+                    dump(cf);
+                    progress.onConfigDumped();
+                }
+            });
+        }
+    }
+    
+    private void dump(ConfigInfoWrapper cf) {
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final long lastModified = cf.getLastModified();
+        final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+        boolean result = ConfigCacheService.dumpWithMd5(dataId, group, cf.getTenant(), content, md5Utf8, lastModified,
+                cf.getType(), cf.getEncryptedDataKey());
+        if (result) {
+            LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}", GroupKey2.getKey(dataId, group),
+                    lastModified, content.length(), md5Utf8);
+        } else {
+            LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
+        }
+    }
+    
+    /**
+     * Wait all task are finished and then shutdown executor.
+     */
+    private void awaitDumpFinished(ThreadPoolExecutor executorService, DumpAllProgress progress) {
+        executorService.shutdown();
+        try {
+            while (!executorService.awaitTermination(1L, TimeUnit.SECONDS)) {
+                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished, {}",
+                        executorService.getQueue().size() + executorService.getActiveCount(), progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
         }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
@@ -122,6 +122,16 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Whether to keep formal config content in memory for config queries, default false.
+     */
+    private static boolean contentCacheEnabled = false;
+    
+    /**
+     * Max resident bytes of the in memory config content, default 64MB.
+     */
+    private static long contentCacheMaxBytes = 64 * 1024 * 1024L;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -255,6 +265,22 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.grayCompatibleModel = grayCompatibleModel;
     }
     
+    public static boolean isContentCacheEnabled() {
+        return contentCacheEnabled;
+    }
+    
+    public static void setContentCacheEnabled(boolean contentCacheEnabled) {
+        PropertyUtil.contentCacheEnabled = contentCacheEnabled;
+    }
+    
+    public static long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+    
+    public static void setContentCacheMaxBytes(long contentCacheMaxBytes) {
+        PropertyUtil.contentCacheMaxBytes = contentCacheMaxBytes;
+    }
+    
     public static int getDefaultMaxAggrSize() {
         return defaultMaxAggrSize;
     }
@@ -328,6 +354,8 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
             setGrayCompatibleModel(getBoolean(PropertiesConstant.GRAY_CAPATIBEL_MODEL, grayCompatibleModel));
+            setContentCacheEnabled(getBoolean(PropertiesConstant.CONTENT_CACHE_ENABLED, contentCacheEnabled));
+            setContentCacheMaxBytes(getLong(PropertiesConstant.CONTENT_CACHE_MAX_BYTES, contentCacheMaxBytes));
             
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
@@ -24,11 +24,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -105,4 +112,107 @@ class ConfigChangeListenContextTest {
         assertFalse(configListenStates.get("groupKey").isNamespaceTransfer());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testGetListenersReturnImmutableSnapshot() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId1", false);
+        Set<String> snapshot = configChangeListenContext.getListeners("groupKey");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("connectionId2"));
+        assertSame(snapshot, configChangeListenContext.getListeners("groupKey"));
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2", false);
+        assertEquals(1, snapshot.size());
+        Set<String> newSnapshot = configChangeListenContext.getListeners("groupKey");
+        assertEquals(2, newSnapshot.size());
+        configChangeListenContext.clearContextForConnectionId("connectionId1");
+        assertEquals(2, newSnapshot.size());
+        assertEquals(1, configChangeListenContext.getListeners("groupKey").size());
+    }
+    
+    @Test
+    void testConcurrentListenAndClear() throws InterruptedException {
+        int threadCount = 8;
+        int groupKeyCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final String connectionId = "connectionId" + i;
+                executorService.execute(() -> {
+                    try {
+                        for (int round = 0; round < 20; round++) {
+                            for (int j = 0; j < groupKeyCount; j++) {
+                                configChangeListenContext.addListen("groupKey" + j, "md5", connectionId, false);
+                                configChangeListenContext.getListeners("groupKey" + j);
+                            }
+                            configChangeListenContext.removeListen("groupKey0", connectionId);
+                            configChangeListenContext.clearContextForConnectionId(connectionId);
+                        }
+                        for (int j = 0; j < groupKeyCount; j++) {
+                            configChangeListenContext.addListen("groupKey" + j, "md5", connectionId, false);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(threadCount, configChangeListenContext.getConnectionCount());
+        for (int j = 0; j < groupKeyCount; j++) {
+            assertEquals(threadCount, configChangeListenContext.getListeners("groupKey" + j).size());
+        }
+        for (int i = 0; i < threadCount; i++) {
+            configChangeListenContext.clearContextForConnectionId("connectionId" + i);
+        }
+        for (int j = 0; j < groupKeyCount; j++) {
+            assertNull(configChangeListenContext.getListeners("groupKey" + j));
+        }
+    }
+    
+    @Test
+    void testConcurrentListenAndClearSameConnection() throws InterruptedException {
+        int threadCount = 4;
+        int groupKeyCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch latch = new CountDownLatch(threadCount + 1);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        for (int round = 0; round < 20; round++) {
+                            for (int j = 0; j < groupKeyCount; j++) {
+                                configChangeListenContext.addListen("groupKey" + j, "md5", "connectionId", false);
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            executorService.execute(() -> {
+                try {
+                    for (int round = 0; round < 200; round++) {
+                        configChangeListenContext.clearContextForConnectionId("connectionId");
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        for (int j = 0; j < groupKeyCount; j++) {
+            Set<String> listeners = configChangeListenContext.getListeners("groupKey" + j);
+            boolean listened = null != listeners && listeners.contains("connectionId");
+            assertEquals(listened, null != configChangeListenContext.getConfigListenState("connectionId",
+                    "groupKey" + j));
+        }
+        configChangeListenContext.clearContextForConnectionId("connectionId");
+        for (int j = 0; j < groupKeyCount; j++) {
+            assertNull(configChangeListenContext.getListeners("groupKey" + j));
+        }
+    }
+    
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigContentCacheTest {
+    
+    private MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    private boolean originalEnabled;
+    
+    private long originalMaxBytes;
+    
+    @BeforeEach
+    void setUp() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        originalEnabled = PropertyUtil.isContentCacheEnabled();
+        originalMaxBytes = PropertyUtil.getContentCacheMaxBytes();
+        PropertyUtil.setContentCacheEnabled(true);
+        PropertyUtil.setContentCacheMaxBytes(1024L);
+        ConfigContentCache.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ConfigContentCache.clear();
+        PropertyUtil.setContentCacheEnabled(originalEnabled);
+        PropertyUtil.setContentCacheMaxBytes(originalMaxBytes);
+        envUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testGetContentMatchMd5() {
+        CacheItem cacheItem = new CacheItem("groupKey");
+        assertNull(ConfigContentCache.getContent(cacheItem, "md5"));
+        ConfigContentCache.putContent(cacheItem, "md5", "content");
+        assertEquals("content", ConfigContentCache.getContent(cacheItem, "md5"));
+        assertNull(ConfigContentCache.getContent(cacheItem, "newMd5"));
+        assertEquals(14L, ConfigContentCache.getResidentBytes());
+    }
+    
+    @Test
+    void testDisabled() {
+        PropertyUtil.setContentCacheEnabled(false);
+        CacheItem cacheItem = new CacheItem("groupKey");
+        ConfigContentCache.putContent(cacheItem, "md5", "content");
+        assertNull(cacheItem.getCachedContent());
+        assertNull(ConfigContentCache.getContent(cacheItem, "md5"));
+    }
+    
+    @Test
+    void testInvalidate() {
+        CacheItem cacheItem = new CacheItem("groupKey");
+        ConfigContentCache.putContent(cacheItem, "md5", "content");
+        ConfigContentCache.invalidate(cacheItem);
+        assertNull(ConfigContentCache.getContent(cacheItem, "md5"));
+        assertEquals(0L, ConfigContentCache.getResidentBytes());
+        ConfigContentCache.putContent(cacheItem, "md5", "content");
+        ConfigContentCache.putContent(cacheItem, "md5", "content");
+        assertEquals(14L, ConfigContentCache.getResidentBytes());
+    }
+    
+    @Test
+    void testEvictUnreferencedFirst() {
+        // each content takes 400 bytes, only two of them fit into 1024 bytes.
+        String content = new String(new char[200]).replace('\0', 'a');
+        CacheItem hot = new CacheItem("hot");
+        CacheItem cold = new CacheItem("cold");
+        ConfigContentCache.putContent(hot, "md5", content);
+        ConfigContentCache.putContent(cold, "md5", content);
+        assertEquals(content, ConfigContentCache.getContent(hot, "md5"));
+        CacheItem newcomer = new CacheItem("newcomer");
+        ConfigContentCache.putContent(newcomer, "md5", content);
+        assertEquals(content, ConfigContentCache.getContent(hot, "md5"));
+        assertNull(ConfigContentCache.getContent(cold, "md5"));
+        assertEquals(content, ConfigContentCache.getContent(newcomer, "md5"));
+        assertEquals(800L, ConfigContentCache.getResidentBytes());
+    }
+    
+    @Test
+    void testSkipContentLargerThanMaxBytes() {
+        CacheItem cacheItem = new CacheItem("groupKey");
+        ConfigContentCache.putContent(cacheItem, "md5", new String(new char[1024]));
+        assertNull(cacheItem.getCachedContent());
+        assertEquals(0L, ConfigContentCache.getResidentBytes());
+    }
+    
+    @Test
+    void testUpdateMd5InvalidateContent() {
+        String groupKey = "dataId+group+contentCacheTest";
+        CacheItem cacheItem = ConfigCacheService.makeSure(groupKey, null);
+        ConfigContentCache.putContent(cacheItem, cacheItem.getConfigCache().getMd5(), "content");
+        ConfigCacheService.updateMd5(groupKey, "newMd5", "newContent", System.currentTimeMillis(), null);
+        assertNull(cacheItem.getCachedContent());
+        assertEquals(0L, ConfigContentCache.getResidentBytes());
+        ConfigCacheService.CACHE.remove(groupKey);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DumpAllProgressTest {
+    
+    private final DumpAllProgress progress = DumpAllProgress.getInstance();
+    
+    @AfterEach
+    void tearDown() {
+        progress.finish();
+    }
+    
+    @Test
+    void testStartUpProgress() {
+        progress.start(true, 200L);
+        assertTrue(progress.isRunning());
+        assertTrue(progress.isStartUpRunning());
+        assertEquals(0, progress.getPercent());
+        assertEquals(-1L, progress.getEtaMillis());
+        progress.onPageFetched(50L);
+        progress.onConfigDumped();
+        progress.onConfigDumped();
+        assertEquals(25, progress.getPercent());
+        assertEquals(2L, progress.getDumpedCount());
+        assertEquals(50L, progress.getFetchedMaxId());
+        assertEquals(200L, progress.getTargetMaxId());
+        assertTrue(progress.getEtaMillis() >= 0L);
+        progress.finish();
+        assertFalse(progress.isRunning());
+        assertFalse(progress.isStartUpRunning());
+        assertEquals(100, progress.getPercent());
+    }
+    
+    @Test
+    void testCheckAllProgress() {
+        progress.start(true, 10L);
+        progress.onConfigDumped();
+        progress.finish();
+        progress.start(false, 10L);
+        assertTrue(progress.isRunning());
+        assertFalse(progress.isStartUpRunning());
+        assertEquals(0L, progress.getDumpedCount());
+    }
+    
+    @Test
+    void testEmptyProgress() {
+        progress.start(true, 0L);
+        assertEquals(100, progress.getPercent());
+    }
+}
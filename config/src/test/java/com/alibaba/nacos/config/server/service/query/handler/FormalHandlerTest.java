@@ -22,6 +22,8 @@ import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -111,6 +115,31 @@ class FormalHandlerTest {
         assertEquals(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL, response.getStatus());
     }
     
+    @Test
+    public void handleShouldServeContentFromMemoryWhenContentCacheEnabled() throws IOException {
+        try (MockedStatic<EnvUtil> ignored = Mockito.mockStatic(EnvUtil.class)) {
+            PropertyUtil.setContentCacheEnabled(true);
+            CacheItem realCacheItem = new CacheItem("dataId+group+tenant");
+            realCacheItem.getConfigCache().setMd5("mockMd5");
+            configChainEntryHandlerMockedStatic.when(ConfigChainEntryHandler::getThreadLocalCacheItem)
+                    .thenReturn(realCacheItem);
+            when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("mockContent");
+            
+            ConfigQueryChainRequest request = new ConfigQueryChainRequest();
+            request.setDataId("dataId");
+            request.setGroup("group");
+            request.setTenant("tenant");
+            
+            assertEquals("mockContent", formalHandler.handle(request).getContent());
+            ConfigQueryChainResponse response = formalHandler.handle(request);
+            assertEquals("mockContent", response.getContent());
+            assertEquals("mockMd5", response.getMd5());
+            verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+        } finally {
+            PropertyUtil.setContentCacheEnabled(false);
+        }
+    }
+    
     @Test
     public void testGetName() {
         assertEquals("formalHandler", formalHandler.getName());
@@ -21,7 +21,15 @@ import com.alibaba.nacos.consistency.entity.Log;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.WriteRequest;
 import com.alibaba.nacos.consistency.exception.ConsistencyException;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
 import com.google.protobuf.Message;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * protobuf message utils.
@@ -39,6 +47,13 @@ public class ProtoMessageUtil {
     
     public static final int REQUEST_TYPE_WRITE = 2;
     
+    /**
+     * Several WriteRequests grouped into one log entry, each one is written as field {@link #BATCH_WRITE_FIELD_NUMBER}.
+     */
+    public static final int REQUEST_TYPE_BATCH_WRITE = 3;
+    
+    private static final int BATCH_WRITE_FIELD_NUMBER = 8;
+    
     /**
      * Converts the byte array to a specific Protobuf object.
      * Internally, the protobuf new and old objects are compatible.
@@ -76,6 +91,66 @@ public class ProtoMessageUtil {
         throw new ConsistencyException("The current array cannot be serialized to the corresponding object");
     }
     
+    /**
+     * Whether the bytes is a batch of WriteRequests serialized by {@link #toBatchWriteBytes(List)}.
+     *
+     * @param bytes An array of bytes
+     * @return true if is batch write
+     */
+    public static boolean isBatchWrite(byte[] bytes) {
+        return bytes.length > 1 && bytes[0] == REQUEST_TYPE_FIELD_TAG && bytes[1] == REQUEST_TYPE_BATCH_WRITE;
+    }
+    
+    /**
+     * Serialize several WriteRequests into one byte array with request type field at the head.
+     *
+     * @param requests write requests
+     * @return An array of bytes
+     */
+    public static byte[] toBatchWriteBytes(List<WriteRequest> requests) {
+        int size = 2;
+        for (WriteRequest each : requests) {
+            size += CodedOutputStream.computeMessageSize(BATCH_WRITE_FIELD_NUMBER, each);
+        }
+        byte[] result = new byte[size];
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(result);
+            output.writeRawByte(REQUEST_TYPE_FIELD_TAG);
+            output.writeRawByte(REQUEST_TYPE_BATCH_WRITE);
+            for (WriteRequest each : requests) {
+                output.writeMessage(BATCH_WRITE_FIELD_NUMBER, each);
+            }
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new ConsistencyException("Serialize batch write requests failed", e);
+        }
+        return result;
+    }
+    
+    /**
+     * Parse the byte array serialized by {@link #toBatchWriteBytes(List)} to WriteRequests.
+     *
+     * @param bytes An array of bytes
+     * @return write requests in order
+     */
+    public static List<WriteRequest> parseBatchWrite(byte[] bytes) {
+        List<WriteRequest> result = new ArrayList<>();
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(bytes, 2, bytes.length - 2);
+            while (!input.isAtEnd()) {
+                int tag = input.readTag();
+                if (WireFormat.getTagFieldNumber(tag) == BATCH_WRITE_FIELD_NUMBER) {
+                    result.add(input.readMessage(WriteRequest.parser(), ExtensionRegistryLite.getEmptyRegistry()));
+                } else {
+                    input.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            throw new ConsistencyException("The current array cannot be parsed to batch write requests", e);
+        }
+        return result;
+    }
+    
     /**
      * convert Log to WriteRequest.
      *
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.cp;
+
+import com.alibaba.nacos.consistency.entity.ReadRequest;
+
+/**
+ * Read consistency level of CP protocol, can be specified per {@link ReadRequest} by extend info
+ * {@link #EXTEND_INFO_KEY}.
+ *
+ * @author Nacos
+ */
+public enum ReadConsistency {
+    /**
+     * Linearizable read, confirm the commit index by read index before reading local state machine.
+     */
+    LINEARIZABLE,
+    /**
+     * Lease read, the leader confirms the commit index by its lease instead of a heartbeat round.
+     */
+    LEASE,
+    /**
+     * Bounded staleness read, read local state machine directly if it was confirmed by read index within the max
+     * staleness, otherwise degrade to linearizable read.
+     */
+    BOUNDED_STALENESS;
+    
+    public static final String EXTEND_INFO_KEY = "read_consistency";
+    
+    /**
+     * Resolve read consistency by name, ignore case.
+     *
+     * @param name         name of read consistency
+     * @param defaultValue default value if name is blank or unknown
+     * @return read consistency
+     */
+    public static ReadConsistency of(String name, ReadConsistency defaultValue) {
+        if (null == name) {
+            return defaultValue;
+        }
+        for (ReadConsistency each : values()) {
+            if (each.name().equalsIgnoreCase(name.trim())) {
+                return each;
+            }
+        }
+        return defaultValue;
+    }
+    
+    /**
+     * Get read consistency of read request.
+     *
+     * @param request      read request
+     * @param defaultValue default value if not specified in request
+     * @return read consistency
+     */
+    public static ReadConsistency of(ReadRequest request, ReadConsistency defaultValue) {
+        return of(request.getExtendInfoMap().get(EXTEND_INFO_KEY), defaultValue);
+    }
+}
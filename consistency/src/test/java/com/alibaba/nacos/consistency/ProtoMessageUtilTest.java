@@ -24,8 +24,12 @@ import com.google.protobuf.ByteString;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProtoMessageUtilTest {
     
@@ -58,6 +62,21 @@ class ProtoMessageUtilTest {
         assertEquals(data, ((ReadRequest) actual).getData());
     }
     
+    @Test
+    void testBatchWrite() {
+        WriteRequest first = WriteRequest.newBuilder().setGroup("test").setKey("first")
+                .setData(ByteString.copyFrom("data1".getBytes())).build();
+        WriteRequest second = WriteRequest.newBuilder().setGroup("test").setKey("second")
+                .putExtendInfo("key", "value").build();
+        byte[] bytes = ProtoMessageUtil.toBatchWriteBytes(Arrays.asList(first, second));
+        assertTrue(ProtoMessageUtil.isBatchWrite(bytes));
+        assertFalse(ProtoMessageUtil.isBatchWrite(first.toByteArray()));
+        List<WriteRequest> actual = ProtoMessageUtil.parseBatchWrite(bytes);
+        assertEquals(2, actual.size());
+        assertEquals(first, actual.get(0));
+        assertEquals(second, actual.get(1));
+    }
+    
     @Test
     void testParseWriteRequestWithRequestTypeField() {
         String group = "test";
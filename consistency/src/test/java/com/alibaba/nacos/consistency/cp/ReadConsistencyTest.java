@@ -0,0 +1,43 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.cp;
+
+import com.alibaba.nacos.consistency.entity.ReadRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadConsistencyTest {
+    
+    @Test
+    void testOfName() {
+        assertEquals(ReadConsistency.LEASE, ReadConsistency.of("lease", ReadConsistency.LINEARIZABLE));
+        assertEquals(ReadConsistency.BOUNDED_STALENESS,
+                ReadConsistency.of(" BOUNDED_STALENESS ", ReadConsistency.LINEARIZABLE));
+        assertEquals(ReadConsistency.LINEARIZABLE, ReadConsistency.of("unknown", ReadConsistency.LINEARIZABLE));
+        assertEquals(ReadConsistency.LINEARIZABLE, ReadConsistency.of((String) null, ReadConsistency.LINEARIZABLE));
+    }
+    
+    @Test
+    void testOfReadRequest() {
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test").build();
+        assertEquals(ReadConsistency.LEASE, ReadConsistency.of(request, ReadConsistency.LEASE));
+        request = ReadRequest.newBuilder().setGroup("test")
+                .putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, ReadConsistency.BOUNDED_STALENESS.name()).build();
+        assertEquals(ReadConsistency.BOUNDED_STALENESS, ReadConsistency.of(request, ReadConsistency.LEASE));
+    }
+}
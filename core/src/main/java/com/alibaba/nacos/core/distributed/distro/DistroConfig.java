@@ -17,6 +17,7 @@
 package com.alibaba.nacos.core.distributed.distro;
 
 import com.alibaba.nacos.core.config.AbstractDynamicConfig;
+import com.alibaba.nacos.common.task.engine.DelayTaskProcessMode;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 /**
@@ -44,6 +45,12 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataPageSize = DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE;
+    
+    private DelayTaskProcessMode delayEngineMode = DelayTaskProcessMode.SCAN;
+    
+    private int delayEngineThreads = DistroConstants.DEFAULT_DELAY_ENGINE_THREADS;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -65,6 +72,13 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        // a page must contain at least one client, otherwise the snapshot cursor never advances.
+        loadDataPageSize = Math.max(1, EnvUtil.getProperty(DistroConstants.DATA_LOAD_PAGE_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE));
+        delayEngineMode = DelayTaskProcessMode.parse(EnvUtil.getProperty(DistroConstants.DELAY_ENGINE_MODE,
+                DistroConstants.DEFAULT_DELAY_ENGINE_MODE), DelayTaskProcessMode.SCAN);
+        delayEngineThreads = EnvUtil.getProperty(DistroConstants.DELAY_ENGINE_THREADS, Integer.class,
+                DistroConstants.DEFAULT_DELAY_ENGINE_THREADS);
     }
     
     public static DistroConfig getInstance() {
@@ -127,11 +141,39 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    /**
+     * Max count of data in one page when loading snapshot by pages.
+     *
+     * @return page size
+     */
+    public int getLoadDataPageSize() {
+        return loadDataPageSize;
+    }
+    
+    public void setLoadDataPageSize(int loadDataPageSize) {
+        this.loadDataPageSize = Math.max(1, loadDataPageSize);
+    }
+    
+    /**
+     * Process mode of the distro delay task engine, only take effect at startup.
+     *
+     * @return process mode
+     */
+    public DelayTaskProcessMode getDelayEngineMode() {
+        return delayEngineMode;
+    }
+    
+    public int getDelayEngineThreads() {
+        return delayEngineThreads;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
                 + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
                 + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataPageSize=" + loadDataPageSize
+                + ", delayEngineMode=" + delayEngineMode
+                + ", delayEngineThreads=" + delayEngineThreads + '}';
     }
 }
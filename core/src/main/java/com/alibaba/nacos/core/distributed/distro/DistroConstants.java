@@ -67,4 +67,16 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_PAGE_SIZE = "nacos.core.protocol.distro.data.load.pageSize";
+    
+    public static final int DEFAULT_DATA_LOAD_PAGE_SIZE = 1000;
+    
+    public static final String DELAY_ENGINE_MODE = "nacos.core.protocol.distro.delayEngine.mode";
+    
+    public static final String DEFAULT_DELAY_ENGINE_MODE = "SCAN";
+    
+    public static final String DELAY_ENGINE_THREADS = "nacos.core.protocol.distro.delayEngine.threads";
+    
+    public static final int DEFAULT_DELAY_ENGINE_THREADS = 1;
+    
 }
@@ -23,6 +23,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestVerifier;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
@@ -194,6 +195,38 @@ public class DistroProtocol {
         return dataProcessor.processVerifyData(distroData, sourceAddress);
     }
     
+    /**
+     * Whether the received verify data is digest verify data.
+     *
+     * @param distroData verify data
+     * @return true if it is digest verify data and should be processed by {@link #onDigestVerify}
+     */
+    public boolean isDigestVerify(DistroData distroData) {
+        if (null == distroData || null == distroData.getDistroKey()) {
+            return false;
+        }
+        DistroDigestVerifier digestVerifier = distroComponentHolder.findDigestVerifier(
+                distroData.getDistroKey().getResourceType());
+        return null != digestVerifier && digestVerifier.isDigestVerifyData(distroData);
+    }
+    
+    /**
+     * Receive digest verify data, find digest verifier to process.
+     *
+     * @param distroData    digest verify data
+     * @param sourceAddress source server address
+     * @return result of digest verify, {@code null} if no digest verifier found
+     */
+    public DistroData onDigestVerify(DistroData distroData, String sourceAddress) {
+        String resourceType = distroData.getDistroKey().getResourceType();
+        DistroDigestVerifier digestVerifier = distroComponentHolder.findDigestVerifier(resourceType);
+        if (null == digestVerifier) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find digest verifier for received data {}", resourceType);
+            return null;
+        }
+        return digestVerifier.processDigestVerifyData(distroData, sourceAddress);
+    }
+    
     /**
      * Query data of input distro key.
      *
@@ -224,4 +257,28 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one page of all datum snapshot.
+     *
+     * @param type   datum type
+     * @param cursor cursor of the page, empty for the first page
+     * @return one page of snapshot datum, the whole snapshot if the data storage does not support pages
+     */
+    public DistroData onSnapshotPage(String type, String cursor) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(new DistroKey("", type), new byte[0]);
+        }
+        DistroData result = distroDataStorage.getDatumSnapshotPage(cursor,
+                DistroConfig.getInstance().getLoadDataPageSize());
+        if (null == result) {
+            result = distroDataStorage.getDatumSnapshot();
+            if (null != result) {
+                result.setDistroKey(new DistroKey("", type));
+            }
+        }
+        return result;
+    }
 }
@@ -38,6 +38,8 @@ public class DistroComponentHolder {
     
     private final Map<String, DistroDataProcessor> dataProcessorMap = new HashMap<>();
     
+    private final Map<String, DistroDigestVerifier> digestVerifierMap = new HashMap<>();
+    
     public DistroTransportAgent findTransportAgent(String type) {
         return transportAgentMap.get(type);
     }
@@ -73,4 +75,12 @@ public class DistroComponentHolder {
     public DistroDataProcessor findDataProcessor(String processType) {
         return dataProcessorMap.get(processType);
     }
+    
+    public DistroDigestVerifier findDigestVerifier(String type) {
+        return digestVerifierMap.get(type);
+    }
+    
+    public void registerDigestVerifier(String type, DistroDigestVerifier digestVerifier) {
+        digestVerifierMap.put(type, digestVerifier);
+    }
 }
@@ -57,6 +57,20 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one page of distro datum snapshot.
+     *
+     * <p>The content of the page should be able to be processed by {@link DistroDataProcessor#processSnapshot}, and
+     * the resource key of the returned distro key is the cursor of next page, empty means the last page.
+     *
+     * @param cursor   cursor of the page, empty for the first page
+     * @param pageSize max count of datum in the page
+     * @return one page of datum, or {@code null} if not support snapshot by pages
+     */
+    default DistroData getDatumSnapshotPage(String cursor, int pageSize) {
+        return null;
+    }
+    
     /**
      * Get verify datum.
      *
@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.component;
+
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+
+/**
+ * Distro digest verifier.
+ *
+ * <p>Verify all responsible data to target server by digests of data buckets instead of sending verify data one by
+ * one, only the data in mismatched buckets will be verified in detail.
+ *
+ * @author Nacos
+ */
+public interface DistroDigestVerifier {
+    
+    /**
+     * Whether target member supports digest verify.
+     *
+     * @param targetMember target member
+     * @return true if supported, otherwise the legacy verify should be used
+     */
+    boolean isSupported(Member targetMember);
+    
+    /**
+     * Verify all responsible data to target server by digests.
+     *
+     * @param targetServer target server
+     * @param callback     callback
+     */
+    void verify(String targetServer, DistroCallback callback);
+    
+    /**
+     * Whether the received verify data is digest verify data.
+     *
+     * @param verifyData received verify data
+     * @return true if it is digest verify data
+     */
+    boolean isDigestVerifyData(DistroData verifyData);
+    
+    /**
+     * Process received digest verify data.
+     *
+     * @param verifyData    digest verify data
+     * @param sourceAddress source server address
+     * @return result of digest verify, which will be responded to source server
+     */
+    DistroData processDigestVerifyData(DistroData verifyData, String sourceAddress);
+}
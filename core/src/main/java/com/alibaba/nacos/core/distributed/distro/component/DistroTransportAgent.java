@@ -89,4 +89,26 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Whether target server supports loading snapshot by pages.
+     *
+     * @param targetServer target server
+     * @return true if supported, otherwise the whole snapshot should be loaded by {@link #getDatumSnapshot(String)}
+     */
+    default boolean supportSnapshotPage(String targetServer) {
+        return false;
+    }
+    
+    /**
+     * Get one page of datum snapshot from target server.
+     *
+     * @param targetServer target server.
+     * @param cursor       cursor of the page, empty for the first page
+     * @return distro data, the resource key of distro key is the cursor of next page, empty means the last page
+     * @throws UnsupportedOperationException if method supportSnapshotPage is false
+     */
+    default DistroData getDatumSnapshotPage(String targetServer, String cursor) {
+        throw new UnsupportedOperationException("Not support load snapshot by pages.");
+    }
 }
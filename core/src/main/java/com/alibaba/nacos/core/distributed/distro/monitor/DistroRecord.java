@@ -36,12 +36,18 @@ public class DistroRecord {
     
     private final AtomicInteger failedVerifyCount;
     
+    private final AtomicLong snapshotLoadedPageCount;
+    
+    private final AtomicLong snapshotLoadedBytes;
+    
     public DistroRecord(String type) {
         this.type = type;
         this.totalSyncCount = new AtomicLong();
         this.successfulSyncCount = new AtomicLong();
         this.failedSyncCount = new AtomicLong();
         this.failedVerifyCount = new AtomicInteger();
+        this.snapshotLoadedPageCount = new AtomicLong();
+        this.snapshotLoadedBytes = new AtomicLong();
     }
     
     public String getType() {
@@ -62,6 +68,16 @@ public class DistroRecord {
         failedVerifyCount.incrementAndGet();
     }
     
+    /**
+     * Record one snapshot page loaded, used to observe the progress of loading snapshot by pages.
+     *
+     * @param bytes size of loaded page
+     */
+    public void snapshotPageLoaded(long bytes) {
+        snapshotLoadedPageCount.incrementAndGet();
+        snapshotLoadedBytes.addAndGet(bytes);
+    }
+    
     public long getTotalSyncCount() {
         return totalSyncCount.get();
     }
@@ -77,4 +93,12 @@ public class DistroRecord {
     public int getFailedVerifyCount() {
         return failedVerifyCount.get();
     }
+    
+    public long getSnapshotLoadedPageCount() {
+        return snapshotLoadedPageCount.get();
+    }
+    
+    public long getSnapshotLoadedBytes() {
+        return snapshotLoadedBytes.get();
+    }
 }
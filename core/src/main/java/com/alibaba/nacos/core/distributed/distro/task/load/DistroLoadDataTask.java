@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -24,6 +25,8 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
@@ -100,6 +103,13 @@ public class DistroLoadDataTask implements Runnable {
         for (Member each : memberManager.allMembersWithoutSelf()) {
             long startTime = System.currentTimeMillis();
             try {
+                if (transportAgent.supportSnapshotPage(each.getAddress())) {
+                    if (loadSnapshotByPages(resourceType, each, transportAgent, dataProcessor)) {
+                        distroComponentHolder.findDataStorage(resourceType).finishInitial();
+                        return true;
+                    }
+                    continue;
+                }
                 Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {}", resourceType, each.getAddress());
                 DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress());
                 Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
@@ -120,6 +130,37 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load snapshot page by page, each page is processed before loading the next one so that the memory is bounded.
+     */
+    private boolean loadSnapshotByPages(String resourceType, Member member, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
+        long startTime = System.currentTimeMillis();
+        DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(resourceType);
+        Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {} by pages", resourceType, member.getAddress());
+        String cursor = "";
+        int pages = 0;
+        long totalBytes = 0L;
+        do {
+            DistroData distroData = transportAgent.getDatumSnapshotPage(member.getAddress(), cursor);
+            int length = getDistroDataLength(distroData);
+            if (null == distroData || !dataProcessor.processSnapshot(distroData)) {
+                Loggers.DISTRO.warn("[DISTRO-INIT] load snapshot {} from {} failed at page {}, cursor {}",
+                        resourceType, member.getAddress(), pages, cursor);
+                return false;
+            }
+            pages++;
+            totalBytes += length;
+            distroRecord.snapshotPageLoaded(length);
+            cursor = null == distroData.getDistroKey() ? null : distroData.getDistroKey().getResourceKey();
+            Loggers.DISTRO.info("[DISTRO-INIT] loaded snapshot {} page {} from {}, page size {}, total size {}",
+                    resourceType, pages, member.getAddress(), length, totalBytes);
+        } while (StringUtils.isNotEmpty(cursor));
+        Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} with {} pages and {} bytes.",
+                System.currentTimeMillis() - startTime, resourceType, member.getAddress(), pages, totalBytes);
+        return true;
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.verify;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestVerifier;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.utils.Loggers;
+
+/**
+ * Execute distro digest verify task.
+ *
+ * @author Nacos
+ */
+public class DistroDigestVerifyExecuteTask extends AbstractExecuteTask {
+    
+    private final DistroDigestVerifier digestVerifier;
+    
+    private final String targetServer;
+    
+    private final String resourceType;
+    
+    public DistroDigestVerifyExecuteTask(DistroDigestVerifier digestVerifier, String targetServer,
+            String resourceType) {
+        this.digestVerifier = digestVerifier;
+        this.targetServer = targetServer;
+        this.resourceType = resourceType;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            digestVerifier.verify(targetServer, new DistroDigestVerifyCallback());
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] digest verify data for type {} to {} failed.", resourceType,
+                    targetServer, e);
+        }
+    }
+    
+    private class DistroDigestVerifyCallback implements DistroCallback {
+        
+        @Override
+        public void onSuccess() {
+            if (Loggers.DISTRO.isDebugEnabled()) {
+                Loggers.DISTRO.debug("[DISTRO] digest verify data for type {} to {} success", resourceType,
+                        targetServer);
+            }
+        }
+        
+        @Override
+        public void onFailed(Throwable throwable) {
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(resourceType);
+            distroRecord.verifyFail();
+            if (Loggers.DISTRO.isDebugEnabled()) {
+                Loggers.DISTRO.debug("[DISTRO-FAILED] digest verify data for type {} to {} failed.", resourceType,
+                        targetServer, throwable);
+            }
+        }
+    }
+}
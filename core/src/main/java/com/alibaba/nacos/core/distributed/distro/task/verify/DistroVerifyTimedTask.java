@@ -20,6 +20,7 @@ import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestVerifier;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
@@ -69,13 +70,25 @@ public class DistroVerifyTimedTask implements Runnable {
                     dataStorage.getClass().getSimpleName());
             return;
         }
-        List<DistroData> verifyData = dataStorage.getVerifyData();
-        if (null == verifyData || verifyData.isEmpty()) {
+        DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
+        if (null == agent) {
             return;
         }
+        DistroDigestVerifier digestVerifier = distroComponentHolder.findDigestVerifier(type);
+        List<DistroData> verifyData = null;
+        boolean verifyDataLoaded = false;
         for (Member member : targetServer) {
-            DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
-            if (null == agent) {
+            if (null != digestVerifier && digestVerifier.isSupported(member)) {
+                executeTaskExecuteEngine.addTask(member.getAddress() + type,
+                        new DistroDigestVerifyExecuteTask(digestVerifier, member.getAddress(), type));
+                continue;
+            }
+            // legacy verify data is only generated when some member does not support digest verify.
+            if (!verifyDataLoaded) {
+                verifyData = dataStorage.getVerifyData();
+                verifyDataLoaded = true;
+            }
+            if (null == verifyData || verifyData.isEmpty()) {
                 continue;
             }
             executeTaskExecuteEngine.addTask(member.getAddress() + type,
@@ -27,9 +27,11 @@ import com.alibaba.nacos.consistency.ProtoMessageUtil;
 import com.alibaba.nacos.consistency.RequestProcessor;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
 import com.alibaba.nacos.consistency.exception.ConsistencyException;
 import com.alibaba.nacos.core.distributed.raft.exception.DuplicateRaftGroupException;
 import com.alibaba.nacos.core.distributed.raft.exception.JRaftException;
@@ -59,6 +61,7 @@ import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.option.CliOptions;
 import com.alipay.sofa.jraft.option.NodeOptions;
 import com.alipay.sofa.jraft.option.RaftOptions;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcProcessor;
 import com.alipay.sofa.jraft.rpc.RpcServer;
@@ -142,6 +145,12 @@ public class JRaftServer {
     
     private int rpcRequestTimeoutMs;
     
+    private ReadConsistency defaultReadConsistency;
+    
+    private long readMaxStalenessMs;
+    
+    private JRaftWriteBatcher writeBatcher;
+    
     public JRaftServer() {
         this.conf = new Configuration();
     }
@@ -170,6 +179,17 @@ public class JRaftServer {
         rpcRequestTimeoutMs = ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.RAFT_RPC_REQUEST_TIMEOUT_MS),
                 RaftSysConstants.DEFAULT_RAFT_RPC_REQUEST_TIMEOUT_MS);
         
+        defaultReadConsistency = ReadConsistency.of(raftConfig.getVal(RaftSysConstants.RAFT_READ_CONSISTENCY),
+                RaftSysConstants.DEFAULT_READ_CONSISTENCY);
+        readMaxStalenessMs = ConvertUtils.toLong(raftConfig.getVal(RaftSysConstants.RAFT_READ_MAX_STALENESS_MS),
+                RaftSysConstants.DEFAULT_READ_MAX_STALENESS_MS);
+        
+        writeBatcher = new JRaftWriteBatcher(
+                ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.RAFT_WRITE_BATCH_MAX_SIZE),
+                        RaftSysConstants.DEFAULT_RAFT_WRITE_BATCH_MAX_SIZE),
+                ConvertUtils.toLong(raftConfig.getVal(RaftSysConstants.RAFT_WRITE_BATCH_LINGER_MS),
+                        RaftSysConstants.DEFAULT_RAFT_WRITE_BATCH_LINGER_MS));
+        
         nodeOptions.setSharedElectionTimer(true);
         nodeOptions.setSharedVoteTimer(true);
         nodeOptions.setSharedStepDownTimer(true);
@@ -282,13 +302,31 @@ public class JRaftServer {
         }
         final Node node = tuple.node;
         final RequestProcessor processor = tuple.processor;
+        final ReadConsistency consistency = ReadConsistency.of(request, defaultReadConsistency);
+        if (ReadConsistency.BOUNDED_STALENESS == consistency && tuple.isReadIndexFresh(readMaxStalenessMs)) {
+            try {
+                Response response = processor.onRequest(request);
+                MetricsMonitor.raftReadLocal();
+                future.complete(response);
+                return future;
+            } catch (Throwable t) {
+                Loggers.RAFT.warn("Raft local read failed, go to read index logic : {}", t.toString());
+            }
+        }
+        final long readIndexStartTime = System.currentTimeMillis();
         try {
-            node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
+            ReadIndexClosure closure = new ReadIndexClosure() {
                 @Override
                 public void run(Status status, long index, byte[] reqCtx) {
                     if (status.isOk()) {
                         try {
+                            tuple.refreshReadIndexTime(readIndexStartTime);
                             Response response = processor.onRequest(request);
+                            if (ReadConsistency.LEASE == consistency) {
+                                MetricsMonitor.raftReadLease();
+                            } else {
+                                MetricsMonitor.raftReadIndex();
+                            }
                             future.complete(response);
                         } catch (Throwable t) {
                             MetricsMonitor.raftReadIndexFailed();
@@ -302,7 +340,12 @@ public class JRaftServer {
                     MetricsMonitor.raftReadFromLeader();
                     readFromLeader(request, future);
                 }
-            });
+            };
+            if (ReadConsistency.LEASE == consistency) {
+                node.readIndex(ReadOnlyOption.ReadOnlyLeaseBased, BytesUtil.EMPTY_BYTES, closure);
+            } else {
+                node.readIndex(BytesUtil.EMPTY_BYTES, closure);
+            }
             return future;
         } catch (Throwable e) {
             MetricsMonitor.raftReadFromLeader();
@@ -378,6 +421,10 @@ public class JRaftServer {
         try {
             Loggers.RAFT.info("========= The raft protocol is starting to close =========");
             
+            if (null != writeBatcher) {
+                writeBatcher.shutdown();
+            }
+            
             for (Map.Entry<String, RaftGroupTuple> entry : multiRaftGroup.entrySet()) {
                 final RaftGroupTuple tuple = entry.getValue();
                 final Node node = tuple.getNode();
@@ -395,13 +442,18 @@ public class JRaftServer {
     }
     
     public void applyOperation(Node node, Message data, FailoverClosure closure) {
-        final Task task = new Task();
-        task.setDone(new NacosClosure(data, status -> {
+        final NacosClosure nacosClosure = new NacosClosure(data, status -> {
             NacosClosure.NacosStatus nacosStatus = (NacosClosure.NacosStatus) status;
             closure.setThrowable(nacosStatus.getThrowable());
             closure.setResponse(nacosStatus.getResponse());
             closure.run(nacosStatus);
-        }));
+        });
+        if (data instanceof WriteRequest && null != writeBatcher && writeBatcher.isEnabled()) {
+            writeBatcher.submit(node, (WriteRequest) data, nacosClosure);
+            return;
+        }
+        final Task task = new Task();
+        task.setDone(nacosClosure);
         
         // add request type field at the head of task data.
         byte[] requestTypeFieldBytes = new byte[2];
@@ -554,6 +606,11 @@ public class JRaftServer {
         
         private NacosStateMachine machine;
         
+        /**
+         * Start time of the latest succeed read index, the local state machine contains all data committed before it.
+         */
+        private volatile long lastReadIndexTime;
+        
         @JustForTest
         public RaftGroupTuple() {
         }
@@ -577,6 +634,16 @@ public class JRaftServer {
         public RaftGroupService getRaftGroupService() {
             return raftGroupService;
         }
+        
+        void refreshReadIndexTime(long readIndexStartTime) {
+            if (readIndexStartTime > lastReadIndexTime) {
+                lastReadIndexTime = readIndexStartTime;
+            }
+        }
+        
+        boolean isReadIndexFresh(long maxStalenessMs) {
+            return System.currentTimeMillis() - lastReadIndexTime <= maxStalenessMs;
+        }
     }
     
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.ProtoMessageUtil;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.entity.Task;
+import com.alipay.sofa.jraft.error.RaftError;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Group commit of write requests. Concurrent write requests of the same raft group are coalesced into one log entry
+ * until the batch is full or the linger time passed.
+ *
+ * <p>Followers which do not know the batch log entry can't apply it, so it should only be enabled after all members
+ * are upgraded.
+ *
+ * @author Nacos
+ */
+class JRaftWriteBatcher {
+    
+    private final int maxBatchSize;
+    
+    private final long lingerMs;
+    
+    private final Map<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    
+    private volatile boolean shutdown;
+    
+    JRaftWriteBatcher(int maxBatchSize, long lingerMs) {
+        this.maxBatchSize = maxBatchSize;
+        this.lingerMs = lingerMs;
+    }
+    
+    boolean isEnabled() {
+        return maxBatchSize > 1;
+    }
+    
+    /**
+     * Submit a write request to the batch of its group.
+     *
+     * @param node    leader node of raft group
+     * @param request write request
+     * @param closure closure of write request
+     */
+    void submit(Node node, WriteRequest request, NacosClosure closure) {
+        final String group = request.getGroup();
+        PendingBatch batch = pendingBatches.computeIfAbsent(group, key -> new PendingBatch());
+        PendingBatch full = null;
+        boolean needSchedule = false;
+        boolean rejected = false;
+        synchronized (batch) {
+            // checked under the lock of batch, so the request is either drained by shutdown or rejected here.
+            if (shutdown) {
+                rejected = true;
+            } else {
+                batch.node = node;
+                batch.requests.add(request);
+                batch.closures.add(closure);
+                if (batch.requests.size() >= maxBatchSize) {
+                    full = batch.drain();
+                } else if (!batch.scheduled) {
+                    batch.scheduled = true;
+                    needSchedule = true;
+                }
+            }
+        }
+        if (rejected) {
+            closure.run(new Status(RaftError.ENODESHUTDOWN, "Write batcher of group %s is shutdown.", group));
+        } else if (null != full) {
+            apply(full);
+        } else if (needSchedule) {
+            RaftExecutor.scheduleByCommon(() -> flush(group), lingerMs);
+        }
+    }
+    
+    /**
+     * Apply all pending write requests of the group.
+     *
+     * @param group raft group
+     */
+    void flush(String group) {
+        PendingBatch batch = pendingBatches.get(group);
+        if (null == batch) {
+            return;
+        }
+        PendingBatch drained;
+        synchronized (batch) {
+            drained = batch.drain();
+        }
+        if (!drained.requests.isEmpty()) {
+            apply(drained);
+        }
+    }
+    
+    /**
+     * Shutdown the batcher, the pending write requests are applied to their nodes, so that their closures are run by
+     * raft either with the result or with the failure of node shutdown. The write requests submitted after shutdown
+     * are failed directly.
+     */
+    void shutdown() {
+        shutdown = true;
+        for (String group : pendingBatches.keySet()) {
+            flush(group);
+        }
+    }
+    
+    private void apply(PendingBatch batch) {
+        final Task task = new Task();
+        if (batch.requests.size() == 1) {
+            WriteRequest request = batch.requests.get(0);
+            byte[] dataBytes = request.toByteArray();
+            task.setDone(batch.closures.get(0));
+            task.setData((ByteBuffer) ByteBuffer.allocate(dataBytes.length + 2)
+                    .put((byte) ProtoMessageUtil.REQUEST_TYPE_FIELD_TAG)
+                    .put((byte) ProtoMessageUtil.REQUEST_TYPE_WRITE).put(dataBytes).position(0));
+        } else {
+            task.setDone(new NacosBatchClosure(batch.requests, batch.closures));
+            task.setData(ByteBuffer.wrap(ProtoMessageUtil.toBatchWriteBytes(batch.requests)));
+        }
+        batch.node.apply(task);
+    }
+    
+    private static class PendingBatch {
+        
+        private Node node;
+        
+        private List<WriteRequest> requests = new ArrayList<>();
+        
+        private List<NacosClosure> closures = new ArrayList<>();
+        
+        private boolean scheduled;
+        
+        private PendingBatch drain() {
+            PendingBatch result = new PendingBatch();
+            result.node = node;
+            result.requests = requests;
+            result.closures = closures;
+            requests = new ArrayList<>();
+            closures = new ArrayList<>();
+            scheduled = false;
+            return result;
+        }
+    }
+}
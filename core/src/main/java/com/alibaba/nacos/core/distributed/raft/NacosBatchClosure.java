@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alipay.sofa.jraft.Closure;
+import com.alipay.sofa.jraft.Status;
+
+import java.util.List;
+
+/**
+ * Closure of a group committed log entry which contains several write requests, the result of each request is
+ * demultiplexed back to its own {@link NacosClosure}.
+ *
+ * @author Nacos
+ */
+public class NacosBatchClosure implements Closure {
+    
+    private final List<WriteRequest> requests;
+    
+    private final List<NacosClosure> closures;
+    
+    private volatile int completed;
+    
+    public NacosBatchClosure(List<WriteRequest> requests, List<NacosClosure> closures) {
+        this.requests = requests;
+        this.closures = closures;
+    }
+    
+    public List<WriteRequest> getRequests() {
+        return requests;
+    }
+    
+    public NacosClosure getClosure(int index) {
+        return closures.get(index);
+    }
+    
+    /**
+     * Mark the request of index has been applied and its closure has been run.
+     *
+     * @param index index of request
+     */
+    public void markCompleted(int index) {
+        completed = index + 1;
+    }
+    
+    /**
+     * Run all closures which not completed with the status, called when the log entry failed to be applied.
+     *
+     * @param status status
+     */
+    @Override
+    public void run(Status status) {
+        int size = closures.size();
+        for (int i = completed; i < size; i++) {
+            closures.get(i).run(status);
+        }
+        completed = size;
+    }
+}
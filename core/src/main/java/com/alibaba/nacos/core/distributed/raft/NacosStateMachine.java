@@ -99,6 +99,13 @@ class NacosStateMachine extends StateMachineAdapter {
         NacosClosure closure = null;
         try {
             while (iter.hasNext()) {
+                if (isBatchWrite(iter)) {
+                    applyBatchWrite(iter);
+                    applied++;
+                    index++;
+                    iter.next();
+                    continue;
+                }
                 Status status = Status.OK();
                 try {
                     if (iter.done() != null) {
@@ -148,6 +155,44 @@ class NacosStateMachine extends StateMachineAdapter {
         }
     }
     
+    private boolean isBatchWrite(Iterator iter) {
+        if (iter.done() != null) {
+            return iter.done() instanceof NacosBatchClosure;
+        }
+        return ProtoMessageUtil.isBatchWrite(iter.getData().array());
+    }
+    
+    /**
+     * Apply a group committed log entry, the result of each write request is set to its own closure on leader.
+     *
+     * <p>The requests in the entry are independent. A failed request only fails its own closure and the next requests
+     * are still applied, so the entry is never rolled back and the applied requests are never replayed.
+     */
+    private void applyBatchWrite(Iterator iter) {
+        final NacosBatchClosure batchClosure = (NacosBatchClosure) iter.done();
+        final List<WriteRequest> requests = null != batchClosure ? batchClosure.getRequests()
+                : ProtoMessageUtil.parseBatchWrite(iter.getData().array());
+        for (int i = 0; i < requests.size(); i++) {
+            final NacosClosure closure = null != batchClosure ? batchClosure.getClosure(i) : null;
+            Status status = Status.OK();
+            try {
+                LoggerUtils.printIfDebugEnabled(Loggers.RAFT, "receive log : {}", requests.get(i));
+                Response response = processor.onApply(requests.get(i));
+                postProcessor(response, closure);
+            } catch (Throwable e) {
+                Loggers.RAFT.error("processor : {}, apply write request {} of batch failed.", processor,
+                        requests.get(i).getKey(), e);
+                status.setError(RaftError.UNKNOWN, e.toString());
+                Optional.ofNullable(closure).ifPresent(closure1 -> closure1.setThrowable(e));
+            } finally {
+                if (null != closure) {
+                    closure.run(status);
+                    batchClosure.markCompleted(i);
+                }
+            }
+        }
+    }
+    
     public void setNode(Node node) {
         this.node = node;
     }
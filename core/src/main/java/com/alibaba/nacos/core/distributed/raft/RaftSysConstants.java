@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.raft;
 
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
+
 /**
  * jraft system constants.
  *
@@ -46,6 +48,26 @@ public final class RaftSysConstants {
      */
     public static final String DEFAULT_READ_INDEX_TYPE = "ReadOnlySafe";
     
+    /**
+     * {@link RaftSysConstants#RAFT_READ_CONSISTENCY}
+     */
+    public static final ReadConsistency DEFAULT_READ_CONSISTENCY = ReadConsistency.LINEARIZABLE;
+    
+    /**
+     * {@link RaftSysConstants#RAFT_READ_MAX_STALENESS_MS}
+     */
+    public static final long DEFAULT_READ_MAX_STALENESS_MS = 1000L;
+    
+    /**
+     * {@link RaftSysConstants#RAFT_WRITE_BATCH_MAX_SIZE}
+     */
+    public static final int DEFAULT_RAFT_WRITE_BATCH_MAX_SIZE = 1;
+    
+    /**
+     * {@link RaftSysConstants#RAFT_WRITE_BATCH_LINGER_MS}
+     */
+    public static final long DEFAULT_RAFT_WRITE_BATCH_LINGER_MS = 2L;
+    
     /**
      * {@link RaftSysConstants#RAFT_RPC_REQUEST_TIMEOUT_MS}
      */
@@ -162,6 +184,28 @@ public final class RaftSysConstants {
      */
     public static final String RAFT_READ_INDEX_TYPE = "read_index_type";
     
+    /**
+     * Default read consistency for read requests which not specify it, LINEARIZABLE, LEASE or BOUNDED_STALENESS,
+     * defaults to LINEARIZABLE
+     */
+    public static final String RAFT_READ_CONSISTENCY = "read_consistency";
+    
+    /**
+     * Max staleness of BOUNDED_STALENESS read, default is 1 second
+     */
+    public static final String RAFT_READ_MAX_STALENESS_MS = "read_max_staleness_ms";
+    
+    /**
+     * Max write requests coalesced into one log entry, 1 means disable group commit. Only enable it after all members
+     * support batch log entry, default is 1
+     */
+    public static final String RAFT_WRITE_BATCH_MAX_SIZE = "write_batch_max_size";
+    
+    /**
+     * Max time a write request waits for other requests to be coalesced with, default is 2 milliseconds
+     */
+    public static final String RAFT_WRITE_BATCH_LINGER_MS = "write_batch_linger_ms";
+    
     /**
      * rpc request timeout, default 5 seconds
      */
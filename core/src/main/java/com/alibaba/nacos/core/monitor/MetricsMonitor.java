@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -44,11 +45,23 @@ public final class MetricsMonitor {
     
     private static final DistributionSummary RAFT_FROM_LEADER;
     
+    private static final DistributionSummary RAFT_READ_INDEX;
+    
+    private static final DistributionSummary RAFT_READ_LEASE;
+    
+    private static final DistributionSummary RAFT_READ_LOCAL;
+    
     private static final Timer RAFT_APPLY_LOG_TIMER;
     
     private static final Timer RAFT_APPLY_READ_TIMER;
     
     private static AtomicInteger longConnection = new AtomicInteger();
+    
+    private static AtomicLong pushQueueDepth = new AtomicLong();
+    
+    private static AtomicLong pushQueueDropCount = new AtomicLong();
+    
+    private static AtomicLong pushQueueCoalescedCount = new AtomicLong();
 
     private static GrpcServerExecutorMetric sdkServerExecutorMetric = new GrpcServerExecutorMetric("grpcSdkServer");
 
@@ -68,6 +81,21 @@ public final class MetricsMonitor {
         tags.add(new ImmutableTag("name", "raft_read_from_leader"));
         RAFT_FROM_LEADER = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor_summary", tags);
     
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "raft_read_index"));
+        RAFT_READ_INDEX = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor_summary", tags);
+    
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "raft_read_lease"));
+        RAFT_READ_LEASE = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor_summary", tags);
+    
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "raft_read_local"));
+        RAFT_READ_LOCAL = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor_summary", tags);
+    
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "raft_apply_log_timer"));
@@ -82,6 +110,21 @@ public final class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "longConnection"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, longConnection);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushQueueDepth"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushQueueDepth);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushQueueDropCount"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushQueueDropCount);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "pushQueueCoalescedCount"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, pushQueueCoalescedCount);
 
         tags = new ArrayList<>();
         tags.add(immutableTag);
@@ -135,6 +178,18 @@ public final class MetricsMonitor {
         return longConnection;
     }
     
+    public static AtomicLong getPushQueueDepthMonitor() {
+        return pushQueueDepth;
+    }
+    
+    public static AtomicLong getPushQueueDropCountMonitor() {
+        return pushQueueDropCount;
+    }
+    
+    public static AtomicLong getPushQueueCoalescedCountMonitor() {
+        return pushQueueCoalescedCount;
+    }
+    
     public static void raftReadIndexFailed() {
         RAFT_READ_INDEX_FAILED.record(1);
     }
@@ -143,6 +198,18 @@ public final class MetricsMonitor {
         RAFT_FROM_LEADER.record(1);
     }
     
+    public static void raftReadIndex() {
+        RAFT_READ_INDEX.record(1);
+    }
+    
+    public static void raftReadLease() {
+        RAFT_READ_LEASE.record(1);
+    }
+    
+    public static void raftReadLocal() {
+        RAFT_READ_LOCAL.record(1);
+    }
+    
     public static Timer getRaftApplyLogTimer() {
         return RAFT_APPLY_LOG_TIMER;
     }
@@ -158,6 +225,18 @@ public final class MetricsMonitor {
     public static DistributionSummary getRaftFromLeader() {
         return RAFT_FROM_LEADER;
     }
+    
+    public static DistributionSummary getRaftReadIndex() {
+        return RAFT_READ_INDEX;
+    }
+    
+    public static DistributionSummary getRaftReadLease() {
+        return RAFT_READ_LEASE;
+    }
+    
+    public static DistributionSummary getRaftReadLocal() {
+        return RAFT_READ_LOCAL;
+    }
 
     public static GrpcServerExecutorMetric getSdkServerExecutorMetric() {
         return sdkServerExecutorMetric;
@@ -311,4 +390,16 @@ public final class MetricsMonitor {
                 )
         ).record(costTime, TimeUnit.NANOSECONDS);
     }
+    
+    /**
+     * record queue time of grpc request in request scheduler.
+     *
+     * @param priorityClass priority class of request
+     * @param queueTime     queue time in nanoseconds
+     */
+    public static void recordGrpcRequestQueueTime(String priorityClass, long queueTime) {
+        NacosMeterRegistryCenter.timer(METER_REGISTRY, "grpc_server_request_queue",
+                Collections.singletonList(Tag.of("priorityClass", priorityClass)))
+                .record(queueTime, TimeUnit.NANOSECONDS);
+    }
 }
@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.Requester;
 import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.ability.discover.NacosAbilityManagerHolder;
 
 import java.util.Map;
 
@@ -65,6 +68,33 @@ public abstract class Connection implements Requester {
         return this.abilityTable;
     }
     
+    /**
+     * Get the status of ability reported by remote of this connection.
+     *
+     * @param abilityKey ability key
+     * @return ability status
+     */
+    public AbilityStatus getConnectionAbility(AbilityKey abilityKey) {
+        Map<String, Boolean> abilities = this.abilityTable;
+        if (abilities == null || !abilities.containsKey(abilityKey.getName())) {
+            return AbilityStatus.UNKNOWN;
+        }
+        return Boolean.TRUE.equals(abilities.get(abilityKey.getName())) ? AbilityStatus.SUPPORTED
+                : AbilityStatus.NOT_SUPPORTED;
+    }
+    
+    /**
+     * Whether hot requests and responses of this connection can be encoded as binary payload, which requires the
+     * ability enabled on current server and supported by the remote client.
+     *
+     * @return {@code true} if binary payload can be used
+     */
+    public boolean isBinaryPayloadEnabled() {
+        return AbilityStatus.SUPPORTED == getConnectionAbility(AbilityKey.SDK_CLIENT_BINARY_PAYLOAD)
+                && AbilityStatus.SUPPORTED == NacosAbilityManagerHolder.getInstance()
+                .isCurrentNodeAbilityRunning(AbilityKey.SERVER_BINARY_PAYLOAD);
+    }
+    
     /**
      * check is connected.
      *
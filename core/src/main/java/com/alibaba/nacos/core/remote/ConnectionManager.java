@@ -26,6 +26,7 @@ import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedExceptio
 import com.alibaba.nacos.common.spi.NacosServiceLoader;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.monitor.MetricsMonitor;
+import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.Loggers;
 import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
@@ -249,6 +250,7 @@ public class ConnectionManager {
         RpcScheduledExecutor.COMMON_SERVER_EXECUTOR.scheduleWithFixedDelay(() -> {
             runtimeConnectionEjector.doEject();
             MetricsMonitor.getLongConnectionMonitor().set(connections.size());
+            refreshPushQueueMetrics();
         }, 1000L, 3000L, TimeUnit.MILLISECONDS);
 
         Boolean enabled = EnvUtil.getProperty("nacos.metric.grpc.server.connection.enabled", Boolean.class, true);
@@ -264,6 +266,26 @@ public class ConnectionManager {
         }
     }
     
+    /**
+     * Refresh the total depth, drop count and coalesced count of outbound push queues of current connections.
+     */
+    void refreshPushQueueMetrics() {
+        long depth = 0L;
+        long dropCount = 0L;
+        long coalescedCount = 0L;
+        for (Connection each : connections.values()) {
+            if (each instanceof GrpcConnection) {
+                GrpcConnection grpcConnection = (GrpcConnection) each;
+                depth += grpcConnection.getPushQueueDepth();
+                dropCount += grpcConnection.getPushQueueDropCount();
+                coalescedCount += grpcConnection.getPushQueueCoalescedCount();
+            }
+        }
+        MetricsMonitor.getPushQueueDepthMonitor().set(depth);
+        MetricsMonitor.getPushQueueDropCountMonitor().set(dropCount);
+        MetricsMonitor.getPushQueueCoalescedCountMonitor().set(coalescedCount);
+    }
+    
     public void loadCount(int loadClient, String redirectAddress) {
         runtimeConnectionEjector.setLoadClient(loadClient);
         runtimeConnectionEjector.setRedirectAddress(redirectAddress);
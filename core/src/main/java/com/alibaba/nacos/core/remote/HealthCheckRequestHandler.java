@@ -20,6 +20,8 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
 import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
 import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.remote.grpc.RequestPriority;
+import com.alibaba.nacos.core.remote.grpc.RequestPriorityClass;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,6 +31,7 @@ import org.springframework.stereotype.Component;
  * @version $Id: PushService.java, v 0.1 2021年07月17日 1:12 PM liuzunfei Exp $
  */
 @Component
+@RequestPriority(RequestPriorityClass.HEARTBEAT)
 public class HealthCheckRequestHandler extends RequestHandler<HealthCheckRequest, HealthCheckResponse> {
     
     @Override
@@ -18,6 +18,7 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import com.alibaba.nacos.plugin.control.connection.ConnectionMetricsCollector;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 
@@ -47,4 +48,41 @@ public class LongConnectionMetricsCollector implements ConnectionMetricsCollecto
             return 0;
         }
     }
+    
+    /**
+     * Get depth of outbound push queue for connection.
+     *
+     * @param connectionId connection id
+     * @return depth of push queue, 0 if connection not found
+     */
+    public int getPushQueueDepth(String connectionId) {
+        Connection connection = ApplicationUtils.getBean(ConnectionManager.class).getConnection(connectionId);
+        return connection instanceof GrpcConnection ? ((GrpcConnection) connection).getPushQueueDepth() : 0;
+    }
+    
+    /**
+     * Get count of pushes dropped because the outbound push queue of connection is full.
+     *
+     * @param connectionId connection id
+     * @return drop count, 0 if connection not found
+     */
+    public long getPushQueueDropCount(String connectionId) {
+        Connection connection = ApplicationUtils.getBean(ConnectionManager.class).getConnection(connectionId);
+        return connection instanceof GrpcConnection ? ((GrpcConnection) connection).getPushQueueDropCount() : 0L;
+    }
+    
+    /**
+     * Get total depth of outbound push queues for all connections.
+     *
+     * @return total depth of push queues
+     */
+    public long getTotalPushQueueDepth() {
+        long result = 0L;
+        for (Connection each : ApplicationUtils.getBean(ConnectionManager.class).currentClients().values()) {
+            if (each instanceof GrpcConnection) {
+                result += ((GrpcConnection) each).getPushQueueDepth();
+            }
+        }
+        return result;
+    }
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.control.TpsControlConfig;
 import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import com.alibaba.nacos.core.remote.grpc.RequestPriority;
+import com.alibaba.nacos.core.remote.grpc.RequestPriorityClass;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.google.common.collect.Sets;
 import org.springframework.context.ApplicationListener;
@@ -48,6 +50,8 @@ public class RequestHandlerRegistry implements ApplicationListener<ContextRefres
     
     Map<String, Set<String>> sourceRegistry = new HashMap<>();
     
+    Map<String, RequestPriorityClass> priorityRegistry = new HashMap<>();
+    
     /**
      * Get Request Handler By request Type.
      *
@@ -72,6 +76,16 @@ public class RequestHandlerRegistry implements ApplicationListener<ContextRefres
         return true;
     }
     
+    /**
+     * Get priority class of request type, declared by {@link RequestPriority} of the request handler.
+     *
+     * @param requestType request type
+     * @return priority class, {@link RequestPriorityClass#READ} if not declared
+     */
+    public RequestPriorityClass getPriorityClass(String requestType) {
+        return priorityRegistry.getOrDefault(requestType, RequestPriorityClass.READ);
+    }
+    
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
         Map<String, RequestHandler> beansOfType = event.getApplicationContext().getBeansOfType(RequestHandler.class);
@@ -117,6 +131,12 @@ public class RequestHandlerRegistry implements ApplicationListener<ContextRefres
                 //ignore.
             }
             
+            //register priority class.
+            if (clazz.isAnnotationPresent(RequestPriority.class)) {
+                RequestPriority requestPriority = clazz.getAnnotation(RequestPriority.class);
+                priorityRegistry.putIfAbsent(tClass.getSimpleName(), requestPriority.value());
+            }
+            
             registryHandlers.putIfAbsent(tClass.getSimpleName(), requestHandler);
         }
     }
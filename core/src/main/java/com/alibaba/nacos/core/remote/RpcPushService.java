@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
@@ -108,4 +110,15 @@ public class RpcPushService {
         }
     }
     
+    /**
+     * Get ability status of the remote of connection.
+     *
+     * @param connectionId connectionId.
+     * @param abilityKey   ability key.
+     * @return ability status, {@link AbilityStatus#UNKNOWN} if connection not found.
+     */
+    public AbilityStatus getConnectionAbility(String connectionId, AbilityKey abilityKey) {
+        Connection connection = connectionManager.getConnection(connectionId);
+        return null == connection ? AbilityStatus.UNKNOWN : connection.getConnectionAbility(abilityKey);
+    }
 }
@@ -72,6 +72,7 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
     
     @Override
     public StreamObserver<Payload> requestBiStream(StreamObserver<Payload> responseObserver) {
+        registerOnReadyHandler(responseObserver, GrpcServerConstants.CONTEXT_KEY_CONN_ID.get());
         StreamObserver<Payload> streamObserver = new StreamObserver<>() {
             final String connectionId = GrpcServerConstants.CONTEXT_KEY_CONN_ID.get();
             
@@ -132,6 +133,25 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
         return streamObserver;
     }
     
+    /**
+     * Resume the outbound queue of connection when the stream turns writable, the handler can only be registered
+     * before {@link #requestBiStream(StreamObserver)} returned.
+     *
+     * @param responseObserver response observer of bi stream
+     * @param connectionId     connection id
+     */
+    private void registerOnReadyHandler(StreamObserver<Payload> responseObserver, String connectionId) {
+        if (null == connectionId || !(responseObserver instanceof ServerCallStreamObserver)) {
+            return;
+        }
+        ((ServerCallStreamObserver<Payload>) responseObserver).setOnReadyHandler(() -> {
+            Connection connection = connectionManager.getConnection(connectionId);
+            if (connection instanceof GrpcConnection) {
+                ((GrpcConnection) connection).onReady();
+            }
+        });
+    }
+    
     private void streamObserverOnNext(Payload payload, String connectionId, Integer localPort, int remotePort,
             String remoteIp, StreamObserver<Payload> responseObserver) {
         String clientIp = payload.getMetadata().getClientIp();
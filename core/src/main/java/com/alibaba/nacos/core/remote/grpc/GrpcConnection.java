@@ -39,8 +39,11 @@ import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * grpc connection.
@@ -50,16 +53,25 @@ import java.util.concurrent.Future;
  */
 public class GrpcConnection extends Connection {
     
+    /**
+     * Default timeout of waiting for the request written by the outbound queue when caller gives no timeout.
+     */
+    private static final long DEFAULT_WRITE_TIMEOUT_MILLS = 3000L;
+    
     private StreamObserver streamObserver;
     
     private Channel channel;
     
+    private final OutboundWriteQueue writeQueue;
+    
     private static TpsControlManager tpsControlManager;
     
     public GrpcConnection(ConnectionMeta metaInfo, StreamObserver streamObserver, Channel channel) {
         super(metaInfo);
         this.streamObserver = streamObserver;
         this.channel = channel;
+        this.writeQueue = new OutboundWriteQueue(GrpcServerConstants.GrpcConfig.getPushQueueCapacity(),
+                () -> this.channel.eventLoop(), this::isStreamReady, this::writeRequest);
     }
     
     /**
@@ -69,27 +81,28 @@ public class GrpcConnection extends Connection {
      * @throws NacosException NacosException
      */
     public void sendRequestNoAck(Request request) throws NacosException {
+        sendRequestNoAck(request, DEFAULT_WRITE_TIMEOUT_MILLS);
+    }
+    
+    /**
+     * Send request without ack and wait until it is written by the outbound queue at most {@code timeoutMills}.
+     *
+     * @param request      request data
+     * @param timeoutMills timeout of waiting for written, use default timeout if not positive
+     * @throws NacosException NacosException if the request isn't written within timeout
+     */
+    private void sendRequestNoAck(Request request, long timeoutMills) throws NacosException {
         sendQueueBlockCheck();
-        Future<Boolean> executeFuture = this.channel.eventLoop().submit(() -> {
-            //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
-            synchronized (streamObserver) {
-                try {
-                    Payload payload = GrpcUtils.convert(request);
-                    traceIfNecessary(payload);
-                    streamObserver.onNext(payload);
-                    return true;
-                } catch (Throwable e) {
-                    if (e instanceof StatusRuntimeException) {
-                        throw new ConnectionAlreadyClosedException(e);
-                    } else if (e instanceof IllegalStateException) {
-                        throw new ConnectionAlreadyClosedException(e);
-                    }
-                    throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
-                }
-            }
-        });
+        Future<Boolean> writeFuture = writeQueue.offer(request, false);
+        long writeTimeoutMills = timeoutMills > 0 ? timeoutMills : DEFAULT_WRITE_TIMEOUT_MILLS;
         try {
-            executeFuture.get();
+            writeFuture.get(writeTimeoutMills, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException timeoutException) {
+            // the pending request is skipped by the outbound queue once cancelled.
+            writeFuture.cancel(false);
+            throw new NacosException(NacosException.SERVER_ERROR,
+                    "write request timeout after " + writeTimeoutMills + " milliseconds, connectionId="
+                            + getMetaInfo().getConnectionId(), timeoutException);
         } catch (Throwable throwable) {
             if (throwable instanceof ExecutionException && throwable.getCause() != null
                     && throwable.getCause() instanceof NacosRuntimeException) {
@@ -99,13 +112,80 @@ public class GrpcConnection extends Connection {
         }
     }
     
+    /**
+     * Send request asynchronously by the outbound queue, the result of writing is notified to the push future.
+     *
+     * @param request    request data
+     * @param pushFuture future of request
+     */
+    private void sendRequestAsync(Request request, DefaultRequestFuture pushFuture) {
+        checkStreamReady();
+        CompletableFuture<Boolean> writeFuture;
+        try {
+            writeFuture = writeQueue.offer(request, true);
+        } catch (ConnectionBusyException e) {
+            Loggers.REMOTE_DIGEST.warn("[{}]Outbound queue is full, drop request {}",
+                    getMetaInfo().getConnectionId(), request.getClass().getSimpleName());
+            throw e;
+        }
+        writeFuture.whenComplete((written, throwable) -> {
+            if (null == throwable && written) {
+                return;
+            }
+            RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), request.getRequestId());
+            if (null == throwable) {
+                // superseded by a newer request of the same resource, which carries the data of this request. The
+                // request is never delivered, so the callback is not notified and only the newer one is reported.
+                if (null != pushFuture.getRequestCallBack()) {
+                    pushFuture.cancel(false);
+                } else {
+                    pushFuture.setResponse(OutboundWriteQueue.buildSupersededResponse(request));
+                }
+            } else if (throwable instanceof Exception) {
+                pushFuture.setFailResult((Exception) throwable);
+            } else {
+                pushFuture.setFailResult(new NacosRuntimeException(NacosException.SERVER_ERROR, throwable));
+            }
+        });
+    }
+    
+    /**
+     * Write request to stream, only called by the single writer of {@link OutboundWriteQueue}.
+     *
+     * @param request request data
+     */
+    private void writeRequest(Request request) {
+        final boolean binaryPayload = isBinaryPayloadEnabled();
+        try {
+            Payload payload = request instanceof PreEncodedRequest
+                    ? ((PreEncodedRequest) request).getPayloadTemplate()
+                    .toPayload(request.getRequestId(), binaryPayload)
+                    : GrpcUtils.convert(request, binaryPayload);
+            traceIfNecessary(payload);
+            streamObserver.onNext(payload);
+        } catch (Throwable e) {
+            if (e instanceof StatusRuntimeException) {
+                throw new ConnectionAlreadyClosedException(e);
+            } else if (e instanceof IllegalStateException) {
+                throw new ConnectionAlreadyClosedException(e);
+            }
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
     private void sendQueueBlockCheck() {
+        if (!checkStreamReady()) {
+            throw new ConnectionBusyException("too much bytes on sending queue of this stream.");
+        }
+    }
+    
+    private boolean checkStreamReady() {
         if (streamObserver instanceof ServerCallStreamObserver) {
             // if bytes on queue is greater than  32k ,isReady will return false.
             // queue type: grpc write queue,flowed controller queue etc.
             // this 32k threshold is fixed with static final.
             // see io.grpc.internal.AbstractStream.TransportState.DEFAULT_ONREADY_THRESHOLD
-            boolean ready = ((ServerCallStreamObserver<?>) streamObserver).isReady();
+            boolean ready = isStreamReady();
             if (!ready) {
                 if (tpsControlManager == null) {
                     synchronized (GrpcConnection.class.getClass()) {
@@ -120,11 +200,36 @@ public class GrpcConnection extends Connection {
                 //record block only.
                 tpsControlManager.check(tpsCheckRequest);
                 getMetaInfo().recordPushQueueBlockTimes();
-                throw new ConnectionBusyException("too much bytes on sending queue of this stream.");
+                return false;
             } else {
                 getMetaInfo().clearPushQueueBlockTimes();
             }
         }
+        return true;
+    }
+    
+    private boolean isStreamReady() {
+        return !(streamObserver instanceof ServerCallStreamObserver)
+                || ((ServerCallStreamObserver<?>) streamObserver).isReady();
+    }
+    
+    /**
+     * Notified when the stream turns writable again, continue writing the pending requests.
+     */
+    public void onReady() {
+        writeQueue.onReady();
+    }
+    
+    public int getPushQueueDepth() {
+        return writeQueue.getDepth();
+    }
+    
+    public long getPushQueueDropCount() {
+        return writeQueue.getDropCount();
+    }
+    
+    public long getPushQueueCoalescedCount() {
+        return writeQueue.getCoalescedCount();
     }
     
     private void traceIfNecessary(Payload payload) {
@@ -141,7 +246,8 @@ public class GrpcConnection extends Connection {
         }
     }
     
-    private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+    private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack, boolean sync,
+            long timeoutMills) throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
@@ -150,17 +256,26 @@ public class GrpcConnection extends Connection {
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
         try {
-            sendRequestNoAck(request);
+            if (sync) {
+                sendRequestNoAck(request, timeoutMills);
+            } else {
+                sendRequestAsync(request, defaultPushFuture);
+            }
         } catch (NacosRuntimeException nacosRuntimeException) {
             defaultPushFuture.cancel(true);
+            RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId);
             throw nacosRuntimeException;
+        } catch (NacosException nacosException) {
+            defaultPushFuture.cancel(true);
+            RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId);
+            throw nacosException;
         }
         return defaultPushFuture;
     }
     
     @Override
     public Response request(Request request, long timeoutMills) throws NacosException {
-        DefaultRequestFuture pushFuture = sendRequestInner(request, null);
+        DefaultRequestFuture pushFuture = sendRequestInner(request, null, true, timeoutMills);
         try {
             return pushFuture.get(timeoutMills);
         } catch (Exception e) {
@@ -172,12 +287,12 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        return sendRequestInner(request, null);
+        return sendRequestInner(request, null, false, 0L);
     }
     
     @Override
     public void asyncRequest(Request request, RequestCallBack requestCallBack) throws NacosException {
-        sendRequestInner(request, requestCallBack);
+        sendRequestInner(request, requestCallBack, false, 0L);
     }
     
     @Override
@@ -190,6 +305,7 @@ public class GrpcConnection extends Connection {
             if (isTraced()) {
                 Loggers.REMOTE_DIGEST.warn("[{}] try to close connection ", connectionId);
             }
+            writeQueue.close();
             
             try {
                 closeBiStream();
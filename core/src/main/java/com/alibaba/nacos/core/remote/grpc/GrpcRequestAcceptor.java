@@ -40,6 +40,7 @@ import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -63,6 +64,9 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
     @Autowired
     private ConnectionManager connectionManager;
     
+    @Autowired(required = false)
+    private GrpcRequestScheduler requestScheduler;
+    
     private void traceIfNecessary(Payload grpcRequest, boolean receive) {
         String clientIp = grpcRequest.getMetadata().getClientIp();
         String connectionId = GrpcServerConstants.CONTEXT_KEY_CONN_ID.get();
@@ -80,7 +84,6 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
     }
     
     @Override
-    @SuppressWarnings("PMD.MethodTooLongRule")
     public void request(Payload grpcRequest, StreamObserver<Payload> responseObserver) {
         
         traceIfNecessary(grpcRequest, true);
@@ -141,6 +144,36 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             return;
         }
         
+        if (null != requestScheduler && requestScheduler.isEnabled() && isSdkConnection(connectionId)) {
+            RequestPriorityClass priorityClass = requestScheduler.resolvePriorityClass(type,
+                    requestHandlerRegistry.getPriorityClass(type));
+            // propagate grpc context, the connection info in context is used when handling request.
+            Runnable task = Context.current().wrap(
+                    () -> handleRequest(grpcRequest, responseObserver, requestHandler, type, connectionId, startTime));
+            if (!requestScheduler.submit(priorityClass, task)) {
+                Loggers.REMOTE_DIGEST.warn("[{}] Request scheduler is full, reject request {} of class {}",
+                        connectionId, type, priorityClass);
+                Payload payloadResponse = GrpcUtils.convert(
+                        ErrorResponse.build(NacosException.OVER_THRESHOLD, "Server is busy, please try later."));
+                traceIfNecessary(payloadResponse, false);
+                responseObserver.onNext(payloadResponse);
+                responseObserver.onCompleted();
+                MetricsMonitor.recordGrpcRequestEvent(type, false,
+                        NacosException.OVER_THRESHOLD, null, null, System.nanoTime() - startTime);
+            }
+            return;
+        }
+        handleRequest(grpcRequest, responseObserver, requestHandler, type, connectionId, startTime);
+    }
+    
+    private boolean isSdkConnection(String connectionId) {
+        Connection connection = connectionManager.getConnection(connectionId);
+        return null != connection && connection.getMetaInfo().isSdkSource();
+    }
+    
+    @SuppressWarnings("PMD.MethodTooLongRule")
+    private void handleRequest(Payload grpcRequest, StreamObserver<Payload> responseObserver,
+            RequestHandler requestHandler, String type, String connectionId, long startTime) {
         Object parseObj = null;
         try {
             parseObj = GrpcUtils.parse(grpcRequest);
@@ -196,7 +229,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
             prepareRequestContext(request, requestMeta, connection);
             Response response = requestHandler.handleRequest(request, requestMeta);
-            Payload payloadResponse = GrpcUtils.convert(response);
+            Payload payloadResponse = GrpcUtils.convert(response, connection.isBinaryPayloadEnabled());
             traceIfNecessary(payloadResponse, false);
             if (response.getErrorCode() == NacosException.OVER_THRESHOLD) {
                 RpcScheduledExecutor.CONTROL_SCHEDULER.schedule(() -> {
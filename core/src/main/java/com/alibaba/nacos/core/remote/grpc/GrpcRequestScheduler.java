@@ -0,0 +1,198 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.common.utils.ThreadFactoryBuilder;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
+import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.core.utils.RemoteUtils;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Scheduler of sdk grpc requests.
+ *
+ * <p>Requests accepted by the grpc executor are put into a {@link WeightedFairTaskQueue} by their
+ * {@link RequestPriorityClass} and handled by the workers of this scheduler, so cheap requests such as health check
+ * don't wait behind expensive requests during reconnect storms. Disabled by default, the requests are handled in the
+ * grpc executor directly when disabled.
+ *
+ * @author Nacos
+ */
+@Component
+public class GrpcRequestScheduler {
+    
+    private static final String SCHEDULER_PREFIX = "nacos.remote.server.grpc.sdk.scheduler.";
+    
+    static final String ENABLED_PROPERTY = SCHEDULER_PREFIX + "enabled";
+    
+    static final String WORKERS_PROPERTY = SCHEDULER_PREFIX + "workers";
+    
+    static final String QUEUE_SIZE_PROPERTY = SCHEDULER_PREFIX + "queue-size";
+    
+    static final String WEIGHT_PROPERTY_PREFIX = SCHEDULER_PREFIX + "weight.";
+    
+    static final String CLASS_PROPERTY_PREFIX = SCHEDULER_PREFIX + "class.";
+    
+    private final boolean enabled;
+    
+    private final WeightedFairTaskQueue<ScheduledRequest> queue;
+    
+    private final ExecutorService workers;
+    
+    /**
+     * Resolved priority class of each request type, the overriding property is read once for each request type.
+     */
+    private final Map<String, RequestPriorityClass> priorityClassCache = new ConcurrentHashMap<>();
+    
+    private volatile boolean shutdown;
+    
+    public GrpcRequestScheduler() {
+        this(EnvUtil.getProperty(ENABLED_PROPERTY, Boolean.class, false),
+                EnvUtil.getProperty(WORKERS_PROPERTY, Integer.class,
+                        EnvUtil.getAvailableProcessors(RemoteUtils.getRemoteExecutorTimesOfProcessors())),
+                EnvUtil.getProperty(QUEUE_SIZE_PROPERTY, Integer.class, RemoteUtils.getRemoteExecutorQueueSize()),
+                loadWeights());
+    }
+    
+    GrpcRequestScheduler(boolean enabled, int workerCount, int queueSize, Map<RequestPriorityClass, Integer> weights) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.queue = null;
+            this.workers = null;
+            return;
+        }
+        this.queue = new WeightedFairTaskQueue<>(queueSize, weights);
+        this.workers = ExecutorFactory.Managed.newFixedExecutorService(GrpcRequestScheduler.class.getCanonicalName(),
+                workerCount, new ThreadFactoryBuilder().daemon(true).nameFormat("nacos-grpc-scheduler-%d").build());
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+        Loggers.REMOTE.info("Grpc request scheduler started with {} workers, weights {}", workerCount, weights);
+    }
+    
+    private static Map<RequestPriorityClass, Integer> loadWeights() {
+        Map<RequestPriorityClass, Integer> result = new EnumMap<>(RequestPriorityClass.class);
+        for (RequestPriorityClass each : RequestPriorityClass.values()) {
+            result.put(each, EnvUtil.getProperty(WEIGHT_PROPERTY_PREFIX + each.name().toLowerCase(), Integer.class,
+                    each.getDefaultWeight()));
+        }
+        return result;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Resolve priority class of request type, the class declared by the request handler can be overridden by
+     * property {@code nacos.remote.server.grpc.sdk.scheduler.class.{requestType}}. The result is cached for each
+     * request type, since the handler and the property of request type are fixed after startup.
+     *
+     * @param requestType   request type
+     * @param declaredClass priority class declared by the request handler
+     * @return priority class of request type
+     */
+    public RequestPriorityClass resolvePriorityClass(String requestType, RequestPriorityClass declaredClass) {
+        return priorityClassCache.computeIfAbsent(requestType, type -> doResolvePriorityClass(type, declaredClass));
+    }
+    
+    private RequestPriorityClass doResolvePriorityClass(String requestType, RequestPriorityClass declaredClass) {
+        String configured = EnvUtil.getProperty(CLASS_PROPERTY_PREFIX + requestType);
+        if (StringUtils.isBlank(configured)) {
+            return declaredClass;
+        }
+        try {
+            return RequestPriorityClass.valueOf(configured.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Loggers.REMOTE.warn("Invalid priority class {} for request {}, use {}", configured, requestType,
+                    declaredClass);
+            return declaredClass;
+        }
+    }
+    
+    /**
+     * Submit request handling task.
+     *
+     * @param priorityClass priority class of request
+     * @param task          request handling task
+     * @return {@code false} if the scheduler is full
+     */
+    public boolean submit(RequestPriorityClass priorityClass, Runnable task) {
+        if (shutdown) {
+            return false;
+        }
+        return queue.offer(priorityClass, new ScheduledRequest(priorityClass, task));
+    }
+    
+    public int getQueueSize(RequestPriorityClass priorityClass) {
+        return enabled ? queue.size(priorityClass) : 0;
+    }
+    
+    private void runWorker() {
+        while (!shutdown) {
+            ScheduledRequest request;
+            try {
+                request = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            MetricsMonitor.recordGrpcRequestQueueTime(request.priorityClass.name(),
+                    System.nanoTime() - request.enqueueTime);
+            try {
+                request.task.run();
+            } catch (Throwable e) {
+                Loggers.REMOTE_DIGEST.error("Grpc request scheduler run task failed.", e);
+            }
+        }
+    }
+    
+    /**
+     * Shutdown workers of scheduler.
+     */
+    @PreDestroy
+    public void shutdown() {
+        shutdown = true;
+        if (null != workers) {
+            workers.shutdownNow();
+        }
+    }
+    
+    private static class ScheduledRequest {
+        
+        private final RequestPriorityClass priorityClass;
+        
+        private final Runnable task;
+        
+        private final long enqueueTime;
+        
+        private ScheduledRequest(RequestPriorityClass priorityClass, Runnable task) {
+            this.priorityClass = priorityClass;
+            this.task = task;
+            this.enqueueTime = System.nanoTime();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.sys.env.EnvUtil;
 import io.grpc.Attributes;
 import io.grpc.Context;
 import io.grpc.internal.GrpcUtil;
@@ -98,5 +99,21 @@ final class GrpcServerConstants {
         static final long DEFAULT_GRPC_KEEP_ALIVE_TIMEOUT = TimeUnit.NANOSECONDS.toMillis(GrpcUtil.DEFAULT_SERVER_KEEPALIVE_TIMEOUT_NANOS);
         
         static final long DEFAULT_GRPC_PERMIT_KEEP_ALIVE_TIME = TimeUnit.MINUTES.toMillis(5L);
+        
+        static final String PUSH_QUEUE_CAPACITY_PROPERTY = NACOS_REMOTE_SERVER_GRPC_PREFIX + "push-queue-capacity";
+        
+        static final int DEFAULT_PUSH_QUEUE_CAPACITY = 1024;
+        
+        /**
+         * Get capacity of outbound push queue of each connection.
+         *
+         * @return capacity of push queue
+         */
+        static int getPushQueueCapacity() {
+            if (null == EnvUtil.getEnvironment()) {
+                return DEFAULT_PUSH_QUEUE_CAPACITY;
+            }
+            return EnvUtil.getProperty(PUSH_QUEUE_CAPACITY_PROPERTY, Integer.class, DEFAULT_PUSH_QUEUE_CAPACITY);
+        }
     }
 }
@@ -0,0 +1,304 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Outbound write queue of one grpc connection.
+ *
+ * <p>Requests are offered into a bounded multi-producer queue and written by a single writer running in the event loop
+ * of the channel, so push threads do not contend on the stream observer. The writer writes at most
+ * {@link #MAX_WRITE_BATCH} requests per round, stops when the stream is not ready and continues after
+ * {@link #onReady()}. A pending push is superseded by a newer full push of the same resource, see
+ * {@link #getCoalesceKey(Request)}.
+ *
+ * @author Nacos
+ */
+class OutboundWriteQueue {
+    
+    static final int MAX_WRITE_BATCH = 64;
+    
+    private static final String NAMING_PUSH_KEY_PREFIX = "naming@@";
+    
+    private static final String CONFIG_PUSH_KEY_PREFIX = "config@@";
+    
+    private static final String KEY_SPLITTER = "+";
+    
+    private final Queue<WriteTask> queue = new ConcurrentLinkedQueue<>();
+    
+    private final Map<String, WriteTask> pendingCoalescible = new ConcurrentHashMap<>(16);
+    
+    private final AtomicInteger depth = new AtomicInteger();
+    
+    private final AtomicBoolean draining = new AtomicBoolean();
+    
+    private final AtomicLong dropCount = new AtomicLong();
+    
+    private final AtomicLong coalescedCount = new AtomicLong();
+    
+    private final int capacity;
+    
+    private final Supplier<? extends Executor> executorSupplier;
+    
+    private final BooleanSupplier readySupplier;
+    
+    private final Consumer<Request> writer;
+    
+    private volatile boolean closed;
+    
+    OutboundWriteQueue(int capacity, Supplier<? extends Executor> executorSupplier, BooleanSupplier readySupplier,
+            Consumer<Request> writer) {
+        this.capacity = capacity;
+        this.executorSupplier = executorSupplier;
+        this.readySupplier = readySupplier;
+        this.writer = writer;
+    }
+    
+    /**
+     * Offer request into the queue.
+     *
+     * @param request     request to write
+     * @param coalescible whether the request can supersede pending request of the same resource
+     * @return future completed with {@code true} after written, {@code false} if superseded by a newer request
+     * @throws ConnectionAlreadyClosedException if the queue has been closed
+     * @throws ConnectionBusyException          if the queue is full
+     */
+    CompletableFuture<Boolean> offer(Request request, boolean coalescible) {
+        if (closed) {
+            throw new ConnectionAlreadyClosedException();
+        }
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            dropCount.incrementAndGet();
+            throw new ConnectionBusyException("too many requests on outbound queue of this connection.");
+        }
+        String coalesceKey = coalescible ? getCoalesceKey(request) : null;
+        WriteTask task = new WriteTask(request, coalesceKey);
+        if (null != coalesceKey) {
+            WriteTask previous = pendingCoalescible.put(coalesceKey, task);
+            if (null != previous && previous.release(WriteTask.SUPERSEDED)) {
+                coalescedCount.incrementAndGet();
+                previous.future.complete(false);
+            }
+        }
+        queue.offer(task);
+        if (closed) {
+            failRemaining();
+        } else {
+            scheduleDrain();
+        }
+        return task.future;
+    }
+    
+    /**
+     * Notified by grpc when the stream turns writable again.
+     */
+    void onReady() {
+        if (!queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+    
+    /**
+     * Close the queue, all pending requests will be failed.
+     */
+    void close() {
+        closed = true;
+        failRemaining();
+    }
+    
+    int getDepth() {
+        return depth.get();
+    }
+    
+    long getDropCount() {
+        return dropCount.get();
+    }
+    
+    long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+    
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executorSupplier.get().execute(this::drain);
+            } catch (Throwable e) {
+                draining.set(false);
+                throw e;
+            }
+        }
+    }
+    
+    private void drain() {
+        boolean batchFull = false;
+        try {
+            int written = 0;
+            while (!closed && readySupplier.getAsBoolean()) {
+                if (written >= MAX_WRITE_BATCH) {
+                    batchFull = true;
+                    break;
+                }
+                WriteTask task = queue.poll();
+                if (null == task) {
+                    break;
+                }
+                if (writeTask(task)) {
+                    written++;
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+        // re-check to avoid losing the signal of requests offered during finishing this round.
+        if (closed) {
+            failRemaining();
+        } else if (!queue.isEmpty() && (batchFull || readySupplier.getAsBoolean())) {
+            scheduleDrain();
+        }
+    }
+    
+    private boolean writeTask(WriteTask task) {
+        if (null != task.coalesceKey) {
+            pendingCoalescible.remove(task.coalesceKey, task);
+        }
+        if (task.future.isCancelled()) {
+            // caller has given up waiting for the request, e.g. timeout of synchronous request.
+            task.release(WriteTask.FAILED);
+            return false;
+        }
+        if (!task.release(WriteTask.WRITTEN)) {
+            return false;
+        }
+        try {
+            writer.accept(task.request);
+            task.future.complete(true);
+        } catch (Throwable e) {
+            task.future.completeExceptionally(e);
+        }
+        return true;
+    }
+    
+    private void failRemaining() {
+        WriteTask task;
+        while (null != (task = queue.poll())) {
+            if (null != task.coalesceKey) {
+                pendingCoalescible.remove(task.coalesceKey, task);
+            }
+            if (task.release(WriteTask.FAILED)) {
+                task.future.completeExceptionally(new ConnectionAlreadyClosedException());
+            }
+        }
+    }
+    
+    /**
+     * Get coalesce key of request, requests with same key carry the full state of the same resource, so the pending
+     * one can be superseded by the newer one. Incremental naming push can't be superseded since its changes base on
+     * the previous push.
+     *
+     * @param request request
+     * @return coalesce key, {@code null} if the request can't be coalesced
+     */
+    static String getCoalesceKey(Request request) {
+        if (request instanceof NotifySubscriberRequest) {
+            NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
+            if (notifyRequest.isIncremental() || null == notifyRequest.getServiceInfo()) {
+                return null;
+            }
+            return NAMING_PUSH_KEY_PREFIX + notifyRequest.getNamespace() + KEY_SPLITTER + notifyRequest.getServiceInfo()
+                    .getKey();
+        }
+        if (request instanceof ConfigChangeNotifyRequest) {
+            ConfigChangeNotifyRequest notifyRequest = (ConfigChangeNotifyRequest) request;
+            return CONFIG_PUSH_KEY_PREFIX + notifyRequest.getDataId() + KEY_SPLITTER + notifyRequest.getGroup()
+                    + KEY_SPLITTER + notifyRequest.getTenant();
+        }
+        return null;
+    }
+    
+    /**
+     * Build the response of superseded request, the data of superseded request will be delivered by the newer one.
+     *
+     * @param request superseded request
+     * @return success response of request
+     */
+    static Response buildSupersededResponse(Request request) {
+        Response response = request instanceof ConfigChangeNotifyRequest ? new ConfigChangeNotifyResponse()
+                : new NotifySubscriberResponse();
+        response.setRequestId(request.getRequestId());
+        return response;
+    }
+    
+    private class WriteTask {
+        
+        private static final int PENDING = 0;
+        
+        private static final int WRITTEN = 1;
+        
+        private static final int SUPERSEDED = 2;
+        
+        private static final int FAILED = 3;
+        
+        private final Request request;
+        
+        private final String coalesceKey;
+        
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        
+        private WriteTask(Request request, String coalesceKey) {
+            this.request = request;
+            this.coalesceKey = coalesceKey;
+        }
+        
+        /**
+         * Release task from pending state, the depth of queue is decreased by the one who released it.
+         *
+         * @param target target state
+         * @return {@code true} if released by this call
+         */
+        private boolean release(int target) {
+            if (state.compareAndSet(PENDING, target)) {
+                depth.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
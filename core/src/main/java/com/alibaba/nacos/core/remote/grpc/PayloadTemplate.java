@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.client.grpc.codec.BinaryPayloadCodecs;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pre-encoded grpc payload of a request which will be sent to many connections.
+ *
+ * <p>The request body is encoded only once with a placeholder request id, the encoded bytes are split around the
+ * placeholder, and each {@link #toPayload(String)} only concatenates the prefix, the real request id and the suffix
+ * without copying the whole body again.
+ *
+ * <p>For connections which support binary payload, the fields of request are encoded by {@link BinaryPayloadCodecs}
+ * lazily at the first time and also shared by all connections.
+ *
+ * @author Nacos
+ */
+public final class PayloadTemplate {
+    
+    private static final String REQUEST_ID_PLACEHOLDER = "__NACOS_PAYLOAD_TEMPLATE_REQUEST_ID__";
+    
+    private static final byte[] REQUEST_ID_PATTERN = ("\"requestId\":\"" + REQUEST_ID_PLACEHOLDER + "\"")
+            .getBytes(StandardCharsets.UTF_8);
+    
+    private static final int REQUEST_ID_VALUE_OFFSET = "\"requestId\":\"".length();
+    
+    private final Payload prototype;
+    
+    private final ByteString bodyPrefix;
+    
+    private final ByteString bodySuffix;
+    
+    private final Request request;
+    
+    private volatile ByteString binaryFields;
+    
+    private PayloadTemplate(Payload prototype, ByteString bodyPrefix, ByteString bodySuffix, Request request) {
+        this.prototype = prototype;
+        this.bodyPrefix = bodyPrefix;
+        this.bodySuffix = bodySuffix;
+        this.request = BinaryPayloadCodecs.isSupported(request) ? request : null;
+    }
+    
+    /**
+     * Encode the request once and build template.
+     *
+     * @param request request to encode, the request id of it will be kept unchanged.
+     * @return payload template, or {@code null} if the encoded request can't be used as template.
+     */
+    public static PayloadTemplate of(Request request) {
+        String originalRequestId = request.getRequestId();
+        request.setRequestId(REQUEST_ID_PLACEHOLDER);
+        Payload prototype;
+        try {
+            prototype = GrpcUtils.convert(request);
+        } finally {
+            request.setRequestId(originalRequestId);
+        }
+        ByteString body = prototype.getBody().getValue();
+        int index = indexOf(body, REQUEST_ID_PATTERN);
+        if (index < 0) {
+            return null;
+        }
+        int valueStart = index + REQUEST_ID_VALUE_OFFSET;
+        int valueEnd = valueStart + REQUEST_ID_PLACEHOLDER.length();
+        return new PayloadTemplate(prototype, body.substring(0, valueStart), body.substring(valueEnd), request);
+    }
+    
+    /**
+     * Build payload with the actual request id.
+     *
+     * @param requestId actual request id, should not contain characters which need to be escaped in json.
+     * @return payload
+     */
+    public Payload toPayload(String requestId) {
+        ByteString body = bodyPrefix.concat(ByteString.copyFromUtf8(null == requestId ? "" : requestId))
+                .concat(bodySuffix);
+        return prototype.toBuilder().setBody(Any.newBuilder().setValue(body)).build();
+    }
+    
+    /**
+     * Build payload with the actual request id, use binary body if enabled and the request type supports it.
+     *
+     * @param requestId     actual request id
+     * @param binaryEnabled whether the remote supports binary payload
+     * @return payload
+     */
+    public Payload toPayload(String requestId, boolean binaryEnabled) {
+        if (!binaryEnabled || null == request) {
+            return toPayload(requestId);
+        }
+        ByteString fields = binaryFields;
+        if (null == fields) {
+            fields = BinaryPayloadCodecs.encodeFields(request);
+            binaryFields = fields;
+        }
+        return prototype.toBuilder().setBody(Any.newBuilder().setTypeUrl(GrpcUtils.BINARY_BODY_TYPE_URL)
+                .setValue(BinaryPayloadCodecs.assemble(requestId, fields))).build();
+    }
+    
+    public int getBodySize() {
+        return bodyPrefix.size() + bodySuffix.size();
+    }
+    
+    private static int indexOf(ByteString source, byte[] target) {
+        int max = source.size() - target.length;
+        for (int i = 0; i <= max; i++) {
+            int j = 0;
+            while (j < target.length && source.byteAt(i + j) == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+/**
+ * Request which already has been encoded into {@link PayloadTemplate}.
+ *
+ * <p>Grpc connection will use the template to build payload instead of encoding the request again.
+ *
+ * @author Nacos
+ */
+public interface PreEncodedRequest {
+    
+    /**
+     * Get pre-encoded payload template of this request.
+     *
+     * @return payload template
+     */
+    PayloadTemplate getPayloadTemplate();
+}
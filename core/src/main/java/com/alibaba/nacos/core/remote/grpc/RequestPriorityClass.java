@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+/**
+ * Priority class of grpc request, requests are dequeued from {@link GrpcRequestScheduler} by weight of the class.
+ *
+ * @author Nacos
+ */
+public enum RequestPriorityClass {
+    
+    /**
+     * Heartbeat and health check requests, which decide whether the client treats the server as healthy.
+     */
+    HEARTBEAT(16),
+    
+    /**
+     * Acknowledgement of server push.
+     */
+    ACK(16),
+    
+    /**
+     * Requests which change data, such as register instance and publish config.
+     */
+    WRITE(8),
+    
+    /**
+     * Requests which query data, default class of requests.
+     */
+    READ(4),
+    
+    /**
+     * Expensive requests which handle lots of data, such as list services and batch listen configs.
+     */
+    BULK(1);
+    
+    private final int defaultWeight;
+    
+    RequestPriorityClass(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+    
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+}
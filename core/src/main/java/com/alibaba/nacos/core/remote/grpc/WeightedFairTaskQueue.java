@@ -0,0 +1,170 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded task queue with one sub queue for each {@link RequestPriorityClass}.
+ *
+ * <p>Tasks are dequeued by smooth weighted round-robin between the non-empty sub queues, so each class gets a share of
+ * workers in proportion to its weight, and expensive classes can't starve the cheap ones. The capacity is also split
+ * between the sub queues by weight, with at least one slot for each class, so a flood of one class can't fill the
+ * queue and reject the tasks of other classes.
+ *
+ * @param <T> type of task
+ * @author Nacos
+ */
+class WeightedFairTaskQueue<T> {
+    
+    private static final RequestPriorityClass[] CLASSES = RequestPriorityClass.values();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Deque<T>[] queues;
+    
+    private final int[] weights;
+    
+    private final int[] currentWeights;
+    
+    private final int[] capacities;
+    
+    private int size;
+    
+    @SuppressWarnings("unchecked")
+    WeightedFairTaskQueue(int capacity, Map<RequestPriorityClass, Integer> weights) {
+        this.queues = new Deque[CLASSES.length];
+        this.weights = new int[CLASSES.length];
+        this.currentWeights = new int[CLASSES.length];
+        this.capacities = new int[CLASSES.length];
+        long totalWeight = 0L;
+        for (RequestPriorityClass each : CLASSES) {
+            queues[each.ordinal()] = new ArrayDeque<>();
+            this.weights[each.ordinal()] = Math.max(1, weights.getOrDefault(each, each.getDefaultWeight()));
+            totalWeight += this.weights[each.ordinal()];
+        }
+        for (int i = 0; i < CLASSES.length; i++) {
+            capacities[i] = (int) Math.max(1L, capacity * this.weights[i] / totalWeight);
+        }
+    }
+    
+    /**
+     * Offer task into the sub queue of priority class.
+     *
+     * @param priorityClass priority class of task
+     * @param task          task
+     * @return {@code false} if the sub queue of priority class is full
+     */
+    boolean offer(RequestPriorityClass priorityClass, T task) {
+        lock.lock();
+        try {
+            Deque<T> queue = queues[priorityClass.ordinal()];
+            if (queue.size() >= capacities[priorityClass.ordinal()]) {
+                return false;
+            }
+            queue.offer(task);
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Take next task, wait if the queue is empty.
+     *
+     * @return next task
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Poll next task without waiting.
+     *
+     * @return next task, {@code null} if the queue is empty
+     */
+    T poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int size(RequestPriorityClass priorityClass) {
+        lock.lock();
+        try {
+            return queues[priorityClass.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int capacity(RequestPriorityClass priorityClass) {
+        return capacities[priorityClass.ordinal()];
+    }
+    
+    private T dequeue() {
+        int totalWeight = 0;
+        int selected = -1;
+        for (int i = 0; i < queues.length; i++) {
+            if (queues[i].isEmpty()) {
+                continue;
+            }
+            currentWeights[i] += weights[i];
+            totalWeight += weights[i];
+            if (selected < 0 || currentWeights[i] > currentWeights[selected]) {
+                selected = i;
+            }
+        }
+        currentWeights[selected] -= totalWeight;
+        size--;
+        T result = queues[selected].poll();
+        if (queues[selected].isEmpty()) {
+            // an idle class doesn't keep the credit or debt of previous rounds.
+            currentWeights[selected] = 0;
+        }
+        return result;
+    }
+}
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro;
 
 import com.alibaba.nacos.common.event.ServerConfigChangeEvent;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.task.engine.DelayTaskProcessMode;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,6 +75,20 @@ class DistroConfigTest {
         assertEquals(loadDataRetryDelayMillis, distroConfig.getLoadDataRetryDelayMillis());
     }
     
+    @Test
+    void testLoadDataPageSizeAtLeastOne() throws ReflectiveOperationException {
+        distroConfig.setLoadDataPageSize(-1);
+        assertEquals(1, distroConfig.getLoadDataPageSize());
+        distroConfig.setLoadDataPageSize(DistroConstants.DEFAULT_DATA_LOAD_PAGE_SIZE);
+        
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(DistroConstants.DATA_LOAD_PAGE_SIZE, "0");
+        EnvUtil.setEnvironment(environment);
+        Constructor<DistroConfig> declaredConstructor = DistroConfig.class.getDeclaredConstructor();
+        declaredConstructor.setAccessible(true);
+        assertEquals(1, declaredConstructor.newInstance().getLoadDataPageSize());
+    }
+    
     @Test
     void testUpgradeConfig() throws InterruptedException {
         assertEquals(DistroConstants.DEFAULT_DATA_SYNC_DELAY_MILLISECONDS, distroConfig.getSyncDelayMillis());
@@ -95,6 +110,9 @@ class DistroConfigTest {
         environment.setProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, String.valueOf(verifyIntervalMillis));
         environment.setProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, String.valueOf(verifyTimeoutMillis));
         environment.setProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, String.valueOf(loadDataRetryDelayMillis));
+        environment.setProperty(DistroConstants.DATA_LOAD_PAGE_SIZE, "500");
+        environment.setProperty(DistroConstants.DELAY_ENGINE_MODE, "due_queue");
+        environment.setProperty(DistroConstants.DELAY_ENGINE_THREADS, "2");
         
         Constructor<DistroConfig> declaredConstructor = DistroConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
@@ -106,6 +124,8 @@ class DistroConfigTest {
         assertEquals(distroConfig.getVerifyIntervalMillis(), verifyIntervalMillis);
         assertEquals(distroConfig.getVerifyTimeoutMillis(), verifyTimeoutMillis);
         assertEquals(distroConfig.getLoadDataRetryDelayMillis(), loadDataRetryDelayMillis);
-        
+        assertEquals(500, distroConfig.getLoadDataPageSize());
+        assertEquals(DelayTaskProcessMode.DUE_QUEUE, distroConfig.getDelayEngineMode());
+        assertEquals(2, distroConfig.getDelayEngineThreads());
     }
 }
@@ -44,6 +44,9 @@ class DistroComponentHolderTest {
     @Mock
     private DistroDataProcessor distroDataProcessor;
     
+    @Mock
+    private DistroDigestVerifier distroDigestVerifier;
+    
     @BeforeEach
     void setUp() {
         componentHolder = new DistroComponentHolder();
@@ -52,6 +55,7 @@ class DistroComponentHolderTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
+        componentHolder.registerDigestVerifier(type, distroDigestVerifier);
     }
     
     @Test
@@ -82,4 +86,10 @@ class DistroComponentHolderTest {
         DistroDataProcessor distroDataProcessor = componentHolder.findDataProcessor(type);
         assertEquals(this.distroDataProcessor, distroDataProcessor);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testFindDigestVerifier() {
+        DistroDigestVerifier distroDigestVerifier = componentHolder.findDigestVerifier(type);
+        assertEquals(this.distroDigestVerifier, distroDigestVerifier);
+    }
+}
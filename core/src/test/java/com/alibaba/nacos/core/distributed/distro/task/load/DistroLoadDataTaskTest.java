@@ -26,6 +26,9 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,9 +43,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,17 +102,37 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
     @Test
     void testRun() {
+        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask.run();
         Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils.getField(distroLoadDataTask, "loadCompletedMap");
         assertNotNull(loadCompletedMap);
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunWithSnapshotPage() {
+        DistroData firstPage = new DistroData(new DistroKey("cursor", type), new byte[10]);
+        DistroData lastPage = new DistroData(new DistroKey("", type), new byte[5]);
+        when(distroTransportAgent.supportSnapshotPage(any(String.class))).thenReturn(true);
+        when(distroTransportAgent.getDatumSnapshotPage(any(String.class), eq(""))).thenReturn(firstPage);
+        when(distroTransportAgent.getDatumSnapshotPage(any(String.class), eq("cursor"))).thenReturn(lastPage);
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        DistroRecord record = DistroRecordsHolder.getInstance().getRecord(type);
+        long pageCount = record.getSnapshotLoadedPageCount();
+        long bytes = record.getSnapshotLoadedBytes();
+        distroLoadDataTask.run();
+        assertEquals(pageCount + 2, record.getSnapshotLoadedPageCount());
+        assertEquals(bytes + 15, record.getSnapshotLoadedBytes());
+        verify(distroDataProcessor).processSnapshot(firstPage);
+        verify(distroDataProcessor).processSnapshot(lastPage);
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(distroDataStorage).finishInitial();
+    }
 }
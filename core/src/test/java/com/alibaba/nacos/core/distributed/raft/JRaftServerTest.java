@@ -19,6 +19,7 @@ package com.alibaba.nacos.core.distributed.raft;
 import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.model.RestResultUtils;
 import com.alibaba.nacos.consistency.RequestProcessor;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
@@ -32,11 +33,13 @@ import com.alipay.sofa.jraft.Node;
 import com.alipay.sofa.jraft.RaftGroupService;
 import com.alipay.sofa.jraft.RouteTable;
 import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
 import com.alipay.sofa.jraft.conf.Configuration;
 import com.alipay.sofa.jraft.core.NodeImpl;
 import com.alipay.sofa.jraft.core.State;
 import com.alipay.sofa.jraft.entity.PeerId;
 import com.alipay.sofa.jraft.error.RemotingException;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.CliRequests;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcClient;
@@ -71,10 +74,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -345,4 +350,50 @@ class JRaftServerTest {
         server.shutdown();
     }
     
+    @Test
+    void testGetWithBoundedStalenessRead() throws Exception {
+        mockReadIndexSuccess();
+        Response expected = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any(ReadRequest.class))).thenReturn(expected);
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos")
+                .putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, ReadConsistency.BOUNDED_STALENESS.name()).build();
+        assertEquals(expected, server.get(request).get());
+        assertEquals(expected, server.get(request).get());
+        verify(node, times(1)).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        verify(requestProcessor, times(2)).onRequest(request);
+    }
+    
+    @Test
+    void testGetWithLeaseRead() throws Exception {
+        doAnswer(invocationOnMock -> {
+            ReadIndexClosure closure = invocationOnMock.getArgument(2);
+            closure.run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(eq(ReadOnlyOption.ReadOnlyLeaseBased), any(byte[].class), any(ReadIndexClosure.class));
+        Response expected = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any(ReadRequest.class))).thenReturn(expected);
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos")
+                .putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, ReadConsistency.LEASE.name()).build();
+        assertEquals(expected, server.get(request).get());
+        verify(node, never()).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+    }
+    
+    @Test
+    void testGetWithLinearizableRead() throws Exception {
+        mockReadIndexSuccess();
+        Response expected = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any(ReadRequest.class))).thenReturn(expected);
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos").build();
+        assertEquals(expected, server.get(request).get());
+        assertEquals(expected, server.get(request).get());
+        verify(node, times(2)).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+    }
+    
+    private void mockReadIndexSuccess() {
+        doAnswer(invocationOnMock -> {
+            ReadIndexClosure closure = invocationOnMock.getArgument(1);
+            closure.run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.ProtoMessageUtil;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.entity.Task;
+import com.alipay.sofa.jraft.error.RaftError;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JRaftWriteBatcherTest {
+    
+    private static final String GROUP = "test_group";
+    
+    @Mock
+    private Node node;
+    
+    @BeforeAll
+    static void beforeClass() {
+        RaftExecutor.init(new RaftConfig());
+    }
+    
+    @Test
+    void testIsEnabled() {
+        assertFalse(new JRaftWriteBatcher(1, 2L).isEnabled());
+        assertTrue(new JRaftWriteBatcher(2, 2L).isEnabled());
+    }
+    
+    @Test
+    void testSubmitUntilBatchFull() {
+        JRaftWriteBatcher batcher = new JRaftWriteBatcher(2, 60000L);
+        batcher.submit(node, buildRequest("first"), buildClosure(new AtomicInteger()));
+        verify(node, never()).apply(any(Task.class));
+        batcher.submit(node, buildRequest("second"), buildClosure(new AtomicInteger()));
+        ArgumentCaptor<Task> captor = ArgumentCaptor.forClass(Task.class);
+        verify(node).apply(captor.capture());
+        Task task = captor.getValue();
+        assertInstanceOf(NacosBatchClosure.class, task.getDone());
+        assertTrue(ProtoMessageUtil.isBatchWrite(task.getData().array()));
+        List<WriteRequest> requests = ProtoMessageUtil.parseBatchWrite(task.getData().array());
+        assertEquals(2, requests.size());
+        assertEquals("first", requests.get(0).getKey());
+        assertEquals("second", requests.get(1).getKey());
+    }
+    
+    @Test
+    void testSubmitFlushAfterLinger() {
+        JRaftWriteBatcher batcher = new JRaftWriteBatcher(16, 10L);
+        batcher.submit(node, buildRequest("single"), buildClosure(new AtomicInteger()));
+        ArgumentCaptor<Task> captor = ArgumentCaptor.forClass(Task.class);
+        verify(node, timeout(3000L)).apply(captor.capture());
+        Task task = captor.getValue();
+        assertInstanceOf(NacosClosure.class, task.getDone());
+        assertFalse(ProtoMessageUtil.isBatchWrite(task.getData().array()));
+        assertEquals("single", ((WriteRequest) ProtoMessageUtil.parse(task.getData().array())).getKey());
+    }
+    
+    @Test
+    void testShutdownFlushPendingAndRejectNew() {
+        JRaftWriteBatcher batcher = new JRaftWriteBatcher(16, 60000L);
+        batcher.submit(node, buildRequest("pending"), buildClosure(new AtomicInteger()));
+        verify(node, never()).apply(any(Task.class));
+        batcher.shutdown();
+        ArgumentCaptor<Task> captor = ArgumentCaptor.forClass(Task.class);
+        verify(node).apply(captor.capture());
+        assertEquals("pending", ((WriteRequest) ProtoMessageUtil.parse(captor.getValue().getData().array())).getKey());
+        
+        AtomicReference<Status> rejectedStatus = new AtomicReference<>();
+        batcher.submit(node, buildRequest("rejected"), new NacosClosure(null, rejectedStatus::set));
+        assertEquals(RaftError.ENODESHUTDOWN, rejectedStatus.get().getRaftError());
+        verify(node).apply(any(Task.class));
+    }
+    
+    @Test
+    void testBatchClosureRunRestWithError() {
+        AtomicInteger firstCount = new AtomicInteger();
+        AtomicInteger secondCount = new AtomicInteger();
+        NacosBatchClosure batchClosure = new NacosBatchClosure(
+                List.of(buildRequest("first"), buildRequest("second")),
+                List.of(buildClosure(firstCount), buildClosure(secondCount)));
+        batchClosure.getClosure(0).run(Status.OK());
+        batchClosure.markCompleted(0);
+        batchClosure.run(new Status(RaftError.EPERM, "not leader"));
+        assertEquals(1, firstCount.get());
+        assertEquals(1, secondCount.get());
+    }
+    
+    private WriteRequest buildRequest(String key) {
+        return WriteRequest.newBuilder().setGroup(GROUP).setKey(key).build();
+    }
+    
+    private NacosClosure buildClosure(AtomicInteger runCount) {
+        return new NacosClosure(null, status -> runCount.incrementAndGet());
+    }
+}
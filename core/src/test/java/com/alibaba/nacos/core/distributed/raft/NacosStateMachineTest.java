@@ -0,0 +1,186 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.ProtoMessageUtil;
+import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alipay.sofa.jraft.Iterator;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.error.RaftError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NacosStateMachineTest {
+    
+    private static final String GROUP = "test_group";
+    
+    @Mock
+    private JRaftServer server;
+    
+    @Mock
+    private RequestProcessor4CP processor;
+    
+    @Mock
+    private Iterator iter;
+    
+    private NacosStateMachine stateMachine;
+    
+    @BeforeEach
+    void setUp() {
+        when(processor.group()).thenReturn(GROUP);
+        when(processor.loadSnapshotOperate()).thenReturn(Collections.emptyList());
+        stateMachine = new NacosStateMachine(server, processor);
+        when(iter.hasNext()).thenReturn(true, false);
+    }
+    
+    @Test
+    void testApplyBatchWriteOnLeader() {
+        List<WriteRequest> requests = buildRequests("first", "second");
+        List<Status> statuses = new ArrayList<>();
+        NacosBatchClosure batchClosure = new NacosBatchClosure(requests, buildClosures(statuses, 2));
+        when(iter.done()).thenReturn(batchClosure);
+        when(processor.onApply(any(WriteRequest.class))).thenAnswer(
+                invocation -> buildResponse(((WriteRequest) invocation.getArgument(0)).getKey()));
+        
+        stateMachine.onApply(iter);
+        
+        assertEquals(2, statuses.size());
+        for (int i = 0; i < requests.size(); i++) {
+            NacosClosure.NacosStatus status = (NacosClosure.NacosStatus) statuses.get(i);
+            assertTrue(status.isOk());
+            assertEquals(requests.get(i).getKey(), status.getResponse().getErrMsg());
+        }
+        verify(iter).next();
+        verify(iter, never()).setErrorAndRollback(anyLong(), any(Status.class));
+        // all closures are completed, nothing left to run by the failure of log entry.
+        batchClosure.run(new Status(RaftError.EPERM, "not leader"));
+        assertEquals(2, statuses.size());
+    }
+    
+    @Test
+    void testApplyBatchWriteFailurePartway() {
+        List<WriteRequest> requests = buildRequests("first", "second", "third");
+        List<Status> statuses = new ArrayList<>();
+        NacosBatchClosure batchClosure = new NacosBatchClosure(requests, buildClosures(statuses, 3));
+        when(iter.done()).thenReturn(batchClosure);
+        RuntimeException exception = new RuntimeException("apply failed");
+        when(processor.onApply(any(WriteRequest.class))).thenReturn(buildResponse("first")).thenThrow(exception)
+                .thenReturn(buildResponse("third"));
+        
+        stateMachine.onApply(iter);
+        
+        // only the failed request fails, the entry is not rolled back and no request is applied twice.
+        assertEquals(3, statuses.size());
+        NacosClosure.NacosStatus first = (NacosClosure.NacosStatus) statuses.get(0);
+        assertTrue(first.isOk());
+        assertEquals("first", first.getResponse().getErrMsg());
+        NacosClosure.NacosStatus second = (NacosClosure.NacosStatus) statuses.get(1);
+        assertFalse(second.isOk());
+        assertSame(exception, second.getThrowable());
+        NacosClosure.NacosStatus third = (NacosClosure.NacosStatus) statuses.get(2);
+        assertTrue(third.isOk());
+        assertEquals("third", third.getResponse().getErrMsg());
+        verify(processor, Mockito.times(3)).onApply(any(WriteRequest.class));
+        verify(iter).next();
+        verify(iter, never()).setErrorAndRollback(anyLong(), any(Status.class));
+        
+        // all closures are completed, nothing left to run by the failure of log entry.
+        batchClosure.run(new Status(RaftError.ESTATEMACHINE, "rollback"));
+        assertEquals(3, statuses.size());
+    }
+    
+    @Test
+    void testApplyBatchWriteOnFollower() {
+        List<WriteRequest> requests = buildRequests("first", "second");
+        when(iter.done()).thenReturn(null);
+        when(iter.getData()).thenReturn(ByteBuffer.wrap(ProtoMessageUtil.toBatchWriteBytes(requests)));
+        when(processor.onApply(any(WriteRequest.class))).thenReturn(buildResponse(""));
+        
+        stateMachine.onApply(iter);
+        
+        InOrder inOrder = Mockito.inOrder(processor);
+        inOrder.verify(processor).onApply(requests.get(0));
+        inOrder.verify(processor).onApply(requests.get(1));
+        verify(iter).next();
+        verify(iter, never()).setErrorAndRollback(anyLong(), any(Status.class));
+    }
+    
+    @Test
+    void testBatchClosureMarkCompleted() {
+        List<Status> statuses = new ArrayList<>();
+        NacosBatchClosure batchClosure = new NacosBatchClosure(buildRequests("first", "second", "third"),
+                buildClosures(statuses, 3));
+        batchClosure.getClosure(0).run(Status.OK());
+        batchClosure.markCompleted(0);
+        batchClosure.getClosure(1).run(Status.OK());
+        batchClosure.markCompleted(1);
+        batchClosure.run(new Status(RaftError.EPERM, "not leader"));
+        assertEquals(3, statuses.size());
+        assertTrue(statuses.get(0).isOk());
+        assertTrue(statuses.get(1).isOk());
+        assertEquals(RaftError.EPERM, statuses.get(2).getRaftError());
+        // run again does nothing since all closures are completed.
+        batchClosure.run(new Status(RaftError.EPERM, "not leader"));
+        assertEquals(3, statuses.size());
+    }
+    
+    private List<WriteRequest> buildRequests(String... keys) {
+        List<WriteRequest> requests = new ArrayList<>();
+        for (String key : keys) {
+            requests.add(WriteRequest.newBuilder().setGroup(GROUP).setKey(key).build());
+        }
+        return requests;
+    }
+    
+    private List<NacosClosure> buildClosures(List<Status> statuses, int size) {
+        List<NacosClosure> closures = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            closures.add(new NacosClosure(null, status -> statuses.add(status.copy())));
+        }
+        return closures;
+    }
+    
+    private Response buildResponse(String errMsg) {
+        return Response.newBuilder().setSuccess(true).setErrMsg(errMsg).build();
+    }
+}
@@ -115,6 +115,20 @@ class MetricsMonitorTest {
         assertEquals(1D, MetricsMonitor.getRaftFromLeader().totalAmount(), 0.01);
     }
     
+    @Test
+    void testRaftReadServedPath() {
+        double readIndex = MetricsMonitor.getRaftReadIndex().totalAmount();
+        MetricsMonitor.raftReadIndex();
+        assertEquals(readIndex + 1D, MetricsMonitor.getRaftReadIndex().totalAmount(), 0.01);
+        double readLease = MetricsMonitor.getRaftReadLease().totalAmount();
+        MetricsMonitor.raftReadLease();
+        assertEquals(readLease + 1D, MetricsMonitor.getRaftReadLease().totalAmount(), 0.01);
+        double readLocal = MetricsMonitor.getRaftReadLocal().totalAmount();
+        MetricsMonitor.raftReadLocal();
+        MetricsMonitor.raftReadLocal();
+        assertEquals(readLocal + 2D, MetricsMonitor.getRaftReadLocal().totalAmount(), 0.01);
+    }
+    
     @Test
     void testRaftApplyLogTimer() {
         Timer raftApplyTimerLog = MetricsMonitor.getRaftApplyLogTimer();
@@ -19,6 +19,7 @@ package com.alibaba.nacos.core.remote;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -172,5 +173,15 @@ class ConnectionManagerTest {
         assertEquals(1, connectionManager.currentSdkClientCount());
     }
     
+    @Test
+    void testRefreshPushQueueMetrics() {
+        MetricsMonitor.getPushQueueDepthMonitor().set(-1L);
+        MetricsMonitor.getPushQueueDropCountMonitor().set(-1L);
+        MetricsMonitor.getPushQueueCoalescedCountMonitor().set(-1L);
+        connectionManager.refreshPushQueueMetrics();
+        assertEquals(connection.getPushQueueDepth(), MetricsMonitor.getPushQueueDepthMonitor().get());
+        assertEquals(connection.getPushQueueDropCount(), MetricsMonitor.getPushQueueDropCountMonitor().get());
+        assertEquals(connection.getPushQueueCoalescedCount(), MetricsMonitor.getPushQueueCoalescedCountMonitor().get());
+    }
+    
 }
-
@@ -16,10 +16,15 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.RequestFuture;
+import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -31,6 +36,7 @@ import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.netty.shaded.io.netty.channel.DefaultEventLoop;
+import io.grpc.netty.shaded.io.netty.channel.EventLoop;
 import io.grpc.stub.ServerCallStreamObserver;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,7 +53,9 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -136,6 +144,21 @@ class GrpcConnectionTest {
         }
     }
     
+    @Test
+    void testWriteTimeout() {
+        // the event loop never runs the writer, so the synchronous request can't be written.
+        Mockito.doReturn(Mockito.mock(EventLoop.class)).when(channel).eventLoop();
+        Mockito.doReturn(true).when(streamObserver).isReady();
+        
+        long start = System.currentTimeMillis();
+        NotifySubscriberRequest request = new NotifySubscriberRequest();
+        assertThrows(NacosException.class, () -> connection.request(request, 100L));
+        assertTrue(System.currentTimeMillis() - start < 3000L);
+        assertFalse(RpcAckCallbackSynchronizer.initContextIfNecessary(connection.getMetaInfo().getConnectionId())
+                .containsKey(request.getRequestId()));
+        Mockito.verify(streamObserver, Mockito.never()).onNext(Mockito.any());
+    }
+    
     @Test
     void testNormal() {
         Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
@@ -207,6 +230,54 @@ class GrpcConnectionTest {
         
     }
     
+    @Test
+    void testAsyncRequestSuperseded() throws Exception {
+        controlManagerCenterMockedStatic = Mockito.mockStatic(ControlManagerCenter.class);
+        Mockito.when(ControlManagerCenter.getInstance()).thenReturn(controlManagerCenter);
+        Mockito.when(ControlManagerCenter.getInstance().getTpsControlManager()).thenReturn(tpsControlManager);
+        Mockito.when(tpsControlManager.check(Mockito.any())).thenReturn(new TpsCheckResponse(true, 200, ""));
+        Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
+        Mockito.doReturn(false).when(streamObserver).isReady();
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName("service");
+        serviceInfo.setGroupName("group");
+        
+        RequestFuture first = connection.requestFuture(
+                NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        RequestFuture second = connection.requestFuture(
+                NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        
+        assertTrue(first.isDone());
+        assertTrue(first.get(100L).isSuccess());
+        assertFalse(second.isDone());
+        assertEquals(1, connection.getPushQueueDepth());
+        assertEquals(1, connection.getPushQueueCoalescedCount());
+        Mockito.verify(streamObserver, Mockito.never()).onNext(Mockito.any());
+    }
+    
+    @Test
+    void testAsyncRequestSupersededNotNotifyCallback() throws Exception {
+        controlManagerCenterMockedStatic = Mockito.mockStatic(ControlManagerCenter.class);
+        Mockito.when(ControlManagerCenter.getInstance()).thenReturn(controlManagerCenter);
+        Mockito.when(ControlManagerCenter.getInstance().getTpsControlManager()).thenReturn(tpsControlManager);
+        Mockito.when(tpsControlManager.check(Mockito.any())).thenReturn(new TpsCheckResponse(true, 200, ""));
+        Mockito.doReturn(new DefaultEventLoop()).when(channel).eventLoop();
+        Mockito.doReturn(false).when(streamObserver).isReady();
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName("service");
+        serviceInfo.setGroupName("group");
+        RequestCallBack<Response> callBack = Mockito.mock(RequestCallBack.class);
+        Mockito.when(callBack.getTimeout()).thenReturn(3000L);
+        
+        connection.asyncRequest(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo), callBack);
+        connection.asyncRequest(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo), callBack);
+        
+        assertEquals(1, connection.getPushQueueCoalescedCount());
+        // the superseded request is neither reported as success nor as failure.
+        Mockito.verify(callBack, Mockito.never()).onResponse(Mockito.any());
+        Mockito.verify(callBack, Mockito.never()).onException(Mockito.any());
+    }
+    
     @Test
     void testClose() {
         
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GrpcRequestSchedulerTest {
+    
+    private GrpcRequestScheduler scheduler;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != scheduler) {
+            scheduler.shutdown();
+        }
+    }
+    
+    @Test
+    void testSubmit() throws InterruptedException {
+        scheduler = new GrpcRequestScheduler(true, 2, 16, Collections.emptyMap());
+        CountDownLatch latch = new CountDownLatch(3);
+        for (RequestPriorityClass each : new RequestPriorityClass[] {RequestPriorityClass.HEARTBEAT,
+                RequestPriorityClass.READ, RequestPriorityClass.BULK}) {
+            assertTrue(scheduler.submit(each, latch::countDown));
+        }
+        assertTrue(latch.await(3L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testRejectWhenFull() throws InterruptedException {
+        scheduler = new GrpcRequestScheduler(true, 1, 1, Collections.emptyMap());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch block = new CountDownLatch(1);
+        assertTrue(scheduler.submit(RequestPriorityClass.BULK, () -> {
+            running.countDown();
+            try {
+                block.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(running.await(3L, TimeUnit.SECONDS));
+        assertTrue(scheduler.submit(RequestPriorityClass.READ, () -> { }));
+        assertFalse(scheduler.submit(RequestPriorityClass.READ, () -> { }));
+        assertTrue(scheduler.submit(RequestPriorityClass.HEARTBEAT, () -> { }));
+        assertEquals(1, scheduler.getQueueSize(RequestPriorityClass.READ));
+        assertEquals(1, scheduler.getQueueSize(RequestPriorityClass.HEARTBEAT));
+        block.countDown();
+    }
+    
+    @Test
+    void testResolvePriorityClass() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(GrpcRequestScheduler.CLASS_PROPERTY_PREFIX + "ServiceQueryRequest", "bulk");
+        environment.setProperty(GrpcRequestScheduler.CLASS_PROPERTY_PREFIX + "ConfigQueryRequest", "unknown");
+        EnvUtil.setEnvironment(environment);
+        scheduler = new GrpcRequestScheduler(false, 1, 1, Collections.emptyMap());
+        assertFalse(scheduler.isEnabled());
+        assertEquals(RequestPriorityClass.BULK,
+                scheduler.resolvePriorityClass("ServiceQueryRequest", RequestPriorityClass.READ));
+        assertEquals(RequestPriorityClass.READ,
+                scheduler.resolvePriorityClass("ConfigQueryRequest", RequestPriorityClass.READ));
+        assertEquals(RequestPriorityClass.HEARTBEAT,
+                scheduler.resolvePriorityClass("HealthCheckRequest", RequestPriorityClass.HEARTBEAT));
+        // resolved once for each request type.
+        environment.setProperty(GrpcRequestScheduler.CLASS_PROPERTY_PREFIX + "HealthCheckRequest", "bulk");
+        assertEquals(RequestPriorityClass.HEARTBEAT,
+                scheduler.resolvePriorityClass("HealthCheckRequest", RequestPriorityClass.HEARTBEAT));
+    }
+}
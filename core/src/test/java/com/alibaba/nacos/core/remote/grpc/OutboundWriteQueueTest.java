@@ -0,0 +1,172 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
+import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutboundWriteQueueTest {
+    
+    private final List<Request> written = new ArrayList<>();
+    
+    private boolean ready;
+    
+    private OutboundWriteQueue queue;
+    
+    @BeforeEach
+    void setUp() {
+        ready = true;
+        written.clear();
+        queue = new OutboundWriteQueue(2, () -> Runnable::run, () -> ready, written::add);
+    }
+    
+    @Test
+    void testWriteInOrder() throws Exception {
+        Request first = buildNotifyRequest("a");
+        Request second = buildNotifyRequest("b");
+        CompletableFuture<Boolean> firstFuture = queue.offer(first, true);
+        CompletableFuture<Boolean> secondFuture = queue.offer(second, true);
+        assertTrue(firstFuture.get());
+        assertTrue(secondFuture.get());
+        assertEquals(2, written.size());
+        assertSame(first, written.get(0));
+        assertSame(second, written.get(1));
+        assertEquals(0, queue.getDepth());
+    }
+    
+    @Test
+    void testWaitForReady() throws Exception {
+        ready = false;
+        CompletableFuture<Boolean> future = queue.offer(buildNotifyRequest("a"), true);
+        assertFalse(future.isDone());
+        assertEquals(1, queue.getDepth());
+        ready = true;
+        queue.onReady();
+        assertTrue(future.get());
+        assertEquals(1, written.size());
+        assertEquals(0, queue.getDepth());
+    }
+    
+    @Test
+    void testCoalescePendingRequest() throws Exception {
+        ready = false;
+        CompletableFuture<Boolean> oldFuture = queue.offer(buildNotifyRequest("a"), true);
+        Request newer = buildNotifyRequest("a");
+        CompletableFuture<Boolean> newFuture = queue.offer(newer, true);
+        assertFalse(newFuture.isDone());
+        assertFalse(oldFuture.get());
+        assertEquals(1, queue.getDepth());
+        assertEquals(1, queue.getCoalescedCount());
+        ready = true;
+        queue.onReady();
+        assertTrue(newFuture.get());
+        assertEquals(Collections.singletonList(newer), written);
+    }
+    
+    @Test
+    void testNotCoalesceIncrementalOrSyncRequest() {
+        ready = false;
+        NotifySubscriberRequest incremental = buildNotifyRequest("a");
+        incremental.setIncremental(true);
+        queue.offer(incremental, true);
+        queue.offer(buildNotifyRequest("a"), false);
+        assertEquals(2, queue.getDepth());
+        assertEquals(0, queue.getCoalescedCount());
+    }
+    
+    @Test
+    void testDropWhenFull() {
+        ready = false;
+        queue.offer(buildNotifyRequest("a"), true);
+        queue.offer(buildNotifyRequest("b"), true);
+        assertThrows(ConnectionBusyException.class, () -> queue.offer(buildNotifyRequest("c"), true));
+        assertEquals(2, queue.getDepth());
+        assertEquals(1, queue.getDropCount());
+    }
+    
+    @Test
+    void testWriteFailure() {
+        queue = new OutboundWriteQueue(2, () -> Runnable::run, () -> true, request -> {
+            throw new ConnectionAlreadyClosedException();
+        });
+        CompletableFuture<Boolean> future = queue.offer(buildNotifyRequest("a"), true);
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertTrue(exception.getCause() instanceof ConnectionAlreadyClosedException);
+        assertEquals(0, queue.getDepth());
+    }
+    
+    @Test
+    void testSkipCancelledRequest() throws Exception {
+        ready = false;
+        CompletableFuture<Boolean> cancelled = queue.offer(buildNotifyRequest("a"), false);
+        Request next = buildNotifyRequest("b");
+        cancelled.cancel(false);
+        CompletableFuture<Boolean> nextFuture = queue.offer(next, false);
+        ready = true;
+        queue.onReady();
+        assertTrue(nextFuture.get());
+        assertEquals(Collections.singletonList(next), written);
+        assertEquals(0, queue.getDepth());
+    }
+    
+    @Test
+    void testClose() {
+        ready = false;
+        CompletableFuture<Boolean> future = queue.offer(buildNotifyRequest("a"), true);
+        queue.close();
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertTrue(exception.getCause() instanceof ConnectionAlreadyClosedException);
+        assertEquals(0, queue.getDepth());
+        assertThrows(ConnectionAlreadyClosedException.class, () -> queue.offer(buildNotifyRequest("b"), true));
+    }
+    
+    @Test
+    void testGetCoalesceKey() {
+        assertNotNull(OutboundWriteQueue.getCoalesceKey(buildNotifyRequest("a")));
+        assertNotNull(OutboundWriteQueue.getCoalesceKey(ConfigChangeNotifyRequest.build("d", "g", "t")));
+        assertNull(OutboundWriteQueue.getCoalesceKey(new NotifySubscriberRequest()));
+        assertFalse(OutboundWriteQueue.getCoalesceKey(ConfigChangeNotifyRequest.build("d", "g", "t"))
+                .equals(OutboundWriteQueue.getCoalesceKey(ConfigChangeNotifyRequest.build("d", "g", "t1"))));
+    }
+    
+    private NotifySubscriberRequest buildNotifyRequest(String serviceName) {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName(serviceName);
+        serviceInfo.setGroupName("group");
+        return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+    }
+}
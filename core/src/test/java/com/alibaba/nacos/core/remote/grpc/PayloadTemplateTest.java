@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PayloadTemplateTest {
+    
+    private NotifySubscriberRequest request;
+    
+    @BeforeEach
+    void setUp() {
+        PayloadRegistry.init();
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+    }
+    
+    @Test
+    void testToPayload() {
+        PayloadTemplate template = PayloadTemplate.of(request);
+        assertNotNull(template);
+        assertNull(request.getRequestId());
+        Payload payload = template.toPayload("12345");
+        assertEquals(NotifySubscriberRequest.class.getSimpleName(), payload.getMetadata().getType());
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(payload);
+        assertEquals("12345", actual.getRequestId());
+        assertEquals("G", actual.getServiceInfo().getGroupName());
+        assertEquals("S", actual.getServiceInfo().getName());
+        assertEquals(1, actual.getServiceInfo().getHosts().size());
+        assertEquals("1.1.1.1", actual.getServiceInfo().getHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testToPayloadSameAsConvert() {
+        PayloadTemplate template = PayloadTemplate.of(request);
+        request.setRequestId("67890");
+        Payload expected = GrpcUtils.convert(request);
+        Payload actual = template.toPayload("67890");
+        assertEquals(expected.getBody().getValue().toStringUtf8(), actual.getBody().getValue().toStringUtf8());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+    }
+    
+    @Test
+    void testToBinaryPayload() {
+        PayloadTemplate template = PayloadTemplate.of(request);
+        Payload payload = template.toPayload("12345", true);
+        assertEquals(GrpcUtils.BINARY_BODY_TYPE_URL, payload.getBody().getTypeUrl());
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(payload);
+        assertEquals("12345", actual.getRequestId());
+        assertEquals("G", actual.getServiceInfo().getGroupName());
+        assertEquals("1.1.1.1", actual.getServiceInfo().getHosts().get(0).getIp());
+        request.setRequestId("12345");
+        assertEquals(GrpcUtils.convert(request, true).getBody(), payload.getBody());
+        assertEquals("", template.toPayload("12345", false).getBody().getTypeUrl());
+    }
+}
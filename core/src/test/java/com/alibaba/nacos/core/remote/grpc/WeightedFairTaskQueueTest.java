@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedFairTaskQueueTest {
+    
+    @Test
+    void testDequeueByWeight() {
+        Map<RequestPriorityClass, Integer> weights = new EnumMap<>(RequestPriorityClass.class);
+        weights.put(RequestPriorityClass.HEARTBEAT, 3);
+        weights.put(RequestPriorityClass.BULK, 1);
+        WeightedFairTaskQueue<String> queue = new WeightedFairTaskQueue<>(1000, weights);
+        for (int i = 0; i < 8; i++) {
+            queue.offer(RequestPriorityClass.BULK, "bulk");
+            queue.offer(RequestPriorityClass.HEARTBEAT, "heartbeat");
+        }
+        int heartbeat = 0;
+        for (int i = 0; i < 8; i++) {
+            if ("heartbeat".equals(queue.poll())) {
+                heartbeat++;
+            }
+        }
+        assertEquals(6, heartbeat);
+        assertEquals(8, queue.size());
+    }
+    
+    @Test
+    void testFifoInSameClass() {
+        WeightedFairTaskQueue<String> queue = new WeightedFairTaskQueue<>(100, Collections.emptyMap());
+        queue.offer(RequestPriorityClass.READ, "a");
+        queue.offer(RequestPriorityClass.READ, "b");
+        assertEquals("a", queue.poll());
+        assertEquals("b", queue.poll());
+        assertNull(queue.poll());
+    }
+    
+    @Test
+    void testNotStarveLowWeightClass() {
+        WeightedFairTaskQueue<String> queue = new WeightedFairTaskQueue<>(100, Collections.emptyMap());
+        queue.offer(RequestPriorityClass.BULK, "bulk");
+        for (int i = 0; i < 50; i++) {
+            queue.offer(RequestPriorityClass.HEARTBEAT, "heartbeat");
+        }
+        boolean bulkDequeued = false;
+        int totalWeight = RequestPriorityClass.HEARTBEAT.getDefaultWeight()
+                + RequestPriorityClass.BULK.getDefaultWeight();
+        for (int i = 0; i < totalWeight; i++) {
+            bulkDequeued |= "bulk".equals(queue.poll());
+        }
+        assertTrue(bulkDequeued);
+    }
+    
+    @Test
+    void testOfferWhenFull() {
+        WeightedFairTaskQueue<String> queue = new WeightedFairTaskQueue<>(1, Collections.emptyMap());
+        assertTrue(queue.offer(RequestPriorityClass.READ, "a"));
+        assertFalse(queue.offer(RequestPriorityClass.READ, "b"));
+        assertTrue(queue.offer(RequestPriorityClass.HEARTBEAT, "c"));
+        assertEquals(1, queue.size(RequestPriorityClass.READ));
+        assertEquals(1, queue.size(RequestPriorityClass.HEARTBEAT));
+    }
+    
+    @Test
+    void testCapacityByWeight() {
+        Map<RequestPriorityClass, Integer> weights = new EnumMap<>(RequestPriorityClass.class);
+        weights.put(RequestPriorityClass.HEARTBEAT, 6);
+        weights.put(RequestPriorityClass.ACK, 1);
+        weights.put(RequestPriorityClass.WRITE, 1);
+        weights.put(RequestPriorityClass.READ, 1);
+        weights.put(RequestPriorityClass.BULK, 1);
+        WeightedFairTaskQueue<String> queue = new WeightedFairTaskQueue<>(20, weights);
+        assertEquals(12, queue.capacity(RequestPriorityClass.HEARTBEAT));
+        assertEquals(2, queue.capacity(RequestPriorityClass.BULK));
+        
+        // bulk flood never takes the slots of heartbeat.
+        int acceptedBulk = 0;
+        for (int i = 0; i < 20; i++) {
+            if (queue.offer(RequestPriorityClass.BULK, "bulk")) {
+                acceptedBulk++;
+            }
+        }
+        assertEquals(2, acceptedBulk);
+        for (int i = 0; i < 12; i++) {
+            assertTrue(queue.offer(RequestPriorityClass.HEARTBEAT, "heartbeat"));
+        }
+        assertFalse(queue.offer(RequestPriorityClass.HEARTBEAT, "heartbeat"));
+    }
+    
+    @Test
+    void testTake() throws InterruptedException {
+        WeightedFairTaskQueue<String> queue = new WeightedFairTaskQueue<>(1, Collections.emptyMap());
+        new Thread(() -> queue.offer(RequestPriorityClass.WRITE, "a")).start();
+        assertEquals("a", queue.take());
+    }
+}
@@ -31,6 +31,7 @@ import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,6 +42,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.alibaba.nacos.istio.util.IstioExecutor.cycleDebounce;
 import static com.alibaba.nacos.istio.util.IstioExecutor.debouncePushChange;
@@ -53,6 +55,13 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
 
     private final Map<String, IstioService> serviceInfoMap = new ConcurrentHashMap<>(16);
     
+    /**
+     * Increased after {@link #serviceInfoMap} modified, used to decide whether the cached snapshot is stale.
+     */
+    private final AtomicLong modifiedVersion = new AtomicLong();
+    
+    private volatile VersionedSnapshot cachedSnapshot = new VersionedSnapshot(-1L, Collections.emptyMap());
+    
     private final Queue<PushRequest> pushRequestQueue = new ConcurrentLinkedQueue<>();
     
     private boolean isInitial = true;
@@ -70,8 +79,20 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
+    /**
+     * Get snapshot of istio services, the snapshot is immutable and only copied again after services modified.
+     *
+     * @return snapshot of istio services
+     */
     public Map<String, IstioService> snapshot() {
-        return new HashMap<>(serviceInfoMap);
+        VersionedSnapshot snapshot = cachedSnapshot;
+        long currentVersion = modifiedVersion.get();
+        if (snapshot.version == currentVersion) {
+            return snapshot.services;
+        }
+        snapshot = new VersionedSnapshot(currentVersion, Collections.unmodifiableMap(new HashMap<>(serviceInfoMap)));
+        cachedSnapshot = snapshot;
+        return snapshot.services;
     }
     
     @Override
@@ -118,6 +139,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
             if (serviceStorage.getPushData(service).ipCount() <= 0) {
                 pushRequest = new PushRequest(serviceName, true);
                 serviceInfoMap.remove(serviceName);
+                modifiedVersion.incrementAndGet();
             } else {
                 pushRequest = new PushRequest(serviceName, full);
             }
@@ -157,6 +179,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
                     continue;
                 }
                 serviceInfoMap.put(serviceName, new IstioService(service, serviceInfo));
+                modifiedVersion.incrementAndGet();
                 pushRequestQueue.add(new PushRequest(serviceName, true));
             }
         }
@@ -166,6 +189,7 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
         ServiceInfo serviceInfo = serviceStorage.getPushData(service);
         if (!serviceInfo.isValid()) {
             serviceInfoMap.remove(serviceName);
+            modifiedVersion.incrementAndGet();
             return true;
         }
         
@@ -175,9 +199,22 @@ public class NacosServiceInfoResourceWatcher extends SmartSubscriber {
         } else {
             serviceInfoMap.put(serviceName, new IstioService(service, serviceInfo));
         }
+        modifiedVersion.incrementAndGet();
         return false;
     }
     
+    private static class VersionedSnapshot {
+        
+        private final long version;
+        
+        private final Map<String, IstioService> services;
+        
+        private VersionedSnapshot(long version, Map<String, IstioService> services) {
+            this.version = version;
+            this.services = services;
+        }
+    }
+    
     private class ToNotify implements Runnable {
         @Override
         public void run() {
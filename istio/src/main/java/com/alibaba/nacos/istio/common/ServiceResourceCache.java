@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.common;
+
+import com.alibaba.nacos.istio.model.IstioService;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of resources generated from istio services, shared by all connections.
+ *
+ * <p>{@link IstioService} is immutable and replaced by a new one when the service changed, so a generated resource is
+ * reused as long as the service it was generated from is still the current one.
+ *
+ * @param <T> type of generated resource
+ * @author Nacos
+ */
+public class ServiceResourceCache<T> {
+    
+    private final Map<String, CachedResource<T>> cache = new ConcurrentHashMap<>(16);
+    
+    /**
+     * Get generated resource of the service, generate it when absent or the service changed.
+     *
+     * @param resourceName resource name
+     * @param service      current istio service
+     * @param generator    generator of resource, may generate {@code null}
+     * @return generated resource
+     */
+    public T get(String resourceName, IstioService service, Function<IstioService, T> generator) {
+        CachedResource<T> cached = cache.get(resourceName);
+        if (null != cached && cached.service == service) {
+            return cached.resource;
+        }
+        T resource = generator.apply(service);
+        cache.put(resourceName, new CachedResource<>(service, resource));
+        return resource;
+    }
+    
+    /**
+     * Remove resources whose name not in the existing names.
+     *
+     * @param resourceNames existing resource names
+     */
+    public void retain(Set<String> resourceNames) {
+        cache.keySet().retainAll(resourceNames);
+    }
+    
+    public int size() {
+        return cache.size();
+    }
+    
+    private static class CachedResource<T> {
+        
+        private final IstioService service;
+        
+        private final T resource;
+        
+        private CachedResource(IstioService service, T resource) {
+            this.service = service;
+            this.resource = resource;
+        }
+    }
+}
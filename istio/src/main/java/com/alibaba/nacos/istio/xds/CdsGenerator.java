@@ -18,6 +18,7 @@
 package com.alibaba.nacos.istio.xds;
 
 import com.alibaba.nacos.istio.api.ApiGenerator;
+import com.alibaba.nacos.istio.common.ServiceResourceCache;
 import com.alibaba.nacos.istio.misc.IstioConfig;
 import com.alibaba.nacos.istio.misc.Loggers;
 import com.alibaba.nacos.istio.model.IstioService;
@@ -32,8 +33,10 @@ import io.envoyproxy.envoy.config.core.v3.TrafficDirection;
 import io.envoyproxy.envoy.service.discovery.v3.Resource;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.alibaba.nacos.istio.api.ApiConstants.CLUSTER_TYPE;
 import static com.alibaba.nacos.istio.util.IstioCrdUtil.buildClusterName;
@@ -47,6 +50,8 @@ public final class CdsGenerator implements ApiGenerator<Any> {
     
     private static volatile CdsGenerator singleton = null;
     
+    private final ServiceResourceCache<Any> clusterCache = new ServiceResourceCache<>();
+    
     public static CdsGenerator getInstance() {
         if (singleton == null) {
             synchronized (CdsGenerator.class) {
@@ -66,26 +71,31 @@ public final class CdsGenerator implements ApiGenerator<Any> {
         List<Any> result = new ArrayList<>();
         IstioConfig istioConfig = pushRequest.getResourceSnapshot().getIstioConfig();
         Map<String, IstioService> istioServiceMap = pushRequest.getResourceSnapshot().getIstioResources().getIstioServiceMap();
+        Set<String> names = new HashSet<>(istioServiceMap.size());
         for (Map.Entry<String, IstioService> entry : istioServiceMap.entrySet()) {
             String name = buildClusterName(TrafficDirection.OUTBOUND, "",
                     entry.getKey() + '.' +  istioConfig.getDomainSuffix(), entry.getValue().getPort());
-            
-            Cluster.Builder cluster = Cluster.newBuilder().setName(name).setType(Cluster.DiscoveryType.EDS)
-                    .setEdsClusterConfig(Cluster.EdsClusterConfig.newBuilder().setServiceName(name).setEdsConfig(
-                            ConfigSource.newBuilder().setAds(AggregatedConfigSource.newBuilder())
-                                    .setResourceApiVersionValue(V2_VALUE).build()).build());
-            if ("grpc".equals(entry.getValue().getProtocol())) {
-                cluster.setHttp2ProtocolOptions(Http2ProtocolOptions.newBuilder().build());
-            } else {
-                cluster.setHttpProtocolOptions(Http1ProtocolOptions.newBuilder().build());
-            }
-    
-            result.add(Any.newBuilder().setValue(cluster.build().toByteString()).setTypeUrl(CLUSTER_TYPE).build());
+            names.add(name);
+            result.add(clusterCache.get(name, entry.getValue(), service -> buildCluster(name, service)));
         }
+        clusterCache.retain(names);
         
         return result;
     }
     
+    private static Any buildCluster(String name, IstioService istioService) {
+        Cluster.Builder cluster = Cluster.newBuilder().setName(name).setType(Cluster.DiscoveryType.EDS)
+                .setEdsClusterConfig(Cluster.EdsClusterConfig.newBuilder().setServiceName(name).setEdsConfig(
+                        ConfigSource.newBuilder().setAds(AggregatedConfigSource.newBuilder())
+                                .setResourceApiVersionValue(V2_VALUE).build()).build());
+        if ("grpc".equals(istioService.getProtocol())) {
+            cluster.setHttp2ProtocolOptions(Http2ProtocolOptions.newBuilder().build());
+        } else {
+            cluster.setHttpProtocolOptions(Http1ProtocolOptions.newBuilder().build());
+        }
+        return Any.newBuilder().setValue(cluster.build().toByteString()).setTypeUrl(CLUSTER_TYPE).build();
+    }
+    
     @Override
     public List<Resource> deltaGenerate(PushRequest pushRequest) {
         Loggers.MAIN.info("Delta Cds Not supported");
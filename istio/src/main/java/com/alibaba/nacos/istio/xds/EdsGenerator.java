@@ -18,6 +18,7 @@
 package com.alibaba.nacos.istio.xds;
 
 import com.alibaba.nacos.istio.api.ApiGenerator;
+import com.alibaba.nacos.istio.common.ServiceResourceCache;
 import com.alibaba.nacos.istio.misc.IstioConfig;
 import com.alibaba.nacos.istio.model.IstioEndpoint;
 import com.alibaba.nacos.istio.model.IstioService;
@@ -32,6 +33,7 @@ import io.envoyproxy.envoy.service.discovery.v3.Resource;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +50,8 @@ public final class EdsGenerator implements ApiGenerator<Any> {
     
     private static volatile EdsGenerator singleton = null;
     
+    private final ServiceResourceCache<Any> endpointCache = new ServiceResourceCache<>();
+    
     public static EdsGenerator getInstance() {
         if (singleton == null) {
             synchronized (EdsGenerator.class) {
@@ -69,20 +73,23 @@ public final class EdsGenerator implements ApiGenerator<Any> {
                 IstioService istioService = istioServiceMap.get(reason);
                 String name = buildClusterName(TrafficDirection.OUTBOUND, "",
                         reason + '.' + istioConfig.getDomainSuffix(), istioService.getPort());
-                Any any = buildEndpoint(name, istioService);
+                Any any = getEndpoint(name, istioService);
                 if (any != null) {
                     result.add(any);
                 }
             }
         } else {
+            Set<String> names = new HashSet<>(istioServiceMap.size());
             for (Map.Entry<String, IstioService> entry : istioServiceMap.entrySet()) {
                 String name = buildClusterName(TrafficDirection.OUTBOUND, "",
                         entry.getKey() + '.' + istioConfig.getDomainSuffix(), entry.getValue().getPort());
-                Any any = buildEndpoint(name, entry.getValue());
+                names.add(name);
+                Any any = getEndpoint(name, entry.getValue());
                 if (any != null) {
                     result.add(any);
                 }
             }
+            endpointCache.retain(names);
         }
         return result;
     }
@@ -103,7 +110,7 @@ public final class EdsGenerator implements ApiGenerator<Any> {
                 String serviceName = parseClusterNameToServiceName(subscribe, istioConfig.getDomainSuffix());
                 if (reason.contains(serviceName)) {
                     if (istioServiceMap.containsKey(serviceName)) {
-                        Any any = buildEndpoint(subscribe, istioServiceMap.get(serviceName));
+                        Any any = getEndpoint(subscribe, istioServiceMap.get(serviceName));
                         if (any != null) {
                             result.add(Resource.newBuilder().setResource(any).setVersion(pushRequest.getResourceSnapshot().getVersion()).build());
                         } else {
@@ -118,7 +125,7 @@ public final class EdsGenerator implements ApiGenerator<Any> {
             for (Map.Entry<String, IstioService> entry : istioServiceMap.entrySet()) {
                 String name = buildClusterName(TrafficDirection.OUTBOUND, "",
                         entry.getKey() + '.' + istioConfig.getDomainSuffix(), entry.getValue().getPort());
-                Any any = buildEndpoint(name, entry.getValue());
+                Any any = getEndpoint(name, entry.getValue());
                 if (any != null) {
                     result.add(Resource.newBuilder().setResource(any).setVersion(pushRequest.getResourceSnapshot().getVersion()).build());
                 } else {
@@ -130,6 +137,10 @@ public final class EdsGenerator implements ApiGenerator<Any> {
         return result;
     }
     
+    private Any getEndpoint(String name, IstioService istioService) {
+        return endpointCache.get(name, istioService, service -> buildEndpoint(name, service));
+    }
+    
     private static Any buildEndpoint(String name, IstioService istioService) {
         if (istioService.getHosts().isEmpty()) {
             return null;
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.istio.common;
+
+import com.alibaba.nacos.istio.model.IstioService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class ServiceResourceCacheTest {
+    
+    private final ServiceResourceCache<String> cache = new ServiceResourceCache<>();
+    
+    @Test
+    void testGetReuseResourceForSameService() {
+        IstioService service = mock(IstioService.class);
+        AtomicInteger count = new AtomicInteger();
+        String first = cache.get("a", service, s -> "resource-" + count.incrementAndGet());
+        String second = cache.get("a", service, s -> "resource-" + count.incrementAndGet());
+        assertSame(first, second);
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    void testGetRegenerateAfterServiceChanged() {
+        AtomicInteger count = new AtomicInteger();
+        cache.get("a", mock(IstioService.class), s -> "resource-" + count.incrementAndGet());
+        String actual = cache.get("a", mock(IstioService.class), s -> "resource-" + count.incrementAndGet());
+        assertEquals("resource-2", actual);
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void testGetCacheNullResource() {
+        IstioService service = mock(IstioService.class);
+        AtomicInteger count = new AtomicInteger();
+        cache.get("a", service, s -> {
+            count.incrementAndGet();
+            return null;
+        });
+        assertNull(cache.get("a", service, s -> "resource-" + count.incrementAndGet()));
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    void testRetain() {
+        cache.get("a", mock(IstioService.class), s -> "a");
+        cache.get("b", mock(IstioService.class), s -> "b");
+        cache.retain(Collections.singleton("b"));
+        assertEquals(1, cache.size());
+    }
+}
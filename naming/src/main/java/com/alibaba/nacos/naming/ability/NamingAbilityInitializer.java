@@ -29,5 +29,7 @@ public class NamingAbilityInitializer implements ServerAbilityInitializer {
     @Override
     public void initialize(ServerAbilities abilities) {
         abilities.getNamingAbility().setSupportJraft(true);
+        abilities.getNamingAbility().setSupportDistroDigestVerify(true);
+        abilities.getNamingAbility().setSupportDistroSnapshotPage(true);
     }
 }
@@ -73,5 +73,7 @@ public class DistroClientComponentRegistry {
         componentHolder.registerDataProcessor(dataProcessor);
         componentHolder.registerTransportAgent(DistroClientDataProcessor.TYPE, transportAgent);
         componentHolder.registerFailedTaskHandler(DistroClientDataProcessor.TYPE, taskFailedHandler);
+        componentHolder.registerDigestVerifier(DistroClientDataProcessor.TYPE,
+                new DistroClientDigestVerifier(clientManager, clusterRpcClientProxy, serverMemberManager));
     }
 }
@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
@@ -45,6 +46,7 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -59,12 +61,21 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    /**
+     * Expired time of the sorted client ids cached for paged snapshot.
+     */
+    private static final long SNAPSHOT_IDS_EXPIRED_MILLIS = 60000L;
+    
     private final ClientManager clientManager;
     
     private final DistroProtocol distroProtocol;
     
     private volatile boolean isFinishInitial;
     
+    private volatile String[] snapshotClientIds = new String[0];
+    
+    private volatile long snapshotClientIdsBuildTime;
+    
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
@@ -270,6 +281,48 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
     }
     
+    @Override
+    public DistroData getDatumSnapshotPage(String cursor, int pageSize) {
+        String[] clientIds = getSortedClientIds(cursor);
+        int index = 0;
+        if (StringUtils.isNotEmpty(cursor)) {
+            int position = Arrays.binarySearch(clientIds, cursor);
+            index = position >= 0 ? position + 1 : -position - 1;
+        }
+        List<ClientSyncData> datum = new LinkedList<>();
+        String lastClientId = cursor;
+        while (index < clientIds.length && datum.size() < pageSize) {
+            lastClientId = clientIds[index++];
+            Client client = clientManager.getClient(lastClientId);
+            if (null == client || !client.isEphemeral()) {
+                continue;
+            }
+            datum.add(client.generateSyncData());
+        }
+        String nextCursor = index < clientIds.length ? lastClientId : StringUtils.EMPTY;
+        ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
+        snapshot.setClientSyncDataList(datum);
+        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
+        DistroData result = new DistroData(new DistroKey(nextCursor, TYPE), data);
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
+    
+    /**
+     * Get the sorted client ids for paged snapshot. The ids are rebuilt at the first page or after expired, so the
+     * following pages are cut from the same ordering. Clients added after building will be synced by distro sync task.
+     */
+    private String[] getSortedClientIds(String cursor) {
+        long now = System.currentTimeMillis();
+        if (StringUtils.isEmpty(cursor) || now - snapshotClientIdsBuildTime > SNAPSHOT_IDS_EXPIRED_MILLIS) {
+            String[] clientIds = clientManager.allClientId().toArray(new String[0]);
+            Arrays.sort(clientIds);
+            snapshotClientIds = clientIds;
+            snapshotClientIdsBuildTime = now;
+        }
+        return snapshotClientIds;
+    }
+    
     @Override
     public List<DistroData> getVerifyData() {
         List<DistroData> result = null;
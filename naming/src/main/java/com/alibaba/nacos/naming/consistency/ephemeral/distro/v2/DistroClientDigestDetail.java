@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Verify information of all clients in mismatched digest buckets.
+ *
+ * @author Nacos
+ */
+public class DistroClientDigestDetail implements Serializable {
+    
+    private static final long serialVersionUID = 5404335658839536196L;
+    
+    private String sourceServer;
+    
+    private int bucketCount;
+    
+    private List<Integer> buckets;
+    
+    private List<DistroClientVerifyInfo> clients;
+    
+    public String getSourceServer() {
+        return sourceServer;
+    }
+    
+    public void setSourceServer(String sourceServer) {
+        this.sourceServer = sourceServer;
+    }
+    
+    public int getBucketCount() {
+        return bucketCount;
+    }
+    
+    public void setBucketCount(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    public List<Integer> getBuckets() {
+        return buckets;
+    }
+    
+    public void setBuckets(List<Integer> buckets) {
+        this.buckets = buckets;
+    }
+    
+    public List<DistroClientVerifyInfo> getClients() {
+        return clients;
+    }
+    
+    public void setClients(List<DistroClientVerifyInfo> clients) {
+        this.clients = clients;
+    }
+}
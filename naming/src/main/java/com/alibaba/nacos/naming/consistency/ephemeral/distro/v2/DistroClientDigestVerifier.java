@@ -0,0 +1,389 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.api.common.NodeState;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestVerifier;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distro digest verifier for v2 clients.
+ *
+ * <p>The source server groups its responsible clients into buckets by client id and sends the count and digest of
+ * {@code (clientId, revision)} for each bucket. The target server remembers which clients belong to each bucket of the
+ * source server, recalculates the digests with local revisions and renews the clients of matched buckets directly.
+ * Only the clients in mismatched buckets are sent and verified one by one, and verify failed clients are synced by
+ * {@link ClientEvent.ClientVerifyFailedEvent} like the legacy verify.
+ *
+ * @author Nacos
+ */
+public class DistroClientDigestVerifier implements DistroDigestVerifier {
+    
+    static final String DIGEST_KEY = "__distro_digest__";
+    
+    static final String DIGEST_DETAIL_KEY = "__distro_digest_detail__";
+    
+    static final int BUCKET_COUNT = 1024;
+    
+    /**
+     * Max count of clients sent in one digest detail request. A bucket is never split into different requests.
+     */
+    static final int MAX_DETAIL_CLIENTS = 2000;
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    
+    private final ClientManager clientManager;
+    
+    private final ClusterRpcClientProxy clusterRpcClientProxy;
+    
+    private final ServerMemberManager memberManager;
+    
+    /**
+     * Client ids of each bucket, grouped by source server.
+     */
+    private final Map<String, SourceBuckets> sourceBucketsMap = new ConcurrentHashMap<>();
+    
+    public DistroClientDigestVerifier(ClientManager clientManager, ClusterRpcClientProxy clusterRpcClientProxy,
+            ServerMemberManager memberManager) {
+        this.clientManager = clientManager;
+        this.clusterRpcClientProxy = clusterRpcClientProxy;
+        this.memberManager = memberManager;
+    }
+    
+    @Override
+    public boolean isSupported(Member targetMember) {
+        return null != targetMember && null != targetMember.getAbilities()
+                && null != targetMember.getAbilities().getNamingAbility() && targetMember.getAbilities()
+                .getNamingAbility().isSupportDistroDigestVerify();
+    }
+    
+    @Override
+    public boolean isDigestVerifyData(DistroData verifyData) {
+        String resourceKey = verifyData.getDistroKey().getResourceKey();
+        return DIGEST_KEY.equals(resourceKey) || DIGEST_DETAIL_KEY.equals(resourceKey);
+    }
+    
+    @Override
+    public void verify(String targetServer, DistroCallback callback) {
+        if (!memberManager.hasMember(targetServer)) {
+            callback.onSuccess();
+            return;
+        }
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro digest verify caused by target server {} unhealthy",
+                    targetServer);
+            callback.onFailed(null);
+            return;
+        }
+        List<List<DistroClientVerifyInfo>> buckets = collectResponsibleClients();
+        DistroClientDigestResult digestResult = sendDigestVerify(member, DIGEST_KEY, buildDigest(buckets));
+        if (null == digestResult) {
+            callback.onFailed(null);
+            return;
+        }
+        List<Integer> mismatchedBuckets = digestResult.getMismatchedBuckets();
+        if (null == mismatchedBuckets || mismatchedBuckets.isEmpty()) {
+            NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+            callback.onSuccess();
+            return;
+        }
+        if (Loggers.DISTRO.isDebugEnabled()) {
+            Loggers.DISTRO.debug("[DISTRO] digest verify to {} found {} mismatched buckets", targetServer,
+                    mismatchedBuckets.size());
+        }
+        if (!verifyMismatchedBuckets(member, buckets, mismatchedBuckets)) {
+            callback.onFailed(null);
+            return;
+        }
+        callback.onSuccess();
+    }
+    
+    private boolean verifyMismatchedBuckets(Member member, List<List<DistroClientVerifyInfo>> buckets,
+            List<Integer> mismatchedBuckets) {
+        List<Integer> detailBuckets = new ArrayList<>();
+        List<DistroClientVerifyInfo> detailClients = new ArrayList<>();
+        boolean result = true;
+        for (Integer each : mismatchedBuckets) {
+            if (null == each || each < 0 || each >= buckets.size()) {
+                continue;
+            }
+            detailBuckets.add(each);
+            detailClients.addAll(buckets.get(each));
+            if (detailClients.size() >= MAX_DETAIL_CLIENTS) {
+                result &= sendDigestDetail(member, detailBuckets, detailClients);
+                detailBuckets = new ArrayList<>();
+                detailClients = new ArrayList<>();
+            }
+        }
+        if (!detailBuckets.isEmpty()) {
+            result &= sendDigestDetail(member, detailBuckets, detailClients);
+        }
+        return result;
+    }
+    
+    private boolean sendDigestDetail(Member member, List<Integer> detailBuckets,
+            List<DistroClientVerifyInfo> detailClients) {
+        DistroClientDigestDetail detail = new DistroClientDigestDetail();
+        detail.setSourceServer(memberManager.getSelf().getAddress());
+        detail.setBucketCount(BUCKET_COUNT);
+        detail.setBuckets(detailBuckets);
+        detail.setClients(detailClients);
+        DistroClientDigestResult detailResult = sendDigestVerify(member, DIGEST_DETAIL_KEY, detail);
+        if (null == detailResult) {
+            return false;
+        }
+        List<String> failedClientIds = detailResult.getFailedClientIds();
+        if (null == failedClientIds || failedClientIds.isEmpty()) {
+            NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+            return true;
+        }
+        for (String each : failedClientIds) {
+            Loggers.DISTRO.info("Target {} verify client {} failed, sync new client", member.getAddress(), each);
+            NotifyCenter.publishEvent(new ClientEvent.ClientVerifyFailedEvent(each, member.getAddress()));
+            NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+        }
+        return true;
+    }
+    
+    private DistroClientDigestResult sendDigestVerify(Member member, String resourceKey, Object content) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroData verifyData = new DistroData(new DistroKey(resourceKey, DistroClientDataProcessor.TYPE),
+                serializer.serialize(content));
+        verifyData.setType(DataOperation.VERIFY);
+        DistroDataRequest request = new DistroDataRequest(verifyData, DataOperation.VERIFY);
+        try {
+            Response response = clusterRpcClientProxy.sendRequest(member, request,
+                    DistroConfig.getInstance().getVerifyTimeoutMillis());
+            if (ResponseCode.SUCCESS.getCode() != response.getResultCode()) {
+                Loggers.DISTRO.warn("[DISTRO-FAILED] Digest verify {} to {} failed, code: {}, message: {}",
+                        resourceKey, member.getAddress(), response.getErrorCode(), response.getMessage());
+                return null;
+            }
+            DistroData resultData = ((DistroDataResponse) response).getDistroData();
+            if (null == resultData || null == resultData.getContent()) {
+                return null;
+            }
+            return serializer.deserialize(resultData.getContent(), DistroClientDigestResult.class);
+        } catch (NacosException e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] Digest verify {} to {} failed!", resourceKey, member.getAddress(),
+                    e);
+        }
+        return null;
+    }
+    
+    private boolean checkTargetServerStatusUnhealthy(Member member) {
+        return null == member || !NodeState.UP.equals(member.getState()) || !clusterRpcClientProxy.isRunning(member);
+    }
+    
+    private List<List<DistroClientVerifyInfo>> collectResponsibleClients() {
+        List<List<DistroClientVerifyInfo>> result = new ArrayList<>(BUCKET_COUNT);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result.add(new ArrayList<>());
+        }
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral() || !clientManager.isResponsibleClient(client)) {
+                continue;
+            }
+            result.get(bucketOf(client.getClientId(), BUCKET_COUNT))
+                    .add(new DistroClientVerifyInfo(client.getClientId(), client.getRevision()));
+        }
+        return result;
+    }
+    
+    private DistroClientDigest buildDigest(List<List<DistroClientVerifyInfo>> buckets) {
+        int[] counts = new int[buckets.size()];
+        long[] digests = new long[buckets.size()];
+        for (int i = 0; i < buckets.size(); i++) {
+            for (DistroClientVerifyInfo each : buckets.get(i)) {
+                counts[i]++;
+                digests[i] += digestOf(each.getClientId(), each.getRevision());
+            }
+        }
+        DistroClientDigest result = new DistroClientDigest();
+        result.setSourceServer(memberManager.getSelf().getAddress());
+        result.setBucketCount(buckets.size());
+        result.setCounts(counts);
+        result.setDigests(digests);
+        return result;
+    }
+    
+    @Override
+    public DistroData processDigestVerifyData(DistroData verifyData, String sourceAddress) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroClientDigestResult result = new DistroClientDigestResult();
+        if (DIGEST_KEY.equals(verifyData.getDistroKey().getResourceKey())) {
+            DistroClientDigest digest = serializer.deserialize(verifyData.getContent(), DistroClientDigest.class);
+            result.setMismatchedBuckets(compareDigest(getSourceServer(digest.getSourceServer(), sourceAddress),
+                    digest));
+        } else {
+            DistroClientDigestDetail detail = serializer.deserialize(verifyData.getContent(),
+                    DistroClientDigestDetail.class);
+            result.setFailedClientIds(verifyDetail(getSourceServer(detail.getSourceServer(), sourceAddress),
+                    detail));
+        }
+        return new DistroData(verifyData.getDistroKey(), serializer.serialize(result));
+    }
+    
+    private String getSourceServer(String sourceServer, String sourceAddress) {
+        return StringUtils.isBlank(sourceServer) ? sourceAddress : sourceServer;
+    }
+    
+    private List<Integer> compareDigest(String sourceServer, DistroClientDigest digest) {
+        SourceBuckets sourceBuckets = getSourceBuckets(sourceServer, digest.getBucketCount());
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < digest.getBucketCount(); i++) {
+            Set<String> clientIds = sourceBuckets.buckets.getOrDefault(i, Collections.emptySet());
+            if (!verifyBucket(clientIds, digest.getCounts()[i], digest.getDigests()[i])) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Verify one bucket by digest, renew all clients in the bucket if matched.
+     */
+    private boolean verifyBucket(Set<String> clientIds, int expectedCount, long expectedDigest) {
+        if (clientIds.size() != expectedCount) {
+            return false;
+        }
+        if (0 == expectedCount) {
+            return true;
+        }
+        List<DistroClientVerifyInfo> verifyInfos = new ArrayList<>(clientIds.size());
+        long digest = 0L;
+        for (String each : clientIds) {
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral()) {
+                return false;
+            }
+            digest += digestOf(each, client.getRevision());
+            verifyInfos.add(new DistroClientVerifyInfo(each, client.getRevision()));
+        }
+        if (digest != expectedDigest) {
+            return false;
+        }
+        for (DistroClientVerifyInfo each : verifyInfos) {
+            clientManager.verifyClient(each);
+        }
+        return true;
+    }
+    
+    private List<String> verifyDetail(String sourceServer, DistroClientDigestDetail detail) {
+        SourceBuckets sourceBuckets = getSourceBuckets(sourceServer, detail.getBucketCount());
+        Map<Integer, Set<String>> newBuckets = new HashMap<>(detail.getBuckets().size());
+        for (Integer each : detail.getBuckets()) {
+            newBuckets.put(each, new HashSet<>());
+        }
+        List<String> result = new ArrayList<>();
+        for (DistroClientVerifyInfo each : detail.getClients()) {
+            newBuckets.computeIfAbsent(bucketOf(each.getClientId(), detail.getBucketCount()),
+                    bucket -> new HashSet<>()).add(each.getClientId());
+            if (!clientManager.verifyClient(each)) {
+                result.add(each.getClientId());
+            }
+        }
+        for (Map.Entry<Integer, Set<String>> entry : newBuckets.entrySet()) {
+            sourceBuckets.buckets.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private SourceBuckets getSourceBuckets(String sourceServer, int bucketCount) {
+        return sourceBucketsMap.compute(sourceServer, (key, value) -> {
+            if (null == value || value.bucketCount != bucketCount) {
+                return new SourceBuckets(bucketCount);
+            }
+            return value;
+        });
+    }
+    
+    static int bucketOf(String clientId, int bucketCount) {
+        int hash = clientId.hashCode();
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % bucketCount;
+    }
+    
+    /**
+     * Calculate digest of one client, the digest of bucket is the sum of all clients so that it is order independent.
+     */
+    static long digestOf(String clientId, long revision) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < clientId.length(); i++) {
+            hash ^= clientId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash ^ (revision * GOLDEN_GAMMA));
+    }
+    
+    private static long mix(long value) {
+        long result = value;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    private static class SourceBuckets {
+        
+        private final int bucketCount;
+        
+        private final Map<Integer, Set<String>> buckets = new ConcurrentHashMap<>();
+        
+        private SourceBuckets(int bucketCount) {
+            this.bucketCount = bucketCount;
+        }
+    }
+}
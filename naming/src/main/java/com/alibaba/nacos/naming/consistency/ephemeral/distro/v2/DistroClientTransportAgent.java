@@ -206,6 +206,42 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportSnapshotPage(String targetServer) {
+        Member member = memberManager.find(targetServer);
+        return null != member && null != member.getAbilities() && null != member.getAbilities().getNamingAbility()
+                && member.getAbilities().getNamingAbility().isSupportDistroSnapshotPage();
+    }
+    
+    @Override
+    public DistroData getDatumSnapshotPage(String targetServer, String cursor) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot page caused by target server %s unhealthy",
+                            targetServer));
+        }
+        DistroDataRequest request = new DistroDataRequest();
+        DistroData distroData = new DistroData();
+        distroData.setDistroKey(new DistroKey(cursor, DistroClientDataProcessor.TYPE));
+        distroData.setType(DataOperation.SNAPSHOT);
+        request.setDistroData(distroData);
+        request.setDataOperation(DataOperation.SNAPSHOT);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
+            if (checkResponse(response)) {
+                return ((DistroDataResponse) response).getDistroData();
+            } else {
+                throw new DistroException(
+                        String.format("[DISTRO-FAILED] Get snapshot page request to %s failed, code: %d, message: %s",
+                                targetServer, response.getErrorCode(), response.getMessage()));
+            }
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Get distro snapshot page failed! ", e);
+        }
+    }
+    
     private boolean isNoExistTarget(String target) {
         return !memberManager.hasMember(target);
     }
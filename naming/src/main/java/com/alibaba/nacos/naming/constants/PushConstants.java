@@ -43,4 +43,40 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push only the changed instances to the subscribers which support incremental push.
+     */
+    public static final String PUSH_INCREMENTAL_ENABLED = "nacos.naming.push.incremental.enabled";
+    
+    public static final boolean DEFAULT_PUSH_INCREMENTAL_ENABLED = false;
+    
+    /**
+     * The max revision count kept for each service and subscriber filter to build incremental push.
+     */
+    public static final String PUSH_INCREMENTAL_REVISION_LOG_SIZE = "nacos.naming.push.incremental.revisionLogSize";
+    
+    public static final int DEFAULT_PUSH_INCREMENTAL_REVISION_LOG_SIZE = 4;
+    
+    /**
+     * The max subscriber filter count kept for each service to build incremental push, the least recently pushed
+     * filter is evicted when over it.
+     */
+    public static final String PUSH_INCREMENTAL_MAX_FILTER_COUNT = "nacos.naming.push.incremental.maxFilterCount";
+    
+    public static final int DEFAULT_PUSH_INCREMENTAL_MAX_FILTER_COUNT = 16;
+    
+    /**
+     * Process mode of the push delay task engine, {@code SCAN} or {@code DUE_QUEUE}, only take effect at startup.
+     */
+    public static final String PUSH_DELAY_ENGINE_MODE = "nacos.naming.push.delayEngine.mode";
+    
+    public static final String DEFAULT_PUSH_DELAY_ENGINE_MODE = "SCAN";
+    
+    /**
+     * Process threads of the push delay task engine in {@code DUE_QUEUE} mode, only take effect at startup.
+     */
+    public static final String PUSH_DELAY_ENGINE_THREADS = "nacos.naming.push.delayEngine.threads";
+    
+    public static final int DEFAULT_PUSH_DELAY_ENGINE_THREADS = 1;
 }
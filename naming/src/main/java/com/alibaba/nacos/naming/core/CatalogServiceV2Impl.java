@@ -239,15 +239,16 @@ public class CatalogServiceV2Impl implements CatalogService {
     
     private Collection<Service> patternServices(String namespaceId, String group, String serviceName) {
         boolean noFilter = StringUtils.isBlank(serviceName) && StringUtils.isBlank(group);
+        Collection<Service> services = ServiceManager.getInstance().getSortedSingletons(namespaceId);
         if (noFilter) {
-            return ServiceManager.getInstance().getSingletons(namespaceId);
+            return services;
         }
         Collection<Service> result = new LinkedList<>();
         StringJoiner regex = new StringJoiner(Constants.SERVICE_INFO_SPLITER);
         regex.add(getRegexString(group));
         regex.add(getRegexString(serviceName));
         String regexString = regex.toString();
-        for (Service each : ServiceManager.getInstance().getSingletons(namespaceId)) {
+        for (Service each : services) {
             if (each.getGroupedServiceName().matches(regexString)) {
                 result.add(each);
             }
@@ -44,12 +44,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -222,24 +220,9 @@ public class ServiceOperatorV2Impl implements ServiceOperator {
     }
     
     @Override
-    @SuppressWarnings("unchecked")
     public Collection<String> listService(String namespaceId, String groupName, String selector) throws NacosException {
-        Collection<Service> services = ServiceManager.getInstance().getSingletons(namespaceId);
-        if (services.isEmpty()) {
-            return Collections.EMPTY_LIST;
-        }
         // TODO select service by selector
-        return selectServiceWithGroupName(services, groupName);
-    }
-    
-    private Collection<String> selectServiceWithGroupName(Collection<Service> serviceSet, String groupName) {
-        Collection<String> result = new HashSet<>(serviceSet.size());
-        for (Service each : serviceSet) {
-            if (Objects.equals(groupName, each.getGroup())) {
-                result.add(each.getGroupedServiceName());
-            }
-        }
-        return result;
+        return ServiceManager.getInstance().getGroupedServiceNames(namespaceId, groupName);
     }
     
     private Service getServiceFromGroupedServiceName(String namespaceId, String groupedServiceName, boolean ephemeral) {
@@ -21,7 +21,9 @@ import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,9 +41,12 @@ public class ServiceManager {
     
     private final ConcurrentHashMap<String, Set<Service>> namespaceSingletonMaps;
     
+    private final ServiceNameIndex serviceNameIndex;
+    
     private ServiceManager() {
         singletonRepository = new ConcurrentHashMap<>(1 << 10);
         namespaceSingletonMaps = new ConcurrentHashMap<>(1 << 2);
+        serviceNameIndex = new ServiceNameIndex();
     }
     
     public static ServiceManager getInstance() {
@@ -64,9 +69,81 @@ public class ServiceManager {
             return service;
         });
         namespaceSingletonMaps.computeIfAbsent(result.getNamespace(), namespace -> new ConcurrentHashSet<>()).add(result);
+        serviceNameIndex.add(result);
         return result;
     }
     
+    /**
+     * Get singleton services of namespace sorted by group and service name.
+     *
+     * @param namespace namespace of services
+     * @return sorted singleton services
+     */
+    public Collection<Service> getSortedSingletons(String namespace) {
+        return serviceNameIndex.getSortedServices(namespace);
+    }
+    
+    /**
+     * Get count of singleton services in the group.
+     *
+     * @param namespace namespace of services
+     * @param group     group of services
+     * @return count of services
+     */
+    public int getServiceCount(String namespace, String group) {
+        return serviceNameIndex.count(namespace, group);
+    }
+    
+    /**
+     * Get grouped names of singleton services in the group, sorted by service name.
+     *
+     * @param namespace namespace of services
+     * @param group     group of services
+     * @return grouped service names
+     */
+    public List<String> getGroupedServiceNames(String namespace, String group) {
+        return serviceNameIndex.getGroupedServiceNames(namespace, group);
+    }
+    
+    /**
+     * Page names of singleton services in the group, sorted by service name.
+     *
+     * @param namespace namespace of services
+     * @param group     group of services
+     * @param pageNo    page number, start from 1
+     * @param pageSize  size per page
+     * @return service names without group
+     */
+    public List<String> pageServiceNames(String namespace, String group, int pageNo, int pageSize) {
+        return serviceNameIndex.page(namespace, group, pageNo, pageSize);
+    }
+    
+    /**
+     * List names of singleton services in the group after the cursor, sorted by service name.
+     *
+     * @param namespace namespace of services
+     * @param group     group of services
+     * @param cursor    last service name of previous page, {@code null} means from the first one
+     * @param pageSize  size per page
+     * @return service names without group
+     */
+    public List<String> listServiceNamesAfter(String namespace, String group, String cursor, int pageSize) {
+        return serviceNameIndex.listAfter(namespace, group, cursor, pageSize);
+    }
+    
+    /**
+     * Search names of singleton services in the group by prefix, sorted by service name.
+     *
+     * @param namespace namespace of services
+     * @param group     group of services
+     * @param prefix    prefix of service name
+     * @param limit     max size of result
+     * @return service names without group
+     */
+    public List<String> searchServiceNames(String namespace, String group, String prefix, int limit) {
+        return serviceNameIndex.searchPrefix(namespace, group, prefix, limit);
+    }
+    
     /**
      * Get singleton service if Exist.
      *
@@ -103,6 +180,7 @@ public class ServiceManager {
         if (namespaceSingletonMaps.containsKey(service.getNamespace())) {
             namespaceSingletonMaps.get(service.getNamespace()).remove(service);
         }
+        serviceNameIndex.remove(service);
         return singletonRepository.remove(service);
     }
     
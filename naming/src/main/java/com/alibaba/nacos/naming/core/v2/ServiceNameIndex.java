@@ -0,0 +1,223 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sorted index of services by namespace, group and service name.
+ *
+ * <p>Reads are lock free and iterate services in (group, name) order, so pages are stable between calls. Writes of
+ * the same namespace are serialized to keep group counts and empty group cleanup consistent.
+ *
+ * @author Nacos
+ */
+public class ServiceNameIndex {
+    
+    private final ConcurrentHashMap<String, NamespaceServices> namespaceIndexes = new ConcurrentHashMap<>(1 << 2);
+    
+    /**
+     * Add service into index.
+     *
+     * @param service service
+     */
+    public void add(Service service) {
+        NamespaceServices namespaceServices = namespaceIndexes.computeIfAbsent(service.getNamespace(),
+                namespace -> new NamespaceServices());
+        GroupServices groupServices = namespaceServices.groups.get(service.getGroup());
+        if (null != groupServices && groupServices.services.containsKey(service.getName())) {
+            return;
+        }
+        synchronized (namespaceServices) {
+            groupServices = namespaceServices.groups.computeIfAbsent(service.getGroup(), group -> new GroupServices());
+            if (null == groupServices.services.putIfAbsent(service.getName(), service)) {
+                groupServices.count.incrementAndGet();
+            }
+        }
+    }
+    
+    /**
+     * Remove service from index.
+     *
+     * @param service service
+     */
+    public void remove(Service service) {
+        NamespaceServices namespaceServices = namespaceIndexes.get(service.getNamespace());
+        if (null == namespaceServices) {
+            return;
+        }
+        synchronized (namespaceServices) {
+            GroupServices groupServices = namespaceServices.groups.get(service.getGroup());
+            if (null == groupServices || null == groupServices.services.remove(service.getName())) {
+                return;
+            }
+            if (0 == groupServices.count.decrementAndGet()) {
+                namespaceServices.groups.remove(service.getGroup());
+            }
+        }
+    }
+    
+    /**
+     * Get count of services in the group.
+     *
+     * @param namespace namespace
+     * @param group     group name
+     * @return count of services
+     */
+    public int count(String namespace, String group) {
+        GroupServices groupServices = getGroupServices(namespace, group);
+        return null == groupServices ? 0 : groupServices.count.get();
+    }
+    
+    /**
+     * Page service names of the group in name order.
+     *
+     * @param namespace namespace
+     * @param group     group name
+     * @param pageNo    page number, start from 1
+     * @param pageSize  size per page
+     * @return service names without group
+     */
+    public List<String> page(String namespace, String group, int pageNo, int pageSize) {
+        GroupServices groupServices = getGroupServices(namespace, group);
+        if (null == groupServices || pageSize <= 0) {
+            return Collections.emptyList();
+        }
+        int start = Math.max(0, (pageNo - 1) * pageSize);
+        Iterator<String> iterator = groupServices.services.keySet().iterator();
+        for (int i = 0; i < start && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        return collect(iterator, pageSize);
+    }
+    
+    /**
+     * List service names of the group after the cursor in name order.
+     *
+     * @param namespace namespace
+     * @param group     group name
+     * @param cursor    last service name of previous page, {@code null} means from the first one
+     * @param pageSize  size per page
+     * @return service names without group
+     */
+    public List<String> listAfter(String namespace, String group, String cursor, int pageSize) {
+        GroupServices groupServices = getGroupServices(namespace, group);
+        if (null == groupServices || pageSize <= 0) {
+            return Collections.emptyList();
+        }
+        NavigableMap<String, Service> services =
+                null == cursor ? groupServices.services : groupServices.services.tailMap(cursor, false);
+        return collect(services.keySet().iterator(), pageSize);
+    }
+    
+    /**
+     * Search service names of the group which start with the prefix in name order.
+     *
+     * @param namespace namespace
+     * @param group     group name
+     * @param prefix    prefix of service name
+     * @param limit     max size of result
+     * @return service names without group
+     */
+    public List<String> searchPrefix(String namespace, String group, String prefix, int limit) {
+        GroupServices groupServices = getGroupServices(namespace, group);
+        if (null == groupServices || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(Math.min(limit, 16));
+        for (String each : groupServices.services.tailMap(prefix, true).keySet()) {
+            if (!each.startsWith(prefix) || result.size() >= limit) {
+                break;
+            }
+            result.add(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Get all service names of the group in name order.
+     *
+     * @param namespace namespace
+     * @param group     group name
+     * @return service names with group
+     */
+    public List<String> getGroupedServiceNames(String namespace, String group) {
+        GroupServices groupServices = getGroupServices(namespace, group);
+        if (null == groupServices) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(groupServices.count.get());
+        for (Service each : groupServices.services.values()) {
+            result.add(each.getGroupedServiceName());
+        }
+        return result;
+    }
+    
+    /**
+     * Get all services of the namespace in (group, name) order.
+     *
+     * @param namespace namespace
+     * @return sorted services
+     */
+    public Collection<Service> getSortedServices(String namespace) {
+        NamespaceServices namespaceServices = namespaceIndexes.get(namespace);
+        if (null == namespaceServices) {
+            return Collections.emptyList();
+        }
+        List<Service> result = new ArrayList<>();
+        for (GroupServices each : namespaceServices.groups.values()) {
+            result.addAll(each.services.values());
+        }
+        return result;
+    }
+    
+    private GroupServices getGroupServices(String namespace, String group) {
+        NamespaceServices namespaceServices = namespaceIndexes.get(namespace);
+        return null == namespaceServices || null == group ? null : namespaceServices.groups.get(group);
+    }
+    
+    private static List<String> collect(Iterator<String> iterator, int pageSize) {
+        List<String> result = new ArrayList<>(Math.min(pageSize, 64));
+        while (iterator.hasNext() && result.size() < pageSize) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+    
+    private static class NamespaceServices {
+        
+        private final Map<String, GroupServices> groups = new ConcurrentSkipListMap<>();
+    }
+    
+    private static class GroupServices {
+        
+        private final ConcurrentSkipListMap<String, Service> services = new ConcurrentSkipListMap<>();
+        
+        private final AtomicInteger count = new AtomicInteger();
+    }
+}
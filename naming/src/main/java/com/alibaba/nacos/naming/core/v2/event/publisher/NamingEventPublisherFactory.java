@@ -16,10 +16,18 @@
 
 package com.alibaba.nacos.naming.core.v2.event.publisher;
 
+import com.alibaba.nacos.common.notify.BatchEventPublisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.sys.env.EnvUtil;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -30,16 +38,40 @@ import java.util.concurrent.ConcurrentHashMap;
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
  * </p>
  *
+ * <p>
+ * If {@code nacos.naming.event.publisher.partitions} is larger than 0, {@link BatchEventPublisher} is used instead,
+ * which drains events in batches and handles them by several threads partitioned by client id or service, so the
+ * order of events for the same client or service is still kept.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private static final String PARTITIONS_PROPERTY = "nacos.naming.event.publisher.partitions";
+    
+    private static final String BATCH_SIZE_PROPERTY = "nacos.naming.event.publisher.batch-size";
+    
+    private final Map<Class<? extends Event>, ShardedEventPublisher> publisher;
+    
+    private final int partitions;
+    
+    private final int batchSize;
     
     private NamingEventPublisherFactory() {
         publisher = new ConcurrentHashMap<>();
+        partitions = getIntProperty(PARTITIONS_PROPERTY, 0);
+        batchSize = getIntProperty(BATCH_SIZE_PROPERTY, BatchEventPublisher.DEFAULT_BATCH_SIZE);
+    }
+    
+    private static int getIntProperty(String key, int defaultValue) {
+        // INSTANCE may be created before environment is set, such as in unit tests.
+        if (null == EnvUtil.getEnvironment()) {
+            return defaultValue;
+        }
+        return EnvUtil.getProperty(key, Integer.class, defaultValue);
     }
     
     public static NamingEventPublisherFactory getInstance() {
@@ -52,16 +84,52 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         return publisher.computeIfAbsent(cachedEventType, eventClass -> {
-            NamingEventPublisher result = new NamingEventPublisher();
+            ShardedEventPublisher result = partitions > 0
+                    ? new BatchEventPublisher(partitions, NamingEventPublisherFactory::getPartitionKey, batchSize)
+                    : new NamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
         });
     }
     
+    private static Object getPartitionKey(Event event) {
+        if (event instanceof ClientOperationEvent) {
+            return ((ClientOperationEvent) event).getClientId();
+        }
+        if (event instanceof ClientEvent.ClientVerifyFailedEvent) {
+            return ((ClientEvent.ClientVerifyFailedEvent) event).getClientId();
+        }
+        if (event instanceof ClientEvent) {
+            ClientEvent clientEvent = (ClientEvent) event;
+            return null == clientEvent.getClient() ? null : clientEvent.getClient().getClientId();
+        }
+        if (event instanceof ServiceEvent) {
+            return ((ServiceEvent) event).getService();
+        }
+        return null;
+    }
+    
+    /**
+     * Get the batch event publishers, empty if {@code nacos.naming.event.publisher.partitions} is not larger than 0.
+     *
+     * @return batch event publishers
+     */
+    public List<BatchEventPublisher> getBatchEventPublishers() {
+        List<BatchEventPublisher> result = new ArrayList<>();
+        for (ShardedEventPublisher each : publisher.values()) {
+            if (each instanceof BatchEventPublisher) {
+                result.add((BatchEventPublisher) each);
+            }
+        }
+        return result;
+    }
+    
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (ShardedEventPublisher each : publisher.values()) {
+            String status = each instanceof BatchEventPublisher ? ((BatchEventPublisher) each).getStatus()
+                    : ((NamingEventPublisher) each).getStatus();
+            result.append('\t').append(status).append('\n');
         }
         return result.toString();
     }
@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPatternIndex;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
@@ -40,6 +41,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import static com.alibaba.nacos.api.common.Constants.ServiceChangedType.ADD_SERVICE;
 import static com.alibaba.nacos.api.common.Constants.ServiceChangedType.DELETE_SERVICE;
@@ -66,6 +68,13 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      */
     private final ConcurrentMap<String, Set<String>> matchedServiceKeysMap = new ConcurrentHashMap<>();
     
+    /**
+     * index of patterns in watchedClientsMap or matchedServiceKeysMap, only updated with the maps under patternLock.
+     */
+    private final FuzzyGroupKeyPatternIndex patternIndex = new FuzzyGroupKeyPatternIndex();
+    
+    private final Object patternLock = new Object();
+    
     public NamingFuzzyWatchContextService() {
     }
     
@@ -92,11 +101,11 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
                     Loggers.SRV_LOG.info(
                             "[fuzzy-watch] no watchedClients context for pattern {},remove matchedGroupKeys context",
                             next.getKey());
-                    iterator.remove();
+                    removePatternContext(matchedServiceKeysMap, next.getKey());
                 } else if (watchedClients.isEmpty()) {
                     Loggers.SRV_LOG.info("[fuzzy-watch] no client watched pattern {},remove watchedClients context",
                             next.getKey());
-                    this.watchedClientsMap.remove(next.getKey());
+                    removePatternContext(watchedClientsMap, next.getKey());
                 } else if (reachToUpLimit(serviceKeysCount)) {
                     Loggers.SRV_LOG.warn(
                             "[fuzzy-watch] pattern {} matched serviceKey count is reach to upper limit {}, fuzzy watch notify may be suppressed ",
@@ -113,6 +122,25 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
         }
     }
     
+    private Set<String> computePatternContextIfAbsent(ConcurrentMap<String, Set<String>> contextMap,
+            String groupKeyPattern, Function<String, Set<String>> mappingFunction) {
+        synchronized (patternLock) {
+            Set<String> result = contextMap.computeIfAbsent(groupKeyPattern, mappingFunction);
+            patternIndex.addPattern(groupKeyPattern);
+            return result;
+        }
+    }
+    
+    private void removePatternContext(ConcurrentMap<String, Set<String>> contextMap, String groupKeyPattern) {
+        synchronized (patternLock) {
+            contextMap.remove(groupKeyPattern);
+            if (!watchedClientsMap.containsKey(groupKeyPattern) && !matchedServiceKeysMap.containsKey(
+                    groupKeyPattern)) {
+                patternIndex.removePattern(groupKeyPattern);
+            }
+        }
+    }
+    
     @Override
     public List<Class<? extends Event>> subscribeTypes() {
         List<Class<? extends Event>> result = new LinkedList<>();
@@ -135,12 +163,11 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      */
     public Set<String> getFuzzyWatchedClients(Service service) {
         Set<String> matchedClients = new HashSet<>();
-        Iterator<Map.Entry<String, Set<String>>> iterator = watchedClientsMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> entry = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(entry.getKey(), service.getName(), service.getGroup(),
-                    service.getNamespace())) {
-                matchedClients.addAll(entry.getValue());
+        for (String each : patternIndex.matchPatterns(service.getName(), service.getGroup(),
+                service.getNamespace())) {
+            Set<String> watchedClients = watchedClientsMap.get(each);
+            if (null != watchedClients) {
+                matchedClients.addAll(watchedClients);
             }
         }
         return matchedClients;
@@ -165,37 +192,36 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
         Loggers.SRV_LOG.warn("[fuzzy-watch] service change matched,service key {},changed type {} ", serviceKey,
                 changedType);
         
-        Iterator<Map.Entry<String, Set<String>>> iterator = matchedServiceKeysMap.entrySet().iterator();
         boolean tryAdd = changedType.equals(ADD_SERVICE);
         boolean tryRemove = changedType.equals(DELETE_SERVICE);
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> next = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(next.getKey(), changedService.getName(), changedService.getGroup(),
-                    changedService.getNamespace())) {
-                Set<String> matchedServiceKeys = next.getValue();
-                boolean reachToUpLimit = reachToUpLimit(matchedServiceKeys.size());
-                boolean containsAlready = matchedServiceKeys.contains(serviceKey);
-                
-                if (tryAdd && !containsAlready && reachToUpLimit) {
-                    Loggers.SRV_LOG.warn("[fuzzy-watch] pattern matched service count is over limit , "
-                                    + "current service will be ignore for pattern {} ,current count is {}", next.getKey(),
-                            matchedServiceKeys.size());
-                    continue;
-                }
+        for (String pattern : patternIndex.matchPatterns(changedService.getName(), changedService.getGroup(),
+                changedService.getNamespace())) {
+            Set<String> matchedServiceKeys = matchedServiceKeysMap.get(pattern);
+            if (null == matchedServiceKeys) {
+                continue;
+            }
+            boolean reachToUpLimit = reachToUpLimit(matchedServiceKeys.size());
+            boolean containsAlready = matchedServiceKeys.contains(serviceKey);
+            
+            if (tryAdd && !containsAlready && reachToUpLimit) {
+                Loggers.SRV_LOG.warn("[fuzzy-watch] pattern matched service count is over limit , "
+                                + "current service will be ignore for pattern {} ,current count is {}", pattern,
+                        matchedServiceKeys.size());
+                continue;
+            }
+            
+            if (tryAdd && !containsAlready && matchedServiceKeys.add(serviceKey)) {
+                Loggers.SRV_LOG.info("[fuzzy-watch] pattern {} matched service keys count changed to {}",
+                        pattern, matchedServiceKeys.size());
+                needNotify = true;
                 
-                if (tryAdd && !containsAlready && matchedServiceKeys.add(serviceKey)) {
-                    Loggers.SRV_LOG.info("[fuzzy-watch] pattern {} matched service keys count changed to {}",
-                            next.getKey(), matchedServiceKeys.size());
-                    needNotify = true;
-                    
-                }
-                if (tryRemove && containsAlready && matchedServiceKeys.remove(serviceKey)) {
-                    Loggers.SRV_LOG.info("[fuzzy-watch]  pattern {} matched service keys count changed to {}",
-                            next.getKey(), matchedServiceKeys.size());
-                    needNotify = true;
-                    if (reachToUpLimit) {
-                        makeupMatchedGroupKeys(next.getKey());
-                    }
+            }
+            if (tryRemove && containsAlready && matchedServiceKeys.remove(serviceKey)) {
+                Loggers.SRV_LOG.info("[fuzzy-watch]  pattern {} matched service keys count changed to {}",
+                        pattern, matchedServiceKeys.size());
+                needNotify = true;
+                if (reachToUpLimit) {
+                    makeupMatchedGroupKeys(pattern);
                 }
             }
         }
@@ -252,9 +278,10 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      */
     public void syncFuzzyWatcherContext(String groupKeyPattern, String clientId) throws NacosException {
         //init empty watchedClients first,when pattern is not over limit,then add clientId.
-        watchedClientsMap.computeIfAbsent(groupKeyPattern, key -> new ConcurrentHashSet<>());
+        Set<String> watchedClients = computePatternContextIfAbsent(watchedClientsMap, groupKeyPattern,
+                key -> new ConcurrentHashSet<>());
         initWatchMatchService(groupKeyPattern);
-        watchedClientsMap.get(groupKeyPattern).add(clientId);
+        watchedClients.add(clientId);
     }
     
     /**
@@ -305,10 +332,11 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
                         FUZZY_WATCH_PATTERN_OVER_LIMIT.getMsg());
             }
             
-            long matchBeginTime = System.currentTimeMillis();
+            Set<String> matchedServices = computePatternContextIfAbsent(matchedServiceKeysMap, completedPattern,
+                    k -> new HashSet<>());
             Set<Service> namespaceServices = ServiceManager.getInstance()
                     .getSingletons(getNamespaceFromPattern(completedPattern));
-            Set<String> matchedServices = matchedServiceKeysMap.computeIfAbsent(completedPattern, k -> new HashSet<>());
+            long matchBeginTime = System.currentTimeMillis();
             boolean overMatchCount = false;
             for (Service service : namespaceServices) {
                 if (FuzzyGroupKeyPattern.matchPattern(completedPattern, service.getName(), service.getGroup(),
@@ -325,7 +353,7 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
                             NamingUtils.getServiceKey(service.getNamespace(), service.getGroup(), service.getName()));
                 }
             }
-            matchedServiceKeysMap.putIfAbsent(completedPattern, matchedServices);
+            computePatternContextIfAbsent(matchedServiceKeysMap, completedPattern, k -> matchedServices);
             Loggers.SRV_LOG.info("FUZZY_WATCH: pattern {} match {} services, overMatchCount={},cost {}ms",
                     completedPattern, matchedServices.size(), overMatchCount,
                     System.currentTimeMillis() - matchBeginTime);
@@ -28,10 +28,13 @@ import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushRevisionLogManager;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -60,6 +63,12 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    /**
+     * Parsed instances of each publisher client for each service, used to rebuild push data without parsing the
+     * unchanged instances again.
+     */
+    private final ConcurrentMap<Service, ConcurrentMap<String, ClientInstances>> serviceClientInstancesIndex;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +77,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceClientInstancesIndex = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +99,16 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Remove the cached data and indexes of service, including the push revision log of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceClientInstancesIndex.remove(service);
+        PushRevisionLogManager.getInstance().removeRevisionLog(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -103,45 +120,63 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Collect all instances of service from the registered clients.
+     *
+     * <p>Every registered client is still visited on each rebuild, but the visit of an unchanged client is only an
+     * identity check of its publish info and metadata against {@link #serviceClientInstancesIndex}. Only changed
+     * clients are parsed and merged with metadata again. The parsed instances are not maintained from client operation
+     * and metadata events, because health status is changed in place without such events, and the events are handled
+     * asynchronously so they may arrive after the debounced push task has rebuilt the data.
+     *
+     * @param service service
+     * @return all instances of service
+     */
     private List<Instance> getAllInstancesFromIndex(Service service) {
         Set<Instance> result = new HashSet<>();
         Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+        ConcurrentMap<String, ClientInstances> clientInstancesMap = serviceClientInstancesIndex
+                .computeIfAbsent(service, key -> new ConcurrentHashMap<>(16));
+        Collection<String> registeredClients = serviceIndexesManager.getAllClientsRegisteredService(service);
+        for (String each : registeredClients) {
             Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
-                }
+            if (!instancePublishInfo.isPresent()) {
+                clientInstancesMap.remove(each);
+                continue;
+            }
+            ClientInstances clientInstances = clientInstancesMap.get(each);
+            if (null == clientInstances || !clientInstances.isUpToDate(service, instancePublishInfo.get())) {
+                clientInstances = parseClientInstances(service, instancePublishInfo.get());
+                clientInstancesMap.put(each, clientInstances);
+            }
+            result.addAll(clientInstances.instances);
+            for (Instance instance : clientInstances.instances) {
+                clusters.add(instance.getClusterName());
             }
         }
+        if (clientInstancesMap.size() > registeredClients.size()) {
+            clientInstancesMap.keySet().retainAll(registeredClients);
+        }
         // cache clusters of this service
         serviceClusterIndex.put(service, clusters);
         return new LinkedList<>(result);
     }
     
-    /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
-     */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private ClientInstances parseClientInstances(Service service, InstancePublishInfo publishInfo) {
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        List<InstancePublishInfo> publishInfos = publishInfo instanceof BatchInstancePublishInfo
+                ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                : Collections.singletonList(publishInfo);
+        List<Instance> instances = new ArrayList<>(publishInfos.size());
+        boolean[] healthy = new boolean[publishInfos.size()];
+        InstanceMetadata[] metadata = new InstanceMetadata[publishInfos.size()];
+        for (int i = 0; i < publishInfos.size(); i++) {
+            InstancePublishInfo each = publishInfos.get(i);
+            healthy[i] = each.isHealthy();
+            metadata[i] = metadataManager.getInstanceMetadata(service, each.getMetadataId()).orElse(null);
+            instances.add(parseInstance(service, each, metadata[i]));
         }
-        return resultInstanceList;
+        return new ClientInstances(publishInfo, healthy, metadata, instances);
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
@@ -153,10 +188,61 @@ public class ServiceStorage {
     }
     
     private Instance parseInstance(Service service, InstancePublishInfo instanceInfo) {
+        return parseInstance(service, instanceInfo,
+                metadataManager.getInstanceMetadata(service, instanceInfo.getMetadataId()).orElse(null));
+    }
+    
+    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo, InstanceMetadata metadata) {
         Instance result = InstanceUtil.parseToApiInstance(service, instanceInfo);
-        Optional<InstanceMetadata> metadata = metadataManager
-                .getInstanceMetadata(service, instanceInfo.getMetadataId());
-        metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
+        if (null != metadata) {
+            InstanceUtil.updateInstanceMetadata(result, metadata);
+        }
         return result;
     }
+    
+    /**
+     * Parsed instances of one publisher client.
+     *
+     * <p>The publish info will be replaced when client re-registers and the instance metadata will be replaced when
+     * it's updated, only the healthy status is changed in place. So the parsed instances are up-to-date if all of them
+     * are the same.
+     */
+    private class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final boolean[] healthy;
+        
+        private final InstanceMetadata[] metadata;
+        
+        private final List<Instance> instances;
+        
+        private ClientInstances(InstancePublishInfo publishInfo, boolean[] healthy, InstanceMetadata[] metadata,
+                List<Instance> instances) {
+            this.publishInfo = publishInfo;
+            this.healthy = healthy;
+            this.metadata = metadata;
+            this.instances = instances;
+        }
+        
+        private boolean isUpToDate(Service service, InstancePublishInfo currentPublishInfo) {
+            if (publishInfo != currentPublishInfo) {
+                return false;
+            }
+            List<InstancePublishInfo> publishInfos = publishInfo instanceof BatchInstancePublishInfo
+                    ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                    : Collections.singletonList(publishInfo);
+            if (publishInfos.size() != healthy.length) {
+                return false;
+            }
+            for (int i = 0; i < healthy.length; i++) {
+                InstancePublishInfo each = publishInfos.get(i);
+                if (each.isHealthy() != healthy[i] || metadata[i] != metadataManager
+                        .getInstanceMetadata(service, each.getMetadataId()).orElse(null)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.misc.Loggers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for client beat check tasks.
+ *
+ * <p>Each task has only one deadline in the wheel, and {@link #tick()} only touches the tasks whose deadline passed.
+ * Tasks with deadline beyond one round of the wheel stay in their bucket until the deadline. Adding and removing tasks
+ * are thread safe, {@link #tick()} should be called by a single thread.
+ *
+ * @author Nacos
+ */
+class BeatCheckTimingWheel {
+    
+    private final long tickMillis;
+    
+    private final int mask;
+    
+    private final List<List<WheelEntry>> buckets;
+    
+    private final Queue<WheelEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    
+    private final Map<String, WheelEntry> entries = new ConcurrentHashMap<>();
+    
+    private final Consumer<Runnable> firer;
+    
+    private long currentTick;
+    
+    /**
+     * Create timing wheel.
+     *
+     * @param tickMillis millis of each tick
+     * @param wheelSize  bucket count, will be rounded up to power of 2
+     * @param firer      executor of expired tasks
+     */
+    BeatCheckTimingWheel(long tickMillis, int wheelSize, Consumer<Runnable> firer) {
+        this.tickMillis = tickMillis;
+        int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.firer = firer;
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+    }
+    
+    /**
+     * Schedule task at the deadline, the previous deadline of the same key will be replaced.
+     *
+     * @param key      task key
+     * @param task     task
+     * @param deadline deadline in millis
+     */
+    void schedule(String key, Runnable task, long deadline) {
+        WheelEntry entry = new WheelEntry(key, task, deadline);
+        WheelEntry previous = entries.put(key, entry);
+        if (null != previous) {
+            previous.cancelled = true;
+        }
+        pendingEntries.offer(entry);
+    }
+    
+    /**
+     * Cancel task of the key.
+     *
+     * @param key task key
+     */
+    void cancel(String key) {
+        WheelEntry entry = entries.remove(key);
+        if (null != entry) {
+            entry.cancelled = true;
+        }
+    }
+    
+    int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Advance the wheel to current time and fire the expired tasks.
+     */
+    void tick() {
+        long now = System.currentTimeMillis();
+        transferPendingEntries();
+        long targetTick = now / tickMillis;
+        // each bucket only needs to be visited once even if the wheel is late for more than one round.
+        currentTick = Math.max(currentTick, targetTick - mask);
+        while (currentTick <= targetTick) {
+            expireBucket(buckets.get((int) (currentTick & mask)), now);
+            currentTick++;
+        }
+        // the bucket of target tick may get new entries before target tick end.
+        currentTick = targetTick;
+    }
+    
+    private void transferPendingEntries() {
+        WheelEntry entry;
+        while (null != (entry = pendingEntries.poll())) {
+            if (entry.cancelled) {
+                continue;
+            }
+            long tick = Math.max(entry.deadline / tickMillis, currentTick);
+            buckets.get((int) (tick & mask)).add(entry);
+        }
+    }
+    
+    private void expireBucket(List<WheelEntry> bucket, long now) {
+        Iterator<WheelEntry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            WheelEntry entry = iterator.next();
+            if (entry.cancelled) {
+                iterator.remove();
+                continue;
+            }
+            if (entry.deadline > now) {
+                continue;
+            }
+            iterator.remove();
+            if (entries.remove(entry.key, entry)) {
+                fire(entry);
+            }
+        }
+    }
+    
+    private void fire(WheelEntry entry) {
+        try {
+            firer.accept(entry.task);
+        } catch (Exception e) {
+            Loggers.SRV_LOG.warn("[BEAT-CHECK-WHEEL] fire task {} failed.", entry.key, e);
+        }
+    }
+    
+    private static class WheelEntry {
+        
+        private final String key;
+        
+        private final Runnable task;
+        
+        private final long deadline;
+        
+        private volatile boolean cancelled;
+        
+        private WheelEntry(String key, Runnable task, long deadline) {
+            this.key = key;
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.naming.healthcheck;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
+import com.alibaba.nacos.naming.healthcheck.heartbeat.ClientBeatCheckTaskV2;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
@@ -35,6 +37,14 @@ import java.util.concurrent.TimeUnit;
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
+    private static final long BEAT_CHECK_INITIAL_DELAY = 5000L;
+    
+    private static final long BEAT_CHECK_MAX_DELAY = Constants.DEFAULT_HEART_BEAT_TIMEOUT;
+    
+    private static final long BEAT_CHECK_WHEEL_TICK = 500L;
+    
+    private static final int BEAT_CHECK_WHEEL_SIZE = 64;
+    
     private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
     
     /**
@@ -54,6 +64,12 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void scheduleCheck(BeatCheckTask task) {
+        if (task instanceof ClientBeatCheckTaskV2) {
+            ClientBeatCheckTaskV2 clientTask = (ClientBeatCheckTaskV2) task;
+            BeatCheckWheelHolder.WHEEL.schedule(task.taskKey(), () -> fireBeatCheck(clientTask),
+                    System.currentTimeMillis() + BEAT_CHECK_INITIAL_DELAY);
+            return;
+        }
         Runnable wrapperTask =
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
@@ -67,6 +83,11 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
+        if (task instanceof ClientBeatCheckTaskV2) {
+            ((ClientBeatCheckTaskV2) task).setCancelled(true);
+            BeatCheckWheelHolder.WHEEL.cancel(task.taskKey());
+            return;
+        }
         ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
         if (scheduledFuture == null) {
             return;
@@ -79,6 +100,45 @@ public class HealthCheckReactor {
         }
     }
     
+    /**
+     * Check client beat only if the deadline of one instance passed, then schedule it to the next deadline which is
+     * moved by beats refreshed from {@code ClientBeatProcessorV2}.
+     */
+    private static void fireBeatCheck(ClientBeatCheckTaskV2 task) {
+        if (task.isCancelled()) {
+            return;
+        }
+        try {
+            if (System.currentTimeMillis() >= task.getNextCheckTime()) {
+                new HealthCheckTaskInterceptWrapper(task).run();
+            }
+        } finally {
+            if (!task.isCancelled()) {
+                BeatCheckWheelHolder.WHEEL.schedule(task.taskKey(), () -> fireBeatCheck(task),
+                        getNextBeatCheckTime(task));
+            }
+        }
+    }
+    
+    private static long getNextBeatCheckTime(ClientBeatCheckTaskV2 task) {
+        long now = System.currentTimeMillis();
+        long delay = task.getNextCheckTime() - now;
+        if (delay <= 0) {
+            // deadline passed but not handled, such as not responsible, check it again as before.
+            delay = BEAT_CHECK_INITIAL_DELAY;
+        }
+        return now + Math.min(delay, BEAT_CHECK_MAX_DELAY);
+    }
+    
+    /**
+     * Count of client beat check tasks in timing wheel.
+     *
+     * @return count of client beat check tasks
+     */
+    public static int getBeatCheckTaskCount() {
+        return BeatCheckWheelHolder.WHEEL.size();
+    }
+    
     /**
      * Schedule client beat check task without a delay.
      *
@@ -88,4 +148,20 @@ public class HealthCheckReactor {
     public static ScheduledFuture<?> scheduleNow(Runnable task) {
         return GlobalExecutor.scheduleNamingHealth(task, 0, TimeUnit.MILLISECONDS);
     }
+    
+    private static class BeatCheckWheelHolder {
+        
+        private static final BeatCheckTimingWheel WHEEL = new BeatCheckTimingWheel(BEAT_CHECK_WHEEL_TICK,
+                BEAT_CHECK_WHEEL_SIZE, task -> GlobalExecutor.scheduleNamingHealth(task, 0, TimeUnit.MILLISECONDS));
+        
+        static {
+            GlobalExecutor.scheduleNamingHealth(() -> {
+                try {
+                    WHEEL.tick();
+                } catch (Throwable e) {
+                    Loggers.SRV_LOG.error("[BEAT-CHECK-WHEEL] tick failed.", e);
+                }
+            }, BEAT_CHECK_WHEEL_TICK, BEAT_CHECK_WHEEL_TICK, TimeUnit.MILLISECONDS);
+        }
+    }
 }
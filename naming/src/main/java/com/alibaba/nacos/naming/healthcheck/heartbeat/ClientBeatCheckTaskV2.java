@@ -16,10 +16,15 @@
 
 package com.alibaba.nacos.naming.healthcheck.heartbeat;
 
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.naming.PreservedMetadataKeys;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.naming.consistency.KeyBuilder;
 import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.NacosHealthCheckTask;
 import com.alibaba.nacos.naming.misc.GlobalConfig;
@@ -27,6 +32,7 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Client beat check task of service for version 2.x.
@@ -41,6 +47,8 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
     
     private final InstanceBeatCheckTaskInterceptorChain interceptorChain;
     
+    private volatile boolean cancelled;
+    
     public ClientBeatCheckTaskV2(IpPortBasedClient client) {
         this.client = client;
         this.taskId = client.getResponsibleId();
@@ -61,6 +69,50 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
         return taskId;
     }
     
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+    
+    /**
+     * Get the earliest time that one of the instances of this client may be unhealthy or expired by beat timeout.
+     *
+     * @return next check time, {@link Long#MAX_VALUE} if no instance need be checked
+     */
+    public long getNextCheckTime() {
+        long result = Long.MAX_VALUE;
+        boolean expireInstance = getGlobalConfig().isExpireInstance();
+        for (Service each : client.getAllPublishedService()) {
+            HealthCheckInstancePublishInfo instance = (HealthCheckInstancePublishInfo) client
+                    .getInstancePublishInfo(each);
+            if (null == instance) {
+                continue;
+            }
+            if (instance.isHealthy()) {
+                result = Math.min(result, instance.getLastHeartBeatTime() + getTimeout(each, instance,
+                        PreservedMetadataKeys.HEART_BEAT_TIMEOUT, Constants.DEFAULT_HEART_BEAT_TIMEOUT));
+            }
+            if (expireInstance) {
+                result = Math.min(result, instance.getLastHeartBeatTime() + getTimeout(each, instance,
+                        PreservedMetadataKeys.IP_DELETE_TIMEOUT, Constants.DEFAULT_IP_DELETE_TIMEOUT));
+            }
+        }
+        return result;
+    }
+    
+    private long getTimeout(Service service, InstancePublishInfo instance, String key, long defaultValue) {
+        Optional<Object> timeout = ApplicationUtils.getBean(NamingMetadataManager.class)
+                .getInstanceMetadata(service, instance.getMetadataId())
+                .map(metadata -> metadata.getExtendData().get(key));
+        if (!timeout.isPresent()) {
+            timeout = Optional.ofNullable(instance.getExtendDatum().get(key));
+        }
+        return timeout.map(ConvertUtils::toLong).orElse(defaultValue);
+    }
+    
     @Override
     public void doHealthCheck() {
         try {
@@ -77,6 +77,16 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong pushPayloadCacheHit = new AtomicLong();
+    
+    private final AtomicLong pushPayloadCacheMiss = new AtomicLong();
+    
+    private final AtomicLong namingEventPublisherLag = new AtomicLong();
+    
+    private final AtomicLong namingEventPublisherDropped = new AtomicLong();
+    
+    private final AtomicLong namingEventPublisherMaxBatchSize = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -198,6 +208,26 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getPushPayloadCacheHit() {
+        return INSTANCE.pushPayloadCacheHit;
+    }
+    
+    public static AtomicLong getPushPayloadCacheMiss() {
+        return INSTANCE.pushPayloadCacheMiss;
+    }
+    
+    public static AtomicLong getNamingEventPublisherLag() {
+        return INSTANCE.namingEventPublisherLag;
+    }
+    
+    public static AtomicLong getNamingEventPublisherDropped() {
+        return INSTANCE.namingEventPublisherDropped;
+    }
+    
+    public static AtomicLong getNamingEventPublisherMaxBatchSize() {
+        return INSTANCE.namingEventPublisherMaxBatchSize;
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -235,6 +265,14 @@ public class MetricsMonitor {
         INSTANCE.emptyPush.incrementAndGet();
     }
     
+    public static void incrementPushPayloadCacheHit() {
+        INSTANCE.pushPayloadCacheHit.incrementAndGet();
+    }
+    
+    public static void incrementPushPayloadCacheMiss() {
+        INSTANCE.pushPayloadCacheMiss.incrementAndGet();
+    }
+    
     public static void incrementInstanceCount() {
         INSTANCE.ipCount.incrementAndGet();
     }
@@ -318,5 +356,7 @@ public class MetricsMonitor {
         getTotalPushCountForAvg().set(0);
         getMaxPushCostMonitor().set(-1);
         getAvgPushCostMonitor().set(-1);
+        getPushPayloadCacheHit().set(0);
+        getPushPayloadCacheMiss().set(0);
     }
 }
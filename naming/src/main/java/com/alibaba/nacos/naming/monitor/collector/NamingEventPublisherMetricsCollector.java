@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.monitor.collector;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.notify.BatchEventPublisher;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Naming batch event publisher metrics collector, collects the lag, dropped count and max batch size of all batch
+ * event publishers.
+ *
+ * @author Nacos
+ */
+@Service
+public class NamingEventPublisherMetricsCollector {
+    
+    private static final long DELAY_SECONDS = 2;
+    
+    private static ScheduledExecutorService executorService = ExecutorFactory.newSingleScheduledExecutorService(r -> {
+        Thread thread = new Thread(r, "nacos.naming.monitor.NamingEventPublisherMetricsCollector");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    public NamingEventPublisherMetricsCollector() {
+        executorService.scheduleWithFixedDelay(() -> {
+            long lag = 0L;
+            long dropped = 0L;
+            long maxBatchSize = 0L;
+            for (BatchEventPublisher each : NamingEventPublisherFactory.getInstance().getBatchEventPublishers()) {
+                lag += each.getLag();
+                dropped += each.getDroppedCount();
+                maxBatchSize = Math.max(maxBatchSize, each.getMaxBatchSize());
+            }
+            MetricsMonitor.getNamingEventPublisherLag().set(lag);
+            MetricsMonitor.getNamingEventPublisherDropped().set(dropped);
+            MetricsMonitor.getNamingEventPublisherMaxBatchSize().set(maxBatchSize);
+        }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.pojo;
 
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -46,6 +47,11 @@ public class Subscriber implements Serializable {
     
     private String cluster;
     
+    /**
+     * The latest push revision which has been acknowledged by this subscriber, {@code 0} means unknown.
+     */
+    private transient volatile long pushedRevision;
+    
     public Subscriber() {
     }
     
@@ -130,6 +136,16 @@ public class Subscriber implements Serializable {
         this.cluster = cluster;
     }
     
+    @JsonIgnore
+    public long getPushedRevision() {
+        return pushedRevision;
+    }
+    
+    @JsonIgnore
+    public void setPushedRevision(long pushedRevision) {
+        this.pushedRevision = pushedRevision;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
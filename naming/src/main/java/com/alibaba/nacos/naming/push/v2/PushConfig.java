@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.push.v2;
 
+import com.alibaba.nacos.common.task.engine.DelayTaskProcessMode;
 import com.alibaba.nacos.core.config.AbstractDynamicConfig;
 import com.alibaba.nacos.naming.constants.PushConstants;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -37,6 +38,16 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private boolean pushIncrementalEnabled = PushConstants.DEFAULT_PUSH_INCREMENTAL_ENABLED;
+    
+    private int pushIncrementalRevisionLogSize = PushConstants.DEFAULT_PUSH_INCREMENTAL_REVISION_LOG_SIZE;
+    
+    private int pushIncrementalMaxFilterCount = PushConstants.DEFAULT_PUSH_INCREMENTAL_MAX_FILTER_COUNT;
+    
+    private DelayTaskProcessMode pushDelayEngineMode = DelayTaskProcessMode.SCAN;
+    
+    private int pushDelayEngineThreads = PushConstants.DEFAULT_PUSH_DELAY_ENGINE_THREADS;
+    
     private PushConfig() {
         super(PUSH);
         resetConfig();
@@ -50,12 +61,25 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        pushIncrementalEnabled = EnvUtil.getProperty(PushConstants.PUSH_INCREMENTAL_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_PUSH_INCREMENTAL_ENABLED);
+        pushIncrementalRevisionLogSize = EnvUtil.getProperty(PushConstants.PUSH_INCREMENTAL_REVISION_LOG_SIZE,
+                Integer.class, PushConstants.DEFAULT_PUSH_INCREMENTAL_REVISION_LOG_SIZE);
+        pushIncrementalMaxFilterCount = EnvUtil.getProperty(PushConstants.PUSH_INCREMENTAL_MAX_FILTER_COUNT,
+                Integer.class, PushConstants.DEFAULT_PUSH_INCREMENTAL_MAX_FILTER_COUNT);
+        pushDelayEngineMode = DelayTaskProcessMode.parse(EnvUtil.getProperty(PushConstants.PUSH_DELAY_ENGINE_MODE,
+                PushConstants.DEFAULT_PUSH_DELAY_ENGINE_MODE), DelayTaskProcessMode.SCAN);
+        pushDelayEngineThreads = EnvUtil.getProperty(PushConstants.PUSH_DELAY_ENGINE_THREADS, Integer.class,
+                PushConstants.DEFAULT_PUSH_DELAY_ENGINE_THREADS);
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", pushIncrementalEnabled=" + pushIncrementalEnabled
+                + ", pushIncrementalRevisionLogSize=" + pushIncrementalRevisionLogSize
+                + ", pushIncrementalMaxFilterCount=" + pushIncrementalMaxFilterCount + ", pushDelayEngineMode="
+                + pushDelayEngineMode + ", pushDelayEngineThreads=" + pushDelayEngineThreads + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +97,24 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public boolean isPushIncrementalEnabled() {
+        return pushIncrementalEnabled;
+    }
+    
+    public int getPushIncrementalRevisionLogSize() {
+        return pushIncrementalRevisionLogSize;
+    }
+    
+    public int getPushIncrementalMaxFilterCount() {
+        return pushIncrementalMaxFilterCount;
+    }
+    
+    public DelayTaskProcessMode getPushDelayEngineMode() {
+        return pushDelayEngineMode;
+    }
+    
+    public int getPushDelayEngineThreads() {
+        return pushDelayEngineThreads;
+    }
 }
@@ -18,10 +18,11 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Nacos push data wrapper.
@@ -36,16 +37,38 @@ public class PushDataWrapper {
     
     private final Map<String, Object> processedDatum;
     
+    private final Service service;
+    
+    /**
+     * Push revision of this data, {@code 0} means no revision.
+     */
+    private final long revision;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(null, serviceMetadata, originalData, 0L);
+    }
+    
+    public PushDataWrapper(Service service, ServiceMetadata serviceMetadata, ServiceInfo originalData,
+            long revision) {
+        this.service = service;
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
-        processedDatum = new HashMap<>(1);
+        this.revision = revision;
+        processedDatum = new ConcurrentHashMap<>(4);
     }
     
     public ServiceInfo getOriginalData() {
         return originalData;
     }
     
+    public Service getService() {
+        return service;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
     public ServiceMetadata getServiceMetadata() {
         return serviceMetadata;
     }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holder of push revision logs for incremental naming push.
+ *
+ * <p>The revision is generated globally so that the revisions of one subscriber never conflict even if the revision
+ * log of the service is removed and created again.
+ *
+ * @author Nacos
+ */
+public class PushRevisionLogManager {
+    
+    private static final PushRevisionLogManager INSTANCE = new PushRevisionLogManager();
+    
+    private final AtomicLong revisionGenerator = new AtomicLong();
+    
+    private final ConcurrentMap<Service, ServicePushRevisionLog> revisionLogs = new ConcurrentHashMap<>();
+    
+    private PushRevisionLogManager() {
+    }
+    
+    public static PushRevisionLogManager getInstance() {
+        return INSTANCE;
+    }
+    
+    public long nextRevision() {
+        return revisionGenerator.incrementAndGet();
+    }
+    
+    public ServicePushRevisionLog getRevisionLog(Service service) {
+        return revisionLogs.computeIfAbsent(service, key -> new ServicePushRevisionLog());
+    }
+    
+    public void removeRevisionLog(Service service) {
+        revisionLogs.remove(service);
+    }
+}
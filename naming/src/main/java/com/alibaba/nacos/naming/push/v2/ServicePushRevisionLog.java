@@ -0,0 +1,139 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pushed instances of recent revisions for one service.
+ *
+ * <p>The pushed instances are different for subscribers with different filters, so the snapshots are kept for each
+ * filter fingerprint separately. The count of fingerprints is bounded, and the fingerprint least recently recorded is
+ * evicted first, its subscribers get full push again.
+ *
+ * @author Nacos
+ */
+public class ServicePushRevisionLog {
+    
+    private final ConcurrentMap<String, Deque<RevisionSnapshot>> snapshots = new ConcurrentHashMap<>(2);
+    
+    /**
+     * Record pushed instances of revision for subscriber filter.
+     *
+     * @param fingerprint         subscriber filter fingerprint
+     * @param revision            push revision
+     * @param hosts               pushed instances
+     * @param maxSize             max revision count kept for this fingerprint
+     * @param maxFingerprintCount max fingerprint count kept for this service
+     */
+    public void record(String fingerprint, long revision, List<Instance> hosts, int maxSize,
+            int maxFingerprintCount) {
+        Map<String, Instance> instances = new HashMap<>(hosts.size() * 4 / 3 + 1);
+        for (Instance each : hosts) {
+            instances.put(NamingUtils.getInstanceKey(each), each);
+        }
+        Deque<RevisionSnapshot> deque = snapshots.computeIfAbsent(fingerprint, key -> new LinkedList<>());
+        synchronized (deque) {
+            deque.addLast(new RevisionSnapshot(revision, Collections.unmodifiableMap(instances)));
+            while (deque.size() > maxSize) {
+                deque.removeFirst();
+            }
+        }
+        while (snapshots.size() > Math.max(1, maxFingerprintCount) && evictLeastRecentFingerprint(fingerprint)) {
+            // evict until the fingerprint count is not over limit.
+        }
+    }
+    
+    private boolean evictLeastRecentFingerprint(String excludedFingerprint) {
+        String evicted = null;
+        long evictedRevision = Long.MAX_VALUE;
+        for (Map.Entry<String, Deque<RevisionSnapshot>> entry : snapshots.entrySet()) {
+            if (entry.getKey().equals(excludedFingerprint)) {
+                continue;
+            }
+            long latestRevision = getLatestRevision(entry.getValue());
+            if (latestRevision < evictedRevision) {
+                evicted = entry.getKey();
+                evictedRevision = latestRevision;
+            }
+        }
+        return null != evicted && null != snapshots.remove(evicted);
+    }
+    
+    private long getLatestRevision(Deque<RevisionSnapshot> deque) {
+        synchronized (deque) {
+            return deque.isEmpty() ? 0L : deque.peekLast().revision;
+        }
+    }
+    
+    /**
+     * Get the count of subscriber filter fingerprints kept.
+     *
+     * @return fingerprint count
+     */
+    public int fingerprintCount() {
+        return snapshots.size();
+    }
+    
+    /**
+     * Get pushed instances of revision for subscriber filter.
+     *
+     * @param fingerprint subscriber filter fingerprint
+     * @param revision    push revision
+     * @return instance key -> instance, empty if the revision has been evicted or never recorded
+     */
+    public Optional<Map<String, Instance>> getSnapshot(String fingerprint, long revision) {
+        Deque<RevisionSnapshot> deque = snapshots.get(fingerprint);
+        if (null == deque) {
+            return Optional.empty();
+        }
+        synchronized (deque) {
+            Iterator<RevisionSnapshot> iterator = deque.descendingIterator();
+            while (iterator.hasNext()) {
+                RevisionSnapshot each = iterator.next();
+                if (each.revision == revision) {
+                    return Optional.of(each.instances);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static class RevisionSnapshot {
+        
+        private final long revision;
+        
+        private final Map<String, Instance> instances;
+        
+        private RevisionSnapshot(long revision, Map<String, Instance> instances) {
+            this.revision = revision;
+            this.instances = instances;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.core.remote.grpc.PayloadTemplate;
+import com.alibaba.nacos.core.remote.grpc.PreEncodedRequest;
+
+/**
+ * Rpc push payload for subscribers with equivalent filters, the service info is selected and encoded only once.
+ *
+ * @author Nacos
+ */
+public class NotifySubscriberPayload {
+    
+    private final ServiceInfo serviceInfo;
+    
+    private final NotifySubscriberRequest prototype;
+    
+    private final PayloadTemplate payloadTemplate;
+    
+    public NotifySubscriberPayload(ServiceInfo serviceInfo) {
+        this(serviceInfo, NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+    }
+    
+    /**
+     * Create push payload by prototype request.
+     *
+     * @param serviceInfo the actual service info of subscriber after this push
+     * @param prototype   prototype request, which may only carry the changed instances
+     */
+    public NotifySubscriberPayload(ServiceInfo serviceInfo, NotifySubscriberRequest prototype) {
+        this.serviceInfo = serviceInfo;
+        this.prototype = prototype;
+        this.payloadTemplate = PayloadTemplate.of(prototype);
+    }
+    
+    public ServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
+    
+    public boolean isIncremental() {
+        return prototype.isIncremental();
+    }
+    
+    /**
+     * Build a new request for one subscriber, the request shares the encoded payload with other subscribers.
+     *
+     * @return notify subscriber request
+     */
+    public NotifySubscriberRequest newRequest() {
+        NotifySubscriberRequest result = null == payloadTemplate ? new NotifySubscriberRequest()
+                : new PreEncodedNotifySubscriberRequest(payloadTemplate);
+        result.setServiceInfo(prototype.getServiceInfo());
+        result.setRevision(prototype.getRevision());
+        result.setIncremental(prototype.isIncremental());
+        result.setBaseRevision(prototype.getBaseRevision());
+        result.setAddedInstances(prototype.getAddedInstances());
+        result.setRemovedInstances(prototype.getRemovedInstances());
+        result.setModifiedInstances(prototype.getModifiedInstances());
+        return result;
+    }
+    
+    /**
+     * Notify subscriber request which reuse the pre-encoded payload.
+     */
+    private static class PreEncodedNotifySubscriberRequest extends NotifySubscriberRequest implements PreEncodedRequest {
+        
+        private final PayloadTemplate payloadTemplate;
+        
+        private PreEncodedNotifySubscriberRequest(PayloadTemplate payloadTemplate) {
+            this.payloadTemplate = payloadTemplate;
+        }
+        
+        @Override
+        public PayloadTemplate getPayloadTemplate() {
+            return payloadTemplate;
+        }
+    }
+}
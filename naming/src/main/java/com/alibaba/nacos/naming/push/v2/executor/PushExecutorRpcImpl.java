@@ -16,18 +16,35 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.AbstractFuzzyWatchNotifyRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.PushRevisionLogManager;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * Push execute service for rpc.
  *
@@ -36,6 +53,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String PUSH_PAYLOAD_KEY_PREFIX = "rpc@@";
+    
+    private static final String PUSH_PAYLOAD_KEY_SPLITTER = "@@";
+    
     private final RpcPushService pushService;
     
     public PushExecutorRpcImpl(RpcPushService pushService) {
@@ -44,17 +65,147 @@ public class PushExecutorRpcImpl implements PushExecutor {
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
-        pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+        pushService.pushWithoutAck(clientId, getPushPayload(clientId, data, subscriber).newRequest());
     }
     
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
-        callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        NotifySubscriberPayload payload = getPushPayload(clientId, data, subscriber);
+        callBack.setActualServiceInfo(payload.getServiceInfo());
+        pushService.pushWithCallback(clientId, payload.newRequest(), callBack, GlobalExecutor.getCallbackExecutor());
+    }
+    
+    private NotifySubscriberPayload getPushPayload(String clientId, PushDataWrapper data, Subscriber subscriber) {
+        String fingerprint = buildFilterFingerprint(data, subscriber);
+        NotifySubscriberPayload fullPayload = getFullPushPayload(fingerprint, data, subscriber);
+        long baseRevision = subscriber.getPushedRevision();
+        if (!isIncrementalPushAvailable(clientId, data, baseRevision)) {
+            return fullPayload;
+        }
+        return getIncrementalPushPayload(fingerprint, data, baseRevision, fullPayload).orElse(fullPayload);
+    }
+    
+    /**
+     * Get full push payload for subscriber, subscribers with same filter fingerprint share the selected and encoded
+     * payload within one push data.
+     *
+     * @param fingerprint filter fingerprint of subscriber
+     * @param data        push data
+     * @param subscriber  subscriber
+     * @return full push payload
+     */
+    private NotifySubscriberPayload getFullPushPayload(String fingerprint, PushDataWrapper data,
+            Subscriber subscriber) {
+        String key = PUSH_PAYLOAD_KEY_PREFIX + fingerprint;
+        Optional<NotifySubscriberPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            MetricsMonitor.incrementPushPayloadCacheHit();
+            return cached.get();
+        }
+        MetricsMonitor.incrementPushPayloadCacheMiss();
+        ServiceInfo serviceInfo = getServiceInfo(data, subscriber);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRevision(data.getRevision());
+        NotifySubscriberPayload result = new NotifySubscriberPayload(serviceInfo, request);
+        data.addProcessedPushData(key, result);
+        if (isRevisionAvailable(data)) {
+            PushRevisionLogManager.getInstance().getRevisionLog(data.getService())
+                    .record(fingerprint, data.getRevision(), serviceInfo.getHosts(),
+                            PushConfig.getInstance().getPushIncrementalRevisionLogSize(),
+                            PushConfig.getInstance().getPushIncrementalMaxFilterCount());
+        }
+        return result;
+    }
+    
+    private boolean isIncrementalPushAvailable(String clientId, PushDataWrapper data, long baseRevision) {
+        return isRevisionAvailable(data) && baseRevision > 0 && baseRevision < data.getRevision()
+                && AbilityStatus.SUPPORTED == pushService
+                .getConnectionAbility(clientId, AbilityKey.SDK_CLIENT_NAMING_INCREMENTAL_PUSH);
+    }
+    
+    private boolean isRevisionAvailable(PushDataWrapper data) {
+        return PushConfig.getInstance().isPushIncrementalEnabled() && null != data.getService()
+                && data.getRevision() > 0;
+    }
+    
+    /**
+     * Get incremental push payload which only contains the instances changed since base revision. Subscribers with
+     * same filter fingerprint and base revision share the payload within one push data.
+     *
+     * @return incremental push payload, empty if base revision is not found or the changes is not less than full data
+     */
+    private Optional<NotifySubscriberPayload> getIncrementalPushPayload(String fingerprint, PushDataWrapper data,
+            long baseRevision, NotifySubscriberPayload fullPayload) {
+        String key = PUSH_PAYLOAD_KEY_PREFIX + fingerprint + PUSH_PAYLOAD_KEY_SPLITTER + baseRevision;
+        Optional<NotifySubscriberPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            return cached.get().isIncremental() ? cached : Optional.empty();
+        }
+        ServiceInfo serviceInfo = fullPayload.getServiceInfo();
+        Optional<Map<String, Instance>> baseSnapshot = PushRevisionLogManager.getInstance()
+                .getRevisionLog(data.getService()).getSnapshot(fingerprint, baseRevision);
+        if (!baseSnapshot.isPresent()) {
+            data.addProcessedPushData(key, fullPayload);
+            return Optional.empty();
+        }
+        Map<String, Instance> baseInstances = baseSnapshot.get();
+        List<Instance> added = new LinkedList<>();
+        List<Instance> modified = new LinkedList<>();
+        Set<String> currentKeys = new HashSet<>(serviceInfo.getHosts().size() * 4 / 3 + 1);
+        for (Instance each : serviceInfo.getHosts()) {
+            String instanceKey = NamingUtils.getInstanceKey(each);
+            currentKeys.add(instanceKey);
+            Instance baseInstance = baseInstances.get(instanceKey);
+            if (null == baseInstance) {
+                added.add(each);
+            } else if (!baseInstance.equals(each)) {
+                modified.add(each);
+            }
+        }
+        List<Instance> removed = new LinkedList<>();
+        for (Map.Entry<String, Instance> entry : baseInstances.entrySet()) {
+            if (!currentKeys.contains(entry.getKey())) {
+                removed.add(entry.getValue());
+            }
+        }
+        if (added.size() + modified.size() + removed.size() >= serviceInfo.getHosts().size()) {
+            data.addProcessedPushData(key, fullPayload);
+            return Optional.empty();
+        }
+        NotifySubscriberRequest request = NotifySubscriberRequest
+                .buildIncrementalNotifySubscriberRequest(buildServiceInfoWithoutHosts(serviceInfo), baseRevision,
+                        data.getRevision(), added, removed, modified);
+        NotifySubscriberPayload result = new NotifySubscriberPayload(serviceInfo, request);
+        data.addProcessedPushData(key, result);
+        return Optional.of(result);
+    }
+    
+    private ServiceInfo buildServiceInfoWithoutHosts(ServiceInfo serviceInfo) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIps(serviceInfo.isAllIps());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        result.setHosts(new LinkedList<>());
+        return result;
+    }
+    
+    /**
+     * The selected instances depend on subscriber ip only when service has a selector which isn't {@link NoneSelector}.
+     */
+    private String buildFilterFingerprint(PushDataWrapper data, Subscriber subscriber) {
+        String cluster = StringUtils.defaultIfEmpty(subscriber.getCluster(), StringUtils.EMPTY);
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        if (null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector) {
+            return cluster;
+        }
+        return cluster + PUSH_PAYLOAD_KEY_SPLITTER + subscriber.getIp();
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -51,11 +51,8 @@ public class FuzzyWatchPushDelayTaskEngine extends NacosDelayTaskExecuteEngine {
     }
     
     @Override
-    protected void processTasks() {
-        if (!switchDomain.isPushEnabled()) {
-            return;
-        }
-        super.processTasks();
+    protected boolean canProcessTasks() {
+        return switchDomain.isPushEnabled();
     }
     
     private static class WatchPushDelayTaskProcessor implements NacosTaskProcessor {
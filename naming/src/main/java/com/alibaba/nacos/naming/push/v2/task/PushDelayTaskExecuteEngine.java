@@ -27,6 +27,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
 /**
@@ -51,7 +52,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
-        super(PushDelayTaskExecuteEngine.class.getSimpleName(), Loggers.PUSH);
+        super(PushDelayTaskExecuteEngine.class.getSimpleName(), 32, Loggers.PUSH, 100L,
+                PushConfig.getInstance().getPushDelayEngineMode(), PushConfig.getInstance().getPushDelayEngineThreads());
         this.clientManager = clientManager;
         this.indexesManager = indexesManager;
         this.serviceStorage = serviceStorage;
@@ -82,11 +84,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     }
     
     @Override
-    protected void processTasks() {
-        if (!switchDomain.isPushEnabled()) {
-            return;
-        }
-        super.processTasks();
+    protected boolean canProcessTasks() {
+        return switchDomain.isPushEnabled();
     }
     
     private static class PushDelayTaskProcessor implements NacosTaskProcessor {
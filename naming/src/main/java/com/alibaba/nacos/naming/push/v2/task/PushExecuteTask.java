@@ -29,6 +29,7 @@ import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.NoRequiredRetryException;
 import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.PushRevisionLogManager;
 import com.alibaba.nacos.naming.push.v2.hook.PushResult;
 import com.alibaba.nacos.naming.push.v2.hook.PushResultHookHolder;
 
@@ -70,7 +71,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
                     continue;
                 }
                 delayTaskEngine.getPushExecutor().doPushWithCallback(each, subscriber, wrapper,
-                        new ServicePushCallback(each, subscriber, wrapper.getOriginalData(), delayTask.isPushToAll()));
+                        new ServicePushCallback(each, subscriber, wrapper.getOriginalData(), wrapper.getRevision(),
+                                delayTask.isPushToAll()));
             }
         } catch (Exception e) {
             Loggers.PUSH.error("Push task for service" + service.getGroupedServiceName() + " execute failed ", e);
@@ -81,7 +83,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
     private PushDataWrapper generatePushData() {
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return new PushDataWrapper(service, serviceMetadata, serviceInfo,
+                PushRevisionLogManager.getInstance().nextRevision());
     }
     
     private Collection<String> getTargetClientIds() {
@@ -97,6 +100,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
         
         private final ServiceInfo serviceInfo;
         
+        private final long revision;
+        
         /**
          * Record the push task execute start time.
          */
@@ -110,11 +115,12 @@ public class PushExecuteTask extends AbstractExecuteTask {
          */
         private ServiceInfo actualServiceInfo;
         
-        private ServicePushCallback(String clientId, Subscriber subscriber, ServiceInfo serviceInfo,
+        private ServicePushCallback(String clientId, Subscriber subscriber, ServiceInfo serviceInfo, long revision,
                 boolean isPushToAll) {
             this.clientId = clientId;
             this.subscriber = subscriber;
             this.serviceInfo = serviceInfo;
+            this.revision = revision;
             this.isPushToAll = isPushToAll;
             this.executeStartTime = System.currentTimeMillis();
             this.actualServiceInfo = serviceInfo;
@@ -131,6 +137,9 @@ public class PushExecuteTask extends AbstractExecuteTask {
             long pushCostTimeForNetWork = pushFinishTime - executeStartTime;
             long pushCostTimeForAll = pushFinishTime - delayTask.getLastProcessTime();
             long serviceLevelAgreementTime = pushFinishTime - service.getLastUpdatedTime();
+            if (revision > subscriber.getPushedRevision()) {
+                subscriber.setPushedRevision(revision);
+            }
             if (isPushToAll) {
                 Loggers.PUSH
                         .info("[PUSH-SUCC] {}ms, all delay time {}ms, SLA {}ms, {}, originalSize={}, DataSize={}, target={}",
@@ -152,6 +161,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
         @Override
         public void onFail(Throwable e) {
             long pushCostTime = System.currentTimeMillis() - executeStartTime;
+            // the pushed revision of subscriber is unknown after failure, so next push will be full data.
+            subscriber.setPushedRevision(0L);
             Loggers.PUSH.error("[PUSH-FAIL] {}ms, {}, reason={}, target={}", pushCostTime, service, e.getMessage(),
                     subscriber.getIp());
             if (!(e instanceof NoRequiredRetryException)) {
@@ -26,6 +26,8 @@ import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.paramcheck.ExtractorManager;
 import com.alibaba.nacos.core.paramcheck.impl.BatchInstanceRequestParamExtractor;
 import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.RequestPriority;
+import com.alibaba.nacos.core.remote.grpc.RequestPriorityClass;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.core.v2.service.impl.EphemeralClientOperationServiceImpl;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
@@ -38,6 +40,7 @@ import org.springframework.stereotype.Component;
  * @author <a href="mailto:chenhao26@xiaomi.com">chenhao26</a>
  */
 @Component("batchInstanceRequestHandler")
+@RequestPriority(RequestPriorityClass.WRITE)
 public class BatchInstanceRequestHandler extends RequestHandler<BatchInstanceRequest, BatchInstanceResponse> {
     
     private final EphemeralClientOperationServiceImpl clientOperationService;
@@ -54,9 +54,12 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         try {
             switch (request.getDataOperation()) {
                 case VERIFY:
+                    if (distroProtocol.isDigestVerify(request.getDistroData())) {
+                        return handleDigestVerify(request.getDistroData(), meta);
+                    }
                     return handleVerify(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return handleSnapshot(request.getDistroData());
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -84,9 +87,26 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
-    private DistroDataResponse handleSnapshot() {
+    private DistroDataResponse handleDigestVerify(DistroData distroData, RequestMeta meta) {
         DistroDataResponse result = new DistroDataResponse();
-        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        DistroData verifyResult = distroProtocol.onDigestVerify(distroData, meta.getClientIp());
+        if (null == verifyResult) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro digest verify failed");
+            return result;
+        }
+        result.setDistroData(verifyResult);
+        return result;
+    }
+    
+    private DistroDataResponse handleSnapshot(DistroData pageData) {
+        DistroDataResponse result = new DistroDataResponse();
+        DistroData distroData;
+        if (null != pageData && null != pageData.getDistroKey()) {
+            distroData = distroProtocol
+                    .onSnapshotPage(DistroClientDataProcessor.TYPE, pageData.getDistroKey().getResourceKey());
+        } else {
+            distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        }
         result.setDistroData(distroData);
         return result;
     }
@@ -30,6 +30,8 @@ import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.paramcheck.ExtractorManager;
 import com.alibaba.nacos.core.paramcheck.impl.InstanceRequestParamExtractor;
 import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.RequestPriority;
+import com.alibaba.nacos.core.remote.grpc.RequestPriorityClass;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.core.v2.service.impl.EphemeralClientOperationServiceImpl;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
@@ -43,6 +45,7 @@ import org.springframework.stereotype.Component;
  * @author xiweng.yy
  */
 @Component
+@RequestPriority(RequestPriorityClass.WRITE)
 public class InstanceRequestHandler extends RequestHandler<InstanceRequest, InstanceResponse> {
     
     private final EphemeralClientOperationServiceImpl clientOperationService;
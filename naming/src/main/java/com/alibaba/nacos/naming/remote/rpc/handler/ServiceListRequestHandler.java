@@ -25,17 +25,14 @@ import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.paramcheck.ExtractorManager;
 import com.alibaba.nacos.core.paramcheck.impl.ServiceListRequestParamExtractor;
 import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.RequestPriority;
+import com.alibaba.nacos.core.remote.grpc.RequestPriorityClass;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
-import com.alibaba.nacos.naming.core.v2.pojo.Service;
-import com.alibaba.nacos.naming.utils.ServiceUtil;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Service list request handler.
@@ -43,6 +40,7 @@ import java.util.Objects;
  * @author xiweng.yy
  */
 @Component
+@RequestPriority(RequestPriorityClass.BULK)
 public class ServiceListRequestHandler extends RequestHandler<ServiceListRequest, ServiceListResponse> {
     
     @Override
@@ -50,27 +48,18 @@ public class ServiceListRequestHandler extends RequestHandler<ServiceListRequest
     @Secured(action = ActionTypes.READ)
     @ExtractorManager.Extractor(rpcExtractor = ServiceListRequestParamExtractor.class)
     public ServiceListResponse handle(ServiceListRequest request, RequestMeta meta) throws NacosException {
-        Collection<Service> serviceSet = ServiceManager.getInstance().getSingletons(request.getNamespace());
+        ServiceManager serviceManager = ServiceManager.getInstance();
         ServiceListResponse result = ServiceListResponse.buildSuccessResponse(0, new LinkedList<>());
-        if (!serviceSet.isEmpty()) {
-            Collection<String> serviceNameSet = selectServiceWithGroupName(serviceSet, request.getGroupName());
+        int count = serviceManager.getServiceCount(request.getNamespace(), request.getGroupName());
+        if (count > 0) {
             // TODO select service by selector
-            List<String> serviceNameList = ServiceUtil
-                    .pageServiceName(request.getPageNo(), request.getPageSize(), serviceNameSet);
-            result.setCount(serviceNameSet.size());
+            List<String> serviceNameList = serviceManager
+                    .pageServiceNames(request.getNamespace(), request.getGroupName(), request.getPageNo(),
+                            request.getPageSize());
+            result.setCount(count);
             result.setServiceNames(serviceNameList);
         }
         return result;
     }
     
-    private Collection<String> selectServiceWithGroupName(Collection<Service> serviceSet, String groupName) {
-        Collection<String> result = new HashSet<>(serviceSet.size());
-        for (Service each : serviceSet) {
-            if (Objects.equals(groupName, each.getGroup())) {
-                result.add(each.getGroupedServiceName());
-            }
-        }
-        return result;
-    }
-    
 }
@@ -26,10 +26,14 @@ class NamingAbilityInitializerTest {
     
     @Test
     void testInitialize() {
-        NamingAbilityInitializer initializer = new NamingAbilityInitializer();
         ServerAbilities abilities = new ServerAbilities();
         assertFalse(abilities.getNamingAbility().isSupportJraft());
+        assertFalse(abilities.getNamingAbility().isSupportDistroDigestVerify());
+        assertFalse(abilities.getNamingAbility().isSupportDistroSnapshotPage());
+        NamingAbilityInitializer initializer = new NamingAbilityInitializer();
         initializer.initialize(abilities);
         assertTrue(abilities.getNamingAbility().isSupportJraft());
+        assertTrue(abilities.getNamingAbility().isSupportDistroDigestVerify());
+        assertTrue(abilities.getNamingAbility().isSupportDistroSnapshotPage());
     }
 }
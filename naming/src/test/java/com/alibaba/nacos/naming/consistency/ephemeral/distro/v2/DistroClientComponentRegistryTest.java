@@ -22,6 +22,7 @@ import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDigestVerifier;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
@@ -80,6 +81,9 @@ class DistroClientComponentRegistryTest {
         DistroTransportAgent transportAgent = componentHolder.findTransportAgent(DistroClientDataProcessor.TYPE);
         assertNotNull(transportAgent);
         
+        DistroDigestVerifier digestVerifier = componentHolder.findDigestVerifier(DistroClientDataProcessor.TYPE);
+        assertNotNull(digestVerifier);
+        
     }
     
 }
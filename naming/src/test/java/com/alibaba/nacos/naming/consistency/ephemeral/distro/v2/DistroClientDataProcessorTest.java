@@ -41,6 +41,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -376,6 +377,26 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotPage() {
+        Client clientA = new ConnectionBasedClient("a", true, 0L);
+        Client clientB = new ConnectionBasedClient("b", true, 0L);
+        when(clientManager.getClient("a")).thenReturn(clientA);
+        when(clientManager.getClient("b")).thenReturn(clientB);
+        when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, "b", "a"));
+        DistroData actual = distroClientDataProcessor.getDatumSnapshotPage("", 2);
+        assertEquals("a", actual.getDistroKey().getResourceKey());
+        assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
+        actual = distroClientDataProcessor.getDatumSnapshotPage("a", 2);
+        assertEquals("", actual.getDistroKey().getResourceKey());
+        ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+        verify(serializer, Mockito.times(2)).serialize(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).getClientSyncDataList().size());
+        assertEquals(CLIENT_ID, captor.getAllValues().get(0).getClientSyncDataList().get(0).getClientId());
+        assertEquals(1, captor.getAllValues().get(1).getClientSyncDataList().size());
+        assertEquals("b", captor.getAllValues().get(1).getClientSyncDataList().get(0).getClientId());
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -0,0 +1,234 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.api.ability.ServerAbilities;
+import com.alibaba.nacos.api.common.NodeState;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.JacksonSerializer;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DistroClientDigestVerifierTest {
+    
+    private static final String TARGET_SERVER = "2.2.2.2:8848";
+    
+    @Mock
+    private ClientManager sourceClientManager;
+    
+    @Mock
+    private ClientManager targetClientManager;
+    
+    @Mock
+    private ClusterRpcClientProxy clusterRpcClientProxy;
+    
+    @Mock
+    private ServerMemberManager memberManager;
+    
+    @Mock
+    private ConfigurableApplicationContext applicationContext;
+    
+    @Mock
+    private Member targetMember;
+    
+    @Mock
+    private Member selfMember;
+    
+    @Mock
+    private DistroCallback callback;
+    
+    private final Map<String, Client> sourceClients = new HashMap<>();
+    
+    private final Map<String, Client> targetClients = new HashMap<>();
+    
+    private DistroClientDigestVerifier sourceVerifier;
+    
+    private DistroClientDigestVerifier targetVerifier;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        when(applicationContext.getBean(Serializer.class)).thenReturn(new JacksonSerializer());
+        ApplicationUtils.injectContext(applicationContext);
+        when(memberManager.hasMember(TARGET_SERVER)).thenReturn(true);
+        when(memberManager.find(TARGET_SERVER)).thenReturn(targetMember);
+        when(memberManager.getSelf()).thenReturn(selfMember);
+        when(selfMember.getAddress()).thenReturn("1.1.1.1:8848");
+        when(targetMember.getAddress()).thenReturn(TARGET_SERVER);
+        when(targetMember.getIp()).thenReturn("2.2.2.2");
+        when(targetMember.getState()).thenReturn(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(targetMember)).thenReturn(true);
+        sourceVerifier = new DistroClientDigestVerifier(sourceClientManager, clusterRpcClientProxy, memberManager);
+        targetVerifier = new DistroClientDigestVerifier(targetClientManager, clusterRpcClientProxy, memberManager);
+        mockClientManager(sourceClientManager, sourceClients);
+        mockClientManager(targetClientManager, targetClients);
+        when(sourceClientManager.isResponsibleClient(any())).thenReturn(true);
+        when(targetClientManager.verifyClient(any())).thenAnswer(invocation -> {
+            DistroClientVerifyInfo verifyInfo = invocation.getArgument(0);
+            Client client = targetClients.get(verifyInfo.getClientId());
+            return null != client && client.getRevision() == verifyInfo.getRevision();
+        });
+        when(clusterRpcClientProxy.sendRequest(eq(targetMember), any(DistroDataRequest.class), anyLong())).thenAnswer(
+                invocation -> {
+                    DistroDataRequest request = invocation.getArgument(1);
+                    DistroData result = targetVerifier.processDigestVerifyData(request.getDistroData(), "1.1.1.1");
+                    DistroDataResponse response = new DistroDataResponse();
+                    response.setDistroData(result);
+                    return response;
+                });
+    }
+    
+    private void mockClientManager(ClientManager clientManager, Map<String, Client> clients) {
+        when(clientManager.allClientId()).thenAnswer(invocation -> (Collection<String>) clients.keySet());
+        when(clientManager.getClient(anyString())).thenAnswer(invocation -> clients.get(invocation.getArgument(0)));
+    }
+    
+    private void addClient(String clientId, long revision) {
+        sourceClients.put(clientId, new ConnectionBasedClient(clientId, true, revision));
+        targetClients.put(clientId, new ConnectionBasedClient(clientId, false, revision));
+    }
+    
+    @Test
+    void testIsSupported() {
+        ServerAbilities abilities = new ServerAbilities();
+        when(targetMember.getAbilities()).thenReturn(abilities);
+        assertFalse(sourceVerifier.isSupported(targetMember));
+        abilities.getNamingAbility().setSupportDistroDigestVerify(true);
+        assertTrue(sourceVerifier.isSupported(targetMember));
+        assertFalse(sourceVerifier.isSupported(null));
+    }
+    
+    @Test
+    void testIsDigestVerifyData() {
+        DistroData data = new DistroData(
+                new DistroKey(DistroClientDigestVerifier.DIGEST_KEY, DistroClientDataProcessor.TYPE), new byte[0]);
+        assertTrue(sourceVerifier.isDigestVerifyData(data));
+        data.setDistroKey(new DistroKey("11111_1.1.1.1_3306", DistroClientDataProcessor.TYPE));
+        assertFalse(sourceVerifier.isDigestVerifyData(data));
+    }
+    
+    @Test
+    void testVerifyOnlyDigestWhenMatched() throws Exception {
+        addClient("client1", 1L);
+        addClient("client2", 2L);
+        // first verify should send detail for unknown buckets.
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        verify(clusterRpcClientProxy, times(2)).sendRequest(eq(targetMember), any(DistroDataRequest.class),
+                anyLong());
+        verify(targetClientManager, times(2)).verifyClient(any());
+        // second verify only send digest and renew all clients.
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        verify(clusterRpcClientProxy, times(3)).sendRequest(eq(targetMember), any(DistroDataRequest.class),
+                anyLong());
+        verify(targetClientManager, times(4)).verifyClient(any());
+        verify(callback, times(2)).onSuccess();
+        verify(callback, never()).onFailed(any());
+    }
+    
+    @Test
+    void testVerifyDetailWhenRevisionChanged() throws Exception {
+        addClient("client1", 1L);
+        addClient("client2", 2L);
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        targetClients.put("client2", new ConnectionBasedClient("client2", false, 3L));
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        // digest + detail for twice.
+        verify(clusterRpcClientProxy, times(4)).sendRequest(eq(targetMember), any(DistroDataRequest.class),
+                anyLong());
+        verify(callback, times(2)).onSuccess();
+    }
+    
+    @Test
+    void testVerifyDetailWhenSourceClientRemoved() throws Exception {
+        addClient("client1", 1L);
+        addClient("client2", 2L);
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        sourceClients.remove("client2");
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        verify(clusterRpcClientProxy, times(4)).sendRequest(eq(targetMember), any(DistroDataRequest.class),
+                anyLong());
+        // client2 removed from bucket, so next verify only sends digest.
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        verify(clusterRpcClientProxy, times(5)).sendRequest(eq(targetMember), any(DistroDataRequest.class),
+                anyLong());
+    }
+    
+    @Test
+    void testVerifyWithNonExistTarget() {
+        when(memberManager.hasMember(TARGET_SERVER)).thenReturn(false);
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        verify(callback).onSuccess();
+    }
+    
+    @Test
+    void testVerifyWithUnhealthyTarget() {
+        when(targetMember.getState()).thenReturn(NodeState.DOWN);
+        sourceVerifier.verify(TARGET_SERVER, callback);
+        verify(callback).onFailed(null);
+    }
+    
+    @Test
+    void testDigestOf() {
+        assertNotEquals(DistroClientDigestVerifier.digestOf("client1", 1L),
+                DistroClientDigestVerifier.digestOf("client1", 2L));
+        assertNotEquals(DistroClientDigestVerifier.digestOf("client1", 1L),
+                DistroClientDigestVerifier.digestOf("client2", 1L));
+        for (String each : Arrays.asList("a", "b", "11111_1.1.1.1_3306")) {
+            int bucket = DistroClientDigestVerifier.bucketOf(each, DistroClientDigestVerifier.BUCKET_COUNT);
+            assertTrue(bucket >= 0 && bucket < DistroClientDigestVerifier.BUCKET_COUNT);
+        }
+    }
+}
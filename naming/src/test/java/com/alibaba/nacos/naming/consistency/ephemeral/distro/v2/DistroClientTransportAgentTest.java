@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.api.common.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -28,6 +29,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -35,6 +37,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,6 +46,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -495,4 +499,27 @@ class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    void testSupportSnapshotPage() {
+        assertFalse(transportAgent.supportSnapshotPage(member.getAddress()));
+        member.getAbilities().getNamingAbility().setSupportDistroSnapshotPage(true);
+        assertTrue(transportAgent.supportSnapshotPage(member.getAddress()));
+    }
+    
+    @Test
+    void testGetDatumSnapshotPageSuccess() throws NacosException {
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        ArgumentCaptor<DistroDataRequest> captor = ArgumentCaptor.forClass(DistroDataRequest.class);
+        when(clusterRpcClientProxy.sendRequest(eq(member), captor.capture(), any(Long.class))).thenReturn(response);
+        transportAgent.getDatumSnapshotPage(member.getAddress(), "cursor");
+        assertEquals(DataOperation.SNAPSHOT, captor.getValue().getDataOperation());
+        assertEquals("cursor", captor.getValue().getDistroData().getDistroKey().getResourceKey());
+    }
+    
+    @Test
+    void testGetDatumSnapshotPageForMemberUnhealthy() {
+        assertThrows(DistroException.class, () -> transportAgent.getDatumSnapshotPage(member.getAddress(), ""));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ServiceNameIndex} unit tests.
+ *
+ * @author Nacos
+ */
+class ServiceNameIndexTest {
+    
+    private ServiceNameIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new ServiceNameIndex();
+        for (String each : Arrays.asList("order", "user", "account", "order-admin", "pay")) {
+            index.add(Service.newService("ns", "group", each));
+        }
+        index.add(Service.newService("ns", "a-group", "zzz"));
+        index.add(Service.newService("other", "group", "order"));
+    }
+    
+    @Test
+    void testCount() {
+        assertEquals(5, index.count("ns", "group"));
+        index.add(Service.newService("ns", "group", "order"));
+        assertEquals(5, index.count("ns", "group"));
+        assertEquals(1, index.count("ns", "a-group"));
+        assertEquals(0, index.count("ns", "non-exist"));
+        assertEquals(0, index.count("non-exist", "group"));
+    }
+    
+    @Test
+    void testPage() {
+        assertEquals(Arrays.asList("account", "order"), index.page("ns", "group", 1, 2));
+        assertEquals(Arrays.asList("order-admin", "pay"), index.page("ns", "group", 2, 2));
+        assertEquals(Collections.singletonList("user"), index.page("ns", "group", 3, 2));
+        assertTrue(index.page("ns", "group", 4, 2).isEmpty());
+        assertEquals(Arrays.asList("account", "order"), index.page("ns", "group", 0, 2));
+    }
+    
+    @Test
+    void testListAfter() {
+        assertEquals(Arrays.asList("account", "order"), index.listAfter("ns", "group", null, 2));
+        assertEquals(Arrays.asList("order-admin", "pay"), index.listAfter("ns", "group", "order", 2));
+        assertEquals(Collections.singletonList("user"), index.listAfter("ns", "group", "pay", 2));
+        assertTrue(index.listAfter("ns", "group", "user", 2).isEmpty());
+    }
+    
+    @Test
+    void testSearchPrefix() {
+        assertEquals(Arrays.asList("order", "order-admin"), index.searchPrefix("ns", "group", "ord", 10));
+        assertEquals(Collections.singletonList("order"), index.searchPrefix("ns", "group", "ord", 1));
+        assertTrue(index.searchPrefix("ns", "group", "x", 10).isEmpty());
+    }
+    
+    @Test
+    void testGroupedServiceNamesAndSortedServices() {
+        assertEquals(Arrays.asList("group@@account", "group@@order", "group@@order-admin", "group@@pay",
+                "group@@user"), index.getGroupedServiceNames("ns", "group"));
+        List<String> sorted = index.getSortedServices("ns").stream().map(Service::getGroupedServiceName)
+                .collect(Collectors.toList());
+        assertEquals("a-group@@zzz", sorted.get(0));
+        assertEquals(6, sorted.size());
+    }
+    
+    @Test
+    void testRemove() {
+        index.remove(Service.newService("ns", "group", "order"));
+        index.remove(Service.newService("ns", "group", "order"));
+        assertEquals(4, index.count("ns", "group"));
+        assertEquals(Arrays.asList("account", "order-admin"), index.page("ns", "group", 1, 2));
+        index.remove(Service.newService("ns", "a-group", "zzz"));
+        assertEquals(0, index.count("ns", "a-group"));
+        assertEquals(4, index.getSortedServices("ns").size());
+    }
+}
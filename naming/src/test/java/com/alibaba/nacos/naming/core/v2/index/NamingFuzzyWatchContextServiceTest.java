@@ -33,6 +33,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -244,4 +245,26 @@ public class NamingFuzzyWatchContextServiceTest {
         Assertions.assertEquals(0, matchServiceKeys4.size());
         
     }
+    
+    @Test
+    void testTrimContextUpdatePatternIndex() throws NacosException {
+        tMockedStatic.when(() -> GlobalConfig.getMaxPatternCount()).thenReturn(20);
+        tMockedStatic.when(() -> GlobalConfig.getMaxMatchedServiceCount()).thenReturn(5);
+        String groupKeyPattern = FuzzyGroupKeyPattern.generatePattern("service*", "group*", "namespace");
+        Service service = Service.newService("namespace", "group1", "service1", true);
+        when(serviceManager.getSingletons(eq("namespace"))).thenReturn(Collections.singleton(service));
+        namingFuzzyWatchContextService.syncFuzzyWatcherContext(groupKeyPattern, "connection");
+        Assertions.assertEquals(Collections.singleton("connection"),
+                namingFuzzyWatchContextService.getFuzzyWatchedClients(service));
+        
+        namingFuzzyWatchContextService.removeFuzzyWatchContext(groupKeyPattern, "connection");
+        namingFuzzyWatchContextService.trimFuzzyWatchContext();
+        namingFuzzyWatchContextService.trimFuzzyWatchContext();
+        Assertions.assertTrue(namingFuzzyWatchContextService.getFuzzyWatchedClients(service).isEmpty());
+        
+        namingFuzzyWatchContextService.syncFuzzyWatcherContext(groupKeyPattern, "connection2");
+        namingFuzzyWatchContextService.trimFuzzyWatchContext();
+        Assertions.assertEquals(Collections.singleton("connection2"),
+                namingFuzzyWatchContextService.getFuzzyWatchedClients(service));
+    }
 }
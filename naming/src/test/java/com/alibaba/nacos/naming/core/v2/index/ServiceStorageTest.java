@@ -18,6 +18,8 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
@@ -43,6 +45,8 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -141,6 +145,31 @@ class ServiceStorageTest {
         assertNotNull(list);
     }
     
+    @Test
+    void testGetPushDataReuseUnchangedInstances() {
+        Service service = ServiceManager.getInstance().getSingleton(Service.newService("ns", "group", "reuse"));
+        Client client = Mockito.mock(Client.class);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        publishInfo.setHealthy(true);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                .thenReturn(Collections.singletonList(NACOS));
+        Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+        Mockito.when(client.getInstancePublishInfo(service)).thenReturn(publishInfo);
+        Mockito.when(namingMetadataManager.getInstanceMetadata(Mockito.eq(service), Mockito.any()))
+                .thenReturn(Optional.empty());
+        try {
+            Instance first = serviceStorage.getPushData(service).getHosts().get(0);
+            Instance second = serviceStorage.getPushData(service).getHosts().get(0);
+            assertSame(first, second);
+            publishInfo.setHealthy(false);
+            Instance third = serviceStorage.getPushData(service).getHosts().get(0);
+            assertNotSame(first, third);
+            assertFalse(third.isHealthy());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
     @Test
     void testGetInstanceInfo() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
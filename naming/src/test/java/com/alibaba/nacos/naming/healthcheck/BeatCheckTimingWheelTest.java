@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeatCheckTimingWheelTest {
+    
+    private List<String> fired;
+    
+    private BeatCheckTimingWheel wheel;
+    
+    @BeforeEach
+    void setUp() {
+        fired = new CopyOnWriteArrayList<>();
+        wheel = new BeatCheckTimingWheel(100L, 16, Runnable::run);
+    }
+    
+    @Test
+    void testTickOnlyFireExpiredTask() {
+        long now = System.currentTimeMillis();
+        wheel.schedule("expired", () -> fired.add("expired"), now - 1);
+        wheel.schedule("future", () -> fired.add("future"), now + 60000L);
+        wheel.tick();
+        assertEquals(List.of("expired"), fired);
+        assertEquals(1, wheel.size());
+        wheel.tick();
+        assertEquals(1, fired.size());
+    }
+    
+    @Test
+    void testTickFireAfterDeadline() throws InterruptedException {
+        wheel.schedule("task", () -> fired.add("task"), System.currentTimeMillis() + 150L);
+        wheel.tick();
+        assertTrue(fired.isEmpty());
+        Thread.sleep(300L);
+        wheel.tick();
+        assertEquals(List.of("task"), fired);
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void testScheduleReplacePreviousDeadline() {
+        long now = System.currentTimeMillis();
+        wheel.schedule("task", () -> fired.add("old"), now - 1);
+        wheel.schedule("task", () -> fired.add("new"), now + 60000L);
+        wheel.tick();
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.size());
+    }
+    
+    @Test
+    void testCancel() {
+        wheel.schedule("task", () -> fired.add("task"), System.currentTimeMillis() - 1);
+        wheel.cancel("task");
+        wheel.tick();
+        assertTrue(fired.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+}
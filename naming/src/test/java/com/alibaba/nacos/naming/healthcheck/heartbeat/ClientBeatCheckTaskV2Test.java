@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.healthcheck.heartbeat;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.naming.PreservedMetadataKeys;
 import com.alibaba.nacos.common.utils.InternetAddressUtil;
 import com.alibaba.nacos.naming.consistency.KeyBuilder;
@@ -161,6 +162,26 @@ class ClientBeatCheckTaskV2Test {
         assertFalse(client.getInstancePublishInfo(Service.newService(NAMESPACE, GROUP_NAME, SERVICE_NAME)).isHealthy());
     }
     
+    @Test
+    void testGetNextCheckTime() {
+        assertEquals(Long.MAX_VALUE, beatCheckTask.getNextCheckTime());
+        long heartbeatTime = System.currentTimeMillis();
+        injectInstance(true, heartbeatTime);
+        assertEquals(heartbeatTime + Constants.DEFAULT_HEART_BEAT_TIMEOUT, beatCheckTask.getNextCheckTime());
+        client.getInstancePublishInfo(Service.newService(NAMESPACE, GROUP_NAME, SERVICE_NAME)).getExtendDatum()
+                .put(PreservedMetadataKeys.HEART_BEAT_TIMEOUT, 800);
+        assertEquals(heartbeatTime + 800, beatCheckTask.getNextCheckTime());
+    }
+    
+    @Test
+    void testGetNextCheckTimeForUnhealthyInstance() {
+        long heartbeatTime = System.currentTimeMillis();
+        injectInstance(false, heartbeatTime);
+        assertEquals(Long.MAX_VALUE, beatCheckTask.getNextCheckTime());
+        when(globalConfig.isExpireInstance()).thenReturn(true);
+        assertEquals(heartbeatTime + Constants.DEFAULT_IP_DELETE_TIMEOUT, beatCheckTask.getNextCheckTime());
+    }
+    
     private HealthCheckInstancePublishInfo injectInstance(boolean healthy, long heartbeatTime) {
         HealthCheckInstancePublishInfo instance = new HealthCheckInstancePublishInfo(IP, PORT);
         instance.setHealthy(healthy);
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.common.event.ServerConfigChangeEvent;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.task.engine.DelayTaskProcessMode;
 import com.alibaba.nacos.naming.constants.PushConstants;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,12 +67,16 @@ class PushConfigTest {
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_DELAY, String.valueOf(pushTaskDelay));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_TIMEOUT, String.valueOf(pushTaskTimeout));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_RETRY_DELAY, String.valueOf(pushTaskRetryDelay));
+        mockEnvironment.setProperty(PushConstants.PUSH_DELAY_ENGINE_MODE, "due_queue");
+        mockEnvironment.setProperty(PushConstants.PUSH_DELAY_ENGINE_THREADS, "4");
         Constructor<PushConfig> declaredConstructor = PushConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
         PushConfig pushConfig = declaredConstructor.newInstance();
         assertEquals(pushTaskDelay, pushConfig.getPushTaskDelay());
         assertEquals(pushTaskTimeout, pushConfig.getPushTaskTimeout());
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
+        assertEquals(DelayTaskProcessMode.DUE_QUEUE, pushConfig.getPushDelayEngineMode());
+        assertEquals(4, pushConfig.getPushDelayEngineThreads());
         
     }
 }
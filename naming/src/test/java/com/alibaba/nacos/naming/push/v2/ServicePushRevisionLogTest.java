@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServicePushRevisionLogTest {
+    
+    @Test
+    void testRecordAndGetSnapshot() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setClusterName("DEFAULT");
+        ServicePushRevisionLog revisionLog = new ServicePushRevisionLog();
+        revisionLog.record("", 1L, Collections.singletonList(instance), 2, 2);
+        Optional<Map<String, Instance>> actual = revisionLog.getSnapshot("", 1L);
+        assertTrue(actual.isPresent());
+        assertEquals(instance, actual.get().get("1.1.1.1:8848#DEFAULT"));
+        assertFalse(revisionLog.getSnapshot("other", 1L).isPresent());
+        assertFalse(revisionLog.getSnapshot("", 2L).isPresent());
+    }
+    
+    @Test
+    void testEvictOldRevision() {
+        ServicePushRevisionLog revisionLog = new ServicePushRevisionLog();
+        revisionLog.record("", 1L, Collections.emptyList(), 2, 2);
+        revisionLog.record("", 2L, Collections.emptyList(), 2, 2);
+        revisionLog.record("", 3L, Collections.emptyList(), 2, 2);
+        assertFalse(revisionLog.getSnapshot("", 1L).isPresent());
+        assertTrue(revisionLog.getSnapshot("", 2L).isPresent());
+        assertTrue(revisionLog.getSnapshot("", 3L).isPresent());
+    }
+    
+    @Test
+    void testEvictLeastRecentFingerprint() {
+        ServicePushRevisionLog revisionLog = new ServicePushRevisionLog();
+        revisionLog.record("a", 1L, Collections.emptyList(), 2, 2);
+        revisionLog.record("b", 2L, Collections.emptyList(), 2, 2);
+        revisionLog.record("a", 3L, Collections.emptyList(), 2, 2);
+        revisionLog.record("c", 4L, Collections.emptyList(), 2, 2);
+        assertEquals(2, revisionLog.fingerprintCount());
+        assertFalse(revisionLog.getSnapshot("b", 2L).isPresent());
+        assertTrue(revisionLog.getSnapshot("a", 3L).isPresent());
+        assertTrue(revisionLog.getSnapshot("c", 4L).isPresent());
+    }
+}
@@ -16,22 +16,32 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.common.event.ServerConfigChangeEvent;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.constants.PushConstants;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.PushRevisionLogManager;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,13 +49,19 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,6 +91,8 @@ class PushExecutorRpcImplTest {
     
     private ServiceMetadata serviceMetadata;
     
+    private final Service service = Service.newService("N", "G", "S");
+    
     @BeforeEach
     void setUp() throws Exception {
         EnvUtil.setEnvironment(new MockEnvironment());
@@ -88,6 +106,13 @@ class PushExecutorRpcImplTest {
                 (Answer<List<Instance>>) invocationOnMock -> invocationOnMock.getArgument(2));
     }
     
+    @AfterEach
+    void tearDown() {
+        PushRevisionLogManager.getInstance().removeRevisionLog(service);
+        EnvUtil.setEnvironment(new MockEnvironment());
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+    }
+    
     @Test
     void testDoPush() {
         pushExecutor.doPush(rpcClientId, subscriber, pushData);
@@ -103,6 +128,101 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushReusePayloadForSameFilter() {
+        long hit = MetricsMonitor.getPushPayloadCacheHit().get();
+        pushExecutor.doPush(rpcClientId, subscriber, pushData);
+        pushExecutor.doPush("otherClientId", subscriber, pushData);
+        assertEquals(hit + 1, MetricsMonitor.getPushPayloadCacheHit().get());
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService, times(2)).pushWithoutAck(any(), captor.capture());
+        List<NotifySubscriberRequest> requests = captor.getAllValues();
+        assertNotSame(requests.get(0), requests.get(1));
+        assertSame(requests.get(0).getServiceInfo(), requests.get(1).getServiceInfo());
+    }
+    
+    @Test
+    void testDoPushIncremental() {
+        enableIncrementalPush(AbilityStatus.SUPPORTED);
+        List<Instance> baseHosts = buildHosts(1, 10);
+        pushWithRevision(baseHosts, 1L, 0L);
+        
+        List<Instance> hosts = buildHosts(1, 9);
+        hosts.get(0).setWeight(2.0);
+        hosts.add(buildInstance(11));
+        NotifySubscriberRequest request = pushWithRevision(hosts, 2L, 1L);
+        assertTrue(request.isIncremental());
+        assertEquals(1L, request.getBaseRevision());
+        assertEquals(2L, request.getRevision());
+        assertTrue(request.getServiceInfo().getHosts().isEmpty());
+        assertEquals(1, request.getAddedInstances().size());
+        assertEquals("1.1.1.11", request.getAddedInstances().get(0).getIp());
+        assertEquals(1, request.getRemovedInstances().size());
+        assertEquals("1.1.1.10", request.getRemovedInstances().get(0).getIp());
+        assertEquals(1, request.getModifiedInstances().size());
+        assertEquals("1.1.1.1", request.getModifiedInstances().get(0).getIp());
+        assertEquals(2.0, request.getModifiedInstances().get(0).getWeight(), 0.0);
+    }
+    
+    @Test
+    void testDoPushFullWhenChangesNotLessThanHosts() {
+        enableIncrementalPush(AbilityStatus.SUPPORTED);
+        pushWithRevision(buildHosts(1, 4), 1L, 0L);
+        
+        // 2 removed and 2 added, which is the same as the size of current hosts.
+        List<Instance> hosts = buildHosts(3, 6);
+        NotifySubscriberRequest request = pushWithRevision(hosts, 2L, 1L);
+        assertFalse(request.isIncremental());
+        assertEquals(2L, request.getRevision());
+        assertEquals(4, request.getServiceInfo().getHosts().size());
+    }
+    
+    @Test
+    void testDoPushFullWhenIncrementalNotSupported() {
+        enableIncrementalPush(AbilityStatus.NOT_SUPPORTED);
+        pushWithRevision(buildHosts(1, 10), 1L, 0L);
+        
+        NotifySubscriberRequest request = pushWithRevision(buildHosts(1, 9), 2L, 1L);
+        assertFalse(request.isIncremental());
+        assertEquals(9, request.getServiceInfo().getHosts().size());
+    }
+    
+    private void enableIncrementalPush(AbilityStatus abilityStatus) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(PushConstants.PUSH_INCREMENTAL_ENABLED, "true");
+        EnvUtil.setEnvironment(environment);
+        PushConfig.getInstance().onEvent(ServerConfigChangeEvent.newEvent());
+        when(pushService.getConnectionAbility(rpcClientId, AbilityKey.SDK_CLIENT_NAMING_INCREMENTAL_PUSH))
+                .thenReturn(abilityStatus);
+    }
+    
+    private NotifySubscriberRequest pushWithRevision(List<Instance> hosts, long revision, long pushedRevision) {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.setHosts(hosts);
+        PushDataWrapper data = new PushDataWrapper(service, serviceMetadata, serviceInfo, revision);
+        when(subscriber.getPushedRevision()).thenReturn(pushedRevision);
+        pushExecutor.doPush(rpcClientId, subscriber, data);
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService, times((int) revision)).pushWithoutAck(eq(rpcClientId), captor.capture());
+        return captor.getValue();
+    }
+    
+    private List<Instance> buildHosts(int from, int to) {
+        List<Instance> result = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            result.add(buildInstance(i));
+        }
+        return result;
+    }
+    
+    private Instance buildInstance(int index) {
+        Instance result = new Instance();
+        result.setIp("1.1.1." + index);
+        result.setPort(8848);
+        result.setClusterName("c");
+        return result;
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
@@ -27,12 +27,14 @@ import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
@@ -77,6 +79,7 @@ class PushDelayTaskExecuteEngineTest {
     
     @BeforeEach
     void setUp() throws Exception {
+        EnvUtil.setEnvironment(new MockEnvironment());
         when(serviceStorage.getPushData(service)).thenReturn(new ServiceInfo("G@@S"));
         when(indexesManager.getAllClientsSubscribeService(service)).thenReturn(Collections.singletonList(clientId));
         when(clientManager.getClient(clientId)).thenReturn(client);
@@ -22,8 +22,10 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -84,4 +86,35 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertNull(response4.getDistroData());
     }
+    
+    @Test
+    void testHandleDigestVerify() throws NacosException {
+        DistroDataRequest distroDataRequest = new DistroDataRequest();
+        distroDataRequest.setDataOperation(VERIFY);
+        distroDataRequest.setDistroData(new DistroData());
+        RequestMeta requestMeta = new RequestMeta();
+        Mockito.when(distroProtocol.isDigestVerify(Mockito.any())).thenReturn(true);
+        Mockito.when(distroProtocol.onDigestVerify(Mockito.any(), Mockito.any())).thenReturn(null);
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(ResponseCode.FAIL.getCode(), response.getErrorCode());
+        
+        DistroData distroData = new DistroData();
+        Mockito.when(distroProtocol.onDigestVerify(Mockito.any(), Mockito.any())).thenReturn(distroData);
+        response = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(distroData, response.getDistroData());
+    }
+    
+    @Test
+    void testHandleSnapshotPage() throws NacosException {
+        DistroDataRequest distroDataRequest = new DistroDataRequest();
+        distroDataRequest.setDataOperation(SNAPSHOT);
+        DistroData pageRequest = new DistroData();
+        pageRequest.setDistroKey(new DistroKey("cursor", DistroClientDataProcessor.TYPE));
+        distroDataRequest.setDistroData(pageRequest);
+        DistroData distroData = new DistroData();
+        Mockito.when(distroProtocol.onSnapshotPage(DistroClientDataProcessor.TYPE, "cursor")).thenReturn(distroData);
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        assertEquals(distroData, response.getDistroData());
+        Mockito.verify(distroProtocol, Mockito.never()).onSnapshot(Mockito.any());
+    }
 }
@@ -80,8 +80,15 @@ public abstract class AbstractCachedRoleService implements NacosRoleService {
             roleSet = tmpRoleSet;
             roleInfoMap = tmpRoleInfoMap;
             permissionInfoMap = tmpPermissionInfoMap;
+            onCacheReloaded();
         } catch (Exception e) {
             Loggers.AUTH.warn("[LOAD-ROLES] load failed", e);
         }
     }
+    
+    /**
+     * Callback after the cached roles and permissions are reloaded.
+     */
+    protected void onCacheReloaded() {
+    }
 }
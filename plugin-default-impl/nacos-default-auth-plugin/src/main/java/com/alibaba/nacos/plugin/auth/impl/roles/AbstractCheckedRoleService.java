@@ -30,8 +30,9 @@ import com.alibaba.nacos.plugin.auth.impl.persistence.RoleInfo;
 import com.alibaba.nacos.plugin.auth.impl.users.NacosUser;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
 
@@ -42,8 +43,23 @@ import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
  */
 public abstract class AbstractCheckedRoleService extends AbstractCachedRoleService implements NacosRoleService {
     
+    private static final int DECISION_CACHE_SIZE = 10000;
+    
+    private static final char DECISION_KEY_SPLITTER = '\n';
+    
     private final AuthConfigs authConfigs;
     
+    /**
+     * Compiled permissions of roles, recompiled when the cached permissions of role are replaced.
+     */
+    private final Map<String, RolePermissionMatcher> permissionMatcherMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Permission decisions of (user, action, resource), only used when auth caching is enabled. Bounded by
+     * {@link #DECISION_CACHE_SIZE}, all decisions are dropped when it is full since they are cheap to recompute.
+     */
+    private final Map<String, Boolean> permissionDecisionCache = new ConcurrentHashMap<>();
+    
     protected AbstractCheckedRoleService(AuthConfigs authConfigs) {
         this.authConfigs = authConfigs;
     }
@@ -73,26 +89,58 @@ public abstract class AbstractCheckedRoleService extends AbstractCachedRoleServi
         }
         
         // For other roles, use a pattern match to decide if pass or not.
+        String resource = joinResource(permission.getResource());
+        if (!authConfigs.isCachingEnabled()) {
+            return matchPermission(roleInfoList, resource, permission.getAction());
+        }
+        String decisionKey = nacosUser.getUserName() + DECISION_KEY_SPLITTER + permission.getAction()
+                + DECISION_KEY_SPLITTER + resource;
+        Boolean decision = permissionDecisionCache.get(decisionKey);
+        if (null == decision) {
+            decision = matchPermission(roleInfoList, resource, permission.getAction());
+            if (permissionDecisionCache.size() >= DECISION_CACHE_SIZE) {
+                permissionDecisionCache.clear();
+            }
+            permissionDecisionCache.put(decisionKey, decision);
+        }
+        return decision;
+    }
+    
+    private boolean matchPermission(List<RoleInfo> roleInfoList, String resource, String action) {
         for (RoleInfo roleInfo : roleInfoList) {
             List<PermissionInfo> permissionInfoList = getPermissions(roleInfo.getRole());
             if (CollectionUtils.isEmpty(permissionInfoList)) {
                 continue;
             }
-            for (PermissionInfo permissionInfo : permissionInfoList) {
-                String permissionResource = permissionInfo.getResource().replaceAll("\\*", ".*");
-                if (permissionResource.startsWith(":")) {
-                    permissionResource = DEFAULT_NAMESPACE_ID + permissionResource;
-                }
-                String permissionAction = permissionInfo.getAction();
-                if (permissionAction.contains(permission.getAction()) && Pattern.matches(permissionResource,
-                        joinResource(permission.getResource()))) {
-                    return true;
-                }
+            if (getPermissionMatcher(roleInfo.getRole(), permissionInfoList).matches(resource, action)) {
+                return true;
             }
         }
         return false;
     }
     
+    private RolePermissionMatcher getPermissionMatcher(String role, List<PermissionInfo> permissionInfoList) {
+        RolePermissionMatcher matcher = permissionMatcherMap.get(role);
+        if (null == matcher || !matcher.isCompiledFrom(permissionInfoList)) {
+            matcher = RolePermissionMatcher.compile(permissionInfoList);
+            permissionMatcherMap.put(role, matcher);
+        }
+        return matcher;
+    }
+    
+    /**
+     * Invalidate cached permission decisions, should be called after roles or permissions changed.
+     */
+    protected void invalidatePermissionDecisions() {
+        permissionDecisionCache.clear();
+    }
+    
+    @Override
+    protected void onCacheReloaded() {
+        permissionMatcherMap.clear();
+        invalidatePermissionDecisions();
+    }
+    
     @Override
     public Result<Boolean> isDuplicatePermission(String role, String resource, String action) {
         List<PermissionInfo> permissionInfos = getPermissions(role);
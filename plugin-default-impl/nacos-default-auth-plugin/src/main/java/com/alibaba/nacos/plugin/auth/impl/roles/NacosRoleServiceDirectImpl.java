@@ -131,6 +131,7 @@ public class NacosRoleServiceDirectImpl extends AbstractCheckedRoleService imple
         
         rolePersistService.addRole(role, username);
         getCachedRoleSet().add(role);
+        invalidatePermissionDecisions();
     }
     
     @Override
@@ -145,17 +146,20 @@ public class NacosRoleServiceDirectImpl extends AbstractCheckedRoleService imple
         rolePersistService.addRole(AuthConstants.GLOBAL_ADMIN_ROLE, username);
         getCachedRoleSet().add(AuthConstants.GLOBAL_ADMIN_ROLE);
         authConfigs.setHasGlobalAdminRole(true);
+        invalidatePermissionDecisions();
     }
     
     @Override
     public void deleteRole(String role, String userName) {
         rolePersistService.deleteRole(role, userName);
+        invalidatePermissionDecisions();
     }
     
     @Override
     public void deleteRole(String role) {
         rolePersistService.deleteRole(role);
         getCachedRoleInfoMap().remove(role);
+        invalidatePermissionDecisions();
     }
     
     @Override
@@ -164,11 +168,13 @@ public class NacosRoleServiceDirectImpl extends AbstractCheckedRoleService imple
             throw new IllegalArgumentException("role " + role + " not found!");
         }
         permissionPersistService.addPermission(role, resource, action);
+        invalidatePermissionDecisions();
     }
     
     @Override
     public void deletePermission(String role, String resource, String action) {
         permissionPersistService.deletePermission(role, resource, action);
+        invalidatePermissionDecisions();
     }
     
     @Override
@@ -66,6 +66,7 @@ public class NacosRoleServiceRemoteImpl extends AbstractCheckedRoleService imple
                     buildRemotePermissionUrlPath(AuthConstants.PERMISSION_PATH),
                     RemoteServerUtil.buildServerRemoteHeader(authConfigs), null, body, String.class);
             RemoteServerUtil.singleCheckResult(result);
+            invalidatePermissionDecisions();
         } catch (NacosException e) {
             throw new NacosRuntimeException(e.getErrCode(), e.getErrMsg());
         } catch (Exception unpectedException) {
@@ -82,6 +83,7 @@ public class NacosRoleServiceRemoteImpl extends AbstractCheckedRoleService imple
                     buildRemotePermissionUrlPath(AuthConstants.PERMISSION_PATH),
                     RemoteServerUtil.buildServerRemoteHeader(authConfigs), query, String.class);
             RemoteServerUtil.singleCheckResult(result);
+            invalidatePermissionDecisions();
         } catch (NacosException e) {
             throw new NacosRuntimeException(e.getErrCode(), e.getErrMsg());
         } catch (Exception unpectedException) {
@@ -170,6 +172,7 @@ public class NacosRoleServiceRemoteImpl extends AbstractCheckedRoleService imple
                     buildRemoteRoleUrlPath(AuthConstants.ROLE_PATH),
                     RemoteServerUtil.buildServerRemoteHeader(authConfigs), body, String.class);
             RemoteServerUtil.singleCheckResult(httpResult);
+            invalidatePermissionDecisions();
             getCachedRoleSet().add(role);
         } catch (NacosException e) {
             throw new NacosRuntimeException(e.getErrCode(), e.getErrMsg());
@@ -185,6 +188,7 @@ public class NacosRoleServiceRemoteImpl extends AbstractCheckedRoleService imple
             HttpRestResult<String> result = nacosRestTemplate.delete(buildRemoteRoleUrlPath(AuthConstants.ROLE_PATH),
                     RemoteServerUtil.buildServerRemoteHeader(authConfigs), query, String.class);
             RemoteServerUtil.singleCheckResult(result);
+            invalidatePermissionDecisions();
         } catch (NacosException e) {
             throw new NacosRuntimeException(e.getErrCode(), e.getErrMsg());
         } catch (Exception unpectedException) {
@@ -199,6 +203,7 @@ public class NacosRoleServiceRemoteImpl extends AbstractCheckedRoleService imple
             HttpRestResult<String> result = nacosRestTemplate.delete(buildRemoteRoleUrlPath(AuthConstants.ROLE_PATH),
                     RemoteServerUtil.buildServerRemoteHeader(authConfigs), query, String.class);
             RemoteServerUtil.singleCheckResult(result);
+            invalidatePermissionDecisions();
             getCachedRoleSet().remove(role);
         } catch (NacosException e) {
             throw new NacosRuntimeException(e.getErrCode(), e.getErrMsg());
@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.auth.impl.roles;
+
+import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+
+/**
+ * Matcher of the permissions of one role, resource patterns are compiled once when building the matcher.
+ *
+ * @author Nacos
+ */
+class RolePermissionMatcher {
+    
+    private final String[] sourceResources;
+    
+    private final String[] sourceActions;
+    
+    private final String[] actions;
+    
+    private final Pattern[] resourcePatterns;
+    
+    private RolePermissionMatcher(String[] sourceResources, String[] sourceActions, String[] actions,
+            Pattern[] resourcePatterns) {
+        this.sourceResources = sourceResources;
+        this.sourceActions = sourceActions;
+        this.actions = actions;
+        this.resourcePatterns = resourcePatterns;
+    }
+    
+    /**
+     * Compile permissions of role into matcher.
+     *
+     * @param permissionInfos permissions of role
+     * @return matcher
+     */
+    static RolePermissionMatcher compile(List<PermissionInfo> permissionInfos) {
+        String[] sourceResources = new String[permissionInfos.size()];
+        String[] sourceActions = new String[permissionInfos.size()];
+        List<String> actions = new ArrayList<>(permissionInfos.size());
+        List<Pattern> resourcePatterns = new ArrayList<>(permissionInfos.size());
+        for (int i = 0; i < permissionInfos.size(); i++) {
+            PermissionInfo each = permissionInfos.get(i);
+            sourceResources[i] = each.getResource();
+            sourceActions[i] = each.getAction();
+            String permissionResource = each.getResource().replaceAll("\\*", ".*");
+            if (permissionResource.startsWith(":")) {
+                permissionResource = DEFAULT_NAMESPACE_ID + permissionResource;
+            }
+            try {
+                resourcePatterns.add(Pattern.compile(permissionResource));
+                actions.add(each.getAction());
+            } catch (PatternSyntaxException e) {
+                Loggers.AUTH.warn("[PERMISSION-MATCHER] ignore illegal permission resource {} of role {}",
+                        each.getResource(), each.getRole());
+            }
+        }
+        return new RolePermissionMatcher(sourceResources, sourceActions, actions.toArray(new String[0]),
+                resourcePatterns.toArray(new Pattern[0]));
+    }
+    
+    /**
+     * Whether this matcher is compiled from the same permissions, compared by resource and action in order, so that the
+     * permissions list reloaded from storage with the same content still reuses this matcher.
+     *
+     * @param permissionInfos permissions of role
+     * @return {@code true} if compiled from the same permissions
+     */
+    boolean isCompiledFrom(List<PermissionInfo> permissionInfos) {
+        if (permissionInfos.size() != sourceResources.length) {
+            return false;
+        }
+        for (int i = 0; i < sourceResources.length; i++) {
+            PermissionInfo each = permissionInfos.get(i);
+            if (!Objects.equals(sourceResources[i], each.getResource()) || !Objects.equals(sourceActions[i],
+                    each.getAction())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Whether any permission of role matches the resource and action.
+     *
+     * @param resource joined resource
+     * @param action   action
+     * @return {@code true} if matched
+     */
+    boolean matches(String resource, String action) {
+        for (int i = 0; i < resourcePatterns.length; i++) {
+            if (actions[i].contains(action) && resourcePatterns[i].matcher(resource).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
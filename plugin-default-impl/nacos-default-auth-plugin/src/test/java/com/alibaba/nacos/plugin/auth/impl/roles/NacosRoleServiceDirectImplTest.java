@@ -33,19 +33,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -105,6 +110,73 @@ class NacosRoleServiceDirectImplTest {
         assertTrue(res3);
     }
     
+    @Test
+    void hasPermissionWithDecisionCache() {
+        when(authConfigs.isCachingEnabled()).thenReturn(true);
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setRole("role1");
+        roleInfo.setUsername("nacos");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("nacos", "", 1, Integer.MAX_VALUE)).thenReturn(
+                rolePage);
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("role1");
+        permissionInfo.setResource(":DEFAULT_GROUP:config/*");
+        permissionInfo.setAction("r");
+        Page<PermissionInfo> permissionPage = new Page<>();
+        permissionPage.setPageItems(Collections.singletonList(permissionInfo));
+        when(permissionPersistService.getPermissions("role1", 1, Integer.MAX_VALUE)).thenReturn(permissionPage);
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("nacos");
+        Permission readPermission = new Permission(
+                new Resource("public", "DEFAULT_GROUP", "app.yaml", "config", null), "r");
+        Permission writePermission = new Permission(
+                new Resource("public", "DEFAULT_GROUP", "app.yaml", "config", null), "w");
+        
+        assertTrue(nacosRoleService.hasPermission(nacosUser, readPermission));
+        assertTrue(nacosRoleService.hasPermission(nacosUser, readPermission));
+        assertFalse(nacosRoleService.hasPermission(nacosUser, writePermission));
+        verify(permissionPersistService, times(1)).getPermissions("role1", 1, Integer.MAX_VALUE);
+        
+        nacosRoleService.invalidatePermissionDecisions();
+        assertTrue(nacosRoleService.hasPermission(nacosUser, readPermission));
+        verify(permissionPersistService, times(1)).getPermissions("role1", 1, Integer.MAX_VALUE);
+    }
+    
+    @Test
+    void hasPermissionReuseMatcherWithoutCaching() {
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setRole("role1");
+        roleInfo.setUsername("nacos");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("nacos", "", 1, Integer.MAX_VALUE)).thenReturn(
+                rolePage);
+        // permissions are queried from storage into a new list every time when caching is disabled.
+        when(permissionPersistService.getPermissions("role1", 1, Integer.MAX_VALUE)).thenAnswer(invocation -> {
+            PermissionInfo permissionInfo = new PermissionInfo();
+            permissionInfo.setRole("role1");
+            permissionInfo.setResource(":DEFAULT_GROUP:config/*");
+            permissionInfo.setAction("r");
+            Page<PermissionInfo> permissionPage = new Page<>();
+            permissionPage.setPageItems(Collections.singletonList(permissionInfo));
+            return permissionPage;
+        });
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("nacos");
+        Permission readPermission = new Permission(
+                new Resource("public", "DEFAULT_GROUP", "app.yaml", "config", null), "r");
+        
+        assertTrue(nacosRoleService.hasPermission(nacosUser, readPermission));
+        Map<String, RolePermissionMatcher> matchers = (Map<String, RolePermissionMatcher>) ReflectionTestUtils
+                .getField(nacosRoleService, AbstractCheckedRoleService.class, "permissionMatcherMap");
+        RolePermissionMatcher matcher = matchers.get("role1");
+        assertTrue(nacosRoleService.hasPermission(nacosUser, readPermission));
+        assertSame(matcher, matchers.get("role1"));
+        verify(permissionPersistService, times(2)).getPermissions("role1", 1, Integer.MAX_VALUE);
+    }
+    
     @Test
     void getRoles() {
         List<RoleInfo> nacos = nacosRoleService.getRoles("role-admin");
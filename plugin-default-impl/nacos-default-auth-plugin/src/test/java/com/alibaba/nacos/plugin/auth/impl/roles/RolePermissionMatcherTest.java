@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.auth.impl.roles;
+
+import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RolePermissionMatcherTest {
+    
+    @Test
+    void testMatches() {
+        List<PermissionInfo> permissionInfos = new ArrayList<>();
+        permissionInfos.add(createPermission("public:DEFAULT_GROUP:config/*", "r"));
+        permissionInfos.add(createPermission(":*:naming/*", "rw"));
+        RolePermissionMatcher matcher = RolePermissionMatcher.compile(permissionInfos);
+        
+        assertTrue(matcher.matches("public:DEFAULT_GROUP:config/app.yaml", "r"));
+        assertFalse(matcher.matches("public:DEFAULT_GROUP:config/app.yaml", "w"));
+        assertFalse(matcher.matches("public:OTHER_GROUP:config/app.yaml", "r"));
+        assertTrue(matcher.matches("public:OTHER_GROUP:naming/service", "w"));
+        assertFalse(matcher.matches("dev:OTHER_GROUP:naming/service", "w"));
+    }
+    
+    @Test
+    void testIgnoreIllegalPattern() {
+        List<PermissionInfo> permissionInfos = new ArrayList<>();
+        permissionInfos.add(createPermission("public:[DEFAULT_GROUP:config/*", "rw"));
+        permissionInfos.add(createPermission("public:DEFAULT_GROUP:config/*", "rw"));
+        RolePermissionMatcher matcher = RolePermissionMatcher.compile(permissionInfos);
+        assertTrue(matcher.matches("public:DEFAULT_GROUP:config/app.yaml", "r"));
+    }
+    
+    @Test
+    void testIsCompiledFrom() {
+        List<PermissionInfo> permissionInfos = new ArrayList<>();
+        permissionInfos.add(createPermission("public:DEFAULT_GROUP:config/*", "r"));
+        RolePermissionMatcher matcher = RolePermissionMatcher.compile(permissionInfos);
+        assertTrue(matcher.isCompiledFrom(permissionInfos));
+        List<PermissionInfo> reloaded = new ArrayList<>();
+        reloaded.add(createPermission("public:DEFAULT_GROUP:config/*", "r"));
+        assertTrue(matcher.isCompiledFrom(reloaded));
+        reloaded.get(0).setAction("rw");
+        assertFalse(matcher.isCompiledFrom(reloaded));
+        reloaded.get(0).setAction("r");
+        reloaded.add(createPermission("public:DEFAULT_GROUP:naming/*", "r"));
+        assertFalse(matcher.isCompiledFrom(reloaded));
+    }
+    
+    private PermissionInfo createPermission(String resource, String action) {
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("role1");
+        permissionInfo.setResource(resource);
+        permissionInfo.setAction(action);
+        return permissionInfo;
+    }
+}
@@ -16,14 +16,16 @@
 
 package com.alibaba.nacos.plugin.control.tps.barrier;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * local simple count rate counter.
  *
+ * <p>Each slot is bound to one window and replaced by CAS when the window rolls, so a count added to the new window
+ * can never be wiped by a concurrent reset.
+ *
  * @author shiyiyue
  */
 public class LocalSimpleCountRateCounter extends RateCounter {
@@ -32,43 +34,36 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     
     long startTime = System.currentTimeMillis();
     
-    private List<TpsSlot> slotList;
+    private final long periodMillis;
+    
+    private final AtomicReferenceArray<TpsSlot> slotList;
     
     public LocalSimpleCountRateCounter(String name, TimeUnit period) {
         super(name, period);
-        slotList = new ArrayList<>(DEFAULT_RECORD_SIZE);
+        slotList = new AtomicReferenceArray<>(DEFAULT_RECORD_SIZE);
         for (int i = 0; i < DEFAULT_RECORD_SIZE; i++) {
-            slotList.add(new TpsSlot());
-        }
-        long now = System.currentTimeMillis();
-        
-        if (period == TimeUnit.SECONDS) {
-            startTime = RateCounter.getTrimMillsOfSecond(now);
-        } else if (period == TimeUnit.MINUTES) {
-            startTime = RateCounter.getTrimMillsOfMinute(now);
-        } else if (period == TimeUnit.HOURS) {
-            startTime = RateCounter.getTrimMillsOfHour(now);
-        } else {
-            //second default
-            startTime = RateCounter.getTrimMillsOfSecond(now);
+            slotList.set(i, new TpsSlot(0L));
         }
+        periodMillis = period.toMillis(1);
+        startTime = RateCounter.getTrimMills(System.currentTimeMillis(), period);
     }
     
     @Override
     public long add(long timestamp, long count) {
         return createSlotIfAbsent(timestamp).countHolder.count.addAndGet(count);
     }
-
+    
     @Override
     public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
-        if (createSlotIfAbsent(timestamp).countHolder.count.addAndGet(countDelta) <= upperLimit) {
+        TpsSlot tpsSlot = createSlotIfAbsent(timestamp);
+        if (tpsSlot.countHolder.count.addAndGet(countDelta) <= upperLimit) {
             return true;
         } else {
-            createSlotIfAbsent(timestamp).countHolder.interceptedCount.addAndGet(countDelta);
+            tpsSlot.countHolder.interceptedCount.addAndGet(countDelta);
             return false;
         }
     }
-
+    
     public void minus(long timestamp, long count) {
         AtomicLong currentCount = createSlotIfAbsent(timestamp).countHolder.count;
         currentCount.addAndGet(count * -1);
@@ -86,12 +81,9 @@ public class LocalSimpleCountRateCounter extends RateCounter {
      * @return tps slot.
      */
     private TpsSlot getPoint(long timeStamp) {
-        long distance = timeStamp - startTime;
-        long diff = (distance < 0 ? distance + getPeriod().toMillis(1) * DEFAULT_RECORD_SIZE : distance) / getPeriod()
-                .toMillis(1);
-        long currentWindowTime = startTime + diff * getPeriod().toMillis(1);
-        int index = (int) diff % DEFAULT_RECORD_SIZE;
-        TpsSlot tpsSlot = slotList.get(index);
+        long diff = getWindowDiff(timeStamp);
+        long currentWindowTime = startTime + diff * periodMillis;
+        TpsSlot tpsSlot = slotList.get((int) (diff % DEFAULT_RECORD_SIZE));
         if (tpsSlot.time != currentWindowTime) {
             return null;
         }
@@ -105,33 +97,38 @@ public class LocalSimpleCountRateCounter extends RateCounter {
      * @return tps slot.
      */
     public TpsSlot createSlotIfAbsent(long timeStamp) {
-        long distance = timeStamp - startTime;
-        
-        long diff = (distance < 0 ? distance + getPeriod().toMillis(1) * DEFAULT_RECORD_SIZE : distance) / getPeriod()
-                .toMillis(1);
-        long currentWindowTime = startTime + diff * getPeriod().toMillis(1);
-        int index = (int) diff % DEFAULT_RECORD_SIZE;
-        TpsSlot tpsSlot = slotList.get(index);
-        if (tpsSlot.time != currentWindowTime) {
-            tpsSlot.reset(currentWindowTime);
+        long diff = getWindowDiff(timeStamp);
+        long currentWindowTime = startTime + diff * periodMillis;
+        int index = (int) (diff % DEFAULT_RECORD_SIZE);
+        while (true) {
+            TpsSlot tpsSlot = slotList.get(index);
+            if (tpsSlot.time == currentWindowTime) {
+                return tpsSlot;
+            }
+            if (tpsSlot.time > currentWindowTime) {
+                // the slot has rolled to a newer window, count of expired window is dropped.
+                return new TpsSlot(currentWindowTime);
+            }
+            TpsSlot newSlot = new TpsSlot(currentWindowTime);
+            if (slotList.compareAndSet(index, tpsSlot, newSlot)) {
+                return newSlot;
+            }
         }
-        return slotList.get(index);
+    }
+    
+    private long getWindowDiff(long timeStamp) {
+        long distance = timeStamp - startTime;
+        return (distance < 0 ? distance + periodMillis * DEFAULT_RECORD_SIZE : distance) / periodMillis;
     }
     
     static class TpsSlot {
         
-        long time = 0L;
+        final long time;
         
-        private SlotCountHolder countHolder = new SlotCountHolder();
+        private final SlotCountHolder countHolder = new SlotCountHolder();
         
-        public void reset(long second) {
-            synchronized (this) {
-                if (this.time != second) {
-                    this.time = second;
-                    countHolder.count.set(0L);
-                    countHolder.interceptedCount.set(0);
-                }
-            }
+        TpsSlot(long time) {
+            this.time = time;
         }
         
         @Override
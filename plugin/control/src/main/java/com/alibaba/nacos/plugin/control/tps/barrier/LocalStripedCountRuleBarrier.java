@@ -0,0 +1,40 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * local striped count rule barrier.
+ *
+ * @author Nacos
+ */
+public class LocalStripedCountRuleBarrier extends SimpleCountRuleBarrier {
+    
+    public LocalStripedCountRuleBarrier(String pointName, String ruleName, TimeUnit period) {
+        super(pointName, ruleName, period);
+    }
+    
+    public RateCounter createSimpleCounter(String name, TimeUnit period) {
+        return new LocalStripedRateCounter(name, period);
+    }
+    
+    @Override
+    public String getBarrierName() {
+        return "localstripedcount";
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * local striped rate counter.
+ *
+ * <p>Counts of each window are kept in {@link LongAdder} cells to avoid contention of a single atomic value on hot
+ * points, and windows are rotated by CAS on the ring of slots. The check in {@link #tryAdd(long, long, long)} reads a
+ * weakly consistent sum, so the limit may be exceeded by the requests racing on the same moment.
+ *
+ * @author Nacos
+ */
+public class LocalStripedRateCounter extends RateCounter {
+    
+    private static final int DEFAULT_RECORD_SIZE = 10;
+    
+    private final long startTime;
+    
+    private final long periodMillis;
+    
+    private final AtomicReferenceArray<WindowSlot> slots;
+    
+    public LocalStripedRateCounter(String name, TimeUnit period) {
+        super(name, period);
+        this.periodMillis = period.toMillis(1);
+        this.startTime = RateCounter.getTrimMills(System.currentTimeMillis(), period);
+        this.slots = new AtomicReferenceArray<>(DEFAULT_RECORD_SIZE);
+        for (int i = 0; i < DEFAULT_RECORD_SIZE; i++) {
+            slots.set(i, new WindowSlot(Long.MIN_VALUE));
+        }
+    }
+    
+    @Override
+    public long add(long timestamp, long count) {
+        WindowSlot slot = currentSlot(timestamp);
+        slot.count.add(count);
+        return slot.count.sum();
+    }
+    
+    @Override
+    public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
+        WindowSlot slot = currentSlot(timestamp);
+        slot.count.add(countDelta);
+        if (slot.count.sum() <= upperLimit) {
+            return true;
+        }
+        slot.interceptedCount.add(countDelta);
+        return false;
+    }
+    
+    @Override
+    public long getCount(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        WindowSlot slot = slots.get(getIndex(windowTime));
+        return slot.time == windowTime ? slot.count.sum() : 0L;
+    }
+    
+    /**
+     * get intercepted count of the window of timestamp.
+     *
+     * @param timestamp timestamp.
+     * @return intercepted count.
+     */
+    public long getInterceptedCount(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        WindowSlot slot = slots.get(getIndex(windowTime));
+        return slot.time == windowTime ? slot.interceptedCount.sum() : 0L;
+    }
+    
+    private WindowSlot currentSlot(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        int index = getIndex(windowTime);
+        while (true) {
+            WindowSlot slot = slots.get(index);
+            if (slot.time == windowTime) {
+                return slot;
+            }
+            if (slot.time > windowTime) {
+                // the slot has rolled to a newer window, count of expired window is dropped.
+                return new WindowSlot(windowTime);
+            }
+            WindowSlot newSlot = new WindowSlot(windowTime);
+            if (slots.compareAndSet(index, slot, newSlot)) {
+                return newSlot;
+            }
+        }
+    }
+    
+    private long getWindowTime(long timestamp) {
+        return startTime + Math.floorDiv(timestamp - startTime, periodMillis) * periodMillis;
+    }
+    
+    private int getIndex(long windowTime) {
+        return (int) Math.floorMod((windowTime - startTime) / periodMillis, (long) DEFAULT_RECORD_SIZE);
+    }
+    
+    private static class WindowSlot {
+        
+        private final long time;
+        
+        private final LongAdder count = new LongAdder();
+        
+        private final LongAdder interceptedCount = new LongAdder();
+        
+        private WindowSlot(long time) {
+            this.time = time;
+        }
+        
+        @Override
+        public String toString() {
+            return "WindowSlot{" + "time=" + time + ", count=" + count + ", interceptedCount=" + interceptedCount
+                    + '}';
+        }
+    }
+}
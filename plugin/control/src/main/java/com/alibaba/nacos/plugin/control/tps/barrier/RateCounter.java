@@ -76,6 +76,22 @@ public abstract class RateCounter {
         return name;
     }
     
+    /**
+     * get trim mills of the period, second as default.
+     *
+     * @param timeStamp timestamp milliseconds.
+     * @param period    period.
+     * @return
+     */
+    public static long getTrimMills(long timeStamp, TimeUnit period) {
+        if (period == TimeUnit.MINUTES) {
+            return getTrimMillsOfMinute(timeStamp);
+        } else if (period == TimeUnit.HOURS) {
+            return getTrimMillsOfHour(timeStamp);
+        }
+        return getTrimMillsOfSecond(timeStamp);
+    }
+    
     /**
      * get trim mills of second.
      *
@@ -16,8 +16,13 @@
 
 package com.alibaba.nacos.plugin.control.tps.barrier;
 
-import com.alibaba.nacos.plugin.control.tps.barrier.creator.RuleBarrierCreator;
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.plugin.control.Loggers;
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
 import com.alibaba.nacos.plugin.control.tps.barrier.creator.LocalSimpleCountBarrierCreator;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.LocalStripedCountBarrierCreator;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.RuleBarrierCreator;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
 import com.alibaba.nacos.plugin.control.tps.rule.TpsControlRule;
@@ -40,10 +45,36 @@ public abstract class TpsBarrier {
     
     public TpsBarrier(String pointName) {
         this.pointName = pointName;
-        this.ruleBarrierCreator = new LocalSimpleCountBarrierCreator();
+        this.ruleBarrierCreator = buildRuleBarrierCreator();
         this.pointBarrier = ruleBarrierCreator.createRuleBarrier(pointName, pointName, TimeUnit.SECONDS);
     }
     
+    /**
+     * Build rule barrier creator by {@link ControlConfigs#getRuleBarrierCreator()}, local simple count as default.
+     *
+     * @return RuleBarrierCreator for the point
+     */
+    protected RuleBarrierCreator buildRuleBarrierCreator() {
+        String creatorName = ControlConfigs.getInstance().getRuleBarrierCreator();
+        if (StringUtils.isBlank(creatorName)) {
+            return new LocalSimpleCountBarrierCreator();
+        }
+        RuleBarrierCreator[] builtInCreators = new RuleBarrierCreator[] {LocalSimpleCountBarrierCreator.getInstance(),
+                LocalStripedCountBarrierCreator.getInstance()};
+        for (RuleBarrierCreator each : builtInCreators) {
+            if (creatorName.equals(each.name())) {
+                return each;
+            }
+        }
+        for (RuleBarrierCreator each : NacosServiceLoader.load(RuleBarrierCreator.class)) {
+            if (creatorName.equals(each.name())) {
+                return each;
+            }
+        }
+        Loggers.CONTROL.warn("Rule barrier creator {} not found, use local simple count as default.", creatorName);
+        return new LocalSimpleCountBarrierCreator();
+    }
+    
     /**
      * apply tps.
      *
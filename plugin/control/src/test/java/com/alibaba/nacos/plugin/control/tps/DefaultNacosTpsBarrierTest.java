@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.plugin.control.tps;
 
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
 import com.alibaba.nacos.plugin.control.tps.barrier.DefaultNacosTpsBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalSimpleCountRuleBarrier;
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalStripedCountRuleBarrier;
 import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
@@ -28,6 +31,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultNacosTpsBarrierTest {
@@ -38,6 +43,7 @@ class DefaultNacosTpsBarrierTest {
     
     @AfterEach
     void after() {
+        ControlConfigs.getInstance().setRuleBarrierCreator("");
     }
     
     @Test
@@ -69,4 +75,34 @@ class DefaultNacosTpsBarrierTest {
         
     }
     
+    @Test
+    void testStripedCounterPointPassAndDeny() {
+        ControlConfigs.getInstance().setRuleBarrierCreator("localstripedcounter");
+        String testTpsBarrier = "test_striped_barrier";
+        TpsControlRule tpsControlRule = new TpsControlRule();
+        tpsControlRule.setPointName(testTpsBarrier);
+        RuleDetail ruleDetail = new RuleDetail();
+        ruleDetail.setMaxCount(5);
+        ruleDetail.setMonitorType(MonitorType.INTERCEPT.getType());
+        ruleDetail.setPeriod(TimeUnit.SECONDS);
+        tpsControlRule.setPointRule(ruleDetail);
+        
+        TpsBarrier tpsBarrier = new DefaultNacosTpsBarrier(testTpsBarrier);
+        assertInstanceOf(LocalStripedCountRuleBarrier.class, tpsBarrier.getPointBarrier());
+        tpsBarrier.applyRule(tpsControlRule);
+        
+        TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
+        tpsCheckRequest.setTimestamp(System.currentTimeMillis());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(tpsBarrier.applyTps(tpsCheckRequest).isSuccess());
+        }
+        assertFalse(tpsBarrier.applyTps(tpsCheckRequest).isSuccess());
+    }
+    
+    @Test
+    void testUnknownRuleBarrierCreator() {
+        ControlConfigs.getInstance().setRuleBarrierCreator("unknown");
+        TpsBarrier tpsBarrier = new DefaultNacosTpsBarrier("test_unknown_barrier");
+        assertInstanceOf(LocalSimpleCountRuleBarrier.class, tpsBarrier.getPointBarrier());
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalStripedRateCounterTest {
+    
+    @Test
+    void testAddAndGetCount() {
+        RateCounter rateCounter = new LocalStripedRateCounter("test", TimeUnit.SECONDS);
+        long now = System.currentTimeMillis();
+        assertEquals(0L, rateCounter.getCount(now));
+        rateCounter.add(now, 2);
+        assertEquals(3L, rateCounter.add(now, 1));
+        assertEquals(3L, rateCounter.getCount(now));
+        // next window should start from zero.
+        assertEquals(0L, rateCounter.getCount(now + 1000L));
+        assertEquals(1L, rateCounter.add(now + 1000L, 1));
+        assertEquals(3L, rateCounter.getCount(now));
+    }
+    
+    @Test
+    void testTryAdd() {
+        RateCounter rateCounter = new LocalStripedRateCounter("test", TimeUnit.SECONDS);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateCounter.tryAdd(now, 1, 5));
+        }
+        assertFalse(rateCounter.tryAdd(now, 1, 5));
+        assertTrue(rateCounter.tryAdd(now + 1000L, 1, 5));
+    }
+    
+    @Test
+    void testRotateWindowAfterRecordSize() {
+        RateCounter rateCounter = new LocalStripedRateCounter("test", TimeUnit.SECONDS);
+        long now = System.currentTimeMillis();
+        rateCounter.add(now, 10);
+        // same slot index after 10 windows, the old count should not be reused.
+        assertEquals(1L, rateCounter.add(now + 10000L, 1));
+        assertEquals(0L, rateCounter.getCount(now));
+    }
+    
+    @Test
+    void testConcurrentAddAcrossWindows() throws InterruptedException {
+        RateCounter rateCounter = new LocalStripedRateCounter("test", TimeUnit.SECONDS);
+        long now = System.currentTimeMillis();
+        int threadCount = 8;
+        int addTimes = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger passed = new AtomicInteger();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                executor.execute(() -> {
+                    try {
+                        for (int j = 0; j < addTimes; j++) {
+                            // half of requests fall into next window to race on window rotation.
+                            long timestamp = j % 2 == 0 ? now : now + 1000L;
+                            if (rateCounter.tryAdd(timestamp, 1, Long.MAX_VALUE)) {
+                                passed.incrementAndGet();
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threadCount * addTimes, passed.get());
+        assertEquals(threadCount * addTimes / 2, rateCounter.getCount(now));
+        assertEquals(threadCount * addTimes / 2, rateCounter.getCount(now + 1000L));
+    }
+}
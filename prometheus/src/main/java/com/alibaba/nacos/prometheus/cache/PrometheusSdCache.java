@@ -0,0 +1,335 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.prometheus.cache;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of prometheus http service discovery documents.
+ *
+ * <p>The cache is maintained by naming change events. Each change of a service increases the revision of the service
+ * and the generations of its namespace and of all namespaces. Targets of each service are serialized once into a json
+ * fragment, which is reloaded only when the revision of the service changed. Documents are assembled from fragments
+ * and kept with the generation they were built at, so a request for an unchanged document costs a generation check
+ * only.
+ *
+ * @author Nacos
+ */
+public class PrometheusSdCache extends SmartSubscriber {
+    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
+    private static final byte[] EMPTY_FRAGMENT = new byte[0];
+    
+    /**
+     * Salt of ETag, avoid to match the ETag issued before restart.
+     */
+    private final long etagSalt = ThreadLocalRandom.current().nextLong();
+    
+    private final AtomicLong fragmentVersion = new AtomicLong();
+    
+    private final AtomicLong generation = new AtomicLong();
+    
+    private final Map<String, AtomicLong> namespaceGenerations = new ConcurrentHashMap<>();
+    
+    private final Map<Service, Long> serviceRevisions = new ConcurrentHashMap<>();
+    
+    private final Map<Service, ServiceFragment> serviceFragments = new ConcurrentHashMap<>();
+    
+    private final Map<String, SdDocument> documents = new ConcurrentHashMap<>();
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ServiceEvent.ServiceChangedEvent.class);
+        result.add(MetadataEvent.ServiceMetadataEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ServiceEvent.ServiceChangedEvent) {
+            onServiceChanged(((ServiceEvent.ServiceChangedEvent) event).getService(), false);
+        } else if (event instanceof MetadataEvent.ServiceMetadataEvent) {
+            MetadataEvent.ServiceMetadataEvent metadataEvent = (MetadataEvent.ServiceMetadataEvent) event;
+            onServiceChanged(metadataEvent.getService(), metadataEvent.isExpired());
+        }
+    }
+    
+    /**
+     * Invalidate the fragment of service and the documents containing it.
+     *
+     * @param service service
+     * @param removed whether the service is removed
+     */
+    public void onServiceChanged(Service service, boolean removed) {
+        if (removed) {
+            serviceRevisions.remove(service);
+            serviceFragments.remove(service);
+        } else {
+            serviceRevisions.merge(service, 1L, Long::sum);
+        }
+        // generations are increased after the revision, so a document built at the new generation sees the change.
+        namespaceGenerations.computeIfAbsent(service.getNamespace(), key -> new AtomicLong()).incrementAndGet();
+        generation.incrementAndGet();
+    }
+    
+    /**
+     * Get current generation of documents.
+     *
+     * @param namespaceId namespace of document, {@code null} means document of all namespaces
+     * @return generation
+     */
+    public long getGeneration(String namespaceId) {
+        if (null == namespaceId) {
+            return generation.get();
+        }
+        AtomicLong namespaceGeneration = namespaceGenerations.get(namespaceId);
+        return null == namespaceGeneration ? 0L : namespaceGeneration.get();
+    }
+    
+    /**
+     * Get json fragment of the service targets, the instances are only loaded if the service changed after the
+     * fragment was built.
+     *
+     * @param service         service
+     * @param instancesLoader loader of current instances of service
+     * @return fragment of service targets
+     * @throws NacosException if load instances failed
+     */
+    public ServiceFragment getServiceFragment(Service service, InstancesLoader instancesLoader)
+            throws NacosException {
+        long revision = serviceRevisions.getOrDefault(service, 0L);
+        ServiceFragment fragment = serviceFragments.get(service);
+        if (null == fragment || fragment.revision != revision) {
+            fragment = new ServiceFragment(revision, fragmentVersion.incrementAndGet(),
+                    serializeTargets(instancesLoader.load()));
+            serviceFragments.put(service, fragment);
+        }
+        return fragment;
+    }
+    
+    /**
+     * Calculate ETag of the document assembled by fragments.
+     *
+     * @param fragments fragments of document
+     * @return ETag
+     */
+    public String calculateEtag(List<ServiceFragment> fragments) {
+        long hash = etagSalt;
+        for (ServiceFragment each : fragments) {
+            hash ^= mix(each.version);
+        }
+        return "\"" + Long.toHexString(hash) + "-" + fragments.size() + "\"";
+    }
+    
+    /**
+     * Get the cached document if it was built at the generation.
+     *
+     * @param documentKey key of document
+     * @param generation  current generation got by {@link #getGeneration(String)}
+     * @return cached document, {@code null} if not cached or changed
+     */
+    public SdDocument getCachedDocument(String documentKey, long generation) {
+        SdDocument document = documents.get(documentKey);
+        return null != document && document.generation == generation ? document : null;
+    }
+    
+    /**
+     * Get the document assembled by fragments, reuse the cached document if fragments not changed.
+     *
+     * @param documentKey key of document
+     * @param generation  generation got before the fragments were got
+     * @param fragments   fragments of document
+     * @return document
+     */
+    public SdDocument getDocument(String documentKey, long generation, List<ServiceFragment> fragments) {
+        String etag = calculateEtag(fragments);
+        SdDocument document = documents.get(documentKey);
+        if (null != document && document.getEtag().equals(etag)) {
+            document = new SdDocument(etag, document.content, generation);
+        } else {
+            document = new SdDocument(etag, assemble(fragments), generation);
+        }
+        if (fragments.isEmpty()) {
+            // don't keep documents of unknown namespaces or services.
+            documents.remove(documentKey);
+        } else {
+            documents.put(documentKey, document);
+        }
+        return document;
+    }
+    
+    private byte[] assemble(List<ServiceFragment> fragments) {
+        int length = 2;
+        for (ServiceFragment each : fragments) {
+            length += each.content.length + 1;
+        }
+        byte[] result = new byte[length];
+        int position = 0;
+        result[position++] = '[';
+        for (ServiceFragment each : fragments) {
+            if (each.content.length == 0) {
+                continue;
+            }
+            if (position > 1) {
+                result[position++] = ',';
+            }
+            System.arraycopy(each.content, 0, result, position, each.content.length);
+            position += each.content.length;
+        }
+        result[position++] = ']';
+        return position == length ? result : Arrays.copyOf(result, position);
+    }
+    
+    private static byte[] serializeTargets(List<? extends Instance> instances) {
+        if (null == instances || instances.isEmpty()) {
+            return EMPTY_FRAGMENT;
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(instances.size() * 128);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            boolean first = true;
+            for (Instance each : instances) {
+                if (!first) {
+                    generator.writeRaw(',');
+                }
+                first = false;
+                writeTarget(generator, each);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Serialize prometheus sd targets failed", e);
+        }
+        return outputStream.toByteArray();
+    }
+    
+    /**
+     * Write instance as target group, and export metadata to label.
+     */
+    private static void writeTarget(JsonGenerator generator, Instance instance) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("targets");
+        generator.writeString(instance.getIp() + ":" + instance.getPort());
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("labels");
+        //mark cluster name
+        generator.writeStringField("__meta_clusterName", instance.getClusterName());
+        // auto convert label names contain with "." and "-" to "_"
+        Map<String, String> labels = new LinkedHashMap<>(instance.getMetadata().size());
+        instance.getMetadata().forEach((key, value) -> labels.put(key.replace(".", "_").replace("-", "_"), value));
+        for (Map.Entry<String, String> entry : labels.entrySet()) {
+            generator.writeStringField(entry.getKey(), entry.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+    
+    private static long mix(long value) {
+        long result = value * 0x9E3779B97F4A7C15L;
+        result = (result ^ (result >>> 30)) * 0xBF58476D1CE4E5B9L;
+        result = (result ^ (result >>> 27)) * 0x94D049BB133111EBL;
+        return result ^ (result >>> 31);
+    }
+    
+    /**
+     * Loader of current instances of service.
+     */
+    @FunctionalInterface
+    public interface InstancesLoader {
+        
+        /**
+         * Load current instances.
+         *
+         * @return instances
+         * @throws NacosException if load failed
+         */
+        List<? extends Instance> load() throws NacosException;
+    }
+    
+    /**
+     * Json fragment of targets of one service, without the enclosing brackets.
+     */
+    public static class ServiceFragment {
+        
+        private final long revision;
+        
+        private final long version;
+        
+        private final byte[] content;
+        
+        private ServiceFragment(long revision, long version, byte[] content) {
+            this.revision = revision;
+            this.version = version;
+            this.content = content;
+        }
+        
+        public long getVersion() {
+            return version;
+        }
+    }
+    
+    /**
+     * Assembled prometheus http service discovery document.
+     */
+    public static class SdDocument {
+        
+        private final String etag;
+        
+        private final byte[] content;
+        
+        private final long generation;
+        
+        private SdDocument(String etag, byte[] content, long generation) {
+            this.etag = etag;
+            this.content = content;
+            this.generation = generation;
+        }
+        
+        public String getEtag() {
+            return etag;
+        }
+        
+        public byte[] getContent() {
+            return content;
+        }
+        
+        @Override
+        public String toString() {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -17,43 +17,65 @@
 package com.alibaba.nacos.prometheus.controller;
 
 import com.alibaba.nacos.api.exception.NacosException;
-import com.alibaba.nacos.api.naming.pojo.Instance;
-import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.naming.core.InstanceOperatorClientImpl;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.prometheus.api.ApiConstants;
-import com.alibaba.nacos.prometheus.utils.PrometheusUtils;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache.SdDocument;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache.ServiceFragment;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 
 /**
  * Support Prometheus SD Controller.
  *
+ * <p>Documents are served from {@link PrometheusSdCache} with ETag, which is maintained by naming change events. An
+ * unchanged document is served without walking the services, and scrapers sending a matched If-None-Match header get
+ * {@code 304 Not Modified}.
+ *
  * @author karsonto
  */
 @RestController
 @ConditionalOnProperty(name = "nacos.prometheus.metrics.enabled", havingValue = "true")
 public class PrometheusController {
     
+    private static final String ALL_DOCUMENT_KEY = "@@all";
+    
+    private static final String DOCUMENT_KEY_SPLITTER = "@@";
+    
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    
     @Autowired
     private InstanceOperatorClientImpl instanceServiceV2;
     
     private final ServiceManager serviceManager;
     
+    private final PrometheusSdCache sdCache;
+    
     public PrometheusController() {
         this.serviceManager = ServiceManager.getInstance();
+        this.sdCache = new PrometheusSdCache();
+        NotifyCenter.registerSubscriber(sdCache, NamingEventPublisherFactory.getInstance());
     }
     
     /**
@@ -62,24 +84,16 @@ public class PrometheusController {
      * @throws NacosException NacosException.
      */
     @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metric() throws NacosException {
-        ArrayNode arrayNode = JacksonUtils.createEmptyArrayNode();
-        Set<Instance> targetSet = new HashSet<>();
-        Set<String> allNamespaces = serviceManager.getAllNamespaces();
-        for (String namespace : allNamespaces) {
-            Set<Service> singletons = serviceManager.getSingletons(namespace);
-            for (Service service : singletons) {
-                
-                List<? extends Instance> instances = instanceServiceV2.listAllInstances(namespace,
-                        service.getGroupedServiceName());
-                
-                targetSet.addAll(instances);
-                
+    public ResponseEntity<byte[]> metric(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws NacosException {
+        return getDocument("all", ALL_DOCUMENT_KEY, null, ifNoneMatch, () -> {
+            List<ServiceFragment> fragments = new ArrayList<>();
+            for (String namespace : serviceManager.getAllNamespaces()) {
+                fragments.addAll(getServiceFragments(namespace, s -> true));
             }
-        }
-        
-        PrometheusUtils.assembleArrayNodes(targetSet, arrayNode);
-        return ResponseEntity.ok().body(arrayNode.toString());
+            return fragments;
+        });
     }
     
     
@@ -89,11 +103,11 @@ public class PrometheusController {
      * @throws NacosException NacosException.
      */
     @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_NAMESPACE_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metricNamespace(@PathVariable("namespaceId") String namespaceId)
+    public ResponseEntity<byte[]> metricNamespace(@PathVariable("namespaceId") String namespaceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
             throws NacosException {
-        ArrayNode arrayNode = getServiceArrayNode(namespaceId, s -> true);
-        
-        return ResponseEntity.ok().body(arrayNode.toString());
+        return getDocument("namespace", namespaceId, namespaceId, ifNoneMatch,
+                () -> getServiceFragments(namespaceId, s -> true));
     }
     
     /**
@@ -102,36 +116,81 @@ public class PrometheusController {
      * @throws NacosException NacosException.
      */
     @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metricNamespaceService(@PathVariable("namespaceId") String namespaceId,
-            @PathVariable("service") String service) throws NacosException {
-        ArrayNode arrayNode = getServiceArrayNode(namespaceId, s -> s.getName().equals(service));
-        
-        return ResponseEntity.ok().body(arrayNode.toString());
+    public ResponseEntity<byte[]> metricNamespaceService(@PathVariable("namespaceId") String namespaceId,
+            @PathVariable("service") String service,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws NacosException {
+        return getDocument("service", namespaceId + DOCUMENT_KEY_SPLITTER + service, namespaceId, ifNoneMatch,
+                () -> getServiceFragments(namespaceId, s -> s.getName().equals(service)));
     }
     
-    private ArrayNode getServiceArrayNode(String namespaceId, Predicate<Service> serviceFilter) throws NacosException {
-        ArrayNode arrayNode = JacksonUtils.createEmptyArrayNode();
+    private List<ServiceFragment> getServiceFragments(String namespaceId, Predicate<Service> serviceFilter)
+            throws NacosException {
+        List<ServiceFragment> fragments = new ArrayList<>();
         Set<String> allNamespaces = serviceManager.getAllNamespaces();
         if (!allNamespaces.contains(namespaceId)) {
-            return arrayNode;
+            return fragments;
         }
         
-        Set<Instance> targetSet = new HashSet<>();
-        
         Set<Service> singletons = serviceManager.getSingletons(namespaceId);
         for (Service existService : singletons) {
             if (!serviceFilter.test(existService)) {
                 continue;
             }
-            List<? extends Instance> instances = instanceServiceV2.listAllInstances(namespaceId,
-                    existService.getGroupedServiceName());
-            
-            targetSet.addAll(instances);
-            
+            fragments.add(sdCache.getServiceFragment(existService,
+                    () -> instanceServiceV2.listAllInstances(namespaceId, existService.getGroupedServiceName())));
         }
+        return fragments;
+    }
+    
+    /**
+     * Get document from cache, the document is only rebuilt if any service in its namespace changed after cached.
+     */
+    private ResponseEntity<byte[]> getDocument(String api, String documentKey, String namespaceId, String ifNoneMatch,
+            FragmentsSupplier fragmentsSupplier) throws NacosException {
+        long startTime = System.nanoTime();
+        long generation = sdCache.getGeneration(namespaceId);
+        SdDocument document = sdCache.getCachedDocument(documentKey, generation);
+        if (null == document) {
+            document = sdCache.getDocument(documentKey, generation, fragmentsSupplier.get());
+        }
+        ResponseEntity<byte[]> result;
+        if (isEtagMatched(document.getEtag(), ifNoneMatch)) {
+            result = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.getEtag()).build();
+        } else {
+            result = ResponseEntity.ok().eTag(document.getEtag()).body(document.getContent());
+        }
+        recordLatency(api, result.getStatusCode().value(), startTime);
+        return result;
+    }
+    
+    private boolean isEtagMatched(String etag, String ifNoneMatch) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        for (String each : ifNoneMatch.split(",")) {
+            String candidate = each.trim();
+            if (candidate.startsWith(WEAK_ETAG_PREFIX)) {
+                candidate = candidate.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if (etag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @FunctionalInterface
+    private interface FragmentsSupplier {
         
-        PrometheusUtils.assembleArrayNodes(targetSet, arrayNode);
-        
-        return arrayNode;
+        List<ServiceFragment> get() throws NacosException;
+    }
+    
+    private void recordLatency(String api, int status, long startTime) {
+        Timer timer = NacosMeterRegistryCenter.timer(NacosMeterRegistryCenter.NAMING_STABLE_REGISTRY,
+                "nacos_prometheus_sd_latency", "api", api, "status", String.valueOf(status));
+        if (null != timer) {
+            timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
     }
 }
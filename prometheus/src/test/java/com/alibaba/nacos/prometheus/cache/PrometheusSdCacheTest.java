@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.prometheus.cache;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache.InstancesLoader;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache.SdDocument;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache.ServiceFragment;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PrometheusSdCacheTest {
+    
+    private final PrometheusSdCache sdCache = new PrometheusSdCache();
+    
+    private final Service serviceA = Service.newService("A", "B", "C");
+    
+    private final Service serviceB = Service.newService("A", "B", "D");
+    
+    @Test
+    void testGetServiceFragment() throws NacosException {
+        List<Instance> instances = Collections.singletonList(prepareInstance("127.0.0.1", 8080));
+        AtomicInteger loadCount = new AtomicInteger();
+        InstancesLoader loader = () -> {
+            loadCount.incrementAndGet();
+            return instances;
+        };
+        ServiceFragment fragment = sdCache.getServiceFragment(serviceA, loader);
+        assertSame(fragment, sdCache.getServiceFragment(serviceA, loader));
+        assertEquals(1, loadCount.get());
+        sdCache.onEvent(new ServiceEvent.ServiceChangedEvent(serviceA, "test"));
+        ServiceFragment newFragment = sdCache.getServiceFragment(serviceA, loader);
+        assertEquals(2, loadCount.get());
+        assertNotSame(fragment, newFragment);
+        assertNotEquals(fragment.getVersion(), newFragment.getVersion());
+    }
+    
+    @Test
+    void testGeneration() {
+        assertEquals(0L, sdCache.getGeneration("unknown"));
+        long all = sdCache.getGeneration(null);
+        long namespace = sdCache.getGeneration("A");
+        sdCache.onEvent(new ServiceEvent.ServiceChangedEvent(serviceA, "test"));
+        assertEquals(all + 1, sdCache.getGeneration(null));
+        assertEquals(namespace + 1, sdCache.getGeneration("A"));
+        sdCache.onEvent(new MetadataEvent.ServiceMetadataEvent(Service.newService("E", "B", "C"), true));
+        assertEquals(all + 2, sdCache.getGeneration(null));
+        assertEquals(namespace + 1, sdCache.getGeneration("A"));
+    }
+    
+    @Test
+    void testGetDocument() throws NacosException {
+        List<ServiceFragment> fragments = Arrays.asList(
+                sdCache.getServiceFragment(serviceA, () -> Collections.singletonList(prepareInstance("127.0.0.1", 8080))),
+                sdCache.getServiceFragment(serviceB, () -> Arrays.asList(prepareInstance("127.0.0.2", 8080),
+                        prepareInstance("127.0.0.3", 8080))));
+        long generation = sdCache.getGeneration("A");
+        SdDocument document = sdCache.getDocument("A", generation, fragments);
+        assertSame(document, sdCache.getCachedDocument("A", generation));
+        assertNull(sdCache.getCachedDocument("A", generation + 1));
+        assertEquals(document.getEtag(), sdCache.getDocument("A", generation + 1, fragments).getEtag());
+        
+        JsonNode actual = JacksonUtils.toObj(document.toString());
+        assertEquals(3, actual.size());
+        JsonNode first = actual.get(0);
+        assertEquals("127.0.0.1:8080", first.get("targets").get(0).asText());
+        assertEquals("A", first.get("labels").get("__meta_clusterName").asText());
+        assertEquals("value", first.get("labels").get("app_name_key").asText());
+    }
+    
+    @Test
+    void testEmptyDocument() throws NacosException {
+        List<ServiceFragment> fragments = Collections.singletonList(
+                sdCache.getServiceFragment(serviceA, Collections::emptyList));
+        SdDocument document = sdCache.getDocument("A", 0L, fragments);
+        assertEquals("[]", document.toString());
+        assertEquals("[]", sdCache.getDocument("B", 0L, new ArrayList<>()).toString());
+        assertNull(sdCache.getCachedDocument("B", 0L));
+    }
+    
+    @Test
+    void testCalculateEtag() throws NacosException {
+        ServiceFragment fragmentA = sdCache.getServiceFragment(serviceA, Collections::emptyList);
+        ServiceFragment fragmentB = sdCache.getServiceFragment(serviceB, Collections::emptyList);
+        assertEquals(sdCache.calculateEtag(Arrays.asList(fragmentA, fragmentB)),
+                sdCache.calculateEtag(Arrays.asList(fragmentB, fragmentA)));
+        assertNotEquals(sdCache.calculateEtag(Arrays.asList(fragmentA, fragmentB)),
+                sdCache.calculateEtag(Collections.singletonList(fragmentA)));
+    }
+    
+    private Instance prepareInstance(String ip, int port) {
+        Instance instance = new Instance();
+        instance.setClusterName("A");
+        instance.setIp(ip);
+        instance.setPort(port);
+        Map<String, String> metadata = new HashMap<>(2);
+        metadata.put("app.name-key", "value");
+        instance.setMetadata(metadata);
+        return instance;
+    }
+}
@@ -22,8 +22,10 @@ import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.naming.core.InstanceOperatorClientImpl;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.prometheus.api.ApiConstants;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,7 +33,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -43,6 +47,10 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -128,6 +136,31 @@ public class PrometheusControllerTest {
         assertEquals(testInstanceList.size(), JacksonUtils.toObj(response.getContentAsString()).size());
     }
     
+    @Test
+    public void testMetricNotModified() throws Exception {
+        when(instanceServiceV2.listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group))).thenReturn(testInstanceList);
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH);
+        MockHttpServletResponse response = mockMvc.perform(builder).andReturn().getResponse();
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        
+        builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH).header(HttpHeaders.IF_NONE_MATCH, etag);
+        response = mockMvc.perform(builder).andReturn().getResponse();
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        
+        verify(instanceServiceV2, times(1)).listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group));
+        
+        PrometheusSdCache sdCache = (PrometheusSdCache) ReflectionTestUtils.getField(prometheusController, "sdCache");
+        sdCache.onEvent(new ServiceEvent.ServiceChangedEvent(service, "test"));
+        response = mockMvc.perform(builder).andReturn().getResponse();
+        verify(instanceServiceV2, times(2)).listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group));
+        assertEquals(200, response.getStatus());
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(testInstanceList.size(), JacksonUtils.toObj(response.getContentAsString()).size());
+    }
+    
     @Test
     public void testEmptyMetricNamespaceService() throws Exception {
         String prometheusNamespaceServicePath = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH.replace("{namespaceId}", nameSpace);
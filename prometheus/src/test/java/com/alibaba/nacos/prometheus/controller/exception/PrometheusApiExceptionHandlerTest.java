@@ -33,6 +33,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
@@ -60,7 +61,7 @@ public class PrometheusApiExceptionHandlerTest {
     @Test
     public void testNacosRunTimeExceptionHandler() throws Exception {
         // 设置PrometheusController的行为，使其抛出NacosRuntimeException并被PrometheusApiExceptionHandler捕获处理
-        when(prometheusController.metric()).thenThrow(new NacosRuntimeException(NacosException.INVALID_PARAM))
+        when(prometheusController.metric(any())).thenThrow(new NacosRuntimeException(NacosException.INVALID_PARAM))
                 .thenThrow(new NacosRuntimeException(NacosException.SERVER_ERROR))
                 .thenThrow(new NacosRuntimeException(503));
         